@@ -13,6 +13,6 @@ import java.util.List;
 public class CorsProperties {
     private List<String> allowedOrigins = new ArrayList<>(List.of("http://localhost:3000"));
     private List<String> allowedMethods = new ArrayList<>(List.of("GET","POST","PUT","PATCH","DELETE","OPTIONS"));
-    private List<String> allowedHeaders = new ArrayList<>(List.of("Authorization","Content-Type"));
+    private List<String> allowedHeaders = new ArrayList<>(List.of("Authorization","Content-Type","If-Match","If-None-Match"));
 
 }
@@ -40,9 +40,12 @@ public class SecurityConfig {
                     "/api/auth/login",
                     "/api/auth/refresh",
                     "/api/auth/logout",
-                    "/actuator/**",
+                    "/actuator/health",
+                    "/actuator/health/**",
+                    "/actuator/info",
                     "/ws/**"  
                 ).permitAll()
+                .requestMatchers("/actuator/**").hasAuthority("ADMIN")
                 .anyRequest().authenticated()
             )
             .exceptionHandling(ex -> ex
@@ -64,7 +67,7 @@ public class SecurityConfig {
         config.setAllowedMethods(props.getAllowedMethods());
         config.setAllowedHeaders(props.getAllowedHeaders());
         config.setAllowCredentials(true);  
-        config.setExposedHeaders(List.of("WWW-Authenticate"));
+        config.setExposedHeaders(List.of("WWW-Authenticate", "ETag"));
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", config);
         return source;
@@ -0,0 +1,25 @@
+package com.gradproject.taskmanager.infrastructure.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+
+@ConfigurationProperties(prefix = "search.index")
+public record SearchIndexProperties(
+        boolean enabled,
+        Path path,
+        Duration commitInterval,
+        boolean rebuildOnStartup
+) {
+
+    public SearchIndexProperties {
+        if (path == null) {
+            path = Path.of("data", "search-index");
+        }
+        if (commitInterval == null) {
+            commitInterval = Duration.ofSeconds(30);
+        }
+    }
+}
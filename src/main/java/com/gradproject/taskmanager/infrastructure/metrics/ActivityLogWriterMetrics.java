@@ -0,0 +1,38 @@
+package com.gradproject.taskmanager.infrastructure.metrics;
+
+import com.gradproject.taskmanager.modules.activity.service.ActivityLogWriter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+
+@Component
+@RequiredArgsConstructor
+public class ActivityLogWriterMetrics implements MeterBinder {
+
+    private final ActivityLogWriter writer;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        String mode = writer.mode().name().toLowerCase();
+        FunctionCounter.builder("activity.writer.entries", writer, ActivityLogWriter::writtenCount)
+            .tag("result", "written")
+            .tag("mode", mode)
+            .register(registry);
+        FunctionCounter.builder("activity.writer.entries", writer, ActivityLogWriter::failedCount)
+            .tag("result", "failed")
+            .tag("mode", mode)
+            .register(registry);
+        FunctionCounter.builder("activity.writer.statements", writer, ActivityLogWriter::batchCount)
+            .register(registry);
+        FunctionCounter.builder("activity.writer.backpressure", writer, ActivityLogWriter::overflowCount)
+            .register(registry);
+        Gauge.builder("activity.writer.queue.size", writer, ActivityLogWriter::queueSize)
+            .register(registry);
+        Gauge.builder("activity.writer.queue.remaining", writer, ActivityLogWriter::queueRemainingCapacity)
+            .register(registry);
+    }
+}
@@ -0,0 +1,33 @@
+package com.gradproject.taskmanager.infrastructure.metrics;
+
+import com.gradproject.taskmanager.modules.search.service.SavedSearchResultCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+
+@Component
+@RequiredArgsConstructor
+public class SavedSearchCacheMetrics implements MeterBinder {
+
+    private final SavedSearchResultCache cache;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("search.saved.cache.requests", cache, SavedSearchResultCache::hitCount)
+            .tag("result", "hit")
+            .register(registry);
+        FunctionCounter.builder("search.saved.cache.requests", cache, SavedSearchResultCache::missCount)
+            .tag("result", "miss")
+            .register(registry);
+        FunctionCounter.builder("search.saved.cache.stale", cache, SavedSearchResultCache::staleCount)
+            .register(registry);
+        FunctionCounter.builder("search.saved.cache.evictions", cache, SavedSearchResultCache::evictionCount)
+            .register(registry);
+        Gauge.builder("search.saved.cache.size", cache, SavedSearchResultCache::size)
+            .register(registry);
+    }
+}
@@ -0,0 +1,48 @@
+package com.gradproject.taskmanager.infrastructure.scheduler;
+
+import com.gradproject.taskmanager.modules.activity.service.ActivityPartitionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(
+    prefix = "app.activity.partitions",
+    name = "scheduler-enabled",
+    havingValue = "true",
+    matchIfMissing = true
+)
+public class ActivityPartitionScheduler {
+
+    private final ActivityPartitionService activityPartitionService;
+
+    
+    @Scheduled(fixedDelayString = "${app.activity.partitions.maintain-interval:PT6H}", initialDelayString = "PT1M")
+    public void ensurePartitions() {
+        try {
+            int created = activityPartitionService.ensurePartitions();
+            if (created > 0) {
+                log.info("Created {} activity_log partitions", created);
+            }
+        } catch (Exception e) {
+            log.error("Error creating activity_log partitions", e);
+        }
+    }
+
+    
+    @Scheduled(cron = "${app.activity.partitions.archive-cron:0 15 3 * * *}")
+    public void archiveExpiredPartitions() {
+        log.info("Starting scheduled activity_log partition archival");
+        try {
+            int archived = activityPartitionService.archiveExpiredPartitions();
+            log.info("activity_log partition archival completed. {} partitions archived", archived);
+        } catch (Exception e) {
+            log.error("Error archiving activity_log partitions", e);
+        }
+    }
+}
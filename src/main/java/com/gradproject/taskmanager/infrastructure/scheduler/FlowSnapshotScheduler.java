@@ -0,0 +1,41 @@
+package com.gradproject.taskmanager.infrastructure.scheduler;
+
+import com.gradproject.taskmanager.modules.analytics.service.FlowAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(
+    prefix = "app.analytics.flow",
+    name = "scheduler-enabled",
+    havingValue = "true",
+    matchIfMissing = true
+)
+public class FlowSnapshotScheduler {
+
+    private final FlowAnalyticsService flowAnalyticsService;
+
+    
+    @Scheduled(cron = "${app.analytics.flow.snapshot-cron:0 0 4 * * *}")
+    public void refreshSnapshots() {
+        log.info("Starting scheduled flow snapshot refresh");
+
+        int projects = 0;
+        long days = 0;
+        for (Long projectId : flowAnalyticsService.findProjectIds()) {
+            try {
+                days += flowAnalyticsService.refreshSnapshots(projectId);
+                projects++;
+            } catch (Exception e) {
+                log.error("Error refreshing flow snapshots for project {}", projectId, e);
+            }
+        }
+        log.info("Flow snapshot refresh completed. {} days written across {} projects", days, projects);
+    }
+}
@@ -0,0 +1,51 @@
+package com.gradproject.taskmanager.infrastructure.scheduler;
+
+import com.gradproject.taskmanager.modules.analytics.repository.ProjectMetricsRepository.ReconcileResult;
+import com.gradproject.taskmanager.modules.analytics.service.ProjectMetricsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(
+    prefix = "app.analytics.metrics",
+    name = "scheduler-enabled",
+    havingValue = "true",
+    matchIfMissing = true
+)
+public class ProjectMetricsScheduler {
+
+    private final ProjectMetricsService projectMetricsService;
+
+    
+    @Scheduled(fixedDelayString = "${app.analytics.metrics.compact-interval:PT30S}")
+    public void compactMetrics() {
+        try {
+            long folded = projectMetricsService.compact();
+            if (folded > 0) {
+                log.debug("Folded {} task deltas into project metrics", folded);
+            }
+        } catch (Exception e) {
+            log.error("Error during project metrics compaction", e);
+        }
+    }
+
+    
+    @Scheduled(cron = "${app.analytics.metrics.reconcile-cron:0 30 3 * * *}")
+    public void reconcileMetrics() {
+        log.info("Starting scheduled project metrics reconciliation");
+
+        try {
+            ReconcileResult result = projectMetricsService.reconcile();
+            log.info("Project metrics reconciliation completed. {} drifted rows in {} projects, {} rows repaired",
+                result.driftedRows(), result.driftedProjects(), result.repairedRows());
+        } catch (Exception e) {
+            log.error("Error during project metrics reconciliation", e);
+        }
+    }
+}
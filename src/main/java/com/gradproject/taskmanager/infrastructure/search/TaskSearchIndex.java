@@ -0,0 +1,380 @@
+package com.gradproject.taskmanager.infrastructure.search;
+
+import com.gradproject.taskmanager.infrastructure.config.properties.SearchIndexProperties;
+import com.gradproject.taskmanager.modules.search.dto.TaskIndexDocument;
+import com.gradproject.taskmanager.modules.search.dto.TaskIndexHit;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.SimpleCollector;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.MMapDirectory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "search.index", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(SearchIndexProperties.class)
+public class TaskSearchIndex {
+
+    private static final String ID = "id";
+    private static final String TASK_ID = "task_id";
+    private static final String ORGANIZATION = "organization_id";
+    private static final String PROJECT = "project_id";
+    private static final String PROJECT_NAME = "project_name";
+    private static final String KEY = "key";
+    private static final String TITLE = "title";
+    private static final String DESCRIPTION = "description";
+    private static final String LABELS = "labels";
+    private static final String STATUS = "status";
+    private static final String ASSIGNEE = "assignee";
+    private static final String ASSIGNEE_ID = "assignee_id";
+    private static final String COMMENTS = "comments";
+    private static final String FINGERPRINT = "fingerprint";
+
+    private static final Map<String, Float> FIELD_BOOSTS = Map.of(
+        TITLE, 4f,
+        LABELS, 3f,
+        STATUS, 2f,
+        ASSIGNEE, 2f,
+        DESCRIPTION, 1f,
+        COMMENTS, 0.5f
+    );
+    private static final List<String> FUZZY_FIELDS = List.of(TITLE, LABELS, ASSIGNEE);
+    private static final Pattern KEY_PATTERN = Pattern.compile("[a-z0-9]+(-\\d*)?");
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    public TaskSearchIndex(SearchIndexProperties properties) throws IOException {
+        Files.createDirectories(properties.path());
+        this.directory = new MMapDirectory(properties.path());
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+            .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        this.searcherManager = new SearcherManager(writer, null);
+        log.info("Opened task search index at {} with {} documents", properties.path(), writer.getDocStats().numDocs);
+    }
+
+
+    public void upsert(Collection<TaskIndexDocument> documents) {
+        try {
+            for (TaskIndexDocument document : documents) {
+                writer.updateDocument(new Term(ID, document.taskId().toString()), toLuceneDocument(document));
+            }
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to index tasks", e);
+        }
+    }
+
+
+    public void delete(Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+        try {
+            writer.deleteDocuments(taskIds.stream().map(id -> new Term(ID, id.toString())).toArray(Term[]::new));
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to remove tasks from index", e);
+        }
+    }
+
+
+    public void deleteOrganization(Long organizationId) {
+        try {
+            if (organizationId == null) {
+                writer.deleteAll();
+            } else {
+                writer.deleteDocuments(LongPoint.newExactQuery(ORGANIZATION, organizationId));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to clear task index", e);
+        }
+    }
+
+
+    public void add(Collection<TaskIndexDocument> documents) {
+        try {
+            for (TaskIndexDocument document : documents) {
+                writer.addDocument(toLuceneDocument(document));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to index tasks", e);
+        }
+    }
+
+
+    public void commitAndRefresh() {
+        commit();
+        try {
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to refresh task index searcher", e);
+        }
+    }
+
+
+    public List<TaskIndexHit> search(Long organizationId, Collection<Long> projectIds, String text, int limit) {
+        Query textQuery = buildTextQuery(text);
+        if (textQuery == null || projectIds.isEmpty()) {
+            return List.of();
+        }
+
+        Query query = new BooleanQuery.Builder()
+            .add(textQuery, Occur.MUST)
+            .add(LongPoint.newExactQuery(ORGANIZATION, organizationId), Occur.FILTER)
+            .add(LongPoint.newSetQuery(PROJECT, projectIds), Occur.FILTER)
+            .build();
+
+        IndexSearcher searcher = acquire();
+        try {
+            TopDocs topDocs = searcher.search(query, limit);
+            StoredFields storedFields = searcher.storedFields();
+            List<TaskIndexHit> hits = new ArrayList<>(topDocs.scoreDocs.length);
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                hits.add(toHit(storedFields.document(scoreDoc.doc), scoreDoc.score));
+            }
+            return hits;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Task index search failed", e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+
+    public Map<Long, Long> fingerprints(Long organizationId) {
+        Map<Long, Long> fingerprints = new HashMap<>();
+        IndexSearcher searcher = acquire();
+        try {
+            searcher.search(LongPoint.newExactQuery(ORGANIZATION, organizationId), new SimpleCollector() {
+                private NumericDocValues taskIds;
+                private NumericDocValues taskFingerprints;
+
+                @Override
+                protected void doSetNextReader(LeafReaderContext context) throws IOException {
+                    taskIds = DocValues.getNumeric(context.reader(), TASK_ID);
+                    taskFingerprints = DocValues.getNumeric(context.reader(), FINGERPRINT);
+                }
+
+                @Override
+                public void collect(int doc) throws IOException {
+                    if (taskIds.advanceExact(doc)) {
+                        fingerprints.put(taskIds.longValue(), taskFingerprints.advanceExact(doc) ? taskFingerprints.longValue() : -1L);
+                    }
+                }
+
+                @Override
+                public ScoreMode scoreMode() {
+                    return ScoreMode.COMPLETE_NO_SCORES;
+                }
+            });
+            return fingerprints;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read task index fingerprints", e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    public int documentCount() {
+        IndexSearcher searcher = acquire();
+        try {
+            return searcher.getIndexReader().numDocs();
+        } finally {
+            release(searcher);
+        }
+    }
+
+
+    @Scheduled(fixedDelayString = "${search.index.commit-interval:PT30S}")
+    public void commit() {
+        try {
+            if (writer.hasUncommittedChanges()) {
+                writer.commit();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to commit task index", e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        commit();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+        analyzer.close();
+    }
+
+
+    Query buildTextQuery(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        String normalized = text.trim().toLowerCase(Locale.ROOT);
+        List<String> terms = analyze(normalized);
+
+        BooleanQuery.Builder textQuery = new BooleanQuery.Builder();
+        for (int i = 0; i < terms.size(); i++) {
+            textQuery.add(termQuery(terms.get(i), i == terms.size() - 1), Occur.MUST);
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder().setMinimumNumberShouldMatch(1);
+        if (!terms.isEmpty()) {
+            query.add(textQuery.build(), Occur.SHOULD);
+        }
+        if (KEY_PATTERN.matcher(normalized).matches()) {
+            query.add(new BoostQuery(new PrefixQuery(new Term(KEY, normalized)), 10f), Occur.SHOULD);
+        }
+        BooleanQuery built = query.build();
+        return built.clauses().isEmpty() ? null : built;
+    }
+
+
+    private Query termQuery(String term, boolean last) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        FIELD_BOOSTS.forEach((field, boost) -> {
+            builder.add(new BoostQuery(new TermQuery(new Term(field, term)), boost * 2), Occur.SHOULD);
+            if (last) {
+                builder.add(new BoostQuery(new PrefixQuery(new Term(field, term)), boost), Occur.SHOULD);
+            }
+        });
+        if (term.length() >= 4) {
+            int maxEdits = term.length() >= 8 ? 2 : 1;
+            for (String field : FUZZY_FIELDS) {
+                Query fuzzy = new FuzzyQuery(new Term(field, term), maxEdits, 1);
+                builder.add(new BoostQuery(fuzzy, FIELD_BOOSTS.get(field) / 2), Occur.SHOULD);
+            }
+        }
+        return builder.build();
+    }
+
+    private List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        try (TokenStream stream = analyzer.tokenStream(TITLE, text)) {
+            CharTermAttribute attribute = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                terms.add(attribute.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to analyze search text", e);
+        }
+        return terms;
+    }
+
+    private static Document toLuceneDocument(TaskIndexDocument task) {
+        Document document = new Document();
+        document.add(new StringField(ID, task.taskId().toString(), Field.Store.YES));
+        document.add(new NumericDocValuesField(TASK_ID, task.taskId()));
+        document.add(new NumericDocValuesField(FINGERPRINT, task.fingerprint()));
+        document.add(new LongPoint(ORGANIZATION, task.organizationId()));
+        document.add(new LongPoint(PROJECT, task.projectId()));
+        document.add(new StoredField(PROJECT, task.projectId()));
+        addStored(document, PROJECT_NAME, task.projectName());
+        document.add(new StringField(KEY, task.key().toLowerCase(Locale.ROOT), Field.Store.NO));
+        document.add(new TextField(TITLE, task.title(), Field.Store.YES));
+        addText(document, DESCRIPTION, task.description());
+        addText(document, STATUS, task.status());
+        addText(document, COMMENTS, task.comments());
+        task.labels().forEach(label -> addText(document, LABELS, label));
+        if (task.assigneeId() != null) {
+            document.add(new StoredField(ASSIGNEE_ID, task.assigneeId()));
+            addText(document, ASSIGNEE, task.assigneeName());
+        }
+        return document;
+    }
+
+    private static void addText(Document document, String field, String value) {
+        if (value != null) {
+            document.add(new TextField(field, value, field.equals(STATUS) || field.equals(ASSIGNEE)
+                ? Field.Store.YES : Field.Store.NO));
+        }
+    }
+
+    private static void addStored(Document document, String field, String value) {
+        if (value != null) {
+            document.add(new StoredField(field, value));
+        }
+    }
+
+    private static TaskIndexHit toHit(Document document, float score) {
+        Number projectId = document.getField(PROJECT).numericValue();
+        var assigneeId = document.getField(ASSIGNEE_ID);
+        return new TaskIndexHit(
+            Long.valueOf(document.get(ID)),
+            document.get(TITLE),
+            document.get(STATUS),
+            score,
+            projectId.longValue(),
+            document.get(PROJECT_NAME),
+            assigneeId != null ? assigneeId.numericValue().intValue() : null,
+            document.get(ASSIGNEE)
+        );
+    }
+
+    private IndexSearcher acquire() {
+        try {
+            return searcherManager.acquire();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to acquire task index searcher", e);
+        }
+    }
+
+    private void release(IndexSearcher searcher) {
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            log.warn("Failed to release task index searcher", e);
+        }
+    }
+}
@@ -14,6 +14,8 @@ import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 
 @Service
@@ -48,6 +50,29 @@ public class S3Service {
     }
 
     
+    public String uploadFile(Path file, String storagePath, String contentType) {
+        try {
+            ensureBucketExists();
+
+            minioClient.uploadObject(
+                    UploadObjectArgs.builder()
+                            .bucket(properties.bucketName())
+                            .object(storagePath)
+                            .filename(file.toString())
+                            .contentType(contentType)
+                            .build()
+            );
+
+            log.info("Uploaded file to MinIO: {} ({} bytes)", storagePath, Files.size(file));
+            return storagePath;
+
+        } catch (Exception e) {
+            log.error("Failed to upload file to MinIO: {}", storagePath, e);
+            throw new FileStorageException("Could not upload file: " + e.getMessage(), e);
+        }
+    }
+
+    
     public byte[] downloadFile(String storagePath) {
         try {
             try (InputStream stream = minioClient.getObject(
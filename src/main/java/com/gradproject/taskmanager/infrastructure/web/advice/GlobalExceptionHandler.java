@@ -1,11 +1,14 @@
 package com.gradproject.taskmanager.infrastructure.web.advice;
 
 import com.gradproject.taskmanager.shared.dto.ApiResponse;
+import com.gradproject.taskmanager.shared.exception.BadRequestException;
 import com.gradproject.taskmanager.shared.exception.BusinessRuleViolationException;
 import com.gradproject.taskmanager.shared.exception.DuplicateResourceException;
+import com.gradproject.taskmanager.shared.exception.PreconditionFailedException;
 import com.gradproject.taskmanager.shared.exception.ResourceNotFoundException;
 import com.gradproject.taskmanager.shared.exception.UnauthorizedException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -51,6 +54,24 @@ public class GlobalExceptionHandler {
     }
 
     
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ApiResponse<Void>> handlePreconditionFailed(PreconditionFailedException ex) {
+        log.debug("Precondition failed: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.PRECONDITION_FAILED)
+                .body(ApiResponse.error(ex.getMessage()));
+    }
+
+    
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<Void>> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        log.debug("Concurrent modification: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error("The resource was modified by another request. Reload it and try again."));
+    }
+
+    
     @ExceptionHandler(BusinessRuleViolationException.class)
     public ResponseEntity<ApiResponse<Void>> handleBusinessRuleViolation(BusinessRuleViolationException ex) {
         log.debug("Business rule violation: {}", ex.getMessage());
@@ -60,6 +81,15 @@ public class GlobalExceptionHandler {
     }
 
     
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<ApiResponse<Void>> handleBadRequest(BadRequestException ex) {
+        log.debug("Bad request: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error(ex.getMessage()));
+    }
+
+    
     @ExceptionHandler(BadCredentialsException.class)
     public ResponseEntity<ApiResponse<Void>> handleBadCredentials(BadCredentialsException ex) {
         log.debug("Bad credentials: {}", ex.getMessage());
@@ -5,7 +5,9 @@ import com.gradproject.taskmanager.modules.activity.domain.EntityType;
 import com.gradproject.taskmanager.modules.activity.dto.ActivityLogResponse;
 import com.gradproject.taskmanager.modules.activity.service.ActivityLogService;
 import com.gradproject.taskmanager.shared.dto.ApiResponse;
+import com.gradproject.taskmanager.shared.dto.CursorPageResponse;
 import com.gradproject.taskmanager.shared.mapper.ActivityLogMapper;
+import com.gradproject.taskmanager.shared.util.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -30,8 +32,7 @@ public class ActivityLogController {
         
         int cappedLimit = Math.min(limit, 500);
 
-        List<ActivityLog> logs = activityLogService.getTaskActivity(taskId, cappedLimit);
-        List<ActivityLogResponse> response = activityLogMapper.toResponseList(logs);
+        List<ActivityLogResponse> response = activityLogService.getTaskFeed(taskId, null, cappedLimit, true).content();
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
@@ -45,8 +46,7 @@ public class ActivityLogController {
         
         int cappedLimit = Math.min(limit, 500);
 
-        List<ActivityLog> logs = activityLogService.getProjectActivity(projectId, cappedLimit);
-        List<ActivityLogResponse> response = activityLogMapper.toResponseList(logs);
+        List<ActivityLogResponse> response = activityLogService.getProjectFeed(projectId, null, cappedLimit, true).content();
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
@@ -60,13 +60,67 @@ public class ActivityLogController {
         
         int cappedLimit = Math.min(limit, 1000);
 
-        List<ActivityLog> logs = activityLogService.getOrganizationActivity(organizationId, cappedLimit);
-        List<ActivityLogResponse> response = activityLogMapper.toResponseList(logs);
+        List<ActivityLogResponse> response = activityLogService.getOrganizationFeed(organizationId, null, cappedLimit, true).content();
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
     
+    @GetMapping("/tasks/{taskId}/activity/feed")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ActivityLogResponse>>> getTaskActivityFeed(
+            @PathVariable Long taskId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "50") int limit,
+            @RequestParam(required = false, defaultValue = "false") boolean includeValues
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(
+                activityLogService.getTaskFeed(taskId, cursor, limit, includeValues)));
+    }
+
+    
+    @GetMapping("/projects/{projectId}/activity/feed")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ActivityLogResponse>>> getProjectActivityFeed(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "50") int limit,
+            @RequestParam(required = false, defaultValue = "false") boolean includeValues
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(
+                activityLogService.getProjectFeed(projectId, cursor, limit, includeValues)));
+    }
+
+    
+    @GetMapping("/organizations/{organizationId}/activity/feed")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ActivityLogResponse>>> getOrganizationActivityFeed(
+            @PathVariable Long organizationId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "100") int limit,
+            @RequestParam(required = false, defaultValue = "false") boolean includeValues
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(
+                activityLogService.getOrganizationFeed(organizationId, cursor, limit, includeValues)));
+    }
+
+    
+    @GetMapping("/users/me/activity/feed")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ActivityLogResponse>>> getMyActivityFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "50") int limit,
+            @RequestParam(required = false, defaultValue = "false") boolean includeValues
+    ) {
+        Integer userId = SecurityUtils.getCurrentUserId();
+        return ResponseEntity.ok(ApiResponse.success(
+                activityLogService.getUserFeed(userId, cursor, limit, includeValues)));
+    }
+
+    
+    @GetMapping("/activity/{activityId}")
+    public ResponseEntity<ApiResponse<ActivityLogResponse>> getActivity(@PathVariable Long activityId) {
+        ActivityLog log = activityLogService.getActivity(activityId);
+        return ResponseEntity.ok(ApiResponse.success(activityLogMapper.toResponse(log)));
+    }
+
+    
     @GetMapping("/activity/{entityType}/{entityId}/history")
     public ResponseEntity<ApiResponse<List<ActivityLogResponse>>> getEntityHistory(
             @PathVariable EntityType entityType,
@@ -0,0 +1,29 @@
+package com.gradproject.taskmanager.modules.activity.domain;
+
+import lombok.Builder;
+
+import java.time.Instant;
+
+
+@Builder
+public record ActivityEntry(
+    Long organizationId,
+    Long projectId,
+    Long taskId,
+    EntityType entityType,
+    Long entityId,
+    ActionType action,
+    Integer userId,
+    String fieldName,
+    Object oldValue,
+    Object newValue,
+    Object metadata,
+    Instant timestamp
+) {
+
+    public ActivityEntry {
+        if (timestamp == null) {
+            timestamp = Instant.now();
+        }
+    }
+}
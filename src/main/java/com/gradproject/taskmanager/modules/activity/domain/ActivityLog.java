@@ -23,7 +23,8 @@ import java.time.Instant;
 public class ActivityLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "activity_log_id_seq")
+    @SequenceGenerator(name = "activity_log_id_seq", sequenceName = "activity_log_id_seq", allocationSize = 1)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -68,9 +69,9 @@ public class ActivityLog {
     @Column(columnDefinition = "jsonb")
     private String metadata;  
 
-    @Column(name = "version_number", nullable = false)
-    @Builder.Default
-    private Integer versionNumber = 1;
+    // Assigned on insert by trg_activity_log_version; not populated on a freshly saved instance
+    @Column(name = "version_number", nullable = false, insertable = false, updatable = false)
+    private Integer versionNumber;
 
     @Column(nullable = false)
     private Instant timestamp;
@@ -80,9 +81,6 @@ public class ActivityLog {
         if (timestamp == null) {
             timestamp = Instant.now();
         }
-        if (versionNumber == null) {
-            versionNumber = 1;
-        }
     }
 
     
@@ -0,0 +1,43 @@
+package com.gradproject.taskmanager.modules.activity.dto;
+
+import com.gradproject.taskmanager.modules.activity.domain.ActionType;
+import com.gradproject.taskmanager.modules.activity.domain.EntityType;
+import com.gradproject.taskmanager.shared.dto.UserSummary;
+
+import java.time.Instant;
+
+
+public record ActivityFeedRow(
+    Long id,
+    Instant timestamp,
+    EntityType entityType,
+    Long entityId,
+    ActionType action,
+    String fieldName,
+    Integer versionNumber,
+    Integer userId,
+    String username,
+    String userEmail,
+    String userFirstName,
+    String userLastName,
+    String userAvatarUrl
+) {
+
+    
+    public ActivityLogResponse toResponse(ActivityPayload payload) {
+        UserSummary user = new UserSummary(userId, username, userEmail, userFirstName, userLastName, userAvatarUrl);
+        return new ActivityLogResponse(
+            id,
+            entityType,
+            entityId,
+            action,
+            user,
+            fieldName,
+            payload != null ? payload.oldValue() : null,
+            payload != null ? payload.newValue() : null,
+            payload != null ? payload.metadata() : null,
+            versionNumber,
+            timestamp
+        );
+    }
+}
@@ -0,0 +1,28 @@
+package com.gradproject.taskmanager.modules.activity.dto;
+
+import java.time.LocalDateTime;
+
+
+public record ActivityPartition(
+    String name,
+    LocalDateTime from,
+    LocalDateTime to,
+    boolean isDefault
+) {
+
+    public static ActivityPartition defaultPartition(String name) {
+        return new ActivityPartition(name, null, null, true);
+    }
+
+    
+    public boolean covers(LocalDateTime start, LocalDateTime end) {
+        return !isDefault
+            && (from == null || !from.isAfter(start))
+            && (to == null || !to.isBefore(end));
+    }
+
+    
+    public boolean endsBefore(LocalDateTime instant) {
+        return !isDefault && to != null && !to.isAfter(instant);
+    }
+}
@@ -0,0 +1,10 @@
+package com.gradproject.taskmanager.modules.activity.dto;
+
+
+public record ActivityPayload(
+    Long id,
+    String oldValue,
+    String newValue,
+    String metadata
+) {
+}
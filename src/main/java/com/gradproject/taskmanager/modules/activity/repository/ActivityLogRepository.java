@@ -3,46 +3,80 @@ package com.gradproject.taskmanager.modules.activity.repository;
 import com.gradproject.taskmanager.modules.activity.domain.ActionType;
 import com.gradproject.taskmanager.modules.activity.domain.ActivityLog;
 import com.gradproject.taskmanager.modules.activity.domain.EntityType;
-import org.springframework.data.domain.Pageable;
+import com.gradproject.taskmanager.modules.activity.dto.ActivityFeedRow;
+import com.gradproject.taskmanager.modules.activity.dto.ActivityPayload;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 
 @Repository
 public interface ActivityLogRepository extends JpaRepository<ActivityLog, Long> {
 
     
-    @Query("SELECT a FROM ActivityLog a LEFT JOIN FETCH a.user WHERE a.task.id = :taskId ORDER BY a.timestamp DESC")
-    List<ActivityLog> findByTaskIdOrderByTimestampDesc(@Param("taskId") Long taskId);
+    String FEED_SELECT = "SELECT new com.gradproject.taskmanager.modules.activity.dto.ActivityFeedRow(" +
+            "a.id, a.timestamp, a.entityType, a.entityId, a.action, a.fieldName, a.versionNumber, " +
+            "u.id, u.username, u.email, u.firstName, u.lastName, u.avatarUrl) " +
+            "FROM ActivityLog a " +
+            "JOIN a.user u ";
 
     
-    @Query("SELECT a FROM ActivityLog a LEFT JOIN FETCH a.user WHERE a.task.id = :taskId ORDER BY a.timestamp DESC")
-    List<ActivityLog> findByTaskIdOrderByTimestampDesc(@Param("taskId") Long taskId, Pageable pageable);
+    String FEED_KEYSET = "AND a.timestamp >= :from AND a.timestamp <= :cursorTimestamp " +
+            "AND (a.timestamp < :cursorTimestamp " +
+            "     OR (a.timestamp = :cursorTimestamp AND a.id < :cursorId)) " +
+            "ORDER BY a.timestamp DESC, a.id DESC";
 
     
-    @Query("SELECT a FROM ActivityLog a LEFT JOIN FETCH a.user WHERE a.project.id = :projectId ORDER BY a.timestamp DESC")
-    List<ActivityLog> findByProjectIdOrderByTimestampDesc(@Param("projectId") Long projectId);
+    @Query(FEED_SELECT + "WHERE a.task.id = :taskId " + FEED_KEYSET)
+    List<ActivityFeedRow> findTaskFeed(
+            @Param("taskId") Long taskId,
+            @Param("from") Instant from,
+            @Param("cursorTimestamp") Instant cursorTimestamp,
+            @Param("cursorId") Long cursorId,
+            Limit limit);
 
     
-    @Query("SELECT a FROM ActivityLog a LEFT JOIN FETCH a.user WHERE a.project.id = :projectId ORDER BY a.timestamp DESC")
-    List<ActivityLog> findByProjectIdOrderByTimestampDesc(@Param("projectId") Long projectId, Pageable pageable);
+    @Query(FEED_SELECT + "WHERE a.project.id = :projectId " + FEED_KEYSET)
+    List<ActivityFeedRow> findProjectFeed(
+            @Param("projectId") Long projectId,
+            @Param("from") Instant from,
+            @Param("cursorTimestamp") Instant cursorTimestamp,
+            @Param("cursorId") Long cursorId,
+            Limit limit);
 
     
-    @Query("SELECT a FROM ActivityLog a LEFT JOIN FETCH a.user WHERE a.organization.id = :organizationId ORDER BY a.timestamp DESC")
-    List<ActivityLog> findByOrganizationIdOrderByTimestampDesc(@Param("organizationId") Long organizationId);
+    @Query(FEED_SELECT + "WHERE a.organization.id = :organizationId " + FEED_KEYSET)
+    List<ActivityFeedRow> findOrganizationFeed(
+            @Param("organizationId") Long organizationId,
+            @Param("from") Instant from,
+            @Param("cursorTimestamp") Instant cursorTimestamp,
+            @Param("cursorId") Long cursorId,
+            Limit limit);
 
     
-    @Query("SELECT a FROM ActivityLog a LEFT JOIN FETCH a.user WHERE a.organization.id = :organizationId ORDER BY a.timestamp DESC")
-    List<ActivityLog> findByOrganizationIdOrderByTimestampDesc(@Param("organizationId") Long organizationId, Pageable pageable);
+    @Query(FEED_SELECT + "WHERE a.user.id = :userId " + FEED_KEYSET)
+    List<ActivityFeedRow> findUserFeed(
+            @Param("userId") Integer userId,
+            @Param("from") Instant from,
+            @Param("cursorTimestamp") Instant cursorTimestamp,
+            @Param("cursorId") Long cursorId,
+            Limit limit);
 
     
-    @Query("SELECT a FROM ActivityLog a LEFT JOIN FETCH a.user WHERE a.user.id = :userId ORDER BY a.timestamp DESC")
-    List<ActivityLog> findByUserIdOrderByTimestampDesc(@Param("userId") Integer userId, Pageable pageable);
+    @Query("SELECT new com.gradproject.taskmanager.modules.activity.dto.ActivityPayload(" +
+           "a.id, a.oldValue, a.newValue, a.metadata) " +
+           "FROM ActivityLog a " +
+           "WHERE a.id IN :ids AND a.timestamp >= :from AND a.timestamp <= :to")
+    List<ActivityPayload> findPayloads(
+            @Param("ids") Collection<Long> ids,
+            @Param("from") Instant from,
+            @Param("to") Instant to);
 
     
     @Query("SELECT a FROM ActivityLog a WHERE a.entityType = :entityType AND a.entityId = :entityId ORDER BY a.versionNumber ASC")
@@ -58,12 +92,6 @@ public interface ActivityLogRepository extends JpaRepository<ActivityLog, Long>
             @Param("maxVersion") Integer maxVersion);
 
     
-    @Query("SELECT MAX(a.versionNumber) FROM ActivityLog a WHERE a.entityType = :entityType AND a.entityId = :entityId")
-    Optional<Integer> findMaxVersionNumber(
-            @Param("entityType") EntityType entityType,
-            @Param("entityId") Long entityId);
-
-    
     long countByTaskId(Long taskId);
 
     
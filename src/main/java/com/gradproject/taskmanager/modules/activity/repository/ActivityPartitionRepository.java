@@ -0,0 +1,201 @@
+package com.gradproject.taskmanager.modules.activity.repository;
+
+import com.gradproject.taskmanager.modules.activity.dto.ActivityPartition;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+
+@Repository
+@RequiredArgsConstructor
+public class ActivityPartitionRepository {
+
+    public static final String DEFAULT_PARTITION = "activity_log_default";
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("activity_log_[a-z0-9_]+");
+    private static final Pattern RANGE_BOUND = Pattern.compile("FROM \\((.+?)\\) TO \\((.+?)\\)");
+    private static final DateTimeFormatter MONTH_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final DateTimeFormatter BOUND_LITERAL = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final int EXPORT_FETCH_SIZE = 5_000;
+
+    private static final String PARTITIONS = """
+        SELECT c.relname, pg_get_expr(c.relpartbound, c.oid)
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = CAST('activity_log' AS REGCLASS)
+        ORDER BY c.relname
+        """;
+
+    private final EntityManager entityManager;
+
+
+    public static String monthPartitionName(LocalDateTime monthStart) {
+        return "activity_log_" + MONTH_SUFFIX.format(monthStart);
+    }
+
+
+    public boolean tryLock() {
+        return Boolean.TRUE.equals(entityManager
+            .createNativeQuery("SELECT pg_try_advisory_xact_lock(hashtext('activity_partitions'))")
+            .getSingleResult());
+    }
+
+    public List<ActivityPartition> findPartitions() {
+        List<Object[]> rows = rows(entityManager.createNativeQuery(PARTITIONS));
+        return rows.stream()
+            .map(row -> toPartition((String) row[0], (String) row[1]))
+            .toList();
+    }
+
+
+    public int createMonthPartition(String name, LocalDateTime from, LocalDateTime to) {
+        String table = identifier(name);
+        String lower = literal(from);
+        String upper = literal(to);
+
+        execute("CREATE TABLE " + table + " (LIKE activity_log INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+        // Rows that landed in the default partition for this month would block the attach; move them first.
+        // The standalone table has no version trigger yet, so moved rows keep their version numbers.
+        int moved = entityManager.createNativeQuery("""
+                WITH moved AS (
+                    DELETE FROM %s WHERE timestamp >= :from AND timestamp < :to RETURNING *
+                )
+                INSERT INTO %s SELECT * FROM moved
+                """.formatted(DEFAULT_PARTITION, table))
+            .setParameter("from", from)
+            .setParameter("to", to)
+            .executeUpdate();
+        execute("ALTER TABLE activity_log ATTACH PARTITION " + table
+            + " FOR VALUES FROM ('" + lower + "') TO ('" + upper + "')");
+        return moved;
+    }
+
+    public void detach(String name) {
+        execute("ALTER TABLE activity_log DETACH PARTITION " + identifier(name));
+    }
+
+    public void drop(String name) {
+        execute("DROP TABLE IF EXISTS " + identifier(name));
+    }
+
+
+    public long export(String name, Writer out) {
+        long rows = 0;
+        try (Stream<?> lines = entityManager
+                .createNativeQuery("SELECT CAST(row_to_json(a) AS TEXT) FROM " + identifier(name) + " a")
+                .setHint(HibernateHints.HINT_FETCH_SIZE, EXPORT_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+            Iterator<?> iterator = lines.iterator();
+            while (iterator.hasNext()) {
+                out.write((String) iterator.next());
+                out.write('\n');
+                rows++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not export partition " + name, e);
+        }
+        return rows;
+    }
+
+
+
+    public void recordDetached(ActivityPartition partition) {
+        entityManager.createNativeQuery("""
+                INSERT INTO activity_log_archives (partition_name, range_start, range_end, status)
+                VALUES (:name, :rangeStart, :rangeEnd, 'DETACHED')
+                ON CONFLICT (partition_name) DO NOTHING
+                """)
+            .setParameter("name", partition.name())
+            .setParameter("rangeStart", partition.from())
+            .setParameter("rangeEnd", partition.to())
+            .executeUpdate();
+    }
+
+    public List<ActivityPartition> findDetached() {
+        List<Object[]> rows = rows(entityManager.createNativeQuery("""
+            SELECT partition_name, range_start, range_end
+            FROM activity_log_archives
+            WHERE status = 'DETACHED'
+            ORDER BY range_end
+            """));
+        return rows.stream()
+            .map(row -> new ActivityPartition((String) row[0], toLocalDateTime(row[1]), toLocalDateTime(row[2]), false))
+            .toList();
+    }
+
+    public void markArchived(String name, String objectKey, long rowCount, long sizeBytes) {
+        entityManager.createNativeQuery("""
+                UPDATE activity_log_archives
+                SET status = 'ARCHIVED', object_key = :objectKey, row_count = :rowCount,
+                    size_bytes = :sizeBytes, archived_at = CURRENT_TIMESTAMP
+                WHERE partition_name = :name
+                """)
+            .setParameter("name", name)
+            .setParameter("objectKey", objectKey)
+            .setParameter("rowCount", rowCount)
+            .setParameter("sizeBytes", sizeBytes)
+            .executeUpdate();
+    }
+
+
+
+    static ActivityPartition toPartition(String name, String bound) {
+        if (bound == null || bound.equals("DEFAULT")) {
+            return ActivityPartition.defaultPartition(name);
+        }
+        Matcher matcher = RANGE_BOUND.matcher(bound);
+        if (!matcher.find()) {
+            throw new IllegalStateException("Unexpected bound for partition " + name + ": " + bound);
+        }
+        return new ActivityPartition(name, toBound(matcher.group(1)), toBound(matcher.group(2)), false);
+    }
+
+    private static LocalDateTime toBound(String value) {
+        if (value.equals("MINVALUE") || value.equals("MAXVALUE")) {
+            return null;
+        }
+        return LocalDateTime.parse(value.replace("'", "").replace(' ', 'T'));
+    }
+
+    private static String identifier(String name) {
+        if (!PARTITION_NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException("Not an activity_log partition: " + name);
+        }
+        return name;
+    }
+
+    private static String literal(LocalDateTime value) {
+        return BOUND_LITERAL.format(value);
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value == null) {
+            return null;
+        }
+        return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) value;
+    }
+
+    private void execute(String sql) {
+        entityManager.createNativeQuery(sql).executeUpdate();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object[]> rows(Query query) {
+        return query.getResultList();
+    }
+}
@@ -1,23 +1,38 @@
 package com.gradproject.taskmanager.modules.activity.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gradproject.taskmanager.modules.activity.domain.ActionType;
+import com.gradproject.taskmanager.modules.activity.domain.ActivityEntry;
 import com.gradproject.taskmanager.modules.activity.domain.ActivityLog;
 import com.gradproject.taskmanager.modules.activity.domain.EntityType;
+import com.gradproject.taskmanager.modules.activity.dto.ActivityFeedRow;
+import com.gradproject.taskmanager.modules.activity.dto.ActivityLogResponse;
+import com.gradproject.taskmanager.modules.activity.dto.ActivityPayload;
 import com.gradproject.taskmanager.modules.activity.repository.ActivityLogRepository;
 import com.gradproject.taskmanager.modules.auth.domain.User;
 import com.gradproject.taskmanager.modules.project.domain.TaskStatus;
 import com.gradproject.taskmanager.modules.task.domain.Comment;
 import com.gradproject.taskmanager.modules.task.domain.Task;
 import com.gradproject.taskmanager.modules.task.domain.WorkLog;
+import com.gradproject.taskmanager.shared.dto.CursorPageResponse;
+import com.gradproject.taskmanager.shared.exception.ResourceNotFoundException;
+import com.gradproject.taskmanager.shared.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 
 @Service
@@ -25,169 +40,137 @@ import java.util.Map;
 @Slf4j
 public class ActivityLogService {
 
+    private static final int MAX_FEED_PAGE_SIZE = 1000;
+    private static final Duration FEED_CLOCK_SKEW = Duration.ofDays(1);
+
     private final ActivityLogRepository activityLogRepository;
-    private final ObjectMapper objectMapper;
+    private final ActivityLogWriter activityLogWriter;
+
+
+    @Value("${app.activity.partitions.feed-window:P31D}")
+    private Duration feedWindow;
+
+    @Value("${app.activity.partitions.retention-months:24}")
+    private int retentionMonths;
 
     
     @Transactional
     public void logStatusChange(Task task, TaskStatus oldStatus, TaskStatus newStatus, User user) {
         log.debug("Logging status change for task {}: {} → {}", task.getKey(), oldStatus.getName(), newStatus.getName());
 
-        int nextVersion = getNextVersionNumber(EntityType.TASK, task.getId());
+        activityLogWriter.write(statusChangeLog(task, oldStatus, newStatus, user));
+    }
 
-        ActivityLog activityLog = ActivityLog.builder()
-                .organization(task.getOrganization())
-                .project(task.getProject())
-                .task(task)
-                .entityType(EntityType.TASK)
-                .entityId(task.getId())
-                .action(ActionType.STATUS_CHANGED)
-                .user(user)
-                .fieldName("status")
-                .oldValue(toJsonString(Map.of("id", oldStatus.getId(), "name", oldStatus.getName())))
-                .newValue(toJsonString(Map.of("id", newStatus.getId(), "name", newStatus.getName())))
-                .versionNumber(nextVersion)
-                .build();
+    
+    @Transactional
+    public void logStatusChanges(List<Task> tasks, Map<Long, TaskStatus> oldStatuses, User user) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        List<ActivityEntry> entries = tasks.stream()
+                .map(task -> statusChangeLog(task, oldStatuses.get(task.getId()), task.getStatus(), user))
+                .toList();
 
-        activityLogRepository.save(activityLog);
+        activityLogWriter.writeAll(entries);
     }
 
     
     @Transactional
     public void logAssignment(Task task, User oldAssignee, User newAssignee, User actingUser) {
-        int nextVersion = getNextVersionNumber(EntityType.TASK, task.getId());
-
-        ActionType action = newAssignee != null ? ActionType.ASSIGNED : ActionType.UNASSIGNED;
-
-        String oldValue = oldAssignee != null ?
-                toJsonString(Map.of("id", oldAssignee.getId(), "username", oldAssignee.getUsername())) : null;
-
-        String newValue = newAssignee != null ?
-                toJsonString(Map.of("id", newAssignee.getId(), "username", newAssignee.getUsername())) : null;
+        activityLogWriter.write(assignmentLog(task, oldAssignee, newAssignee, actingUser));
+    }
 
-        ActivityLog activityLog = ActivityLog.builder()
-                .organization(task.getOrganization())
-                .project(task.getProject())
-                .task(task)
-                .entityType(EntityType.TASK)
-                .entityId(task.getId())
-                .action(action)
-                .user(actingUser)
-                .fieldName("assignee")
-                .oldValue(oldValue)
-                .newValue(newValue)
-                .versionNumber(nextVersion)
-                .build();
+    
+    @Transactional
+    public void logAssignments(List<Task> tasks, Map<Long, User> oldAssignees, User actingUser) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        List<ActivityEntry> entries = tasks.stream()
+                .map(task -> assignmentLog(task, oldAssignees.get(task.getId()), task.getAssignee(), actingUser))
+                .toList();
 
-        activityLogRepository.save(activityLog);
+        activityLogWriter.writeAll(entries);
     }
 
     
     @Transactional
     public void logCommentAdded(Task task, Comment comment, User user) {
-        int nextVersion = getNextVersionNumber(EntityType.COMMENT, comment.getId());
-
-        ActivityLog activityLog = ActivityLog.builder()
-                .organization(task.getOrganization())
-                .project(task.getProject())
-                .task(task)
+        ActivityEntry entry = onTask(task)
                 .entityType(EntityType.COMMENT)
                 .entityId(comment.getId())
                 .action(ActionType.COMMENT_ADDED)
-                .user(user)
-                .metadata(toJsonString(Map.of(
+                .userId(user.getId())
+                .metadata(Map.of(
                         "commentId", comment.getId(),
                         "isReply", comment.isReply(),
                         "contentLength", comment.getContent().length()
-                )))
-                .versionNumber(nextVersion)
+                ))
                 .build();
 
-        activityLogRepository.save(activityLog);
+        activityLogWriter.write(entry);
     }
 
     
     @Transactional
     public void logCommentDeleted(Task task, Comment comment, User user) {
-        int nextVersion = getNextVersionNumber(EntityType.COMMENT, comment.getId());
-
-        ActivityLog activityLog = ActivityLog.builder()
-                .organization(task.getOrganization())
-                .project(task.getProject())
-                .task(task)
+        ActivityEntry entry = onTask(task)
                 .entityType(EntityType.COMMENT)
                 .entityId(comment.getId())
                 .action(ActionType.COMMENT_DELETED)
-                .user(user)
-                .versionNumber(nextVersion)
+                .userId(user.getId())
                 .build();
 
-        activityLogRepository.save(activityLog);
+        activityLogWriter.write(entry);
     }
 
     
     @Transactional
     public void logAttachmentAdded(Task task, Long attachmentId, String filename, Long fileSize, User user) {
-        int nextVersion = getNextVersionNumber(EntityType.ATTACHMENT, attachmentId);
-
-        ActivityLog activityLog = ActivityLog.builder()
-                .organization(task.getOrganization())
-                .project(task.getProject())
-                .task(task)
+        ActivityEntry entry = onTask(task)
                 .entityType(EntityType.ATTACHMENT)
                 .entityId(attachmentId)
                 .action(ActionType.ATTACHMENT_ADDED)
-                .user(user)
-                .metadata(toJsonString(Map.of(
+                .userId(user.getId())
+                .metadata(Map.of(
                         "filename", filename,
                         "fileSize", fileSize
-                )))
-                .versionNumber(nextVersion)
+                ))
                 .build();
 
-        activityLogRepository.save(activityLog);
+        activityLogWriter.write(entry);
     }
 
     
     @Transactional
     public void logAttachmentDeleted(Task task, Long attachmentId, String filename, User user) {
-        int nextVersion = getNextVersionNumber(EntityType.ATTACHMENT, attachmentId);
-
-        ActivityLog activityLog = ActivityLog.builder()
-                .organization(task.getOrganization())
-                .project(task.getProject())
-                .task(task)
+        ActivityEntry entry = onTask(task)
                 .entityType(EntityType.ATTACHMENT)
                 .entityId(attachmentId)
                 .action(ActionType.ATTACHMENT_DELETED)
-                .user(user)
-                .metadata(toJsonString(Map.of("filename", filename)))
-                .versionNumber(nextVersion)
+                .userId(user.getId())
+                .metadata(Map.of("filename", filename))
                 .build();
 
-        activityLogRepository.save(activityLog);
+        activityLogWriter.write(entry);
     }
 
     
     @Transactional
     public void logTaskCreated(Task task, User user) {
-        ActivityLog activityLog = ActivityLog.builder()
-                .organization(task.getOrganization())
-                .project(task.getProject())
-                .task(task)
+        ActivityEntry entry = onTask(task)
                 .entityType(EntityType.TASK)
                 .entityId(task.getId())
                 .action(ActionType.CREATED)
-                .user(user)
-                .metadata(toJsonString(Map.of(
+                .userId(user.getId())
+                .metadata(Map.of(
                         "title", task.getTitle(),
                         "type", task.getType().name(),
                         "priority", task.getPriority().name()
-                )))
-                .versionNumber(1)  
+                ))
                 .build();
 
-        activityLogRepository.save(activityLog);
+        activityLogWriter.write(entry);
     }
 
     /**
@@ -195,27 +178,21 @@ public class ActivityLogService {
      */
     @Transactional
     public void logWorkLogged(Task task, WorkLog workLog, User user) {
-        int nextVersion = getNextVersionNumber(EntityType.WORK_LOG, workLog.getId());
-
-        ActivityLog activityLog = ActivityLog.builder()
-                .organization(task.getOrganization())
-                .project(task.getProject())
-                .task(task)
+        ActivityEntry entry = onTask(task)
                 .entityType(EntityType.WORK_LOG)
                 .entityId(workLog.getId())
                 .action(ActionType.WORK_LOGGED)
-                .user(user)
-                .metadata(toJsonString(Map.of(
+                .userId(user.getId())
+                .metadata(Map.of(
                         "workLogId", workLog.getId(),
                         "timeSpentMinutes", workLog.getTimeSpentMinutes(),
                         "timeSpentFormatted", workLog.getTimeSpentFormatted(),
                         "workDate", workLog.getWorkDate().toString(),
                         "source", workLog.getSource().name()
-                )))
-                .versionNumber(nextVersion)
+                ))
                 .build();
 
-        activityLogRepository.save(activityLog);
+        activityLogWriter.write(entry);
     }
 
     /**
@@ -223,29 +200,37 @@ public class ActivityLogService {
      */
     @Transactional
     public void logWorkLogDeleted(Task task, WorkLog workLog, User user) {
-        int nextVersion = getNextVersionNumber(EntityType.WORK_LOG, workLog.getId());
-
-        ActivityLog activityLog = ActivityLog.builder()
-                .organization(task.getOrganization())
-                .project(task.getProject())
-                .task(task)
+        ActivityEntry entry = onTask(task)
                 .entityType(EntityType.WORK_LOG)
                 .entityId(workLog.getId())
                 .action(ActionType.WORK_LOG_DELETED)
-                .user(user)
-                .metadata(toJsonString(Map.of(
+                .userId(user.getId())
+                .metadata(Map.of(
                         "timeSpentMinutes", workLog.getTimeSpentMinutes(),
                         "workDate", workLog.getWorkDate().toString()
-                )))
-                .versionNumber(nextVersion)
+                ))
                 .build();
 
-        activityLogRepository.save(activityLog);
+        activityLogWriter.write(entry);
     }
 
     @Transactional
-    public void logActivity(ActivityLog log) {
-        activityLogRepository.save(log);
+    public void logTaskActivities(List<Task> tasks, ActionType action, User user, Map<String, Object> metadata) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        Map<String, Object> snapshot = snapshot(metadata);
+        List<ActivityEntry> entries = tasks.stream()
+                .map(task -> onTask(task)
+                        .entityType(EntityType.TASK)
+                        .entityId(task.getId())
+                        .action(action)
+                        .userId(user.getId())
+                        .metadata(snapshot)
+                        .build())
+                .toList();
+
+        activityLogWriter.writeAll(entries);
     }
 
     
@@ -260,50 +245,59 @@ public class ActivityLogService {
             User user,
             Map<String, Object> metadata) {
 
-        int nextVersion = getNextVersionNumber(entityType, entityId);
-
-        ActivityLog activityLog = ActivityLog.builder()
-                .organization(organization)
-                .project(project)
-                .task(task)
+        ActivityEntry entry = ActivityEntry.builder()
+                .organizationId(organization.getId())
+                .projectId(project != null ? project.getId() : null)
+                .taskId(task != null ? task.getId() : null)
                 .entityType(entityType)
                 .entityId(entityId)
                 .action(action)
-                .user(user)
-                .metadata(toJsonString(metadata))
-                .versionNumber(nextVersion)
+                .userId(user.getId())
+                .metadata(snapshot(metadata))
                 .build();
 
-        activityLogRepository.save(activityLog);
+        activityLogWriter.write(entry);
     }
 
     
 
     
-    public List<ActivityLog> getTaskActivity(Long taskId, Integer limit) {
-        List<ActivityLog> logs = activityLogRepository.findByTaskIdOrderByTimestampDesc(taskId);
-        if (limit != null && limit > 0 && logs.size() > limit) {
-            return logs.subList(0, limit);
-        }
-        return logs;
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ActivityLogResponse> getTaskFeed(Long taskId, String cursor, int limit,
+                                                               boolean includeValues) {
+        return feed(cursor, limit, includeValues, null, (from, cursorTimestamp, cursorId, fetchLimit) ->
+                activityLogRepository.findTaskFeed(taskId, from, cursorTimestamp, cursorId, fetchLimit));
     }
 
     
-    public List<ActivityLog> getProjectActivity(Long projectId, Integer limit) {
-        List<ActivityLog> logs = activityLogRepository.findByProjectIdOrderByTimestampDesc(projectId);
-        if (limit != null && limit > 0 && logs.size() > limit) {
-            return logs.subList(0, limit);
-        }
-        return logs;
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ActivityLogResponse> getProjectFeed(Long projectId, String cursor, int limit,
+                                                                  boolean includeValues) {
+        return feed(cursor, limit, includeValues, feedWindow, (from, cursorTimestamp, cursorId, fetchLimit) ->
+                activityLogRepository.findProjectFeed(projectId, from, cursorTimestamp, cursorId, fetchLimit));
     }
 
     
-    public List<ActivityLog> getOrganizationActivity(Long organizationId, Integer limit) {
-        List<ActivityLog> logs = activityLogRepository.findByOrganizationIdOrderByTimestampDesc(organizationId);
-        if (limit != null && limit > 0 && logs.size() > limit) {
-            return logs.subList(0, limit);
-        }
-        return logs;
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ActivityLogResponse> getOrganizationFeed(Long organizationId, String cursor, int limit,
+                                                                       boolean includeValues) {
+        return feed(cursor, limit, includeValues, feedWindow, (from, cursorTimestamp, cursorId, fetchLimit) ->
+                activityLogRepository.findOrganizationFeed(organizationId, from, cursorTimestamp, cursorId, fetchLimit));
+    }
+
+    
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ActivityLogResponse> getUserFeed(Integer userId, String cursor, int limit,
+                                                               boolean includeValues) {
+        return feed(cursor, limit, includeValues, null, (from, cursorTimestamp, cursorId, fetchLimit) ->
+                activityLogRepository.findUserFeed(userId, from, cursorTimestamp, cursorId, fetchLimit));
+    }
+
+    
+    @Transactional(readOnly = true)
+    public ActivityLog getActivity(Long activityId) {
+        return activityLogRepository.findById(activityId)
+                .orElseThrow(() -> new ResourceNotFoundException("ActivityLog", activityId));
     }
 
     
@@ -319,23 +313,110 @@ public class ActivityLogService {
     
 
     
-    private int getNextVersionNumber(EntityType entityType, Long entityId) {
-        return activityLogRepository
-                .findMaxVersionNumber(entityType, entityId)
-                .map(v -> v + 1)
-                .orElse(1);
+    private CursorPageResponse<ActivityLogResponse> feed(String cursor, int limit, boolean includeValues,
+                                                         Duration window, FeedQuery query) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_FEED_PAGE_SIZE));
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        
+        List<ActivityFeedRow> rows = feedRows(after, pageSize + 1, window, query);
+        boolean hasNext = rows.size() > pageSize;
+        List<ActivityFeedRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            ActivityFeedRow last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(LocalDateTime.ofInstant(last.timestamp(), ZoneOffset.UTC), last.id()).encode();
+        }
+
+        Map<Long, ActivityPayload> payloads = includeValues ? payloads(page) : Map.of();
+        List<ActivityLogResponse> content = page.stream()
+                .map(row -> row.toResponse(payloads.get(row.id())))
+                .toList();
+
+        return new CursorPageResponse<>(content, pageSize, nextCursor, hasNext);
     }
 
-    
-    private String toJsonString(Object obj) {
-        if (obj == null) {
-            return null;
+    // activity_log is partitioned by month. With a window, each query is also bounded below so it only reads the
+    // partitions that window overlaps; windows are walked newest first until the page is full or retained history
+    // ends. Without one, a single query reaches back to the retention bound.
+    List<ActivityFeedRow> feedRows(KeysetCursor after, int wanted, Duration window, FeedQuery query) {
+        Instant oldest = ActivityPartitionService.currentMonth().minusMonths(retentionMonths).toInstant(ZoneOffset.UTC);
+        Instant cursorTimestamp = after != null
+                ? after.timestamp().toInstant(ZoneOffset.UTC)
+                : Instant.now().plus(FEED_CLOCK_SKEW);
+        long cursorId = after != null ? after.id() : Long.MAX_VALUE;
+
+        List<ActivityFeedRow> rows = new ArrayList<>();
+        while (rows.size() < wanted && cursorTimestamp.isAfter(oldest)) {
+            Instant from = window == null || window.isNegative() || window.isZero()
+                    || cursorTimestamp.minus(window).isBefore(oldest) ? oldest : cursorTimestamp.minus(window);
+            rows.addAll(query.find(from, cursorTimestamp, cursorId, Limit.of(wanted - rows.size())));
+            // Earlier windows lie wholly before this one; with Long.MIN_VALUE the keyset is just "timestamp < from"
+            cursorTimestamp = from;
+            cursorId = Long.MIN_VALUE;
         }
-        try {
-            return objectMapper.writeValueAsString(obj);
-        } catch (JsonProcessingException e) {
-            log.warn("Failed to serialize object to JSON: {}", e.getMessage());
-            return "{}";
+        return rows;
+    }
+
+    private Map<Long, ActivityPayload> payloads(List<ActivityFeedRow> page) {
+        if (page.isEmpty()) {
+            return Map.of();
         }
+        
+        Instant newest = page.get(0).timestamp();
+        Instant oldest = page.get(page.size() - 1).timestamp();
+        List<Long> ids = page.stream().map(ActivityFeedRow::id).toList();
+        return activityLogRepository.findPayloads(ids, oldest, newest).stream()
+                .collect(Collectors.toMap(ActivityPayload::id, Function.identity()));
+    }
+
+    @FunctionalInterface
+    interface FeedQuery {
+        List<ActivityFeedRow> find(Instant from, Instant cursorTimestamp, Long cursorId, Limit limit);
+    }
+
+    private static ActivityEntry.ActivityEntryBuilder onTask(Task task) {
+        return ActivityEntry.builder()
+                .organizationId(task.getOrganization().getId())
+                .projectId(task.getProject().getId())
+                .taskId(task.getId());
+    }
+
+    // Entries may be serialized after the caller returns; copy maps the caller still owns.
+    private static Map<String, Object> snapshot(Map<String, Object> metadata) {
+        return metadata != null ? new LinkedHashMap<>(metadata) : null;
+    }
+
+    private ActivityEntry statusChangeLog(Task task, TaskStatus oldStatus, TaskStatus newStatus, User user) {
+        return onTask(task)
+                .entityType(EntityType.TASK)
+                .entityId(task.getId())
+                .action(ActionType.STATUS_CHANGED)
+                .userId(user.getId())
+                .fieldName("status")
+                .oldValue(Map.of("id", oldStatus.getId(), "name", oldStatus.getName()))
+                .newValue(Map.of("id", newStatus.getId(), "name", newStatus.getName()))
+                .build();
+    }
+
+    private ActivityEntry assignmentLog(Task task, User oldAssignee, User newAssignee, User actingUser) {
+        ActionType action = newAssignee != null ? ActionType.ASSIGNED : ActionType.UNASSIGNED;
+
+        Map<String, Object> oldValue = oldAssignee != null ?
+                Map.of("id", oldAssignee.getId(), "username", oldAssignee.getUsername()) : null;
+
+        Map<String, Object> newValue = newAssignee != null ?
+                Map.of("id", newAssignee.getId(), "username", newAssignee.getUsername()) : null;
+
+        return onTask(task)
+                .entityType(EntityType.TASK)
+                .entityId(task.getId())
+                .action(action)
+                .userId(actingUser.getId())
+                .fieldName("assignee")
+                .oldValue(oldValue)
+                .newValue(newValue)
+                .build();
     }
 }
@@ -0,0 +1,352 @@
+package com.gradproject.taskmanager.modules.activity.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gradproject.taskmanager.modules.activity.domain.ActivityEntry;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+@Component
+@Slf4j
+public class ActivityLogWriter {
+
+    private static final String INSERT = """
+        INSERT INTO activity_log (organization_id, project_id, task_id, entity_type, entity_id, action, user_id,
+                                  field_name, old_value, new_value, metadata, timestamp)
+        VALUES\s""";
+    private static final String ROW =
+        "(?, ?, ?, ?, ?, ?, ?, ?, CAST(? AS JSONB), CAST(? AS JSONB), CAST(? AS JSONB), ?)";
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_MILLIS = 200;
+    private static final long POLL_MILLIS = 200;
+
+    // Entries for the same entity must keep their order (versions follow insert order); sorting by entity
+    // also makes concurrent batches over overlapping entities take their version counter locks in one order.
+    private static final Comparator<ActivityEntry> LOCK_ORDER = Comparator
+        .comparing((ActivityEntry entry) -> entry.entityType().name())
+        .thenComparing(ActivityEntry::entityId);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate newTransaction;
+    private final ActivityWriteMode mode;
+    private final int batchSize;
+    private final long groupCommitNanos;
+    private final long enqueueTimeoutMillis;
+    private final long shutdownTimeoutMillis;
+    private final BlockingQueue<ActivityEntry> queue;
+    private final Thread drainer;
+    private volatile boolean running = true;
+
+
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong overflowed = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+
+    public ActivityLogWriter(
+            JdbcTemplate jdbcTemplate,
+            EntityManager entityManager,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.activity.writer.mode:sync}") ActivityWriteMode mode,
+            @Value("${app.activity.writer.batch-size:500}") int batchSize,
+            @Value("${app.activity.writer.queue-capacity:10000}") int queueCapacity,
+            @Value("${app.activity.writer.group-commit-interval:PT0.05S}") Duration groupCommitInterval,
+            @Value("${app.activity.writer.enqueue-timeout:PT0.1S}") Duration enqueueTimeout,
+            @Value("${app.activity.writer.shutdown-timeout:PT30S}") Duration shutdownTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.mode = mode;
+        this.batchSize = Math.max(1, batchSize);
+        this.groupCommitNanos = groupCommitInterval.toNanos();
+        this.enqueueTimeoutMillis = enqueueTimeout.toMillis();
+        this.shutdownTimeoutMillis = shutdownTimeout.toMillis();
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.drainer = mode == ActivityWriteMode.SYNC
+            ? null
+            : Thread.ofPlatform().name("activity-log-writer").daemon(true).start(this::drain);
+    }
+
+
+    public void write(ActivityEntry entry) {
+        writeAll(List.of(entry));
+    }
+
+
+    public void writeAll(Collection<ActivityEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (mode == ActivityWriteMode.SYNC) {
+                newTransaction.executeWithoutResult(status -> insert(entries));
+            } else {
+                enqueue(entries);
+            }
+            return;
+        }
+        pendingEntries().entries.addAll(entries);
+    }
+
+    public ActivityWriteMode mode() {
+        return mode;
+    }
+
+    public long writtenCount() {
+        return written.get();
+    }
+
+    public long failedCount() {
+        return failed.get();
+    }
+
+    public long overflowCount() {
+        return overflowed.get();
+    }
+
+    public long batchCount() {
+        return batches.get();
+    }
+
+    public int queueSize() {
+        return queue.size();
+    }
+
+    public int queueRemainingCapacity() {
+        return queue.remainingCapacity();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        running = false;
+        if (drainer != null) {
+            try {
+                drainer.join(shutdownTimeoutMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        List<ActivityEntry> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            log.warn("Writing {} queued activity entries during shutdown", remaining.size());
+            flush(remaining);
+        }
+    }
+
+    private PendingEntries pendingEntries() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingEntries pending && pending.owner() == this) {
+                return pending;
+            }
+        }
+        PendingEntries pending = new PendingEntries();
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending;
+    }
+
+
+    private void enqueue(Collection<ActivityEntry> entries) {
+        // One wait budget for the whole batch; once an offer times out, the rest skip the queue.
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(enqueueTimeoutMillis);
+        List<ActivityEntry> overflow = new ArrayList<>();
+        for (ActivityEntry entry : entries) {
+            if (!overflow.isEmpty() || !offer(entry, deadline)) {
+                overflow.add(entry);
+            }
+        }
+        if (!overflow.isEmpty()) {
+            // Backpressure: the caller pays for the write rather than the entry being dropped.
+            overflowed.addAndGet(overflow.size());
+            log.debug("Activity queue full; writing {} entries on the calling thread", overflow.size());
+            flush(overflow);
+        }
+    }
+
+    private boolean offer(ActivityEntry entry, long deadline) {
+        if (!running) {
+            return false;
+        }
+        try {
+            return queue.offer(entry, Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void drain() {
+        List<ActivityEntry> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                ActivityEntry first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - batch.size());
+                if (mode == ActivityWriteMode.GROUP_COMMIT) {
+                    fillGroup(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void fillGroup(List<ActivityEntry> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + groupCommitNanos;
+        while (batch.size() < batchSize) {
+            long remaining = deadline - System.nanoTime();
+            ActivityEntry next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+            queue.drainTo(batch, batchSize - batch.size());
+        }
+    }
+
+
+    private void flush(List<ActivityEntry> entries) {
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            try {
+                newTransaction.executeWithoutResult(status -> insert(entries));
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Failed to write {} activity entries (attempt {} of {}): {}",
+                    entries.size(), attempt, MAX_ATTEMPTS, e.getMessage());
+                if (attempt < MAX_ATTEMPTS && !pause(RETRY_BACKOFF_MILLIS * attempt)) {
+                    break;
+                }
+            }
+        }
+
+        // Isolate the rows the database keeps rejecting so the rest of the batch still lands.
+        for (ActivityEntry entry : entries) {
+            try {
+                newTransaction.executeWithoutResult(status -> insert(List.of(entry)));
+            } catch (RuntimeException e) {
+                failed.incrementAndGet();
+                log.error("Could not write activity entry {}", entry, e);
+            }
+        }
+    }
+
+
+    private void insert(Collection<ActivityEntry> entries) {
+        List<ActivityEntry> ordered = new ArrayList<>(entries);
+        ordered.sort(LOCK_ORDER);
+        for (int from = 0; from < ordered.size(); from += batchSize) {
+            List<ActivityEntry> chunk = ordered.subList(from, Math.min(ordered.size(), from + batchSize));
+            StringBuilder sql = new StringBuilder(INSERT);
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(i == 0 ? "" : ", ").append(ROW);
+            }
+            jdbcTemplate.update(sql.toString(), ps -> bind(ps, chunk));
+            batches.incrementAndGet();
+        }
+        written.addAndGet(ordered.size());
+    }
+
+    private void bind(PreparedStatement ps, List<ActivityEntry> chunk) throws SQLException {
+        int p = 1;
+        for (ActivityEntry entry : chunk) {
+            ps.setLong(p++, entry.organizationId());
+            ps.setObject(p++, entry.projectId(), Types.BIGINT);
+            ps.setObject(p++, entry.taskId(), Types.BIGINT);
+            ps.setString(p++, entry.entityType().name());
+            ps.setLong(p++, entry.entityId());
+            ps.setString(p++, entry.action().name());
+            ps.setInt(p++, entry.userId());
+            ps.setString(p++, entry.fieldName());
+            ps.setString(p++, json(entry.oldValue()));
+            ps.setString(p++, json(entry.newValue()));
+            ps.setString(p++, json(entry.metadata()));
+            ps.setObject(p++, LocalDateTime.ofInstant(entry.timestamp(), ZoneOffset.UTC));
+        }
+    }
+
+    private String json(Object value) {
+        if (value == null || value instanceof String) {
+            return (String) value;
+        }
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize object to JSON: {}", e.getMessage());
+            return "{}";
+        }
+    }
+
+    private static boolean pause(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+
+    private final class PendingEntries implements TransactionSynchronization {
+
+        private final List<ActivityEntry> entries = new ArrayList<>();
+
+        ActivityLogWriter owner() {
+            return ActivityLogWriter.this;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (mode == ActivityWriteMode.SYNC && !entries.isEmpty()) {
+                // Rows reference tasks, comments and work logs that may still be pending in the session.
+                entityManager.flush();
+                insert(entries);
+            }
+        }
+
+        @Override
+        public void afterCommit() {
+            if (mode != ActivityWriteMode.SYNC) {
+                enqueue(entries);
+            }
+        }
+    }
+}
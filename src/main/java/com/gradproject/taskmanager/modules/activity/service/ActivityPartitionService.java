@@ -0,0 +1,163 @@
+package com.gradproject.taskmanager.modules.activity.service;
+
+import com.gradproject.taskmanager.infrastructure.storage.S3Service;
+import com.gradproject.taskmanager.modules.activity.dto.ActivityPartition;
+import com.gradproject.taskmanager.modules.activity.repository.ActivityPartitionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+
+@Service
+@Slf4j
+public class ActivityPartitionService {
+
+    private static final String ARCHIVE_SUFFIX = ".ndjson.gz";
+    private static final String ARCHIVE_CONTENT_TYPE = "application/gzip";
+
+    private final ActivityPartitionRepository partitionRepository;
+    private final S3Service s3Service;
+    private final TransactionTemplate writeTransaction;
+    private final TransactionTemplate readTransaction;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final String archivePrefix;
+
+    public ActivityPartitionService(
+            ActivityPartitionRepository partitionRepository,
+            S3Service s3Service,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.activity.partitions.months-ahead:3}") int monthsAhead,
+            @Value("${app.activity.partitions.retention-months:24}") int retentionMonths,
+            @Value("${app.activity.partitions.archive-prefix:activity-log-archive/}") String archivePrefix) {
+        this.partitionRepository = partitionRepository;
+        this.s3Service = s3Service;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.monthsAhead = Math.max(0, monthsAhead);
+        this.retentionMonths = Math.max(1, retentionMonths);
+        this.archivePrefix = archivePrefix;
+    }
+
+
+    public static LocalDateTime currentMonth() {
+        return LocalDate.now(ZoneOffset.UTC).withDayOfMonth(1).atStartOfDay();
+    }
+
+
+    public int ensurePartitions() {
+        return ensurePartitions(currentMonth());
+    }
+
+
+    public int archiveExpiredPartitions() {
+        return archiveExpiredPartitions(currentMonth());
+    }
+
+
+    int ensurePartitions(LocalDateTime currentMonth) {
+        Integer created = writeTransaction.execute(status -> {
+            if (!partitionRepository.tryLock()) {
+                log.debug("activity_log partitions are being maintained by another instance");
+                return 0;
+            }
+            List<ActivityPartition> partitions = partitionRepository.findPartitions();
+            int count = 0;
+            for (int i = 0; i <= monthsAhead; i++) {
+                LocalDateTime start = currentMonth.plusMonths(i);
+                LocalDateTime end = start.plusMonths(1);
+                if (partitions.stream().anyMatch(partition -> partition.covers(start, end))) {
+                    continue;
+                }
+                String name = ActivityPartitionRepository.monthPartitionName(start);
+                int moved = partitionRepository.createMonthPartition(name, start, end);
+                log.info("Created activity_log partition {} ({} rows moved out of the default partition)", name, moved);
+                count++;
+            }
+            return count;
+        });
+        return created != null ? created : 0;
+    }
+
+
+    int archiveExpiredPartitions(LocalDateTime currentMonth) {
+        LocalDateTime cutoff = currentMonth.minusMonths(retentionMonths);
+        writeTransaction.executeWithoutResult(status -> detachExpired(cutoff));
+
+        // Includes partitions left detached by an earlier run that failed before its upload finished
+        List<ActivityPartition> pending = writeTransaction.execute(status -> partitionRepository.findDetached());
+        int archived = 0;
+        for (ActivityPartition partition : pending != null ? pending : List.<ActivityPartition>of()) {
+            try {
+                archive(partition);
+                archived++;
+            } catch (Exception e) {
+                log.error("Failed to archive activity_log partition {}; it stays detached until the next run",
+                    partition.name(), e);
+            }
+        }
+        return archived;
+    }
+
+
+    private void detachExpired(LocalDateTime cutoff) {
+        if (!partitionRepository.tryLock()) {
+            log.debug("activity_log partitions are being maintained by another instance");
+            return;
+        }
+        for (ActivityPartition partition : partitionRepository.findPartitions()) {
+            if (partition.endsBefore(cutoff)) {
+                // Recorded in the same transaction, so a detached table is never left untracked
+                partitionRepository.recordDetached(partition);
+                partitionRepository.detach(partition.name());
+                log.info("Detached activity_log partition {} (ends {})", partition.name(), partition.to());
+            }
+        }
+    }
+
+    private void archive(ActivityPartition partition) throws IOException {
+        String objectKey = archivePrefix + partition.name() + ARCHIVE_SUFFIX;
+        Path file = Files.createTempFile(partition.name() + "-", ARCHIVE_SUFFIX);
+        try {
+            Long exported;
+            try (Writer out = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(file)), StandardCharsets.UTF_8))) {
+                exported = readTransaction.execute(status -> partitionRepository.export(partition.name(), out));
+            }
+            long rows = exported != null ? exported : 0;
+            long size = Files.size(file);
+
+            s3Service.uploadFile(file, objectKey, ARCHIVE_CONTENT_TYPE);
+            long stored = s3Service.getFileSize(objectKey);
+            if (stored != size) {
+                throw new IllegalStateException(
+                    "Archive " + objectKey + " has " + stored + " bytes in storage, expected " + size);
+            }
+
+            // The table is only dropped once its archive is known to be complete
+            writeTransaction.executeWithoutResult(status -> {
+                partitionRepository.markArchived(partition.name(), objectKey, rows, size);
+                partitionRepository.drop(partition.name());
+            });
+            log.info("Archived activity_log partition {} to {} ({} rows, {} bytes)", partition.name(), objectKey, rows, size);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
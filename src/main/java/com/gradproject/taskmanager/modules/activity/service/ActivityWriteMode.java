@@ -0,0 +1,8 @@
+package com.gradproject.taskmanager.modules.activity.service;
+
+
+public enum ActivityWriteMode {
+    SYNC,
+    AFTER_COMMIT,
+    GROUP_COMMIT
+}
@@ -2,6 +2,7 @@ package com.gradproject.taskmanager.modules.analytics.controller;
 
 import com.gradproject.taskmanager.modules.analytics.dto.*;
 import com.gradproject.taskmanager.modules.analytics.service.AnalyticsService;
+import com.gradproject.taskmanager.modules.analytics.service.FlowAnalyticsService;
 import com.gradproject.taskmanager.shared.dto.ApiResponse;
 import com.gradproject.taskmanager.shared.util.SecurityUtils;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +20,7 @@ import java.util.List;
 public class AnalyticsController {
 
     private final AnalyticsService analyticsService;
+    private final FlowAnalyticsService flowAnalyticsService;
 
     
     @GetMapping("/projects/{projectId}")
@@ -50,9 +52,12 @@ public class AnalyticsController {
     @GetMapping("/organizations/{organizationId}/users/{targetUserId}")
     public ResponseEntity<ApiResponse<UserActivityResponse>> getUserActivity(
             @PathVariable Long organizationId,
-            @PathVariable Integer targetUserId) {
+            @PathVariable Integer targetUserId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
         Integer requestingUserId = SecurityUtils.getCurrentUserId();
-        UserActivityResponse activity = analyticsService.getUserActivity(targetUserId, organizationId, requestingUserId);
+        UserActivityResponse activity = analyticsService.getUserActivity(
+            targetUserId, organizationId, startDate, endDate, requestingUserId);
         return ResponseEntity.ok(ApiResponse.success(activity));
     }
 
@@ -75,4 +80,44 @@ public class AnalyticsController {
         TimeRangeMetricsResponse metrics = analyticsService.getTimeRangeMetrics(organizationId, startDate, endDate, userId);
         return ResponseEntity.ok(ApiResponse.success(metrics));
     }
+
+    
+    @GetMapping("/projects/{projectId}/cumulative-flow")
+    public ResponseEntity<ApiResponse<CumulativeFlowResponse>> getCumulativeFlow(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        Integer userId = SecurityUtils.getCurrentUserId();
+        CumulativeFlowResponse flow = flowAnalyticsService.getCumulativeFlow(projectId, startDate, endDate, userId);
+        return ResponseEntity.ok(ApiResponse.success(flow));
+    }
+
+    
+    @GetMapping("/projects/{projectId}/velocity")
+    public ResponseEntity<ApiResponse<VelocityResponse>> getVelocity(@PathVariable Long projectId) {
+        Integer userId = SecurityUtils.getCurrentUserId();
+        VelocityResponse velocity = flowAnalyticsService.getVelocity(projectId, userId);
+        return ResponseEntity.ok(ApiResponse.success(velocity));
+    }
+
+    
+    @GetMapping("/projects/{projectId}/cycle-time")
+    public ResponseEntity<ApiResponse<CycleTimeResponse>> getCycleTime(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        Integer userId = SecurityUtils.getCurrentUserId();
+        CycleTimeResponse cycleTime = flowAnalyticsService.getCycleTime(projectId, startDate, endDate, userId);
+        return ResponseEntity.ok(ApiResponse.success(cycleTime));
+    }
+
+    
+    @PostMapping("/projects/{projectId}/flow-snapshots/refresh")
+    public ResponseEntity<ApiResponse<FlowSnapshotRefreshResponse>> refreshFlowSnapshots(
+            @PathVariable Long projectId,
+            @RequestParam(defaultValue = "false") boolean rebuild) {
+        Integer userId = SecurityUtils.getCurrentUserId();
+        FlowSnapshotRefreshResponse result = flowAnalyticsService.refreshSnapshots(projectId, rebuild, userId);
+        return ResponseEntity.ok(ApiResponse.success(result));
+    }
 }
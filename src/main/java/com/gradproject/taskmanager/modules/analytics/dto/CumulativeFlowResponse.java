@@ -0,0 +1,13 @@
+package com.gradproject.taskmanager.modules.analytics.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+
+public record CumulativeFlowResponse(
+    Long projectId,
+    String projectName,
+    LocalDate startDate,
+    LocalDate endDate,
+    List<StatusFlowSeries> statuses
+) {}
@@ -0,0 +1,14 @@
+package com.gradproject.taskmanager.modules.analytics.dto;
+
+import java.time.LocalDate;
+
+
+public record CycleTimeResponse(
+    Long projectId,
+    String projectName,
+    LocalDate startDate,
+    LocalDate endDate,
+    Long completedTasks,
+    DurationPercentiles leadTime,
+    DurationPercentiles cycleTime
+) {}
@@ -0,0 +1,17 @@
+package com.gradproject.taskmanager.modules.analytics.dto;
+
+import java.time.LocalDate;
+
+
+public record DailyActivityResponse(
+    LocalDate date,
+    Long tasksCreated,
+    Long tasksCompleted,
+    Long commentsCreated,
+    Long activitiesLogged
+) {
+
+    public static DailyActivityResponse empty(LocalDate date) {
+        return new DailyActivityResponse(date, 0L, 0L, 0L, 0L);
+    }
+}
@@ -0,0 +1,11 @@
+package com.gradproject.taskmanager.modules.analytics.dto;
+
+
+public record DurationPercentiles(
+    Double p50Hours,
+    Double p85Hours,
+    Double p95Hours
+) {
+
+    public static final DurationPercentiles EMPTY = new DurationPercentiles(0.0, 0.0, 0.0);
+}
@@ -0,0 +1,14 @@
+package com.gradproject.taskmanager.modules.analytics.dto;
+
+
+public record FlowEventColumns(
+    long[] taskIds,
+    long[] at,
+    long[] fromStatusIds,
+    long[] toStatusIds
+) {
+
+    public int size() {
+        return taskIds.length;
+    }
+}
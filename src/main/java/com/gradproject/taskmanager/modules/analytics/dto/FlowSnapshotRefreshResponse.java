@@ -0,0 +1,11 @@
+package com.gradproject.taskmanager.modules.analytics.dto;
+
+import java.time.LocalDate;
+
+
+public record FlowSnapshotRefreshResponse(
+    Long projectId,
+    LocalDate fromDate,
+    LocalDate throughDate,
+    Integer daysWritten
+) {}
@@ -0,0 +1,15 @@
+package com.gradproject.taskmanager.modules.analytics.dto;
+
+
+public record FlowTaskColumns(
+    long[] taskIds,
+    long[] createdAt,
+    long[] statusIds,
+    int[] storyPoints,
+    long[] sprintIds
+) {
+
+    public int size() {
+        return taskIds.length;
+    }
+}
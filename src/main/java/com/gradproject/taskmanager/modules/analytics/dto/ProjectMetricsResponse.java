@@ -1,5 +1,7 @@
 package com.gradproject.taskmanager.modules.analytics.dto;
 
+import java.math.BigDecimal;
+
 
 public record ProjectMetricsResponse(
     Long projectId,
@@ -11,5 +13,8 @@ public record ProjectMetricsResponse(
     Long overdueTasks,
     Double completionRate,
     Long totalMembers,
-    Long activeReleases
+    Long activeReleases,
+    Long storyPoints,
+    Long completedStoryPoints,
+    BigDecimal loggedHours
 ) {}
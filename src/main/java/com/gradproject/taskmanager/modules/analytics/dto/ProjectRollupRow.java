@@ -0,0 +1,39 @@
+package com.gradproject.taskmanager.modules.analytics.dto;
+
+import java.math.BigDecimal;
+
+
+public record ProjectRollupRow(
+    Long projectId,
+    String projectName,
+    long totalTasks,
+    long completedTasks,
+    long inProgressTasks,
+    long todoTasks,
+    long overdueTasks,
+    long totalMembers,
+    long activeReleases,
+    long storyPoints,
+    long completedStoryPoints,
+    BigDecimal loggedHours
+) {
+
+    public ProjectMetricsResponse toResponse() {
+        double completionRate = totalTasks > 0 ? (completedTasks * 100.0 / totalTasks) : 0.0;
+        return new ProjectMetricsResponse(
+            projectId,
+            projectName,
+            totalTasks,
+            completedTasks,
+            inProgressTasks,
+            todoTasks,
+            overdueTasks,
+            completionRate,
+            totalMembers,
+            activeReleases,
+            storyPoints,
+            completedStoryPoints,
+            loggedHours
+        );
+    }
+}
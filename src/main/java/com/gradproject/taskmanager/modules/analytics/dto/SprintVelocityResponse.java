@@ -0,0 +1,17 @@
+package com.gradproject.taskmanager.modules.analytics.dto;
+
+import com.gradproject.taskmanager.modules.project.domain.SprintStatus;
+
+import java.time.LocalDate;
+
+
+public record SprintVelocityResponse(
+    Long sprintId,
+    String name,
+    SprintStatus status,
+    LocalDate startDate,
+    LocalDate endDate,
+    Long committedPoints,
+    Long completedPoints,
+    Long completedTasks
+) {}
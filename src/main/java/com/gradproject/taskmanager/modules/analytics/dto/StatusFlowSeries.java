@@ -0,0 +1,11 @@
+package com.gradproject.taskmanager.modules.analytics.dto;
+
+import com.gradproject.taskmanager.modules.project.domain.StatusCategory;
+
+
+public record StatusFlowSeries(
+    Long statusId,
+    String statusName,
+    StatusCategory category,
+    int[] dailyCounts
+) {}
@@ -1,6 +1,7 @@
 package com.gradproject.taskmanager.modules.analytics.dto;
 
 import java.time.LocalDate;
+import java.util.List;
 
 
 public record TimeRangeMetricsResponse(
@@ -9,5 +10,6 @@ public record TimeRangeMetricsResponse(
     Long tasksCreated,
     Long tasksCompleted,
     Long commentsCreated,
-    Long activitiesLogged
+    Long activitiesLogged,
+    List<DailyActivityResponse> daily
 ) {}
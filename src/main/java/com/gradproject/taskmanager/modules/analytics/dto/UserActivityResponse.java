@@ -1,5 +1,8 @@
 package com.gradproject.taskmanager.modules.analytics.dto;
 
+import java.time.LocalDate;
+import java.util.List;
+
 
 public record UserActivityResponse(
     Integer userId,
@@ -8,5 +11,8 @@ public record UserActivityResponse(
     Long tasksCompleted,
     Long tasksCreated,
     Long commentsCreated,
-    Long tasksWatching
+    Long tasksWatching,
+    LocalDate startDate,
+    LocalDate endDate,
+    List<DailyActivityResponse> daily
 ) {}
@@ -0,0 +1,11 @@
+package com.gradproject.taskmanager.modules.analytics.dto;
+
+import java.util.List;
+
+
+public record VelocityResponse(
+    Long projectId,
+    String projectName,
+    List<SprintVelocityResponse> sprints,
+    Double averageCompletedPoints
+) {}
@@ -0,0 +1,249 @@
+package com.gradproject.taskmanager.modules.analytics.repository;
+
+import com.gradproject.taskmanager.modules.analytics.dto.DailyActivityResponse;
+import com.gradproject.taskmanager.modules.analytics.dto.ProjectRollupRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class AnalyticsRepository {
+    
+    private static final String METRICS = """
+        WITH metrics AS (
+            SELECT pm.project_id, pm.status_id, pm.due_date, pm.task_count, pm.story_points, pm.logged_hours
+            FROM project_metrics pm
+            WHERE pm.project_id IN (:projectIds)
+            UNION ALL
+            SELECT d.project_id, d.status_id, d.due_date, d.task_count, d.story_points, d.logged_hours
+            FROM project_metrics_delta d
+            WHERE d.project_id IN (:projectIds)
+        )
+        """;
+
+    
+    private static final String PROJECT_ROLLUP = METRICS + """
+        SELECT p.id AS project_id, p.name AS project_name,
+               COALESCE(tc.total, 0) AS total,
+               COALESCE(tc.done, 0) AS done,
+               COALESCE(tc.in_progress, 0) AS in_progress,
+               COALESCE(tc.todo, 0) AS todo,
+               COALESCE(tc.overdue, 0) AS overdue,
+               COALESCE(tc.story_points, 0) AS story_points,
+               COALESCE(tc.completed_story_points, 0) AS completed_story_points,
+               COALESCE(tc.logged_hours, 0) AS logged_hours,
+               (SELECT COUNT(*) FROM project_members pm WHERE pm.project_id = p.id) AS members,
+               (SELECT COUNT(*) FROM releases r WHERE r.project_id = p.id AND r.status = 'IN_PROGRESS') AS active_releases
+        FROM projects p
+        LEFT JOIN (
+            SELECT m.project_id,
+                   SUM(m.task_count) AS total,
+                   SUM(m.task_count) FILTER (WHERE s.category = 'DONE') AS done,
+                   SUM(m.task_count) FILTER (WHERE s.category = 'IN_PROGRESS') AS in_progress,
+                   SUM(m.task_count) FILTER (WHERE s.category = 'TODO') AS todo,
+                   SUM(m.task_count) FILTER (WHERE s.category <> 'DONE' AND m.due_date < :today) AS overdue,
+                   SUM(m.story_points) AS story_points,
+                   SUM(m.story_points) FILTER (WHERE s.category = 'DONE') AS completed_story_points,
+                   SUM(m.logged_hours) AS logged_hours
+            FROM metrics m
+            JOIN task_statuses s ON s.id = m.status_id
+            GROUP BY m.project_id
+        ) tc ON tc.project_id = p.id
+        WHERE p.organization_id = :orgId AND p.id IN (:projectIds)
+        ORDER BY p.id
+        """;
+
+    
+    private static final String STATUS_DISTRIBUTION = METRICS + """
+        SELECT s.name AS status_name, c.task_count
+        FROM (
+            SELECT m.status_id, SUM(m.task_count) AS task_count
+            FROM metrics m
+            GROUP BY m.status_id
+            HAVING SUM(m.task_count) > 0
+        ) c
+        JOIN task_statuses s ON s.id = c.status_id
+        ORDER BY s.order_index, s.id
+        """;
+
+    
+    private static final String DAILY_ACTIVITY = """
+        WITH totals AS (
+            SELECT CAST(a.timestamp AS DATE) AS day, COUNT(*) AS activities
+            FROM activity_log a
+            WHERE a.organization_id = :orgId AND a.timestamp >= :from AND a.timestamp < :to%1$s
+            GROUP BY CAST(a.timestamp AS DATE)
+        ), actions AS (
+            SELECT CAST(a.timestamp AS DATE) AS day,
+                   COUNT(*) FILTER (WHERE a.action = 'CREATED' AND a.entity_type = 'TASK') AS tasks_created,
+                   COUNT(*) FILTER (WHERE a.action = 'COMMENT_ADDED') AS comments_created,
+                   COUNT(*) FILTER (WHERE a.action = 'STATUS_CHANGED' AND ns.category = 'DONE'
+                                      AND os.category IS DISTINCT FROM 'DONE') AS tasks_completed
+            FROM activity_log a
+            LEFT JOIN task_statuses ns
+                   ON ns.id = CASE WHEN a.action = 'STATUS_CHANGED' THEN CAST(a.new_value ->> 'id' AS BIGINT) END
+            LEFT JOIN task_statuses os
+                   ON os.id = CASE WHEN a.action = 'STATUS_CHANGED' THEN CAST(a.old_value ->> 'id' AS BIGINT) END
+            WHERE a.organization_id = :orgId AND a.action IN ('CREATED', 'COMMENT_ADDED', 'STATUS_CHANGED')
+              AND a.timestamp >= :from AND a.timestamp < :to%1$s
+            GROUP BY CAST(a.timestamp AS DATE)
+        )
+        SELECT t.day, t.activities,
+               COALESCE(x.tasks_created, 0) AS tasks_created,
+               COALESCE(x.tasks_completed, 0) AS tasks_completed,
+               COALESCE(x.comments_created, 0) AS comments_created
+        FROM totals t
+        LEFT JOIN actions x ON x.day = t.day
+        """;
+
+    private final EntityManager entityManager;
+
+    
+    public List<ProjectRollupRow> findProjectRollups(Long organizationId, Collection<Long> projectIds, LocalDate today) {
+        if (projectIds.isEmpty()) {
+            return List.of();
+        }
+        @SuppressWarnings("unchecked")
+        List<Tuple> rows = entityManager.createNativeQuery(PROJECT_ROLLUP, Tuple.class)
+            .setParameter("orgId", organizationId)
+            .setParameter("projectIds", projectIds)
+            .setParameter("today", today)
+            .getResultList();
+
+        return rows.stream()
+            .map(row -> new ProjectRollupRow(
+                ((Number) row.get("project_id")).longValue(),
+                row.get("project_name", String.class),
+                count(row, "total"),
+                count(row, "done"),
+                count(row, "in_progress"),
+                count(row, "todo"),
+                count(row, "overdue"),
+                count(row, "members"),
+                count(row, "active_releases"),
+                count(row, "story_points"),
+                count(row, "completed_story_points"),
+                hours(row, "logged_hours")
+            ))
+            .toList();
+    }
+
+    
+    public Map<String, Long> findStatusDistribution(Long projectId) {
+        @SuppressWarnings("unchecked")
+        List<Tuple> rows = entityManager.createNativeQuery(STATUS_DISTRIBUTION, Tuple.class)
+            .setParameter("projectIds", List.of(projectId))
+            .getResultList();
+
+        Map<String, Long> distribution = new LinkedHashMap<>();
+        for (Tuple row : rows) {
+            distribution.merge(row.get("status_name", String.class), count(row, "task_count"), Long::sum);
+        }
+        return distribution;
+    }
+
+    public long countOrganizationMembers(Long organizationId) {
+        return ((Number) entityManager
+            .createNativeQuery("SELECT COUNT(*) FROM organization_members om WHERE om.organization_id = :orgId")
+            .setParameter("orgId", organizationId)
+            .getSingleResult()).longValue();
+    }
+
+    
+    public List<DailyActivityResponse> findDailyActivity(Long organizationId, Integer userId,
+                                                          Collection<Long> projectIds,
+                                                          LocalDate startDate, LocalDate endDate) {
+        // Organization-level rows carry no project; project rows only count when the project is visible
+        String filter = projectIds.isEmpty()
+            ? " AND a.project_id IS NULL"
+            : " AND (a.project_id IS NULL OR a.project_id IN (:projectIds))";
+        if (userId != null) {
+            filter += " AND a.user_id = :userId";
+        }
+        Query query = entityManager.createNativeQuery(DAILY_ACTIVITY.formatted(filter), Tuple.class)
+            .setParameter("orgId", organizationId)
+            .setParameter("from", startDate.atStartOfDay())
+            .setParameter("to", endDate.plusDays(1).atStartOfDay());
+        if (!projectIds.isEmpty()) {
+            query.setParameter("projectIds", projectIds);
+        }
+        if (userId != null) {
+            query.setParameter("userId", userId);
+        }
+        @SuppressWarnings("unchecked")
+        List<Tuple> rows = query.getResultList();
+
+        Map<LocalDate, DailyActivityResponse> byDay = new HashMap<>();
+        for (Tuple row : rows) {
+            LocalDate day = toLocalDate(row.get("day"));
+            byDay.put(day, new DailyActivityResponse(
+                day,
+                count(row, "tasks_created"),
+                count(row, "tasks_completed"),
+                count(row, "comments_created"),
+                count(row, "activities")
+            ));
+        }
+
+        
+        return startDate.datesUntil(endDate.plusDays(1))
+            .map(day -> byDay.getOrDefault(day, DailyActivityResponse.empty(day)))
+            .toList();
+    }
+
+    public long countOpenAssignedTasks(Integer userId, Long organizationId, Collection<Long> projectIds) {
+        if (projectIds.isEmpty()) {
+            return 0;
+        }
+        return ((Number) entityManager.createNativeQuery("""
+                SELECT COUNT(*) FROM tasks t
+                JOIN task_statuses s ON s.id = t.status_id
+                WHERE t.assignee_id = :userId AND t.organization_id = :orgId AND t.project_id IN (:projectIds)
+                  AND s.category <> 'DONE'
+                """)
+            .setParameter("userId", userId)
+            .setParameter("orgId", organizationId)
+            .setParameter("projectIds", projectIds)
+            .getSingleResult()).longValue();
+    }
+
+    public long countWatchedTasks(Integer userId, Long organizationId, Collection<Long> projectIds) {
+        if (projectIds.isEmpty()) {
+            return 0;
+        }
+        return ((Number) entityManager.createNativeQuery("""
+                SELECT COUNT(*) FROM task_watchers w
+                JOIN tasks t ON t.id = w.task_id
+                WHERE w.user_id = :userId AND t.organization_id = :orgId AND t.project_id IN (:projectIds)
+                """)
+            .setParameter("userId", userId)
+            .setParameter("orgId", organizationId)
+            .setParameter("projectIds", projectIds)
+            .getSingleResult()).longValue();
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        return value instanceof java.sql.Date date ? date.toLocalDate() : (LocalDate) value;
+    }
+
+    private static long count(Tuple row, String alias) {
+        Object value = row.get(alias);
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+
+    private static BigDecimal hours(Tuple row, String alias) {
+        Object value = row.get(alias);
+        return value != null ? new BigDecimal(value.toString()) : BigDecimal.ZERO;
+    }
+}
@@ -0,0 +1,180 @@
+package com.gradproject.taskmanager.modules.analytics.repository;
+
+import com.gradproject.taskmanager.modules.analytics.dto.FlowEventColumns;
+import com.gradproject.taskmanager.modules.analytics.dto.FlowTaskColumns;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class FlowRepository {
+
+    private static final int INSERT_BATCH_ROWS = 1_000;
+
+
+    private static final String TASKS = """
+        SELECT t.id, CAST(EXTRACT(EPOCH FROM t.created_at) AS BIGINT), t.status_id,
+               COALESCE(t.story_points, 0), COALESCE(t.sprint_id, 0)
+        FROM tasks t
+        WHERE t.project_id = :projectId
+        ORDER BY t.id
+        """;
+
+    private static final String STATUS_CHANGES = """
+        SELECT a.task_id, CAST(EXTRACT(EPOCH FROM a.timestamp) AS BIGINT),
+               COALESCE(CAST(a.old_value ->> 'id' AS BIGINT), 0), COALESCE(CAST(a.new_value ->> 'id' AS BIGINT), 0)
+        FROM activity_log a
+        WHERE a.project_id = :projectId AND a.action = 'STATUS_CHANGED' AND a.task_id IS NOT NULL
+          AND a.timestamp >= :since
+        ORDER BY a.task_id, a.timestamp, a.id
+        """;
+
+    private final EntityManager entityManager;
+
+
+    public boolean tryLock(Long projectId) {
+        return Boolean.TRUE.equals(entityManager
+            .createNativeQuery("SELECT pg_try_advisory_xact_lock(hashtext('project_flow'), CAST(:projectId AS INTEGER))")
+            .setParameter("projectId", projectId)
+            .getSingleResult());
+    }
+
+
+    public FlowTaskColumns findTasks(Long projectId) {
+        List<Object[]> rows = rows(entityManager.createNativeQuery(TASKS).setParameter("projectId", projectId));
+        int size = rows.size();
+        long[] taskIds = new long[size];
+        long[] createdAt = new long[size];
+        long[] statusIds = new long[size];
+        int[] storyPoints = new int[size];
+        long[] sprintIds = new long[size];
+        for (int i = 0; i < size; i++) {
+            Object[] row = rows.get(i);
+            taskIds[i] = ((Number) row[0]).longValue();
+            createdAt[i] = ((Number) row[1]).longValue();
+            statusIds[i] = ((Number) row[2]).longValue();
+            storyPoints[i] = ((Number) row[3]).intValue();
+            sprintIds[i] = ((Number) row[4]).longValue();
+        }
+        return new FlowTaskColumns(taskIds, createdAt, statusIds, storyPoints, sprintIds);
+    }
+
+
+    public FlowEventColumns findStatusChanges(Long projectId, LocalDateTime since) {
+        List<Object[]> rows = rows(entityManager.createNativeQuery(STATUS_CHANGES)
+            .setParameter("projectId", projectId)
+            .setParameter("since", since != null ? since : LocalDateTime.of(1970, 1, 1, 0, 0)));
+        int size = rows.size();
+        long[] taskIds = new long[size];
+        long[] at = new long[size];
+        long[] fromStatusIds = new long[size];
+        long[] toStatusIds = new long[size];
+        for (int i = 0; i < size; i++) {
+            Object[] row = rows.get(i);
+            taskIds[i] = ((Number) row[0]).longValue();
+            at[i] = ((Number) row[1]).longValue();
+            fromStatusIds[i] = ((Number) row[2]).longValue();
+            toStatusIds[i] = ((Number) row[3]).longValue();
+        }
+        return new FlowEventColumns(taskIds, at, fromStatusIds, toStatusIds);
+    }
+
+    public LocalDate findLatestSnapshotDate(Long projectId) {
+        Object latest = entityManager
+            .createNativeQuery("SELECT MAX(s.snapshot_date) FROM project_flow_snapshots s WHERE s.project_id = :projectId")
+            .setParameter("projectId", projectId)
+            .getSingleResult();
+        return toLocalDate(latest);
+    }
+
+
+    public int[][] findSnapshotCounts(Long projectId, long[] statusIds, LocalDate from, LocalDate to) {
+        int days = (int) (to.toEpochDay() - from.toEpochDay() + 1);
+        int[][] counts = new int[statusIds.length][Math.max(days, 0)];
+        if (days <= 0) {
+            return counts;
+        }
+        List<Object[]> rows = rows(entityManager.createNativeQuery("""
+                SELECT s.snapshot_date, s.status_id, s.task_count
+                FROM project_flow_snapshots s
+                WHERE s.project_id = :projectId AND s.snapshot_date BETWEEN :from AND :to
+                """)
+            .setParameter("projectId", projectId)
+            .setParameter("from", from)
+            .setParameter("to", to));
+        for (Object[] row : rows) {
+            int day = (int) (toLocalDate(row[0]).toEpochDay() - from.toEpochDay());
+            long statusId = ((Number) row[1]).longValue();
+            for (int s = 0; s < statusIds.length; s++) {
+                if (statusIds[s] == statusId) {
+                    counts[s][day] = ((Number) row[2]).intValue();
+                }
+            }
+        }
+        return counts;
+    }
+
+
+    public void replaceSnapshots(Long projectId, LocalDate from, long[] statusIds, int[][] counts) {
+        entityManager.createNativeQuery(
+                "DELETE FROM project_flow_snapshots WHERE project_id = :projectId AND snapshot_date >= :from")
+            .setParameter("projectId", projectId)
+            .setParameter("from", from)
+            .executeUpdate();
+
+        // Values are ids, counts and ISO dates only, so they are inlined to send each batch as one statement.
+        StringBuilder sql = new StringBuilder();
+        int rows = 0;
+        for (int s = 0; s < statusIds.length; s++) {
+            for (int d = 0; d < counts[s].length; d++) {
+                if (counts[s][d] == 0) {
+                    continue;
+                }
+                sql.append(rows == 0 ? "" : ",")
+                    .append('(').append(projectId.longValue())
+                    .append(", DATE '").append(from.plusDays(d)).append("', ")
+                    .append(statusIds[s]).append(", ").append(counts[s][d]).append(')');
+                if (++rows == INSERT_BATCH_ROWS) {
+                    insertSnapshots(sql);
+                    rows = 0;
+                }
+            }
+        }
+        if (rows > 0) {
+            insertSnapshots(sql);
+        }
+    }
+
+    public void deleteSnapshots(Long projectId) {
+        entityManager.createNativeQuery("DELETE FROM project_flow_snapshots WHERE project_id = :projectId")
+            .setParameter("projectId", projectId)
+            .executeUpdate();
+    }
+
+    public List<Long> findProjectIds() {
+        List<Number> ids = rows(entityManager.createNativeQuery("SELECT p.id FROM projects p ORDER BY p.id"));
+        return ids.stream().map(Number::longValue).toList();
+    }
+
+    private void insertSnapshots(StringBuilder values) {
+        entityManager.createNativeQuery(
+                "INSERT INTO project_flow_snapshots (project_id, snapshot_date, status_id, task_count) VALUES " + values)
+            .executeUpdate();
+        values.setLength(0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> rows(Query query) {
+        return query.getResultList();
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        return value instanceof java.sql.Date date ? date.toLocalDate() : (LocalDate) value;
+    }
+}
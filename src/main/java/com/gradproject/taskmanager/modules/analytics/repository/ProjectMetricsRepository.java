@@ -0,0 +1,126 @@
+package com.gradproject.taskmanager.modules.analytics.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class ProjectMetricsRepository {
+
+    private static final String LOCK = "SELECT pg_try_advisory_xact_lock(hashtext('project_metrics'))";
+
+
+    private static final String COMPACT = """
+        WITH moved AS (
+            DELETE FROM project_metrics_delta
+            RETURNING project_id, status_id, due_date, task_count, story_points, logged_hours
+        ), folded AS (
+            SELECT m.project_id, m.status_id, m.due_date,
+                   SUM(m.task_count) AS task_count, SUM(m.story_points) AS story_points,
+                   SUM(m.logged_hours) AS logged_hours
+            FROM moved m
+            WHERE EXISTS (SELECT 1 FROM projects p WHERE p.id = m.project_id)
+              AND EXISTS (SELECT 1 FROM task_statuses s WHERE s.id = m.status_id)
+            GROUP BY m.project_id, m.status_id, m.due_date
+        ), applied AS (
+            INSERT INTO project_metrics AS pm (project_id, status_id, due_date, task_count, story_points, logged_hours)
+            SELECT project_id, status_id, due_date, task_count, story_points, logged_hours FROM folded
+            ON CONFLICT (project_id, status_id, due_date) DO UPDATE
+                SET task_count = pm.task_count + EXCLUDED.task_count,
+                    story_points = pm.story_points + EXCLUDED.story_points,
+                    logged_hours = pm.logged_hours + EXCLUDED.logged_hours
+            RETURNING 1
+        )
+        SELECT (SELECT COUNT(*) FROM moved) AS moved, (SELECT COUNT(*) FROM applied) AS applied
+        """;
+
+
+    private static final String PRUNE = "DELETE FROM project_metrics WHERE task_count = 0";
+
+
+    private static final String RECONCILE = """
+        WITH actual AS (
+            SELECT t.project_id, t.status_id, COALESCE(t.due_date, 'infinity') AS due_date,
+                   COUNT(*) AS task_count, COALESCE(SUM(t.story_points), 0) AS story_points,
+                   COALESCE(SUM(t.logged_hours), 0) AS logged_hours
+            FROM tasks t
+            GROUP BY t.project_id, t.status_id, COALESCE(t.due_date, 'infinity')
+        ), pending AS (
+            SELECT d.project_id, d.status_id, d.due_date,
+                   SUM(d.task_count) AS task_count, SUM(d.story_points) AS story_points,
+                   SUM(d.logged_hours) AS logged_hours
+            FROM project_metrics_delta d
+            GROUP BY d.project_id, d.status_id, d.due_date
+        ), combined AS (
+            SELECT project_id, status_id, due_date,
+                   COALESCE(a.task_count, 0) - COALESCE(p.task_count, 0) AS task_count,
+                   COALESCE(a.story_points, 0) - COALESCE(p.story_points, 0) AS story_points,
+                   COALESCE(a.logged_hours, 0) - COALESCE(p.logged_hours, 0) AS logged_hours
+            FROM actual a
+            FULL OUTER JOIN pending p USING (project_id, status_id, due_date)
+        ), expected AS (
+            SELECT c.*
+            FROM combined c
+            WHERE EXISTS (SELECT 1 FROM projects pr WHERE pr.id = c.project_id)
+              AND EXISTS (SELECT 1 FROM task_statuses s WHERE s.id = c.status_id)
+        ), drift AS (
+            SELECT project_id, status_id, due_date,
+                   COALESCE(e.task_count, 0) AS task_count,
+                   COALESCE(e.story_points, 0) AS story_points,
+                   COALESCE(e.logged_hours, 0) AS logged_hours
+            FROM expected e
+            FULL OUTER JOIN project_metrics m USING (project_id, status_id, due_date)
+            WHERE COALESCE(e.task_count, 0) <> COALESCE(m.task_count, 0)
+               OR COALESCE(e.story_points, 0) <> COALESCE(m.story_points, 0)
+               OR COALESCE(e.logged_hours, 0) <> COALESCE(m.logged_hours, 0)
+        ), upserted AS (
+            INSERT INTO project_metrics AS pm (project_id, status_id, due_date, task_count, story_points, logged_hours)
+            SELECT project_id, status_id, due_date, task_count, story_points, logged_hours
+            FROM drift
+            WHERE task_count <> 0 OR story_points <> 0 OR logged_hours <> 0
+            ON CONFLICT (project_id, status_id, due_date) DO UPDATE
+                SET task_count = EXCLUDED.task_count,
+                    story_points = EXCLUDED.story_points,
+                    logged_hours = EXCLUDED.logged_hours
+            RETURNING 1
+        ), removed AS (
+            DELETE FROM project_metrics pm
+            USING drift d
+            WHERE pm.project_id = d.project_id AND pm.status_id = d.status_id AND pm.due_date = d.due_date
+              AND d.task_count = 0 AND d.story_points = 0 AND d.logged_hours = 0
+            RETURNING 1
+        )
+        SELECT (SELECT COUNT(*) FROM drift) AS drifted_rows,
+               (SELECT COUNT(DISTINCT project_id) FROM drift) AS drifted_projects,
+               (SELECT COUNT(*) FROM upserted) + (SELECT COUNT(*) FROM removed) AS repaired_rows
+        """;
+
+    private final EntityManager entityManager;
+
+
+    public boolean tryLock() {
+        return Boolean.TRUE.equals(entityManager.createNativeQuery(LOCK).getSingleResult());
+    }
+
+
+    public long compact() {
+        Tuple row = (Tuple) entityManager.createNativeQuery(COMPACT, Tuple.class).getSingleResult();
+        entityManager.createNativeQuery(PRUNE).executeUpdate();
+        return ((Number) row.get("moved")).longValue();
+    }
+
+
+    public ReconcileResult reconcile() {
+        Tuple row = (Tuple) entityManager.createNativeQuery(RECONCILE, Tuple.class).getSingleResult();
+        return new ReconcileResult(
+            ((Number) row.get("drifted_rows")).longValue(),
+            ((Number) row.get("drifted_projects")).longValue(),
+            ((Number) row.get("repaired_rows")).longValue()
+        );
+    }
+
+    public record ReconcileResult(long driftedRows, long driftedProjects, long repairedRows) {
+    }
+}
@@ -18,7 +18,8 @@ public interface AnalyticsService {
     OrganizationMetricsResponse getOrganizationMetrics(Long organizationId, Integer userId);
 
     
-    UserActivityResponse getUserActivity(Integer userId, Long organizationId, Integer requestingUserId);
+    UserActivityResponse getUserActivity(Integer userId, Long organizationId, LocalDate startDate, LocalDate endDate,
+                                         Integer requestingUserId);
 
     
     TaskStatusDistributionResponse getTaskStatusDistribution(Long projectId, Integer userId);
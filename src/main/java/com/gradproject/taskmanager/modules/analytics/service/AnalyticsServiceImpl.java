@@ -1,17 +1,14 @@
 package com.gradproject.taskmanager.modules.analytics.service;
 
 import com.gradproject.taskmanager.modules.analytics.dto.*;
+import com.gradproject.taskmanager.modules.analytics.repository.AnalyticsRepository;
 import com.gradproject.taskmanager.modules.auth.domain.User;
 import com.gradproject.taskmanager.modules.auth.repository.UserRepository;
 import com.gradproject.taskmanager.modules.organization.domain.Organization;
 import com.gradproject.taskmanager.modules.organization.repository.OrganizationRepository;
 import com.gradproject.taskmanager.modules.project.domain.Project;
-import com.gradproject.taskmanager.modules.project.domain.StatusCategory;
 import com.gradproject.taskmanager.modules.project.repository.ProjectRepository;
-import com.gradproject.taskmanager.modules.release.domain.enums.ReleaseStatus;
-import com.gradproject.taskmanager.modules.release.repository.ReleaseRepository;
-import com.gradproject.taskmanager.modules.task.domain.Task;
-import com.gradproject.taskmanager.modules.task.repository.TaskRepository;
+import com.gradproject.taskmanager.shared.exception.BadRequestException;
 import com.gradproject.taskmanager.shared.exception.ResourceNotFoundException;
 import com.gradproject.taskmanager.shared.exception.UnauthorizedException;
 import com.gradproject.taskmanager.shared.security.PermissionService;
@@ -20,11 +17,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.util.HashMap;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.function.ToLongFunction;
 
 
 @Slf4j
@@ -32,11 +30,14 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AnalyticsServiceImpl implements AnalyticsService {
 
+    private static final int DEFAULT_ACTIVITY_DAYS = 30;
+    private static final int MAX_RANGE_DAYS = 366;
+
     private final ProjectRepository projectRepository;
-    private final TaskRepository taskRepository;
     private final UserRepository userRepository;
     private final OrganizationRepository organizationRepository;
-    private final ReleaseRepository releaseRepository;
+    private final AnalyticsRepository analyticsRepository;
+    private final ProjectMetricsLoader projectMetricsLoader;
     private final PermissionService permissionService;
 
     @Override
@@ -53,40 +54,16 @@ public class AnalyticsServiceImpl implements AnalyticsService {
         }
 
         
-        List<Task> tasks = taskRepository.findByProjectWithFilters(projectId, null, null, null);
-
-        long totalTasks = tasks.size();
-        long completedTasks = tasks.stream()
-            .filter(t -> t.getStatus() != null && StatusCategory.DONE == t.getStatus().getCategory())
-            .count();
-        long inProgressTasks = tasks.stream()
-            .filter(t -> t.getStatus() != null && StatusCategory.IN_PROGRESS == t.getStatus().getCategory())
-            .count();
-        long todoTasks = tasks.stream()
-            .filter(t -> t.getStatus() != null && StatusCategory.TODO == t.getStatus().getCategory())
-            .count();
-        long overdueTasks = taskRepository.findOverdueTasks(projectId, LocalDate.now()).size();
-
-        double completionRate = totalTasks > 0 ? (completedTasks * 100.0 / totalTasks) : 0.0;
-        long totalMembers = project.getMembers() != null ? project.getMembers().size() : 0L;
-        long activeReleases = releaseRepository.findByProjectIdAndStatus(projectId, ReleaseStatus.IN_PROGRESS).size();
-
-        return new ProjectMetricsResponse(
-            projectId,
-            project.getName(),
-            totalTasks,
-            completedTasks,
-            inProgressTasks,
-            todoTasks,
-            overdueTasks,
-            completionRate,
-            totalMembers,
-            activeReleases
-        );
+        return analyticsRepository
+            .findProjectRollups(project.getOrganization().getId(), List.of(projectId), LocalDate.now())
+            .stream()
+            .findFirst()
+            .map(ProjectRollupRow::toResponse)
+            .orElseGet(() -> new ProjectRollupRow(projectId, project.getName(), 0, 0, 0, 0, 0, 0, 0, 0, 0,
+                BigDecimal.ZERO).toResponse());
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<ProjectMetricsResponse> getOrganizationProjectsMetrics(Long organizationId, Integer userId) {
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
@@ -94,16 +71,14 @@ public class AnalyticsServiceImpl implements AnalyticsService {
         Organization organization = organizationRepository.findById(organizationId)
             .orElseThrow(() -> new ResourceNotFoundException("Organization not found with id: " + organizationId));
 
-        List<Project> projects = projectRepository.findByOrganizationId(organizationId);
-
-        return projects.stream()
-            .filter(project -> permissionService.canAccessProject(user, project))
-            .map(project -> getProjectMetrics(project.getId(), userId))
-            .collect(Collectors.toList());
+        
+        Set<Long> accessibleProjectIds = permissionService.accessibleProjectIds(user.getId(), organizationId);
+        return projectMetricsLoader.load(organizationId, accessibleProjectIds, LocalDate.now()).stream()
+            .map(ProjectRollupRow::toResponse)
+            .toList();
     }
 
     @Override
-    @Transactional(readOnly = true)
     public OrganizationMetricsResponse getOrganizationMetrics(Long organizationId, Integer userId) {
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
@@ -111,28 +86,18 @@ public class AnalyticsServiceImpl implements AnalyticsService {
         Organization organization = organizationRepository.findById(organizationId)
             .orElseThrow(() -> new ResourceNotFoundException("Organization not found with id: " + organizationId));
 
-        List<Project> projects = projectRepository.findByOrganizationId(organizationId);
-        List<Project> accessibleProjects = projects.stream()
-            .filter(project -> permissionService.canAccessProject(user, project))
-            .collect(Collectors.toList());
+        Set<Long> accessibleProjectIds = permissionService.accessibleProjectIds(user.getId(), organizationId);
+        List<ProjectRollupRow> rollups =
+            projectMetricsLoader.load(organizationId, accessibleProjectIds, LocalDate.now());
 
-        long totalProjects = accessibleProjects.size();
+        long totalProjects = rollups.size();
         long activeProjects = totalProjects; 
 
-        
-        long totalTasks = 0;
-        long completedTasks = 0;
-
-        for (Project project : accessibleProjects) {
-            List<Task> tasks = taskRepository.findByProjectWithFilters(project.getId(), null, null, null);
-            totalTasks += tasks.size();
-            completedTasks += tasks.stream()
-                .filter(t -> t.getStatus() != null && StatusCategory.DONE == t.getStatus().getCategory())
-                .count();
-        }
+        long totalTasks = rollups.stream().mapToLong(ProjectRollupRow::totalTasks).sum();
+        long completedTasks = rollups.stream().mapToLong(ProjectRollupRow::completedTasks).sum();
 
         double overallCompletionRate = totalTasks > 0 ? (completedTasks * 100.0 / totalTasks) : 0.0;
-        long totalMembers = organization.getMembers() != null ? organization.getMembers().size() : 0L;
+        long totalMembers = analyticsRepository.countOrganizationMembers(organizationId);
 
         return new OrganizationMetricsResponse(
             organizationId,
@@ -148,7 +113,8 @@ public class AnalyticsServiceImpl implements AnalyticsService {
 
     @Override
     @Transactional(readOnly = true)
-    public UserActivityResponse getUserActivity(Integer userId, Long organizationId, Integer requestingUserId) {
+    public UserActivityResponse getUserActivity(Integer userId, Long organizationId, LocalDate startDate,
+                                                LocalDate endDate, Integer requestingUserId) {
         User requestingUser = userRepository.findById(requestingUserId)
             .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + requestingUserId));
 
@@ -158,27 +124,28 @@ public class AnalyticsServiceImpl implements AnalyticsService {
         Organization organization = organizationRepository.findById(organizationId)
             .orElseThrow(() -> new ResourceNotFoundException("Organization not found with id: " + organizationId));
 
-        
-        List<Task> assignedTasks = taskRepository.findMyOpenTasks(userId, organizationId);
-        long tasksAssigned = assignedTasks.size();
-        long tasksCompleted = assignedTasks.stream()
-            .filter(t -> t.getStatus() != null && StatusCategory.DONE == t.getStatus().getCategory())
-            .count();
+        requireOrgMember(requestingUser, organizationId);
+
+        LocalDate end = endDate != null ? endDate : LocalDate.now();
+        LocalDate start = startDate != null ? startDate : end.minusDays(DEFAULT_ACTIVITY_DAYS - 1);
+        validateRange(start, end);
 
         
-        
-        long tasksCreated = 0; 
-        long commentsCreated = 0; 
-        long tasksWatching = 0; 
+        Set<Long> accessibleProjectIds = permissionService.accessibleProjectIds(requestingUserId, organizationId);
+        List<DailyActivityResponse> daily =
+            analyticsRepository.findDailyActivity(organizationId, userId, accessibleProjectIds, start, end);
 
         return new UserActivityResponse(
             userId,
             targetUser.getUsername(),
-            tasksAssigned,
-            tasksCompleted,
-            tasksCreated,
-            commentsCreated,
-            tasksWatching
+            analyticsRepository.countOpenAssignedTasks(userId, organizationId, accessibleProjectIds),
+            sum(daily, DailyActivityResponse::tasksCompleted),
+            sum(daily, DailyActivityResponse::tasksCreated),
+            sum(daily, DailyActivityResponse::commentsCreated),
+            analyticsRepository.countWatchedTasks(userId, organizationId, accessibleProjectIds),
+            start,
+            end,
+            daily
         );
     }
 
@@ -195,20 +162,10 @@ public class AnalyticsServiceImpl implements AnalyticsService {
             throw new UnauthorizedException("You don't have permission to view metrics for this project");
         }
 
-        List<Task> tasks = taskRepository.findByProjectWithFilters(projectId, null, null, null);
-
-        Map<String, Long> distribution = new HashMap<>();
-        for (Task task : tasks) {
-            if (task.getStatus() != null) {
-                String statusName = task.getStatus().getName();
-                distribution.put(statusName, distribution.getOrDefault(statusName, 0L) + 1);
-            }
-        }
-
         return new TaskStatusDistributionResponse(
             projectId,
             project.getName(),
-            distribution
+            analyticsRepository.findStatusDistribution(projectId)
         );
     }
 
@@ -221,20 +178,39 @@ public class AnalyticsServiceImpl implements AnalyticsService {
         Organization organization = organizationRepository.findById(organizationId)
             .orElseThrow(() -> new ResourceNotFoundException("Organization not found with id: " + organizationId));
 
-        
-        
-        long tasksCreated = 0;
-        long tasksCompleted = 0;
-        long commentsCreated = 0;
-        long activitiesLogged = 0;
+        requireOrgMember(user, organizationId);
+        validateRange(startDate, endDate);
+        Set<Long> accessibleProjectIds = permissionService.accessibleProjectIds(user.getId(), organizationId);
+        List<DailyActivityResponse> daily =
+            analyticsRepository.findDailyActivity(organizationId, null, accessibleProjectIds, startDate, endDate);
 
         return new TimeRangeMetricsResponse(
             startDate,
             endDate,
-            tasksCreated,
-            tasksCompleted,
-            commentsCreated,
-            activitiesLogged
+            sum(daily, DailyActivityResponse::tasksCreated),
+            sum(daily, DailyActivityResponse::tasksCompleted),
+            sum(daily, DailyActivityResponse::commentsCreated),
+            sum(daily, DailyActivityResponse::activitiesLogged),
+            daily
         );
     }
+
+    private void requireOrgMember(User user, Long organizationId) {
+        if (!permissionService.isOrgMember(user, organizationId)) {
+            throw new UnauthorizedException("You are not a member of this organization");
+        }
+    }
+
+    private static void validateRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null || endDate.isBefore(startDate)) {
+            throw new BadRequestException("End date must not be before start date");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_RANGE_DAYS) {
+            throw new BadRequestException("Date range must not exceed " + MAX_RANGE_DAYS + " days");
+        }
+    }
+
+    private static long sum(List<DailyActivityResponse> daily, ToLongFunction<DailyActivityResponse> field) {
+        return daily.stream().mapToLong(field).sum();
+    }
 }
@@ -0,0 +1,296 @@
+package com.gradproject.taskmanager.modules.analytics.service;
+
+import com.gradproject.taskmanager.modules.analytics.dto.CumulativeFlowResponse;
+import com.gradproject.taskmanager.modules.analytics.dto.CycleTimeResponse;
+import com.gradproject.taskmanager.modules.analytics.dto.FlowSnapshotRefreshResponse;
+import com.gradproject.taskmanager.modules.analytics.dto.SprintVelocityResponse;
+import com.gradproject.taskmanager.modules.analytics.dto.StatusFlowSeries;
+import com.gradproject.taskmanager.modules.analytics.dto.VelocityResponse;
+import com.gradproject.taskmanager.modules.analytics.repository.FlowRepository;
+import com.gradproject.taskmanager.modules.auth.domain.User;
+import com.gradproject.taskmanager.modules.auth.repository.UserRepository;
+import com.gradproject.taskmanager.modules.project.domain.Project;
+import com.gradproject.taskmanager.modules.project.domain.Sprint;
+import com.gradproject.taskmanager.modules.project.domain.SprintStatus;
+import com.gradproject.taskmanager.modules.project.domain.StatusCategory;
+import com.gradproject.taskmanager.modules.project.domain.TaskStatus;
+import com.gradproject.taskmanager.modules.project.repository.ProjectRepository;
+import com.gradproject.taskmanager.modules.project.repository.SprintRepository;
+import com.gradproject.taskmanager.modules.project.repository.TaskStatusRepository;
+import com.gradproject.taskmanager.shared.exception.BadRequestException;
+import com.gradproject.taskmanager.shared.exception.BusinessRuleViolationException;
+import com.gradproject.taskmanager.shared.exception.ResourceNotFoundException;
+import com.gradproject.taskmanager.shared.exception.UnauthorizedException;
+import com.gradproject.taskmanager.shared.security.PermissionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FlowAnalyticsService {
+
+    private static final int DEFAULT_RANGE_DAYS = 90;
+
+    private final FlowRepository flowRepository;
+    private final TaskStatusRepository taskStatusRepository;
+    private final SprintRepository sprintRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final PermissionService permissionService;
+
+
+    @Value("${app.analytics.flow.max-history-days:730}")
+    private int maxHistoryDays;
+
+
+    @Transactional
+    public CumulativeFlowResponse getCumulativeFlow(Long projectId, LocalDate startDate, LocalDate endDate,
+                                                    Integer userId) {
+        Project project = accessibleProject(projectId, userId);
+        LocalDate end = endDate != null ? endDate : LocalDate.now();
+        LocalDate start = startDate != null ? startDate : end.minusDays(DEFAULT_RANGE_DAYS - 1);
+        validateRange(start, end);
+
+        Statuses statuses = statuses(projectId);
+        LocalDate today = LocalDate.now();
+        LocalDate yesterday = today.minusDays(1);
+        int days = (int) (end.toEpochDay() - start.toEpochDay() + 1);
+        int[][] counts;
+
+        if (snapshotsCurrent(projectId, statuses, yesterday)) {
+            counts = flowRepository.findSnapshotCounts(projectId, statuses.ids(), start, end.isBefore(today) ? end : yesterday);
+            counts = widen(counts, days);
+            if (!end.isBefore(today)) {
+                // Today is not a completed day yet: replay its changes on top of yesterday's snapshot.
+                int[] opening = column(flowRepository.findSnapshotCounts(projectId, statuses.ids(), yesterday, yesterday), 0);
+                long since = today.toEpochDay() * FlowReplay.SECONDS_PER_DAY;
+                int[][] live = replay(projectId, statuses, since)
+                    .dailyCounts(today.toEpochDay(), today.toEpochDay(), opening, since);
+                int offset = (int) (today.toEpochDay() - start.toEpochDay());
+                for (int s = 0; s < live.length; s++) {
+                    if (offset >= 0 && offset < days) {
+                        counts[s][offset] = live[s][0];
+                    }
+                }
+            }
+        } else {
+            log.debug("Flow snapshots for project {} are being refreshed elsewhere; replaying in memory", projectId);
+            counts = replay(projectId, statuses, Long.MIN_VALUE)
+                .dailyCounts(start.toEpochDay(), end.toEpochDay(), null, Long.MIN_VALUE);
+        }
+
+        List<StatusFlowSeries> series = new ArrayList<>(statuses.size());
+        for (int s = 0; s < statuses.size(); s++) {
+            TaskStatus status = statuses.entities().get(s);
+            series.add(new StatusFlowSeries(status.getId(), status.getName(), status.getCategory(), counts[s]));
+        }
+        return new CumulativeFlowResponse(projectId, project.getName(), start, end, series);
+    }
+
+
+    @Transactional(readOnly = true)
+    public VelocityResponse getVelocity(Long projectId, Integer userId) {
+        Project project = accessibleProject(projectId, userId);
+
+        List<Sprint> sprints = sprintRepository.findByProjectIdOrderByStartDateDesc(projectId).stream()
+            .filter(sprint -> sprint.getStatus() == SprintStatus.ACTIVE || sprint.getStatus() == SprintStatus.COMPLETED)
+            .sorted(Comparator.comparing(Sprint::getStartDate, Comparator.nullsLast(Comparator.naturalOrder())))
+            .toList();
+        long[] sprintIds = new long[sprints.size()];
+        long[] sprintEnds = new long[sprints.size()];
+        for (int i = 0; i < sprints.size(); i++) {
+            Sprint sprint = sprints.get(i);
+            LocalDate end = sprint.getEndDate() != null ? sprint.getEndDate() : LocalDate.now();
+            sprintIds[i] = sprint.getId();
+            sprintEnds[i] = end.plusDays(1).toEpochDay() * FlowReplay.SECONDS_PER_DAY;
+        }
+
+        long[][] totals = replay(projectId, statuses(projectId), Long.MIN_VALUE).sprintVelocity(sprintIds, sprintEnds);
+
+        List<SprintVelocityResponse> velocity = new ArrayList<>(sprints.size());
+        long completedPoints = 0;
+        int completedSprints = 0;
+        for (int i = 0; i < sprints.size(); i++) {
+            Sprint sprint = sprints.get(i);
+            velocity.add(new SprintVelocityResponse(sprint.getId(), sprint.getName(), sprint.getStatus(),
+                sprint.getStartDate(), sprint.getEndDate(), totals[i][0], totals[i][1], totals[i][2]));
+            if (sprint.getStatus() == SprintStatus.COMPLETED) {
+                completedPoints += totals[i][1];
+                completedSprints++;
+            }
+        }
+        double average = completedSprints > 0 ? (double) completedPoints / completedSprints : 0.0;
+        return new VelocityResponse(projectId, project.getName(), velocity, average);
+    }
+
+
+    @Transactional(readOnly = true)
+    public CycleTimeResponse getCycleTime(Long projectId, LocalDate startDate, LocalDate endDate, Integer userId) {
+        Project project = accessibleProject(projectId, userId);
+        LocalDate end = endDate != null ? endDate : LocalDate.now();
+        LocalDate start = startDate != null ? startDate : end.minusDays(DEFAULT_RANGE_DAYS - 1);
+        validateRange(start, end);
+
+        FlowReplay replay = replay(projectId, statuses(projectId), Long.MIN_VALUE);
+        long[] lead = replay.cycleTimes(start.toEpochDay(), end.toEpochDay(), false);
+        long[] cycle = replay.cycleTimes(start.toEpochDay(), end.toEpochDay(), true);
+
+        return new CycleTimeResponse(projectId, project.getName(), start, end, (long) lead.length,
+            FlowReplay.percentiles(lead), FlowReplay.percentiles(cycle));
+    }
+
+
+    @Transactional
+    public FlowSnapshotRefreshResponse refreshSnapshots(Long projectId, boolean rebuild, Integer userId) {
+        User user = userRepository.findById(userId)
+            .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
+        Project project = projectRepository.findById(projectId)
+            .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + projectId));
+        if (!permissionService.canEditProject(user, project)) {
+            throw new UnauthorizedException("You don't have permission to refresh flow snapshots for this project");
+        }
+        if (!flowRepository.tryLock(projectId)) {
+            throw new BusinessRuleViolationException("Flow snapshots for this project are already being refreshed");
+        }
+        return refresh(projectId, statuses(projectId), rebuild);
+    }
+
+
+    @Transactional
+    public int refreshSnapshots(Long projectId) {
+        if (!flowRepository.tryLock(projectId)) {
+            return 0;
+        }
+        return refresh(projectId, statuses(projectId), false).daysWritten();
+    }
+
+    public List<Long> findProjectIds() {
+        return flowRepository.findProjectIds();
+    }
+
+
+    private boolean snapshotsCurrent(Long projectId, Statuses statuses, LocalDate yesterday) {
+        LocalDate latest = flowRepository.findLatestSnapshotDate(projectId);
+        if (latest != null && !latest.isBefore(yesterday)) {
+            return true;
+        }
+        if (!flowRepository.tryLock(projectId)) {
+            return false;
+        }
+        refresh(projectId, statuses, false);
+        return true;
+    }
+
+    private FlowSnapshotRefreshResponse refresh(Long projectId, Statuses statuses, boolean rebuild) {
+        LocalDate through = LocalDate.now().minusDays(1);
+        LocalDate earliest = through.minusDays(maxHistoryDays - 1);
+        LocalDate latest = rebuild ? null : flowRepository.findLatestSnapshotDate(projectId);
+        if (latest != null && latest.isBefore(earliest)) {
+            latest = null;
+        }
+
+        LocalDate from;
+        int[] opening = null;
+        long since = Long.MIN_VALUE;
+        if (latest != null) {
+            from = latest.plusDays(1);
+            opening = column(flowRepository.findSnapshotCounts(projectId, statuses.ids(), latest, latest), 0);
+            since = from.toEpochDay() * FlowReplay.SECONDS_PER_DAY;
+        } else {
+            from = earliest;
+        }
+
+        FlowReplay replay = replay(projectId, statuses, since);
+        if (latest == null) {
+            flowRepository.deleteSnapshots(projectId);
+            from = firstTaskDay(replay, from);
+        }
+        int[][] counts = replay.dailyCounts(from.toEpochDay(), through.toEpochDay(), opening, since);
+        int days = counts.length > 0 ? counts[0].length : 0;
+        if (days > 0) {
+            flowRepository.replaceSnapshots(projectId, from, statuses.ids(), counts);
+        }
+        log.debug("Wrote {} days of flow snapshots for project {} from {}", days, projectId, from);
+        return new FlowSnapshotRefreshResponse(projectId, from, through, days);
+    }
+
+    private FlowReplay replay(Long projectId, Statuses statuses, long sinceSecond) {
+        return new FlowReplay(
+            statuses.ids(),
+            statuses.categories(),
+            flowRepository.findTasks(projectId),
+            flowRepository.findStatusChanges(projectId,
+                sinceSecond == Long.MIN_VALUE ? null : LocalDate.ofEpochDay(sinceSecond / FlowReplay.SECONDS_PER_DAY).atStartOfDay())
+        );
+    }
+
+    private static LocalDate firstTaskDay(FlowReplay replay, LocalDate earliest) {
+        long first = replay.firstCreatedDay();
+        return first == Long.MAX_VALUE ? earliest : LocalDate.ofEpochDay(Math.max(first, earliest.toEpochDay()));
+    }
+
+    private Project accessibleProject(Long projectId, Integer userId) {
+        User user = userRepository.findById(userId)
+            .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
+        Project project = projectRepository.findById(projectId)
+            .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + projectId));
+        if (!permissionService.canAccessProject(user, project)) {
+            throw new UnauthorizedException("You don't have permission to view metrics for this project");
+        }
+        return project;
+    }
+
+    private void validateRange(LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new BadRequestException("End date must not be before start date");
+        }
+        if (endDate.toEpochDay() - startDate.toEpochDay() >= maxHistoryDays) {
+            throw new BadRequestException("Date range must not exceed " + maxHistoryDays + " days");
+        }
+    }
+
+    private Statuses statuses(Long projectId) {
+        List<TaskStatus> entities = taskStatusRepository.findByProjectIdOrderByOrderIndexAsc(projectId);
+        long[] ids = new long[entities.size()];
+        StatusCategory[] categories = new StatusCategory[entities.size()];
+        for (int s = 0; s < entities.size(); s++) {
+            ids[s] = entities.get(s).getId();
+            categories[s] = entities.get(s).getCategory();
+        }
+        return new Statuses(entities, ids, categories);
+    }
+
+    private static int[] column(int[][] counts, int day) {
+        int[] column = new int[counts.length];
+        for (int s = 0; s < counts.length; s++) {
+            column[s] = counts[s].length > day ? counts[s][day] : 0;
+        }
+        return column;
+    }
+
+    private static int[][] widen(int[][] counts, int days) {
+        int[][] widened = new int[counts.length][];
+        for (int s = 0; s < counts.length; s++) {
+            widened[s] = Arrays.copyOf(counts[s], days);
+        }
+        return widened;
+    }
+
+    private record Statuses(List<TaskStatus> entities, long[] ids, StatusCategory[] categories) {
+
+        int size() {
+            return ids.length;
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.gradproject.taskmanager.modules.analytics.service;
+
+import com.gradproject.taskmanager.modules.analytics.dto.DurationPercentiles;
+import com.gradproject.taskmanager.modules.analytics.dto.FlowEventColumns;
+import com.gradproject.taskmanager.modules.analytics.dto.FlowTaskColumns;
+import com.gradproject.taskmanager.modules.project.domain.StatusCategory;
+
+import java.util.Arrays;
+
+
+final class FlowReplay {
+
+    static final long SECONDS_PER_DAY = 86_400;
+    static final long NOT_DONE = Long.MIN_VALUE;
+
+    private static final double SECONDS_PER_HOUR = 3_600.0;
+
+    private final long[] statusIds;
+    private final StatusCategory[] categories;
+    private final FlowTaskColumns tasks;
+    private final FlowEventColumns events;
+
+
+    private final int[] initialStatus;
+    private final int[] currentStatus;
+    private final int[] eventTask;
+    private final int[] eventFrom;
+    private final int[] eventTo;
+
+
+    private long[] startedAt;
+    private long[] doneAt;
+
+    FlowReplay(long[] statusIds, StatusCategory[] categories, FlowTaskColumns tasks, FlowEventColumns events) {
+        this.statusIds = statusIds;
+        this.categories = categories;
+        this.tasks = tasks;
+        this.events = events;
+
+        int taskCount = tasks.size();
+        this.currentStatus = new int[taskCount];
+        this.initialStatus = new int[taskCount];
+        for (int t = 0; t < taskCount; t++) {
+            currentStatus[t] = statusIndex(tasks.statusIds()[t]);
+            initialStatus[t] = currentStatus[t];
+        }
+
+        int eventCount = events.size();
+        this.eventTask = new int[eventCount];
+        this.eventFrom = new int[eventCount];
+        this.eventTo = new int[eventCount];
+        int previousTask = -1;
+        for (int e = 0; e < eventCount; e++) {
+            int task = Arrays.binarySearch(tasks.taskIds(), events.taskIds()[e]);
+            eventTask[e] = task >= 0 ? task : -1;
+            eventFrom[e] = statusIndex(events.fromStatusIds()[e]);
+            eventTo[e] = statusIndex(events.toStatusIds()[e]);
+            // Events arrive ordered by task, then time: a task starts in the status its first change left.
+            if (task >= 0 && task != previousTask) {
+                initialStatus[task] = eventFrom[e];
+            }
+            previousTask = task;
+        }
+    }
+
+
+    int[][] dailyCounts(long fromDay, long toDay, int[] opening, long sinceSecond) {
+        int days = (int) (toDay - fromDay + 1);
+        int[][] counts = new int[statusIds.length][Math.max(days, 0)];
+        if (days <= 0) {
+            return counts;
+        }
+
+        if (opening != null) {
+            for (int s = 0; s < statusIds.length; s++) {
+                counts[s][0] += opening[s];
+            }
+        }
+        for (int t = 0; t < tasks.size(); t++) {
+            long created = tasks.createdAt()[t];
+            if (created >= sinceSecond) {
+                add(counts, initialStatus[t], created, fromDay, days, 1);
+            }
+        }
+        for (int e = 0; e < events.size(); e++) {
+            long at = events.at()[e];
+            if (eventTask[e] < 0 || at < sinceSecond) {
+                continue;
+            }
+            add(counts, eventFrom[e], at, fromDay, days, -1);
+            add(counts, eventTo[e], at, fromDay, days, 1);
+        }
+
+        for (int[] series : counts) {
+            for (int d = 1; d < days; d++) {
+                series[d] += series[d - 1];
+            }
+        }
+        return counts;
+    }
+
+
+    long[] cycleTimes(long fromDay, long toDay, boolean fromStart) {
+        computeCompletions();
+        long[] durations = new long[tasks.size()];
+        int n = 0;
+        for (int t = 0; t < tasks.size(); t++) {
+            long done = doneAt[t];
+            if (done == NOT_DONE) {
+                continue;
+            }
+            long day = Math.floorDiv(done, SECONDS_PER_DAY);
+            if (day >= fromDay && day <= toDay) {
+                long start = fromStart ? startedAt[t] : tasks.createdAt()[t];
+                durations[n++] = Math.max(0, done - start);
+            }
+        }
+        long[] result = Arrays.copyOf(durations, n);
+        Arrays.sort(result);
+        return result;
+    }
+
+
+    long[][] sprintVelocity(long[] sprintIds, long[] sprintEndSeconds) {
+        computeCompletions();
+        long[][] totals = new long[sprintIds.length][3];
+        long[] sortedIds = sprintIds.clone();
+        Arrays.sort(sortedIds);
+        int[] positions = new int[sprintIds.length];
+        for (int i = 0; i < sprintIds.length; i++) {
+            positions[Arrays.binarySearch(sortedIds, sprintIds[i])] = i;
+        }
+
+        for (int t = 0; t < tasks.size(); t++) {
+            int found = Arrays.binarySearch(sortedIds, tasks.sprintIds()[t]);
+            if (tasks.sprintIds()[t] == 0 || found < 0) {
+                continue;
+            }
+            int sprint = positions[found];
+            int points = tasks.storyPoints()[t];
+            totals[sprint][0] += points;
+            if (doneAt[t] != NOT_DONE && doneAt[t] < sprintEndSeconds[sprint]) {
+                totals[sprint][1] += points;
+                totals[sprint][2]++;
+            }
+        }
+        return totals;
+    }
+
+    long firstCreatedDay() {
+        long first = Long.MAX_VALUE;
+        for (long created : tasks.createdAt()) {
+            first = Math.min(first, Math.floorDiv(created, SECONDS_PER_DAY));
+        }
+        return first;
+    }
+
+    static DurationPercentiles percentiles(long[] sortedSeconds) {
+        if (sortedSeconds.length == 0) {
+            return DurationPercentiles.EMPTY;
+        }
+        return new DurationPercentiles(
+            percentile(sortedSeconds, 0.50),
+            percentile(sortedSeconds, 0.85),
+            percentile(sortedSeconds, 0.95)
+        );
+    }
+
+
+    private static double percentile(long[] sortedSeconds, double p) {
+        int rank = (int) Math.ceil(p * sortedSeconds.length);
+        return sortedSeconds[Math.max(0, rank - 1)] / SECONDS_PER_HOUR;
+    }
+
+
+    private void computeCompletions() {
+        if (doneAt != null) {
+            return;
+        }
+        int taskCount = tasks.size();
+        long[] started = new long[taskCount];
+        long[] done = new long[taskCount];
+        int[] state = new int[taskCount];
+        for (int t = 0; t < taskCount; t++) {
+            long created = tasks.createdAt()[t];
+            state[t] = initialStatus[t];
+            started[t] = category(state[t]) != StatusCategory.TODO ? created : NOT_DONE;
+            done[t] = category(state[t]) == StatusCategory.DONE ? created : NOT_DONE;
+        }
+
+        for (int e = 0; e < events.size(); e++) {
+            int t = eventTask[e];
+            if (t < 0) {
+                continue;
+            }
+            long at = events.at()[e];
+            StatusCategory to = category(eventTo[e]);
+            if (started[t] == NOT_DONE && to != StatusCategory.TODO) {
+                started[t] = at;
+            }
+            if (to == StatusCategory.DONE) {
+                if (category(state[t]) != StatusCategory.DONE) {
+                    done[t] = at;
+                }
+            } else {
+                done[t] = NOT_DONE;
+            }
+            state[t] = eventTo[e];
+        }
+
+
+        for (int t = 0; t < taskCount; t++) {
+            if (category(currentStatus[t]) != StatusCategory.DONE) {
+                done[t] = NOT_DONE;
+            } else if (started[t] == NOT_DONE || started[t] > done[t]) {
+                started[t] = done[t];
+            }
+        }
+        this.startedAt = started;
+        this.doneAt = done;
+    }
+
+    private static void add(int[][] counts, int status, long atSecond, long fromDay, int days, int delta) {
+        if (status < 0) {
+            return;
+        }
+        long day = Math.floorDiv(atSecond, SECONDS_PER_DAY) - fromDay;
+        if (day >= days) {
+            return;
+        }
+        counts[status][(int) Math.max(0, day)] += delta;
+    }
+
+    private StatusCategory category(int status) {
+        return status >= 0 ? categories[status] : null;
+    }
+
+    private int statusIndex(long statusId) {
+        for (int s = 0; s < statusIds.length; s++) {
+            if (statusIds[s] == statusId) {
+                return s;
+            }
+        }
+        return -1;
+    }
+}
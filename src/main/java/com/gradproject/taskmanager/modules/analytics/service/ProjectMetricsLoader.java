@@ -0,0 +1,205 @@
+package com.gradproject.taskmanager.modules.analytics.service;
+
+import com.gradproject.taskmanager.modules.analytics.dto.ProjectRollupRow;
+import com.gradproject.taskmanager.modules.analytics.repository.AnalyticsRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+
+@Component
+@Slf4j
+public class ProjectMetricsLoader {
+
+    private final AnalyticsRepository analyticsRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int chunkSize;
+    private final long deadlineMillis;
+    private final long maxWaitMillis;
+    private final int maxStaleEntries;
+
+
+    private final Semaphore connections;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<Long, ProjectRollupRow> lastKnown;
+
+    public ProjectMetricsLoader(
+            AnalyticsRepository analyticsRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.analytics.org-metrics.chunk-size:50}") int chunkSize,
+            @Value("${app.analytics.org-metrics.max-concurrency:4}") int maxConcurrency,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+            @Value("${app.analytics.org-metrics.deadline:PT3S}") Duration deadline,
+            @Value("${app.analytics.org-metrics.max-wait:PT10S}") Duration maxWait,
+            @Value("${app.analytics.org-metrics.stale-max-entries:10000}") int maxStaleEntries) {
+        this.analyticsRepository = analyticsRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.deadlineMillis = deadline.toMillis();
+        this.maxWaitMillis = Math.max(deadlineMillis, maxWait.toMillis());
+        this.maxStaleEntries = maxStaleEntries;
+        // Leave connections for the rest of the application while a large organization fans out.
+        this.connections = new Semaphore(Math.max(1, Math.min(maxConcurrency, poolSize - 2)));
+        this.lastKnown = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, ProjectRollupRow> eldest) {
+                return size() > ProjectMetricsLoader.this.maxStaleEntries;
+            }
+        };
+    }
+
+
+    public List<ProjectRollupRow> load(Long organizationId, Collection<Long> projectIds, LocalDate today) {
+        List<Long> ids = projectIds.stream().sorted().toList();
+        if (ids.size() <= chunkSize) {
+            return remember(analyticsRepository.findProjectRollups(organizationId, ids, today));
+        }
+        // A caller transaction would pin a connection while its chunks queue for the others.
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException(
+                "Project metrics for large organizations must be loaded outside a transaction");
+        }
+
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            chunks.add(ids.subList(from, Math.min(ids.size(), from + chunkSize)));
+        }
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+        long cutoff = start + TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        AtomicBoolean abandoned = new AtomicBoolean();
+        List<CompletableFuture<List<ProjectRollupRow>>> futures = chunks.stream()
+            .map(chunk -> CompletableFuture.supplyAsync(
+                () -> loadChunk(organizationId, chunk, today, cutoff, abandoned), executor))
+            .toList();
+
+        List<ProjectRollupRow> rows = new ArrayList<>(ids.size());
+        try {
+            for (int i = 0; i < chunks.size(); i++) {
+                rows.addAll(await(futures.get(i), chunks.get(i), deadline, cutoff));
+            }
+        } catch (RuntimeException e) {
+            // Chunks still waiting for a connection skip their query; running queries finish and are remembered.
+            abandoned.set(true);
+            throw e;
+        }
+        rows.sort(Comparator.comparing(ProjectRollupRow::projectId));
+        return rows;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private List<ProjectRollupRow> loadChunk(Long organizationId, List<Long> chunk, LocalDate today, long cutoff,
+                                             AtomicBoolean abandoned) {
+        // Every chunk starts on its own virtual thread, so the wait for a permit must be bounded too
+        if (!acquire(cutoff)) {
+            throw new IllegalStateException("No connection for project metrics within " + maxWaitMillis + " ms");
+        }
+        try {
+            if (abandoned.get()) {
+                return List.of();
+            }
+            return remember(readOnlyTransaction.execute(
+                status -> analyticsRepository.findProjectRollups(organizationId, chunk, today)));
+        } finally {
+            connections.release();
+        }
+    }
+
+    private boolean acquire(long cutoff) {
+        try {
+            return connections.tryAcquire(Math.max(0, cutoff - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading project metrics", e);
+        }
+    }
+
+    private List<ProjectRollupRow> await(CompletableFuture<List<ProjectRollupRow>> future, List<Long> chunk,
+                                         long deadline, long cutoff) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            List<ProjectRollupRow> stale = stale(chunk);
+            if (stale != null) {
+                log.warn("Project metrics for {} projects exceeded the {} ms budget; serving last known values",
+                    chunk.size(), deadlineMillis);
+                return stale;
+            }
+
+            return join(future, chunk, cutoff);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading project metrics", e);
+        } catch (ExecutionException e) {
+            throw rethrow(e);
+        }
+    }
+
+    private List<ProjectRollupRow> stale(List<Long> chunk) {
+        List<ProjectRollupRow> rows = new ArrayList<>(chunk.size());
+        synchronized (lastKnown) {
+            for (Long projectId : chunk) {
+                ProjectRollupRow row = lastKnown.get(projectId);
+                if (row == null) {
+                    return null;
+                }
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    private List<ProjectRollupRow> remember(List<ProjectRollupRow> rows) {
+        synchronized (lastKnown) {
+            rows.forEach(row -> lastKnown.put(row.projectId(), row));
+        }
+        return rows;
+    }
+
+    private List<ProjectRollupRow> join(CompletableFuture<List<ProjectRollupRow>> future, List<Long> chunk,
+                                        long cutoff) {
+        try {
+            return future.get(Math.max(0, cutoff - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Project metrics for " + chunk.size()
+                + " projects did not load within " + maxWaitMillis + " ms", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading project metrics", e);
+        } catch (ExecutionException e) {
+            throw rethrow(e);
+        }
+    }
+
+    private static RuntimeException rethrow(ExecutionException e) {
+        return e.getCause() instanceof RuntimeException runtime
+            ? runtime
+            : new IllegalStateException("Failed to load project metrics", e.getCause());
+    }
+}
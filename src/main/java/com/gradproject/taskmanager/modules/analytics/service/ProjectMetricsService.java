@@ -0,0 +1,42 @@
+package com.gradproject.taskmanager.modules.analytics.service;
+
+import com.gradproject.taskmanager.modules.analytics.repository.ProjectMetricsRepository;
+import com.gradproject.taskmanager.modules.analytics.repository.ProjectMetricsRepository.ReconcileResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectMetricsService {
+
+    private final ProjectMetricsRepository projectMetricsRepository;
+
+    
+    @Transactional
+    public long compact() {
+        if (!projectMetricsRepository.tryLock()) {
+            log.debug("Project metrics compaction skipped; another instance holds the lock");
+            return 0;
+        }
+        return projectMetricsRepository.compact();
+    }
+
+    
+    @Transactional
+    public ReconcileResult reconcile() {
+        if (!projectMetricsRepository.tryLock()) {
+            log.info("Project metrics reconciliation skipped; another instance holds the lock");
+            return new ReconcileResult(0, 0, 0);
+        }
+        ReconcileResult result = projectMetricsRepository.reconcile();
+        if (result.driftedRows() > 0) {
+            log.warn("Project metrics drift repaired: {} rows across {} projects",
+                result.driftedRows(), result.driftedProjects());
+        }
+        return result;
+    }
+}
@@ -6,12 +6,15 @@ import com.gradproject.taskmanager.modules.auth.dto.ChangePasswordRequest;
 import com.gradproject.taskmanager.modules.auth.dto.UpdateUserProfileRequest;
 import com.gradproject.taskmanager.modules.auth.dto.UserProfileResponse;
 import com.gradproject.taskmanager.modules.auth.repository.UserRepository;
+import com.gradproject.taskmanager.modules.search.event.TaskIndexEvent;
+import com.gradproject.taskmanager.modules.task.repository.TaskRepository;
 import com.gradproject.taskmanager.shared.exception.BadRequestException;
 import com.gradproject.taskmanager.shared.exception.ResourceNotFoundException;
 import com.gradproject.taskmanager.shared.mapper.UserMapper;
 import com.gradproject.taskmanager.shared.util.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,6 +23,7 @@ import org.springframework.web.multipart.MultipartFile;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 @Service
@@ -31,6 +35,8 @@ public class UserServiceImpl implements UserService {
     private final UserMapper userMapper;
     private final S3Service s3Service;
     private final PasswordEncoder passwordEncoder;
+    private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final List<String> ALLOWED_AVATAR_TYPES = Arrays.asList(
             "image/jpeg", "image/jpg", "image/png", "image/gif", "image/webp"
@@ -55,10 +61,16 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", userId));
 
+        String firstName = user.getFirstName();
+        String lastName = user.getLastName();
         userMapper.updateEntityFromRequest(request, user);
         user.setUpdatedAt(LocalDateTime.now());
 
         user = userRepository.save(user);
+        if (!Objects.equals(firstName, user.getFirstName()) || !Objects.equals(lastName, user.getLastName())) {
+            taskRepository.findIdsByOrganizationForAssignee(userId).forEach((organizationId, taskIds) ->
+                eventPublisher.publishEvent(new TaskIndexEvent(this, organizationId, taskIds)));
+        }
 
         log.info("User {} updated their profile", user.getUsername());
         return userMapper.toProfileResponse(user);
@@ -0,0 +1,66 @@
+package com.gradproject.taskmanager.modules.notification.event;
+
+import com.gradproject.taskmanager.modules.auth.domain.User;
+import com.gradproject.taskmanager.modules.notification.domain.NotificationType;
+import com.gradproject.taskmanager.modules.task.domain.Task;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.List;
+
+@Getter
+public class TasksBulkUpdatedEvent extends ApplicationEvent {
+    
+    private static final int MAX_LISTED_KEYS = 5;
+
+    private final User recipient;
+    private final User actor;
+    private final NotificationType type;
+    private final List<Long> taskIds;
+    private final List<String> taskKeys;
+    private final Long projectId;  
+    private final String change;  
+
+    public TasksBulkUpdatedEvent(Object source, List<Task> tasks, User recipient, User actor,
+                                 NotificationType type, String change) {
+        super(source);
+        this.recipient = recipient;
+        this.actor = actor;
+        this.type = type;
+        this.taskIds = tasks.stream().map(Task::getId).toList();
+        this.taskKeys = tasks.stream().map(Task::getKey).toList();
+        List<Long> projectIds = tasks.stream().map(task -> task.getProject().getId()).distinct().toList();
+        this.projectId = projectIds.size() == 1 ? projectIds.get(0) : null;
+        this.change = change;
+    }
+
+    public String getMessage() {
+        String verb = switch (type) {
+            case TASK_ASSIGNED -> "assigned";
+            case TASK_UNASSIGNED -> "unassigned";
+            case STATUS_CHANGED -> "changed status of";
+            default -> "updated";
+        };
+        String count = taskKeys.size() == 1 ? "1 task" : taskKeys.size() + " tasks";
+        String keys = String.join(", ", taskKeys.subList(0, Math.min(taskKeys.size(), MAX_LISTED_KEYS)));
+        if (taskKeys.size() > MAX_LISTED_KEYS) {
+            keys += " and " + (taskKeys.size() - MAX_LISTED_KEYS) + " more";
+        }
+
+        return String.format("%s %s %s%s: %s",
+                actor.getUsername(),
+                verb,
+                count,
+                change == null || change.isEmpty() ? "" : " " + change,
+                keys);
+    }
+
+    public String getTitle() {
+        return switch (type) {
+            case TASK_ASSIGNED -> "Tasks Assigned";
+            case TASK_UNASSIGNED -> "Tasks Unassigned";
+            case STATUS_CHANGED -> "Status Changed";
+            default -> "Task Update";
+        };
+    }
+}
@@ -114,6 +114,44 @@ public class NotificationEventListener {
 
     
 
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleTasksBulkUpdated(TasksBulkUpdatedEvent event) {
+        // Re-fetch entities with eager loading to avoid LazyInitializationException
+        List<Long> taskIds = event.getTaskIds();
+        Integer actorId = event.getActor().getId();
+        Integer recipientId = event.getRecipient().getId();
+
+        Task anchor = taskRepo.findByIdWithAssociations(taskIds.get(0)).orElse(null);
+        User actor = userRepo.findById(actorId).orElse(null);
+        User recipient = userRepo.findById(recipientId).orElse(null);
+
+        if (anchor == null || actor == null || recipient == null) {
+            log.warn("Task {}, actor {}, or recipient {} not found", taskIds.get(0), actorId, recipientId);
+            return;
+        }
+
+        log.debug("Handling TasksBulkUpdatedEvent for {} tasks (recipient: {})", taskIds.size(), recipient.getUsername());
+
+        boolean singleTask = taskIds.size() == 1;
+        Notification notification = Notification.builder()
+                .organization(anchor.getOrganization())
+                .project(event.getProjectId() != null ? anchor.getProject() : null)
+                .task(singleTask ? anchor : null)
+                .user(recipient)
+                .type(event.getType())
+                .title(event.getTitle())
+                .message(event.getMessage())
+                .actor(actor)
+                .relatedEntityType("TASK")
+                .relatedEntityId(singleTask ? anchor.getId() : null)
+                .build();
+
+        sendWebSocketNotification(notificationRepo.save(notification));
+    }
+
+    
+
     @Async
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleTaskPriorityChanged(TaskPriorityChangedEvent event) {
@@ -293,9 +331,10 @@ public class NotificationEventListener {
     private void sendWebSocketNotification(Notification notification) {
         try {
             
+            Task task = notification.getTask();
             NotificationMessage message = new NotificationMessage(
-                    notification.getTask().getId(),
-                    notification.getTask().getKey(),
+                    task != null ? task.getId() : null,
+                    task != null ? task.getKey() : null,
                     notification.getMessage(),
                     notification.getType().name(),
                     notification.getCreatedAt().toString()
@@ -8,11 +8,14 @@ import com.gradproject.taskmanager.modules.organization.domain.OrganizationRole;
 import com.gradproject.taskmanager.modules.organization.dto.MemberResponse;
 import com.gradproject.taskmanager.modules.organization.repository.OrganizationMemberRepository;
 import com.gradproject.taskmanager.modules.organization.repository.OrganizationRepository;
+import com.gradproject.taskmanager.modules.search.event.SearchScopeChangedEvent;
 import com.gradproject.taskmanager.shared.exception.DuplicateResourceException;
 import com.gradproject.taskmanager.shared.exception.ResourceNotFoundException;
 import com.gradproject.taskmanager.shared.exception.UnauthorizedException;
 import com.gradproject.taskmanager.shared.mapper.OrganizationMapper;
+import com.gradproject.taskmanager.shared.security.PermissionCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +30,8 @@ public class OrganizationMemberServiceImpl implements OrganizationMemberService
     private final OrganizationMemberRepository memberRepository;
     private final UserRepository userRepository;
     private final OrganizationMapper mapper;
+    private final PermissionCache permissionCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -61,6 +66,8 @@ public class OrganizationMemberServiceImpl implements OrganizationMemberService
                 inviter
         );
         member = memberRepository.save(member);
+        permissionCache.evictUser(userToAdd.getId());
+        eventPublisher.publishEvent(new SearchScopeChangedEvent(this, organizationId));
 
         return mapper.toMemberResponse(member);
     }
@@ -92,6 +99,8 @@ public class OrganizationMemberServiceImpl implements OrganizationMemberService
         }
 
         memberRepository.delete(member);
+        permissionCache.evictUser(userId);
+        eventPublisher.publishEvent(new SearchScopeChangedEvent(this, organizationId));
     }
 
     @Override
@@ -123,6 +132,8 @@ public class OrganizationMemberServiceImpl implements OrganizationMemberService
         
         member.setRole(newRole);
         member = memberRepository.save(member);
+        permissionCache.evictUser(userId);
+        eventPublisher.publishEvent(new SearchScopeChangedEvent(this, organizationId));
 
         return mapper.toMemberResponse(member);
     }
@@ -3,6 +3,9 @@ package com.gradproject.taskmanager.modules.project.domain;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
@@ -16,6 +19,8 @@ import java.util.Map;
 @Setter
 @Entity
 @Table(name = "status_templates")
+@Immutable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "reference.status-template")
 public class StatusTemplate {
 
     @Id
@@ -3,6 +3,8 @@ package com.gradproject.taskmanager.modules.project.domain;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
@@ -11,6 +13,7 @@ import java.time.LocalDateTime;
 @Setter
 @Entity
 @Table(name = "task_statuses")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reference.task-status")
 public class TaskStatus {
 
     @Id
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,4 +36,13 @@ public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Lo
     
     @Query("SELECT COUNT(pm) > 0 FROM ProjectMember pm WHERE pm.user.id = :userId AND pm.project.id = :projectId")
     boolean existsByUserIdAndProjectId(@Param("userId") Integer userId, @Param("projectId") Long projectId);
+
+    
+    @Query("""
+        SELECT p.id, om.role, pm.role FROM Project p
+        JOIN OrganizationMember om ON om.organization = p.organization AND om.user.id = :userId
+        LEFT JOIN ProjectMember pm ON pm.project = p AND pm.user.id = :userId
+        WHERE p.id IN :projectIds
+    """)
+    List<Object[]> findMembershipRoles(@Param("userId") Integer userId, @Param("projectIds") Collection<Long> projectIds);
 }
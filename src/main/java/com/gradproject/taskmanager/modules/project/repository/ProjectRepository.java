@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +25,20 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     List<Project> findByOrganizationId(@Param("orgId") Long orgId);
 
     
+    @Query("SELECT p FROM Project p WHERE p.organization.id = :orgId AND p.id IN :projectIds ORDER BY p.createdAt DESC")
+    List<Project> findByOrganizationIdAndIdIn(@Param("orgId") Long orgId, @Param("projectIds") Collection<Long> projectIds);
+
+    
+    @Query("""
+        SELECT p.id FROM Project p
+        JOIN OrganizationMember om ON om.organization = p.organization AND om.user.id = :userId
+        LEFT JOIN ProjectMember pm ON pm.project = p AND pm.user.id = :userId
+        WHERE p.organization.id = :orgId
+        AND (pm.id IS NOT NULL OR om.role IN ('ORG_OWNER', 'ORG_ADMIN'))
+    """)
+    List<Long> findAccessibleProjectIds(@Param("userId") Integer userId, @Param("orgId") Long orgId);
+
+    
     @Query("SELECT p FROM Project p WHERE p.organization.id = :orgId AND LOWER(p.name) LIKE LOWER(CONCAT('%', :name, '%'))")
     List<Project> findByOrganizationIdAndNameContaining(@Param("orgId") Long orgId, @Param("name") String name);
 
@@ -38,12 +53,10 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
 
     
     @Query(value = """
-        SELECT p.*, ts_rank(to_tsvector('english', COALESCE(p.name, '') || ' ' || COALESCE(p.description, '')),
-                           plainto_tsquery('english', :query)) as rank
+        SELECT p.*, ts_rank(p.search_vector, websearch_to_tsquery('english', :query)) as rank
         FROM projects p
         WHERE p.organization_id = :orgId
-        AND to_tsvector('english', COALESCE(p.name, '') || ' ' || COALESCE(p.description, ''))
-            @@ plainto_tsquery('english', :query)
+        AND p.search_vector @@ websearch_to_tsquery('english', :query)
         ORDER BY rank DESC
         """, nativeQuery = true)
     List<Project> fullTextSearch(@Param("query") String query, @Param("orgId") Long organizationId);
@@ -1,18 +1,28 @@
 package com.gradproject.taskmanager.modules.project.repository;
 
 import com.gradproject.taskmanager.modules.project.domain.TaskStatus;
+import com.gradproject.taskmanager.shared.cache.ReferenceDataCache;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+
 
 public interface TaskStatusRepository extends JpaRepository<TaskStatus, Long> {
 
     
     @Query("SELECT ts FROM TaskStatus ts WHERE ts.project.id = :projectId ORDER BY ts.orderIndex ASC")
+    @QueryHints({
+        @QueryHint(name = HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HINT_CACHE_REGION, value = ReferenceDataCache.PROJECT_STATUSES_REGION)
+    })
     List<TaskStatus> findByProjectIdOrderByOrderIndexAsc(@Param("projectId") Long projectId);
 
     
@@ -9,14 +9,17 @@ import com.gradproject.taskmanager.modules.project.dto.AddProjectMemberRequest;
 import com.gradproject.taskmanager.modules.project.dto.ProjectMemberResponse;
 import com.gradproject.taskmanager.modules.project.repository.ProjectMemberRepository;
 import com.gradproject.taskmanager.modules.project.repository.ProjectRepository;
+import com.gradproject.taskmanager.modules.search.event.SearchScopeChangedEvent;
 import com.gradproject.taskmanager.shared.exception.BusinessRuleViolationException;
 import com.gradproject.taskmanager.shared.exception.DuplicateResourceException;
 import com.gradproject.taskmanager.shared.exception.ResourceNotFoundException;
 import com.gradproject.taskmanager.shared.exception.UnauthorizedException;
 import com.gradproject.taskmanager.shared.mapper.ProjectMapper;
+import com.gradproject.taskmanager.shared.security.PermissionCache;
 import com.gradproject.taskmanager.shared.security.PermissionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,7 +36,9 @@ public class ProjectMemberServiceImpl implements ProjectMemberService {
     private final ProjectMemberRepository projectMemberRepository;
     private final UserRepository userRepository;
     private final PermissionService permissionService;
+    private final PermissionCache permissionCache;
     private final ProjectMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -62,6 +67,8 @@ public class ProjectMemberServiceImpl implements ProjectMemberService {
         
         ProjectMember member = new ProjectMember(userToAdd, project, request.role(), adder);
         member = projectMemberRepository.save(member);
+        permissionCache.evictProjectMember(request.userId(), projectId);
+        eventPublisher.publishEvent(new SearchScopeChangedEvent(this, project.getOrganization().getId()));
 
         log.info("Successfully added user {} to project {}", request.userId(), projectId);
         return mapper.toMemberResponse(member);
@@ -95,6 +102,8 @@ public class ProjectMemberServiceImpl implements ProjectMemberService {
         }
 
         projectMemberRepository.delete(member);
+        permissionCache.evictProjectMember(userId, projectId);
+        eventPublisher.publishEvent(new SearchScopeChangedEvent(this, project.getOrganization().getId()));
         log.info("Successfully removed user {} from project {}", userId, projectId);
     }
 
@@ -127,6 +136,8 @@ public class ProjectMemberServiceImpl implements ProjectMemberService {
 
         member.setRole(newRole);
         member = projectMemberRepository.save(member);
+        permissionCache.evictProjectMember(userId, projectId);
+        eventPublisher.publishEvent(new SearchScopeChangedEvent(this, project.getOrganization().getId()));
 
         log.info("Successfully updated role for user {} in project {}", userId, projectId);
         return mapper.toMemberResponse(member);
@@ -13,6 +13,10 @@ import com.gradproject.taskmanager.modules.project.repository.ProjectMemberRepos
 import com.gradproject.taskmanager.modules.project.repository.ProjectRepository;
 import com.gradproject.taskmanager.modules.project.repository.StatusTemplateRepository;
 import com.gradproject.taskmanager.modules.project.repository.TaskStatusRepository;
+import com.gradproject.taskmanager.modules.search.event.SearchScopeChangedEvent;
+import com.gradproject.taskmanager.modules.search.event.TaskIndexEvent;
+import com.gradproject.taskmanager.modules.task.repository.TaskRepository;
+import com.gradproject.taskmanager.shared.cache.ReferenceDataCache;
 import com.gradproject.taskmanager.shared.exception.DuplicateResourceException;
 import com.gradproject.taskmanager.shared.exception.ResourceNotFoundException;
 import com.gradproject.taskmanager.shared.exception.UnauthorizedException;
@@ -20,6 +24,7 @@ import com.gradproject.taskmanager.shared.mapper.ProjectMapper;
 import com.gradproject.taskmanager.shared.security.PermissionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -42,6 +47,9 @@ public class ProjectServiceImpl implements ProjectService {
     private final PermissionService permissionService;
     private final ProjectMapper mapper;
     private final ObjectMapper objectMapper;
+    private final ReferenceDataCache referenceDataCache;
+    private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -82,6 +90,7 @@ public class ProjectServiceImpl implements ProjectService {
         ProjectMember ownerMembership = new ProjectMember(user, project, ProjectRole.PROJECT_OWNER, user);
         projectMemberRepository.save(ownerMembership);
         log.debug("Added user {} as PROJECT_OWNER of project {}", userId, project.getId());
+        eventPublisher.publishEvent(new SearchScopeChangedEvent(this, organizationId));
 
         return mapper.toResponse(project);
     }
@@ -162,9 +171,15 @@ public class ProjectServiceImpl implements ProjectService {
         }
 
         
+        boolean renamed = !project.getName().equals(request.name());
         project.setName(request.name());
         project.setDescription(request.description());
         project = projectRepository.save(project);
+        referenceDataCache.evictProject(projectId);
+        if (renamed) {
+            eventPublisher.publishEvent(new TaskIndexEvent(this, project.getOrganization().getId(),
+                taskRepository.findIdsByProjectId(projectId)));
+        }
 
         log.info("Project {} updated successfully", projectId);
         return mapper.toResponse(project);
@@ -186,7 +201,10 @@ public class ProjectServiceImpl implements ProjectService {
             throw new UnauthorizedException("Only project owners can delete projects");
         }
 
+        List<Long> projectTaskIds = taskRepository.findIdsByProjectId(projectId);
         projectRepository.delete(project);
+        referenceDataCache.evictProject(projectId);
+        eventPublisher.publishEvent(new TaskIndexEvent(this, project.getOrganization().getId(), projectTaskIds));
         log.info("Project {} deleted successfully", projectId);
     }
 
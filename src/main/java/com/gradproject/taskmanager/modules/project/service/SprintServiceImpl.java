@@ -12,11 +12,11 @@ import com.gradproject.taskmanager.modules.project.dto.SprintResponse;
 import com.gradproject.taskmanager.modules.project.repository.ProjectRepository;
 import com.gradproject.taskmanager.modules.project.repository.SprintRepository;
 import com.gradproject.taskmanager.modules.task.domain.Task;
+import com.gradproject.taskmanager.modules.task.dto.TaskSummaryRow;
 import com.gradproject.taskmanager.modules.task.repository.TaskRepository;
 import com.gradproject.taskmanager.shared.exception.ResourceNotFoundException;
 import com.gradproject.taskmanager.shared.exception.UnauthorizedException;
 import com.gradproject.taskmanager.shared.mapper.ProjectMapper;
-import com.gradproject.taskmanager.shared.mapper.TaskMapper;
 import com.gradproject.taskmanager.shared.security.PermissionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -40,7 +40,6 @@ public class SprintServiceImpl implements SprintService {
     private final TaskRepository taskRepository;
     private final PermissionService permissionService;
     private final ProjectMapper mapper;
-    private final TaskMapper taskMapper;
 
     @Override
     @Transactional
@@ -384,11 +383,8 @@ public class SprintServiceImpl implements SprintService {
         Project project = sprint.getProject();
 
         
-        List<Task> tasks = taskRepository.findBySprintId(sprintId);
-
-        
-        return tasks.stream()
-                .map(taskMapper::toResponse)
+        return taskRepository.findSummariesBySprintId(sprintId).stream()
+                .map(TaskSummaryRow::toSummary)
                 .collect(Collectors.toList());
     }
 }
@@ -12,6 +12,9 @@ import com.gradproject.taskmanager.modules.project.dto.TaskStatusResponse;
 import com.gradproject.taskmanager.modules.project.repository.ProjectRepository;
 import com.gradproject.taskmanager.modules.project.repository.StatusTemplateRepository;
 import com.gradproject.taskmanager.modules.project.repository.TaskStatusRepository;
+import com.gradproject.taskmanager.modules.search.event.TaskIndexEvent;
+import com.gradproject.taskmanager.modules.task.repository.TaskRepository;
+import com.gradproject.taskmanager.shared.cache.ReferenceDataCache;
 import com.gradproject.taskmanager.shared.exception.DuplicateResourceException;
 import com.gradproject.taskmanager.shared.exception.ResourceNotFoundException;
 import com.gradproject.taskmanager.shared.exception.UnauthorizedException;
@@ -19,6 +22,7 @@ import com.gradproject.taskmanager.shared.mapper.ProjectMapper;
 import com.gradproject.taskmanager.shared.security.PermissionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -39,6 +43,9 @@ public class TaskStatusServiceImpl implements TaskStatusService {
     private final UserRepository userRepository;
     private final PermissionService permissionService;
     private final ProjectMapper mapper;
+    private final ReferenceDataCache referenceDataCache;
+    private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -68,6 +75,7 @@ public class TaskStatusServiceImpl implements TaskStatusService {
         
         TaskStatus status = new TaskStatus(project, request.name(), request.color(), orderIndex, request.category(), false);
         status = taskStatusRepository.save(status);
+        referenceDataCache.evictTaskStatuses(List.of(status.getId()));
 
         log.info("Successfully created status '{}' with order {}", request.name(), orderIndex);
         return mapper.toStatusResponse(status);
@@ -96,10 +104,16 @@ public class TaskStatusServiceImpl implements TaskStatusService {
         }
 
         
+        boolean renamed = !status.getName().equals(request.name());
         status.setName(request.name());
         status.setColor(request.color());
         status.setCategory(request.category());
         status = taskStatusRepository.save(status);
+        referenceDataCache.evictTaskStatuses(List.of(status.getId()));
+        if (renamed) {
+            eventPublisher.publishEvent(new TaskIndexEvent(this, status.getProject().getOrganization().getId(),
+                taskRepository.findIdsByStatusId(statusId)));
+        }
 
         log.info("Successfully updated status {}", statusId);
         return mapper.toStatusResponse(status);
@@ -125,6 +139,7 @@ public class TaskStatusServiceImpl implements TaskStatusService {
         
 
         taskStatusRepository.delete(status);
+        referenceDataCache.evictTaskStatuses(List.of(statusId));
         log.info("Successfully deleted status {}", statusId);
     }
 
@@ -159,6 +174,7 @@ public class TaskStatusServiceImpl implements TaskStatusService {
             status.setOrderIndex(i);
             taskStatusRepository.save(status);
         }
+        referenceDataCache.evictTaskStatuses(statusIds);
 
         log.info("Successfully reordered statuses for project {}", projectId);
 
@@ -239,6 +255,7 @@ public class TaskStatusServiceImpl implements TaskStatusService {
             );
             newStatuses.add(taskStatusRepository.save(status));
         }
+        referenceDataCache.evictTaskStatuses(existingStatuses.stream().map(TaskStatus::getId).toList());
 
         log.info("Successfully applied template '{}' with {} statuses to project {}",
                 templateId, newStatuses.size(), projectId);
@@ -1,10 +1,14 @@
 package com.gradproject.taskmanager.modules.search.controller;
 
+import com.gradproject.taskmanager.modules.search.dto.SavedSearchCacheStatusResponse;
 import com.gradproject.taskmanager.modules.search.dto.SavedSearchRequest;
 import com.gradproject.taskmanager.modules.search.dto.SavedSearchResponse;
 import com.gradproject.taskmanager.modules.search.dto.SearchRequest;
 import com.gradproject.taskmanager.modules.search.dto.SearchResultResponse;
+import com.gradproject.taskmanager.modules.search.dto.TaskIndexStatusResponse;
+import com.gradproject.taskmanager.modules.search.dto.TaskSuggestionResponse;
 import com.gradproject.taskmanager.modules.search.service.SearchService;
+import com.gradproject.taskmanager.modules.search.service.TaskSuggestService;
 import com.gradproject.taskmanager.shared.dto.ApiResponse;
 import com.gradproject.taskmanager.shared.util.SecurityUtils;
 import jakarta.validation.Valid;
@@ -25,6 +29,7 @@ import java.util.List;
 public class SearchController {
 
     private final SearchService searchService;
+    private final TaskSuggestService taskSuggestService;
 
     
     @GetMapping("/organizations/{organizationId}/search")
@@ -51,6 +56,52 @@ public class SearchController {
     }
 
     
+    @GetMapping("/organizations/{organizationId}/search/typeahead")
+    public ResponseEntity<ApiResponse<List<SearchResultResponse>>> typeahead(
+            @PathVariable Long organizationId,
+            @RequestParam String query,
+            @RequestParam(required = false, defaultValue = "10") int limit) {
+        Integer userId = SecurityUtils.getCurrentUserId();
+        List<SearchResultResponse> results = searchService.typeahead(query, userId, organizationId, limit);
+        return ResponseEntity.ok(ApiResponse.success(results));
+    }
+
+    
+    @GetMapping("/organizations/{organizationId}/search/suggest")
+    public ResponseEntity<ApiResponse<List<TaskSuggestionResponse>>> suggest(
+            @PathVariable Long organizationId,
+            @RequestParam String prefix,
+            @RequestParam(required = false, defaultValue = "10") int limit) {
+        Integer userId = SecurityUtils.getCurrentUserId();
+        List<TaskSuggestionResponse> suggestions = taskSuggestService.suggest(prefix, userId, organizationId, limit);
+        return ResponseEntity.ok(ApiResponse.success(suggestions));
+    }
+
+    
+    @PostMapping("/organizations/{organizationId}/search/index/rebuild")
+    public ResponseEntity<ApiResponse<TaskIndexStatusResponse>> rebuildSearchIndex(@PathVariable Long organizationId) {
+        Integer userId = SecurityUtils.getCurrentUserId();
+        TaskIndexStatusResponse status = searchService.rebuildIndex(userId, organizationId);
+        return ResponseEntity.ok(ApiResponse.success(status));
+    }
+
+    
+    @GetMapping("/organizations/{organizationId}/search/index/check")
+    public ResponseEntity<ApiResponse<TaskIndexStatusResponse>> checkSearchIndex(@PathVariable Long organizationId) {
+        Integer userId = SecurityUtils.getCurrentUserId();
+        TaskIndexStatusResponse status = searchService.checkIndex(userId, organizationId, false);
+        return ResponseEntity.ok(ApiResponse.success(status));
+    }
+
+    
+    @PostMapping("/organizations/{organizationId}/search/index/repair")
+    public ResponseEntity<ApiResponse<TaskIndexStatusResponse>> repairSearchIndex(@PathVariable Long organizationId) {
+        Integer userId = SecurityUtils.getCurrentUserId();
+        TaskIndexStatusResponse status = searchService.checkIndex(userId, organizationId, true);
+        return ResponseEntity.ok(ApiResponse.success(status));
+    }
+
+    
     @PostMapping("/organizations/{organizationId}/search")
     public ResponseEntity<ApiResponse<Page<SearchResultResponse>>> advancedSearch(
             @PathVariable Long organizationId,
@@ -120,4 +171,22 @@ public class SearchController {
         Page<SearchResultResponse> results = searchService.executeSavedSearch(id, userId, organizationId, pageable);
         return ResponseEntity.ok(ApiResponse.success(results));
     }
+
+    
+    @GetMapping("/organizations/{organizationId}/saved-searches/cache")
+    public ResponseEntity<ApiResponse<SavedSearchCacheStatusResponse>> getSavedSearchCacheStatus(
+            @PathVariable Long organizationId) {
+        Integer userId = SecurityUtils.getCurrentUserId();
+        SavedSearchCacheStatusResponse status = searchService.getSavedSearchCacheStatus(userId, organizationId);
+        return ResponseEntity.ok(ApiResponse.success(status));
+    }
+
+    
+    @DeleteMapping("/organizations/{organizationId}/saved-searches/cache")
+    public ResponseEntity<ApiResponse<SavedSearchCacheStatusResponse>> flushSavedSearchCache(
+            @PathVariable Long organizationId) {
+        Integer userId = SecurityUtils.getCurrentUserId();
+        SavedSearchCacheStatusResponse status = searchService.flushSavedSearchCache(userId, organizationId);
+        return ResponseEntity.ok(ApiResponse.success(status));
+    }
 }
@@ -0,0 +1,16 @@
+package com.gradproject.taskmanager.modules.search.dto;
+
+public record SavedSearchCacheStatusResponse(
+    boolean enabled,
+    Long organizationId,
+    long organizationGeneration,
+    int organizationEntries,
+    int totalEntries,
+    int maxEntries,
+    long ttlSeconds,
+    long hits,
+    long misses,
+    double hitRatio,
+    long staleDrops,
+    long evictions
+) {}
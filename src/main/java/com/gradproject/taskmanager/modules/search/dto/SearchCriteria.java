@@ -0,0 +1,62 @@
+package com.gradproject.taskmanager.modules.search.dto;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+public record SearchCriteria(
+    String query,
+    Long organizationId,
+    Collection<Long> projectIds,
+    boolean includeTasks,
+    boolean includeProjects,
+    boolean includeComments,
+    SearchFilters filters,
+    SearchSort sort
+) {
+
+    public SearchCriteria(String query, Long organizationId, Collection<Long> projectIds,
+                          boolean includeTasks, boolean includeProjects, boolean includeComments) {
+        this(query, organizationId, projectIds, includeTasks, includeProjects, includeComments,
+            SearchFilters.NONE, SearchSort.RELEVANCE);
+    }
+
+    
+    public static SearchCriteria of(SearchRequest request, Long organizationId, Collection<Long> projectIds) {
+        String entityType = request.entityType();
+        boolean global = "GLOBAL".equalsIgnoreCase(entityType);
+        SearchFilters filters = SearchFilters.of(request);
+        return new SearchCriteria(
+            request.query(),
+            organizationId,
+            narrowProjectIds(projectIds, request.projectIds()),
+            global || "TASK".equalsIgnoreCase(entityType),
+            !filters.hasTaskFilters() && (global || "PROJECT".equalsIgnoreCase(entityType)),
+            global || "COMMENT".equalsIgnoreCase(entityType),
+            filters,
+            SearchSort.of(request.sortBy(), request.sortDirection())
+        );
+    }
+
+    
+    private static Collection<Long> narrowProjectIds(Collection<Long> accessibleProjectIds, List<String> requested) {
+        if (requested == null) {
+            return accessibleProjectIds;
+        }
+        List<Long> requestedIds = requested.stream()
+            .filter(value -> value != null && SearchFilters.isNumeric(value))
+            .map(Long::valueOf)
+            .toList();
+        if (requestedIds.isEmpty()) {
+            return accessibleProjectIds;
+        }
+        Set<Long> narrowed = new LinkedHashSet<>(requestedIds);
+        narrowed.retainAll(accessibleProjectIds);
+        return narrowed;
+    }
+
+    public boolean isEmpty() {
+        return projectIds.isEmpty() || (!includeTasks && !includeProjects && !includeComments);
+    }
+}
@@ -0,0 +1,68 @@
+package com.gradproject.taskmanager.modules.search.dto;
+
+import com.gradproject.taskmanager.modules.task.domain.TaskPriority;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+public record SearchFilters(
+    List<String> projectKeys,
+    List<Integer> assigneeIds,
+    List<String> statuses,
+    List<Long> labelIds,
+    LocalDate dueDateFrom,
+    LocalDate dueDateTo,
+    List<String> priorities
+) {
+
+    public static final SearchFilters NONE = new SearchFilters(List.of(), List.of(), List.of(), List.of(), null, null, List.of());
+
+    public SearchFilters {
+        projectKeys = projectKeys != null ? List.copyOf(projectKeys) : List.of();
+        assigneeIds = assigneeIds != null ? List.copyOf(assigneeIds) : List.of();
+        statuses = statuses != null ? List.copyOf(statuses) : List.of();
+        labelIds = labelIds != null ? List.copyOf(labelIds) : List.of();
+        priorities = priorities != null ? List.copyOf(priorities) : List.of();
+    }
+
+
+    public static SearchFilters of(SearchRequest request) {
+        List<String> projectKeys = request.projectIds() == null ? List.of() : request.projectIds().stream()
+            .filter(value -> value != null && !isNumeric(value))
+            .toList();
+
+        return new SearchFilters(
+            projectKeys,
+            request.assigneeIds(),
+            request.statuses(),
+            request.labelIds(),
+            request.dueDateFrom(),
+            request.dueDateTo(),
+            priorities(request.priorityMin(), request.priorityMax())
+        );
+    }
+
+
+    public boolean hasTaskFilters() {
+        return !assigneeIds.isEmpty() || !statuses.isEmpty() || !labelIds.isEmpty()
+            || dueDateFrom != null || dueDateTo != null || !priorities.isEmpty();
+    }
+
+
+    private static List<String> priorities(Integer min, Integer max) {
+        if (min == null && max == null) {
+            return List.of();
+        }
+        int low = min != null ? min : 1;
+        int high = max != null ? max : TaskPriority.values().length;
+        return Arrays.stream(TaskPriority.values())
+            .filter(priority -> priority.ordinal() + 1 >= low && priority.ordinal() + 1 <= high)
+            .map(TaskPriority::name)
+            .toList();
+    }
+
+    static boolean isNumeric(String value) {
+        return !value.isBlank() && value.chars().allMatch(Character::isDigit);
+    }
+}
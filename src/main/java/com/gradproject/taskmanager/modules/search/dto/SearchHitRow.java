@@ -0,0 +1,30 @@
+package com.gradproject.taskmanager.modules.search.dto;
+
+import java.util.List;
+
+public record SearchHitRow(
+    String entityType,
+    Long entityId,
+    String title,
+    String description,
+    String status,
+    Float rank,
+    String projectName,
+    Long projectId,
+    String assigneeName,
+    Integer assigneeId
+) {
+    
+    public SearchResultResponse toResponse() {
+        List<String> fields = switch (entityType) {
+            case "PROJECT" -> List.of("name", "description");
+            case "COMMENT" -> List.of("content");
+            default -> List.of("title", "description");
+        };
+
+        return new SearchResultResponse(
+            entityType, entityId, title, description, status, rank, fields,
+            projectName, projectId, assigneeName, assigneeId
+        );
+    }
+}
@@ -0,0 +1,23 @@
+package com.gradproject.taskmanager.modules.search.dto;
+
+public record SearchSort(String column, boolean ascending) {
+
+    public static final SearchSort RELEVANCE = new SearchSort("rank", false);
+
+    
+    public static SearchSort of(String sortBy, String sortDirection) {
+        String column = switch (sortBy == null ? "relevance" : sortBy) {
+            case "createdAt", "created" -> "created_at";
+            case "updatedAt", "updated" -> "updated_at";
+            case "dueDate" -> "due_date";
+            case "priority" -> "priority_order";
+            case "title" -> "title";
+            default -> "rank";
+        };
+        return new SearchSort(column, "ASC".equalsIgnoreCase(sortDirection));
+    }
+
+    public String orderBy() {
+        return column + (ascending ? " ASC" : " DESC") + " NULLS LAST";
+    }
+}
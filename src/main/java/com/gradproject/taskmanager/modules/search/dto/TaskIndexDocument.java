@@ -0,0 +1,20 @@
+package com.gradproject.taskmanager.modules.search.dto;
+
+import java.util.List;
+
+public record TaskIndexDocument(
+    Long taskId,
+    Long organizationId,
+    Long projectId,
+    String projectName,
+    String key,
+    String title,
+    String description,
+    String status,
+    Integer assigneeId,
+    String assigneeName,
+    List<String> labels,
+    String comments,
+    long fingerprint
+) {
+}
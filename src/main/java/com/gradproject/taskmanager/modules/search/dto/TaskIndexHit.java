@@ -0,0 +1,22 @@
+package com.gradproject.taskmanager.modules.search.dto;
+
+import java.util.List;
+
+public record TaskIndexHit(
+    Long taskId,
+    String title,
+    String status,
+    float score,
+    Long projectId,
+    String projectName,
+    Integer assigneeId,
+    String assigneeName
+) {
+
+    public SearchResultResponse toResponse() {
+        return new SearchResultResponse(
+            "TASK", taskId, title, null, status, score, List.of("key", "title", "labels", "status", "assignee"),
+            projectName, projectId, assigneeName, assigneeId
+        );
+    }
+}
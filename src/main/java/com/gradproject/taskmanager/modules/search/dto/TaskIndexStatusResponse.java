@@ -0,0 +1,19 @@
+package com.gradproject.taskmanager.modules.search.dto;
+
+import java.util.List;
+
+public record TaskIndexStatusResponse(
+    Long organizationId,
+    long databaseCount,
+    long indexCount,
+    long missingCount,
+    long staleCount,
+    long orphanedCount,
+    List<Long> sampleTaskIds,
+    boolean repaired
+) {
+
+    public boolean isConsistent() {
+        return missingCount == 0 && staleCount == 0 && orphanedCount == 0;
+    }
+}
@@ -0,0 +1,14 @@
+package com.gradproject.taskmanager.modules.search.dto;
+
+public record TaskSuggestEntry(
+    Long taskId,
+    Long organizationId,
+    Long projectId,
+    String key,
+    String title
+) {
+
+    public TaskSuggestionResponse toResponse() {
+        return new TaskSuggestionResponse(taskId, key, title, projectId);
+    }
+}
@@ -0,0 +1,8 @@
+package com.gradproject.taskmanager.modules.search.dto;
+
+public record TaskSuggestionResponse(
+    Long taskId,
+    String key,
+    String title,
+    Long projectId
+) {}
@@ -0,0 +1,16 @@
+package com.gradproject.taskmanager.modules.search.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+
+@Getter
+public class SearchScopeChangedEvent extends ApplicationEvent {
+
+    private final Long organizationId;
+
+    public SearchScopeChangedEvent(Object source, Long organizationId) {
+        super(source);
+        this.organizationId = organizationId;
+    }
+}
@@ -0,0 +1,25 @@
+package com.gradproject.taskmanager.modules.search.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.Collection;
+import java.util.List;
+
+
+@Getter
+public class TaskIndexEvent extends ApplicationEvent {
+
+    private final Long organizationId;
+    private final List<Long> taskIds;
+
+    public TaskIndexEvent(Object source, Long organizationId, Collection<Long> taskIds) {
+        super(source);
+        this.organizationId = organizationId;
+        this.taskIds = List.copyOf(taskIds);
+    }
+
+    public TaskIndexEvent(Object source, Long organizationId, Long taskId) {
+        this(source, organizationId, List.of(taskId));
+    }
+}
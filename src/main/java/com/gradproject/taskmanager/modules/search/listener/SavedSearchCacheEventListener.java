@@ -0,0 +1,29 @@
+package com.gradproject.taskmanager.modules.search.listener;
+
+import com.gradproject.taskmanager.modules.search.event.SearchScopeChangedEvent;
+import com.gradproject.taskmanager.modules.search.event.TaskIndexEvent;
+import com.gradproject.taskmanager.modules.search.service.SavedSearchResultCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+
+@Component
+@RequiredArgsConstructor
+public class SavedSearchCacheEventListener {
+
+    private final SavedSearchResultCache savedSearchResultCache;
+
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleTaskIndexEvent(TaskIndexEvent event) {
+        savedSearchResultCache.tasksChanged(event.getOrganizationId());
+    }
+
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleSearchScopeChanged(SearchScopeChangedEvent event) {
+        savedSearchResultCache.tasksChanged(event.getOrganizationId());
+    }
+}
@@ -0,0 +1,46 @@
+package com.gradproject.taskmanager.modules.search.listener;
+
+import com.gradproject.taskmanager.infrastructure.config.properties.SearchIndexProperties;
+import com.gradproject.taskmanager.modules.search.event.TaskIndexEvent;
+import com.gradproject.taskmanager.modules.search.service.TaskIndexService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "search.index", name = "enabled", havingValue = "true")
+public class TaskIndexEventListener {
+
+    private final TaskIndexService taskIndexService;
+    private final SearchIndexProperties properties;
+
+    
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleTaskIndexEvent(TaskIndexEvent event) {
+        try {
+            taskIndexService.reindex(event.getTaskIds());
+        } catch (Exception e) {
+            log.error("Failed to update search index for tasks {}", event.getTaskIds(), e);
+        }
+    }
+
+    
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (properties.rebuildOnStartup() || taskIndexService.isEmpty()) {
+            log.info("Rebuilding task search index on startup");
+            taskIndexService.rebuild(null);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.gradproject.taskmanager.modules.search.listener;
+
+import com.gradproject.taskmanager.modules.search.event.TaskIndexEvent;
+import com.gradproject.taskmanager.modules.search.service.TaskSuggestService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskSuggestEventListener {
+
+    private final TaskSuggestService taskSuggestService;
+
+    
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleTaskIndexEvent(TaskIndexEvent event) {
+        try {
+            taskSuggestService.refresh(event.getTaskIds());
+        } catch (Exception e) {
+            log.error("Failed to refresh suggest index for tasks {}, evicting cached organizations", event.getTaskIds(), e);
+            taskSuggestService.evictAll();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.gradproject.taskmanager.modules.search.repository;
+
+import com.gradproject.taskmanager.modules.search.dto.SearchCriteria;
+import com.gradproject.taskmanager.modules.search.dto.SearchFilters;
+import com.gradproject.taskmanager.modules.search.dto.SearchHitRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class SearchRepository {
+    
+    private static final String TS_QUERY = "websearch_to_tsquery('english', :query)";
+    private static final String PRIORITY_ORDER =
+        "array_position(ARRAY['LOWEST', 'LOW', 'MEDIUM', 'HIGH', 'HIGHEST']::varchar[], t.priority)";
+
+    private static final String TASK_FROM = """
+        FROM tasks t
+        JOIN projects p ON p.id = t.project_id
+        JOIN task_statuses s ON s.id = t.status_id
+        LEFT JOIN users u ON u.id = t.assignee_id
+        """;
+    private static final String PROJECT_FROM = """
+        FROM projects p
+        """;
+    private static final String COMMENT_FROM = """
+        FROM comments c
+        JOIN tasks t ON t.id = c.task_id
+        JOIN projects p ON p.id = t.project_id
+        JOIN task_statuses s ON s.id = t.status_id
+        """;
+
+    private final EntityManager entityManager;
+
+    
+    public List<SearchHitRow> findHits(SearchCriteria criteria, long offset, int limit) {
+        List<String> selects = new ArrayList<>();
+        if (criteria.includeTasks()) {
+            selects.add("""
+                SELECT 'TASK' AS entity_type, t.id AS entity_id, t.title AS title, t.description AS description,
+                       s.name AS status, ts_rank(t.search_vector, %s) AS rank,
+                       p.name AS project_name, p.id AS project_id, u.username AS assignee_name, u.id AS assignee_id,
+                       t.created_at AS created_at, t.updated_at AS updated_at, t.due_date AS due_date,
+                       %s AS priority_order
+                """.formatted(TS_QUERY, PRIORITY_ORDER) + TASK_FROM + taskConditions(criteria, "t.search_vector"));
+        }
+        if (criteria.includeProjects()) {
+            selects.add("""
+                SELECT 'PROJECT' AS entity_type, p.id AS entity_id, p.name AS title, p.description AS description,
+                       NULL AS status, ts_rank(p.search_vector, %s) AS rank,
+                       NULL AS project_name, NULL AS project_id, NULL AS assignee_name, NULL AS assignee_id,
+                       p.created_at AS created_at, p.updated_at AS updated_at, NULL AS due_date,
+                       NULL AS priority_order
+                """.formatted(TS_QUERY) + PROJECT_FROM + projectConditions(criteria));
+        }
+        if (criteria.includeComments()) {
+            selects.add("""
+                SELECT 'COMMENT' AS entity_type, c.id AS entity_id, t.title AS title, c.content AS description,
+                       s.name AS status, ts_rank(c.search_vector, %s) AS rank,
+                       p.name AS project_name, p.id AS project_id, NULL AS assignee_name, NULL AS assignee_id,
+                       c.created_at AS created_at, c.updated_at AS updated_at, t.due_date AS due_date,
+                       %s AS priority_order
+                """.formatted(TS_QUERY, PRIORITY_ORDER) + COMMENT_FROM + taskConditions(criteria, "c.search_vector"));
+        }
+
+        String sql = "SELECT * FROM (" + String.join(" UNION ALL ", selects) + ") hits "
+            + "ORDER BY " + criteria.sort().orderBy() + ", rank DESC, entity_type DESC, entity_id DESC "
+            + "LIMIT :limit OFFSET :offset";
+
+        Query query = bind(entityManager.createNativeQuery(sql, Tuple.class), criteria)
+            .setParameter("limit", limit)
+            .setParameter("offset", offset);
+
+        @SuppressWarnings("unchecked")
+        List<Tuple> rows = query.getResultList();
+        return rows.stream().map(SearchRepository::toHit).toList();
+    }
+
+    
+    public long countHits(SearchCriteria criteria) {
+        List<String> counts = new ArrayList<>();
+        if (criteria.includeTasks()) {
+            counts.add("(SELECT COUNT(*) " + TASK_FROM + taskConditions(criteria, "t.search_vector") + ")");
+        }
+        if (criteria.includeProjects()) {
+            counts.add("(SELECT COUNT(*) " + PROJECT_FROM + projectConditions(criteria) + ")");
+        }
+        if (criteria.includeComments()) {
+            counts.add("(SELECT COUNT(*) " + COMMENT_FROM + taskConditions(criteria, "c.search_vector") + ")");
+        }
+
+        Query query = bind(entityManager.createNativeQuery("SELECT " + String.join(" + ", counts)), criteria);
+        return ((Number) query.getSingleResult()).longValue();
+    }
+
+    
+    private static String taskConditions(SearchCriteria criteria, String searchVector) {
+        SearchFilters filters = criteria.filters();
+        List<String> conditions = new ArrayList<>(List.of(
+            "t.organization_id = :orgId",
+            "t.project_id IN (:projectIds)",
+            searchVector + " @@ " + TS_QUERY
+        ));
+        if (!filters.projectKeys().isEmpty()) {
+            conditions.add("p.\"key\" IN (:projectKeys)");
+        }
+        if (!filters.assigneeIds().isEmpty()) {
+            conditions.add("t.assignee_id IN (:assigneeIds)");
+        }
+        if (!filters.statuses().isEmpty()) {
+            conditions.add("(s.name IN (:statuses) OR s.category IN (:statuses))");
+        }
+        if (!filters.labelIds().isEmpty()) {
+            conditions.add("EXISTS (SELECT 1 FROM task_labels tl WHERE tl.task_id = t.id AND tl.label_id IN (:labelIds))");
+        }
+        if (filters.dueDateFrom() != null) {
+            conditions.add("t.due_date >= :dueDateFrom");
+        }
+        if (filters.dueDateTo() != null) {
+            conditions.add("t.due_date <= :dueDateTo");
+        }
+        if (!filters.priorities().isEmpty()) {
+            conditions.add("t.priority IN (:priorities)");
+        }
+        return "WHERE " + String.join(" AND ", conditions) + "\n";
+    }
+
+    private static String projectConditions(SearchCriteria criteria) {
+        String conditions = "WHERE p.organization_id = :orgId AND p.id IN (:projectIds) AND p.search_vector @@ " + TS_QUERY;
+        if (!criteria.filters().projectKeys().isEmpty()) {
+            conditions += " AND p.\"key\" IN (:projectKeys)";
+        }
+        return conditions + "\n";
+    }
+
+    private static Query bind(Query query, SearchCriteria criteria) {
+        SearchFilters filters = criteria.filters();
+        query
+            .setParameter("query", criteria.query())
+            .setParameter("orgId", criteria.organizationId())
+            .setParameter("projectIds", criteria.projectIds());
+        if (!filters.projectKeys().isEmpty()) {
+            query.setParameter("projectKeys", filters.projectKeys());
+        }
+        if (criteria.includeTasks() || criteria.includeComments()) {
+            if (!filters.assigneeIds().isEmpty()) {
+                query.setParameter("assigneeIds", filters.assigneeIds());
+            }
+            if (!filters.statuses().isEmpty()) {
+                query.setParameter("statuses", filters.statuses());
+            }
+            if (!filters.labelIds().isEmpty()) {
+                query.setParameter("labelIds", filters.labelIds());
+            }
+            if (filters.dueDateFrom() != null) {
+                query.setParameter("dueDateFrom", filters.dueDateFrom());
+            }
+            if (filters.dueDateTo() != null) {
+                query.setParameter("dueDateTo", filters.dueDateTo());
+            }
+            if (!filters.priorities().isEmpty()) {
+                query.setParameter("priorities", filters.priorities());
+            }
+        }
+        return query;
+    }
+
+    private static SearchHitRow toHit(Tuple row) {
+        return new SearchHitRow(
+            row.get("entity_type", String.class),
+            toLong(row.get("entity_id")),
+            row.get("title", String.class),
+            row.get("description", String.class),
+            row.get("status", String.class),
+            row.get("rank") != null ? ((Number) row.get("rank")).floatValue() : null,
+            row.get("project_name", String.class),
+            toLong(row.get("project_id")),
+            row.get("assignee_name", String.class),
+            row.get("assignee_id") != null ? ((Number) row.get("assignee_id")).intValue() : null
+        );
+    }
+
+    private static Long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : null;
+    }
+}
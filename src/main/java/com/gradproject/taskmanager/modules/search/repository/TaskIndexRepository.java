@@ -0,0 +1,131 @@
+package com.gradproject.taskmanager.modules.search.repository;
+
+import com.gradproject.taskmanager.modules.search.dto.TaskIndexDocument;
+import com.gradproject.taskmanager.modules.search.dto.TaskSuggestEntry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class TaskIndexRepository {
+
+    private static final String DOCUMENT_SELECT = """
+        SELECT t.id AS task_id, t.organization_id AS organization_id, p.id AS project_id, p.name AS project_name,
+               t."key" AS task_key, t.title AS title, t.description AS description, s.name AS status,
+               u.id AS assignee_id,
+               NULLIF(TRIM(CONCAT_WS(' ', u.username, u.first_name, u.last_name)), '') AS assignee_name,
+               lb.labels AS labels, cm.comments AS comments,
+               hashtextextended(CONCAT_WS(chr(31), p.id, p.name, t."key", t.title, t.description, s.name,
+                   u.id, u.username, u.first_name, u.last_name, lb.labels, cm.comments), 0) AS fingerprint
+        FROM tasks t
+        JOIN projects p ON p.id = t.project_id
+        JOIN task_statuses s ON s.id = t.status_id
+        LEFT JOIN users u ON u.id = t.assignee_id
+        CROSS JOIN LATERAL (SELECT string_agg(l.name, chr(10) ORDER BY l.name) AS labels
+                            FROM task_labels tl JOIN labels l ON l.id = tl.label_id
+                            WHERE tl.task_id = t.id) lb
+        CROSS JOIN LATERAL (SELECT string_agg(c.content, chr(10) ORDER BY c.id) AS comments
+                            FROM comments c WHERE c.task_id = t.id) cm
+        """;
+
+    private static final String SUGGEST_SELECT =
+        "SELECT t.id, t.organization_id, t.project_id, t.\"key\", t.title FROM tasks t ";
+
+    private final EntityManager entityManager;
+
+
+    public List<TaskIndexDocument> findDocuments(Collection<Long> taskIds) {
+        Query query = entityManager.createNativeQuery(DOCUMENT_SELECT + "WHERE t.id IN (:taskIds)", Tuple.class)
+            .setParameter("taskIds", taskIds);
+        return toDocuments(query);
+    }
+
+
+    public List<TaskIndexDocument> findDocumentBatch(Long organizationId, long afterTaskId, int limit) {
+        String sql = DOCUMENT_SELECT
+            + "WHERE t.id > :afterId" + (organizationId != null ? " AND t.organization_id = :orgId" : "")
+            + " ORDER BY t.id LIMIT :limit";
+        Query query = entityManager.createNativeQuery(sql, Tuple.class)
+            .setParameter("afterId", afterTaskId)
+            .setParameter("limit", limit);
+        if (organizationId != null) {
+            query.setParameter("orgId", organizationId);
+        }
+        return toDocuments(query);
+    }
+
+
+    public Map<Long, Long> findFingerprints(Long organizationId) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager
+            .createNativeQuery("SELECT d.task_id, d.fingerprint FROM (" + DOCUMENT_SELECT
+                + "WHERE t.organization_id = :orgId) d")
+            .setParameter("orgId", organizationId)
+            .getResultList();
+
+        Map<Long, Long> fingerprints = new HashMap<>(rows.size() * 2);
+        for (Object[] row : rows) {
+            fingerprints.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+        }
+        return fingerprints;
+    }
+
+
+    public List<TaskSuggestEntry> findOrganizationSuggestEntries(Long organizationId) {
+        return toSuggestEntries(entityManager.createNativeQuery(SUGGEST_SELECT + "WHERE t.organization_id = :orgId")
+            .setParameter("orgId", organizationId));
+    }
+
+
+    public List<TaskSuggestEntry> findSuggestEntries(Collection<Long> taskIds) {
+        return toSuggestEntries(entityManager.createNativeQuery(SUGGEST_SELECT + "WHERE t.id IN (:taskIds)")
+            .setParameter("taskIds", taskIds));
+    }
+
+    private static List<TaskSuggestEntry> toSuggestEntries(Query query) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query.getResultList();
+        return rows.stream()
+            .map(row -> new TaskSuggestEntry(
+                ((Number) row[0]).longValue(),
+                ((Number) row[1]).longValue(),
+                ((Number) row[2]).longValue(),
+                (String) row[3],
+                (String) row[4]))
+            .toList();
+    }
+
+    private static List<TaskIndexDocument> toDocuments(Query query) {
+        @SuppressWarnings("unchecked")
+        List<Tuple> rows = query.getResultList();
+        return rows.stream().map(TaskIndexRepository::toDocument).toList();
+    }
+
+    private static TaskIndexDocument toDocument(Tuple row) {
+        String labels = row.get("labels", String.class);
+        return new TaskIndexDocument(
+            ((Number) row.get("task_id")).longValue(),
+            ((Number) row.get("organization_id")).longValue(),
+            ((Number) row.get("project_id")).longValue(),
+            row.get("project_name", String.class),
+            row.get("task_key", String.class),
+            row.get("title", String.class),
+            row.get("description", String.class),
+            row.get("status", String.class),
+            row.get("assignee_id") != null ? ((Number) row.get("assignee_id")).intValue() : null,
+            row.get("assignee_name", String.class),
+            labels != null ? Arrays.asList(labels.split("\n")) : List.of(),
+            row.get("comments", String.class),
+            ((Number) row.get("fingerprint")).longValue()
+        );
+    }
+}
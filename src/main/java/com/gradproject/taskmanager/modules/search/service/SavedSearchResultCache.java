@@ -0,0 +1,168 @@
+package com.gradproject.taskmanager.modules.search.service;
+
+import com.gradproject.taskmanager.modules.search.dto.SavedSearchCacheStatusResponse;
+import com.gradproject.taskmanager.modules.search.dto.SearchResultResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+
+@Component
+public class SavedSearchResultCache {
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Map<Key, Entry> entries;
+
+
+    private final Map<Long, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong stale = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public SavedSearchResultCache(
+            @Value("${app.search.saved-results.enabled:true}") boolean enabled,
+            @Value("${app.search.saved-results.max-entries:2000}") int maxEntries,
+            @Value("${app.search.saved-results.ttl-seconds:60}") long ttlSeconds) {
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                boolean evict = size() > SavedSearchResultCache.this.maxEntries;
+                if (evict) {
+                    evictions.incrementAndGet();
+                }
+                return evict;
+            }
+        };
+    }
+
+
+    public Page<SearchResultResponse> resolve(Long savedSearchId, Long organizationId, Collection<Long> accessibleProjectIds,
+                                              Pageable pageable, Supplier<Page<SearchResultResponse>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        Key key = new Key(savedSearchId, organizationId, fingerprint(accessibleProjectIds),
+            pageable.getPageNumber(), pageable.getPageSize());
+        long generation = generation(organizationId);
+
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                if (entry.generation() == generation && entry.expiresAt() >= System.currentTimeMillis()) {
+                    hits.incrementAndGet();
+                    return new PageImpl<>(entry.content(), pageable, entry.total());
+                }
+                entries.remove(key);
+                stale.incrementAndGet();
+            }
+        }
+        misses.incrementAndGet();
+
+
+        Page<SearchResultResponse> page = loader.get();
+        synchronized (entries) {
+            entries.put(key, new Entry(List.copyOf(page.getContent()), page.getTotalElements(), generation,
+                System.currentTimeMillis() + ttlMillis));
+        }
+        return page;
+    }
+
+
+    public void tasksChanged(Long organizationId) {
+        generations.computeIfAbsent(organizationId, id -> new AtomicLong()).incrementAndGet();
+    }
+
+
+    public void evictSavedSearch(Long savedSearchId) {
+        evict(key -> key.savedSearchId().equals(savedSearchId));
+    }
+
+
+    public int evictOrganization(Long organizationId) {
+        tasksChanged(organizationId);
+        return evict(key -> key.organizationId().equals(organizationId));
+    }
+
+    public SavedSearchCacheStatusResponse status(Long organizationId) {
+        int organizationEntries;
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+            organizationEntries = (int) entries.keySet().stream()
+                .filter(key -> key.organizationId().equals(organizationId))
+                .count();
+        }
+        long hitCount = hits.get();
+        long lookups = hitCount + misses.get();
+        return new SavedSearchCacheStatusResponse(
+            enabled, organizationId, generation(organizationId), organizationEntries, size, maxEntries,
+            ttlMillis / 1000, hitCount, misses.get(), lookups == 0 ? 0.0 : (double) hitCount / lookups,
+            stale.get(), evictions.get()
+        );
+    }
+
+    public long hitCount() {
+        return hits.get();
+    }
+
+    public long missCount() {
+        return misses.get();
+    }
+
+    public long staleCount() {
+        return stale.get();
+    }
+
+    public long evictionCount() {
+        return evictions.get();
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private long generation(Long organizationId) {
+        AtomicLong generation = generations.get(organizationId);
+        return generation != null ? generation.get() : 0;
+    }
+
+    private int evict(Predicate<Key> matcher) {
+        synchronized (entries) {
+            int before = entries.size();
+            entries.keySet().removeIf(matcher);
+            return before - entries.size();
+        }
+    }
+
+
+    private static List<Long> fingerprint(Collection<Long> accessibleProjectIds) {
+        return accessibleProjectIds.stream().sorted().toList();
+    }
+
+    private record Key(Long savedSearchId, Long organizationId, List<Long> projectFingerprint, int page, int size) {
+    }
+
+    private record Entry(List<SearchResultResponse> content, long total, long generation, long expiresAt) {
+    }
+}
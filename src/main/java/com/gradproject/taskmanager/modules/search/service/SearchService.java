@@ -1,9 +1,11 @@
 package com.gradproject.taskmanager.modules.search.service;
 
+import com.gradproject.taskmanager.modules.search.dto.SavedSearchCacheStatusResponse;
 import com.gradproject.taskmanager.modules.search.dto.SavedSearchRequest;
 import com.gradproject.taskmanager.modules.search.dto.SavedSearchResponse;
 import com.gradproject.taskmanager.modules.search.dto.SearchRequest;
 import com.gradproject.taskmanager.modules.search.dto.SearchResultResponse;
+import com.gradproject.taskmanager.modules.search.dto.TaskIndexStatusResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -32,4 +34,19 @@ public interface SearchService {
 
     
     Page<SearchResultResponse> executeSavedSearch(Long id, Integer userId, Long organizationId, Pageable pageable);
+
+    
+    List<SearchResultResponse> typeahead(String query, Integer userId, Long organizationId, int limit);
+
+    
+    TaskIndexStatusResponse rebuildIndex(Integer userId, Long organizationId);
+
+    
+    TaskIndexStatusResponse checkIndex(Integer userId, Long organizationId, boolean repair);
+
+    
+    SavedSearchCacheStatusResponse getSavedSearchCacheStatus(Integer userId, Long organizationId);
+
+    
+    SavedSearchCacheStatusResponse flushSavedSearchCache(Integer userId, Long organizationId);
 }
@@ -4,16 +4,20 @@ import com.gradproject.taskmanager.modules.auth.domain.User;
 import com.gradproject.taskmanager.modules.auth.repository.UserRepository;
 import com.gradproject.taskmanager.modules.organization.domain.Organization;
 import com.gradproject.taskmanager.modules.organization.repository.OrganizationRepository;
-import com.gradproject.taskmanager.modules.project.domain.Project;
-import com.gradproject.taskmanager.modules.project.repository.ProjectRepository;
 import com.gradproject.taskmanager.modules.search.domain.SavedSearch;
+import com.gradproject.taskmanager.modules.search.dto.SavedSearchCacheStatusResponse;
 import com.gradproject.taskmanager.modules.search.dto.SavedSearchRequest;
 import com.gradproject.taskmanager.modules.search.dto.SavedSearchResponse;
+import com.gradproject.taskmanager.modules.search.dto.SearchCriteria;
+import com.gradproject.taskmanager.modules.search.dto.SearchHitRow;
 import com.gradproject.taskmanager.modules.search.dto.SearchRequest;
 import com.gradproject.taskmanager.modules.search.dto.SearchResultResponse;
+import com.gradproject.taskmanager.modules.search.dto.TaskIndexHit;
+import com.gradproject.taskmanager.modules.search.dto.TaskIndexStatusResponse;
 import com.gradproject.taskmanager.modules.search.repository.SavedSearchRepository;
-import com.gradproject.taskmanager.modules.task.domain.Task;
-import com.gradproject.taskmanager.modules.task.repository.TaskRepository;
+import com.gradproject.taskmanager.modules.search.repository.SearchRepository;
+import com.gradproject.taskmanager.modules.task.domain.TaskPriority;
+import com.gradproject.taskmanager.shared.exception.BadRequestException;
 import com.gradproject.taskmanager.shared.exception.ResourceNotFoundException;
 import com.gradproject.taskmanager.shared.exception.UnauthorizedException;
 import com.gradproject.taskmanager.shared.mapper.SavedSearchMapper;
@@ -21,13 +25,19 @@ import com.gradproject.taskmanager.shared.security.PermissionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
 
@@ -36,13 +46,16 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class SearchServiceImpl implements SearchService {
 
-    private final TaskRepository taskRepository;
-    private final ProjectRepository projectRepository;
+    static final int MAX_TYPEAHEAD_RESULTS = 20;
+
+    private final SearchRepository searchRepository;
     private final UserRepository userRepository;
     private final OrganizationRepository organizationRepository;
     private final SavedSearchRepository savedSearchRepository;
     private final PermissionService permissionService;
     private final SavedSearchMapper savedSearchMapper;
+    private final TaskIndexService taskIndexService;
+    private final SavedSearchResultCache savedSearchResultCache;
 
     @Override
     @Transactional(readOnly = true)
@@ -53,43 +66,92 @@ public class SearchServiceImpl implements SearchService {
         Organization organization = organizationRepository.findById(organizationId)
             .orElseThrow(() -> new ResourceNotFoundException("Organization not found with id: " + organizationId));
 
-        List<SearchResultResponse> results = new ArrayList<>();
-
         if (request.query() == null || request.query().isBlank()) {
             
-            return new PageImpl<>(results, pageable, 0);
+            return Page.empty(pageable);
         }
-
-        String entityType = request.entityType();
+        validateRanges(request);
 
         
-        if ("TASK".equalsIgnoreCase(entityType) || "GLOBAL".equalsIgnoreCase(entityType)) {
-            List<Task> tasks = taskRepository.fullTextSearch(request.query(), organizationId);
-            for (Task task : tasks) {
-                
-                if (permissionService.canAccessProject(user, task.getProject())) {
-                    results.add(taskToSearchResult(task));
-                }
-            }
+        Set<Long> accessibleProjectIds = permissionService.accessibleProjectIds(user.getId(), organizationId);
+        if (accessibleProjectIds.isEmpty()) {
+            return Page.empty(pageable);
         }
 
-        
-        if ("PROJECT".equalsIgnoreCase(entityType) || "GLOBAL".equalsIgnoreCase(entityType)) {
-            List<Project> projects = projectRepository.fullTextSearch(request.query(), organizationId);
-            for (Project project : projects) {
-                
-                if (permissionService.canAccessProject(user, project)) {
-                    results.add(projectToSearchResult(project));
-                }
-            }
+        SearchCriteria criteria = SearchCriteria.of(request, organizationId, accessibleProjectIds);
+        if (criteria.isEmpty()) {
+            return Page.empty(pageable);
         }
 
         
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), results.size());
-        List<SearchResultResponse> paginatedResults = start < results.size() ? results.subList(start, end) : new ArrayList<>();
+        List<SearchResultResponse> hits = searchRepository.findHits(criteria, pageable.getOffset(), pageable.getPageSize())
+            .stream()
+            .map(SearchHitRow::toResponse)
+            .toList();
+
+        
+        return PageableExecutionUtils.getPage(hits, pageable, () -> searchRepository.countHits(criteria));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SearchResultResponse> typeahead(String query, Integer userId, Long organizationId, int limit) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        int size = Math.max(1, Math.min(limit, MAX_TYPEAHEAD_RESULTS));
+
+        if (!taskIndexService.isEnabled()) {
+            SearchRequest request = new SearchRequest(
+                query, "TASK", null, null, null, null, null, null, null, null, false, "relevance", "DESC");
+            return search(request, userId, organizationId, PageRequest.of(0, size)).getContent();
+        }
+
+        User user = userRepository.findById(userId)
+            .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
+        Set<Long> accessibleProjectIds = permissionService.accessibleProjectIds(user.getId(), organizationId);
+        if (accessibleProjectIds.isEmpty()) {
+            return List.of();
+        }
 
-        return new PageImpl<>(paginatedResults, pageable, results.size());
+        return taskIndexService.search(organizationId, accessibleProjectIds, query, size).stream()
+            .map(TaskIndexHit::toResponse)
+            .toList();
+    }
+
+    @Override
+    public TaskIndexStatusResponse rebuildIndex(Integer userId, Long organizationId) {
+        requireOrganizationAdmin(userId, organizationId);
+        taskIndexService.rebuild(organizationId);
+        return taskIndexService.checkConsistency(organizationId, false);
+    }
+
+    @Override
+    public TaskIndexStatusResponse checkIndex(Integer userId, Long organizationId, boolean repair) {
+        requireOrganizationAdmin(userId, organizationId);
+        return taskIndexService.checkConsistency(organizationId, repair);
+    }
+
+    @Override
+    public SavedSearchCacheStatusResponse getSavedSearchCacheStatus(Integer userId, Long organizationId) {
+        requireOrganizationAdmin(userId, organizationId);
+        return savedSearchResultCache.status(organizationId);
+    }
+
+    @Override
+    public SavedSearchCacheStatusResponse flushSavedSearchCache(Integer userId, Long organizationId) {
+        requireOrganizationAdmin(userId, organizationId);
+        int flushed = savedSearchResultCache.evictOrganization(organizationId);
+        log.info("Flushed {} cached saved search pages for organization {} by user {}", flushed, organizationId, userId);
+        return savedSearchResultCache.status(organizationId);
+    }
+
+    private void requireOrganizationAdmin(Integer userId, Long organizationId) {
+        User user = userRepository.findById(userId)
+            .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
+        if (!permissionService.isOrgOwnerOrAdmin(user, organizationId)) {
+            throw new UnauthorizedException("Only organization owners and admins can manage the search index");
+        }
     }
 
     @Override
@@ -101,6 +163,8 @@ public class SearchServiceImpl implements SearchService {
         Organization organization = organizationRepository.findById(organizationId)
             .orElseThrow(() -> new ResourceNotFoundException("Organization not found with id: " + organizationId));
 
+        validateRanges(toSearchRequest(request.entityType(), request.queryParams()));
+
         SavedSearch savedSearch = new SavedSearch(user, organization, request.name(), request.entityType(), request.queryParams());
         savedSearch.setDescription(request.description());
         savedSearch.setIsShared(request.isShared());
@@ -122,6 +186,8 @@ public class SearchServiceImpl implements SearchService {
             throw new UnauthorizedException("You don't have permission to update this saved search");
         }
 
+        validateRanges(toSearchRequest(request.entityType(), request.queryParams()));
+
         savedSearch.setName(request.name());
         savedSearch.setDescription(request.description());
         savedSearch.setEntityType(request.entityType());
@@ -129,6 +195,7 @@ public class SearchServiceImpl implements SearchService {
         savedSearch.setIsShared(request.isShared());
 
         SavedSearch updated = savedSearchRepository.save(savedSearch);
+        savedSearchResultCache.evictSavedSearch(id);
         log.info("Updated saved search: {} by user: {}", id, userId);
 
         return savedSearchMapper.toResponse(updated);
@@ -146,6 +213,7 @@ public class SearchServiceImpl implements SearchService {
         }
 
         savedSearchRepository.delete(savedSearch);
+        savedSearchResultCache.evictSavedSearch(id);
         log.info("Deleted saved search: {} by user: {}", id, userId);
     }
 
@@ -194,60 +262,127 @@ public class SearchServiceImpl implements SearchService {
         
         SearchRequest request = convertToSearchRequest(savedSearch);
 
-        return search(request, userId, organizationId, pageable);
+        
+        Set<Long> accessibleProjectIds = permissionService.accessibleProjectIds(userId, organizationId);
+        if (accessibleProjectIds.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        return savedSearchResultCache.resolve(id, organizationId, accessibleProjectIds, pageable,
+            () -> search(request, userId, organizationId, pageable));
     }
 
     
-    private SearchResultResponse taskToSearchResult(Task task) {
-        return new SearchResultResponse(
-            "TASK",
-            task.getId(),
-            task.getTitle(),
-            task.getDescription(),
-            task.getStatus() != null ? task.getStatus().getName() : null,
-            null, 
-            List.of("title", "description"),
-            task.getProject() != null ? task.getProject().getName() : null,
-            task.getProject() != null ? task.getProject().getId() : null,
-            task.getAssignee() != null ? task.getAssignee().getUsername() : null,
-            task.getAssignee() != null ? task.getAssignee().getId() : null
-        );
+    private void validateRanges(SearchRequest request) {
+        if (request.dueDateFrom() != null && request.dueDateTo() != null
+                && request.dueDateFrom().isAfter(request.dueDateTo())) {
+            throw new BadRequestException("dueDateFrom must not be after dueDateTo");
+        }
+        int maxPriority = TaskPriority.values().length;
+        for (Integer priority : new Integer[] {request.priorityMin(), request.priorityMax()}) {
+            if (priority != null && (priority < 1 || priority > maxPriority)) {
+                throw new BadRequestException("Priority must be between 1 and " + maxPriority);
+            }
+        }
+        if (request.priorityMin() != null && request.priorityMax() != null
+                && request.priorityMin() > request.priorityMax()) {
+            throw new BadRequestException("priorityMin must not be greater than priorityMax");
+        }
     }
 
     
-    private SearchResultResponse projectToSearchResult(Project project) {
-        return new SearchResultResponse(
-            "PROJECT",
-            project.getId(),
-            project.getName(),
-            project.getDescription(),
-            null,
-            null, 
-            List.of("name", "description"),
-            null,
-            null,
-            null,
-            null
-        );
+    private SearchRequest convertToSearchRequest(SavedSearch savedSearch) {
+        return toSearchRequest(savedSearch.getEntityType(), savedSearch.getQueryParams());
     }
 
     
-    private SearchRequest convertToSearchRequest(SavedSearch savedSearch) {
-        var params = savedSearch.getQueryParams();
+    private SearchRequest toSearchRequest(String entityType, Map<String, Object> queryParams) {
+        Map<String, Object> params = queryParams != null ? queryParams : Map.of();
         return new SearchRequest(
-            (String) params.get("query"),
-            savedSearch.getEntityType(),
-            params.containsKey("projectIds") ? (List<String>) params.get("projectIds") : null,
-            params.containsKey("assigneeIds") ? (List<Integer>) params.get("assigneeIds") : null,
-            params.containsKey("statuses") ? (List<String>) params.get("statuses") : null,
-            params.containsKey("labelIds") ? (List<Long>) params.get("labelIds") : null,
-            null, 
-            null, 
-            null, 
-            null, 
-            (Boolean) params.getOrDefault("includeArchived", false),
-            (String) params.getOrDefault("sortBy", "relevance"),
-            (String) params.getOrDefault("sortDirection", "DESC")
+            stringParam(params, "query", null),
+            entityType,
+            listParam(params, "projectIds", (name, value) -> String.valueOf(value)),
+            listParam(params, "assigneeIds", SearchServiceImpl::intValue),
+            listParam(params, "statuses", (name, value) -> String.valueOf(value)),
+            listParam(params, "labelIds", SearchServiceImpl::longValue),
+            dateParam(params, "dueDateFrom"),
+            dateParam(params, "dueDateTo"),
+            params.get("priorityMin") != null ? intValue("priorityMin", params.get("priorityMin")) : null,
+            params.get("priorityMax") != null ? intValue("priorityMax", params.get("priorityMax")) : null,
+            booleanParam(params, "includeArchived"),
+            stringParam(params, "sortBy", "relevance"),
+            stringParam(params, "sortDirection", "DESC")
         );
     }
+
+    private static <T> List<T> listParam(Map<String, Object> params, String name,
+                                         BiFunction<String, Object, T> converter) {
+        Object value = params.get(name);
+        if (value == null) {
+            return null;
+        }
+        if (!(value instanceof List<?> values)) {
+            throw invalidParam(name, value);
+        }
+        return values.stream().filter(Objects::nonNull).map(element -> converter.apply(name, element)).toList();
+    }
+
+    private static String stringParam(Map<String, Object> params, String name, String defaultValue) {
+        Object value = params.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        if (!(value instanceof String text)) {
+            throw invalidParam(name, value);
+        }
+        return text;
+    }
+
+    private static boolean booleanParam(Map<String, Object> params, String name) {
+        Object value = params.get(name);
+        if (value == null) {
+            return false;
+        }
+        if (!(value instanceof Boolean flag)) {
+            throw invalidParam(name, value);
+        }
+        return flag;
+    }
+
+    private static LocalDate dateParam(Map<String, Object> params, String name) {
+        Object value = params.get(name);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value.toString());
+        } catch (DateTimeParseException e) {
+            throw invalidParam(name, value);
+        }
+    }
+
+    private static Long longValue(String name, Object value) {
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof String text) {
+            try {
+                return Long.parseLong(text.trim());
+            } catch (NumberFormatException e) {
+                throw invalidParam(name, value);
+            }
+        }
+        throw invalidParam(name, value);
+    }
+
+    private static Integer intValue(String name, Object value) {
+        long number = longValue(name, value);
+        if (number < Integer.MIN_VALUE || number > Integer.MAX_VALUE) {
+            throw invalidParam(name, value);
+        }
+        return (int) number;
+    }
+
+    private static BadRequestException invalidParam(String name, Object value) {
+        return new BadRequestException("Invalid saved search parameter '" + name + "': " + value);
+    }
 }
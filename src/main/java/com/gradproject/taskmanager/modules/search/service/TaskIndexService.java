@@ -0,0 +1,158 @@
+package com.gradproject.taskmanager.modules.search.service;
+
+import com.gradproject.taskmanager.infrastructure.search.TaskSearchIndex;
+import com.gradproject.taskmanager.modules.search.dto.TaskIndexDocument;
+import com.gradproject.taskmanager.modules.search.dto.TaskIndexHit;
+import com.gradproject.taskmanager.modules.search.dto.TaskIndexStatusResponse;
+import com.gradproject.taskmanager.modules.search.repository.TaskIndexRepository;
+import com.gradproject.taskmanager.shared.exception.BadRequestException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskIndexService {
+
+    static final int BATCH_SIZE = 500;
+    static final int MAX_REPORTED_IDS = 100;
+
+    private final TaskIndexRepository taskIndexRepository;
+    private final ObjectProvider<TaskSearchIndex> searchIndexProvider;
+
+    
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    public boolean isEnabled() {
+        return searchIndexProvider.getIfAvailable() != null;
+    }
+
+
+    @Transactional(readOnly = true)
+    public void reindex(Collection<Long> taskIds) {
+        TaskSearchIndex index = searchIndexProvider.getIfAvailable();
+        if (index == null || taskIds.isEmpty()) {
+            return;
+        }
+
+        writeLock.lock();
+        try {
+            List<TaskIndexDocument> documents = taskIndexRepository.findDocuments(Set.copyOf(taskIds));
+            Set<Long> removed = new HashSet<>(taskIds);
+            documents.forEach(document -> removed.remove(document.taskId()));
+
+            index.upsert(documents);
+            index.delete(removed);
+            log.debug("Reindexed {} tasks, removed {} from search index", documents.size(), removed.size());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+
+    @Transactional(readOnly = true)
+    public long rebuild(Long organizationId) {
+        TaskSearchIndex index = requireIndex();
+
+        writeLock.lock();
+        try {
+            index.deleteOrganization(organizationId);
+            long indexed = 0;
+            long afterId = 0;
+            List<TaskIndexDocument> batch;
+            do {
+                batch = taskIndexRepository.findDocumentBatch(organizationId, afterId, BATCH_SIZE);
+                index.add(batch);
+                indexed += batch.size();
+                if (!batch.isEmpty()) {
+                    afterId = batch.get(batch.size() - 1).taskId();
+                }
+            } while (batch.size() == BATCH_SIZE);
+            index.commitAndRefresh();
+
+            log.info("Rebuilt task search index for {}: {} tasks",
+                organizationId != null ? "organization " + organizationId : "all organizations", indexed);
+            return indexed;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+
+    @Transactional(readOnly = true)
+    public TaskIndexStatusResponse checkConsistency(Long organizationId, boolean repair) {
+        TaskSearchIndex index = requireIndex();
+
+        Map<Long, Long> databaseFingerprints = taskIndexRepository.findFingerprints(organizationId);
+        Map<Long, Long> indexFingerprints = index.fingerprints(organizationId);
+
+        List<Long> missing = new ArrayList<>();
+        List<Long> stale = new ArrayList<>();
+        databaseFingerprints.forEach((taskId, fingerprint) -> {
+            Long indexed = indexFingerprints.get(taskId);
+            if (indexed == null) {
+                missing.add(taskId);
+            } else if (!Objects.equals(indexed, fingerprint)) {
+                stale.add(taskId);
+            }
+        });
+        List<Long> orphaned = indexFingerprints.keySet().stream()
+            .filter(taskId -> !databaseFingerprints.containsKey(taskId))
+            .toList();
+
+        if (repair) {
+            List<Long> drifted = new ArrayList<>(missing);
+            drifted.addAll(stale);
+            drifted.addAll(orphaned);
+            for (int from = 0; from < drifted.size(); from += BATCH_SIZE) {
+                reindex(drifted.subList(from, Math.min(from + BATCH_SIZE, drifted.size())));
+            }
+        }
+
+        if (!missing.isEmpty() || !stale.isEmpty() || !orphaned.isEmpty()) {
+            log.warn("Task search index drift in organization {}: {} missing, {} stale, {} orphaned{}",
+                organizationId, missing.size(), stale.size(), orphaned.size(), repair ? " (repaired)" : "");
+        }
+        return new TaskIndexStatusResponse(
+            organizationId, databaseFingerprints.size(), indexFingerprints.size(),
+            missing.size(), stale.size(), orphaned.size(), sample(missing, stale, orphaned), repair
+        );
+    }
+
+
+    public List<TaskIndexHit> search(Long organizationId, Collection<Long> projectIds, String query, int limit) {
+        return requireIndex().search(organizationId, projectIds, query, limit);
+    }
+
+    public boolean isEmpty() {
+        TaskSearchIndex index = searchIndexProvider.getIfAvailable();
+        return index != null && index.documentCount() == 0;
+    }
+
+    private TaskSearchIndex requireIndex() {
+        TaskSearchIndex index = searchIndexProvider.getIfAvailable();
+        if (index == null) {
+            throw new BadRequestException("The task search index is disabled");
+        }
+        return index;
+    }
+
+    @SafeVarargs
+    private static List<Long> sample(List<Long>... taskIds) {
+        return Stream.of(taskIds).flatMap(List::stream).sorted().limit(MAX_REPORTED_IDS).toList();
+    }
+}
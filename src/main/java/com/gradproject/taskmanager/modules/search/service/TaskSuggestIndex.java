@@ -0,0 +1,196 @@
+package com.gradproject.taskmanager.modules.search.service;
+
+import com.gradproject.taskmanager.modules.search.dto.TaskSuggestEntry;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.LongStream;
+
+
+final class TaskSuggestIndex {
+
+    static final int MAX_SCANNED_POSTINGS = 20_000;
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Comparator<Posting> POSTING_ORDER =
+        Comparator.comparing(Posting::token).thenComparing(posting -> posting.entry().taskId());
+
+    private final String[] tokens;
+    private final TaskSuggestEntry[] entries;
+    private final boolean[] keyPostings;
+    private final String[][] titleWords;
+    private final long[] taskIds;
+    private final long loadedAt;
+
+    private TaskSuggestIndex(List<Posting> postings, long[] taskIds, long loadedAt) {
+        int size = postings.size();
+        this.tokens = new String[size];
+        this.entries = new TaskSuggestEntry[size];
+        this.keyPostings = new boolean[size];
+        this.titleWords = new String[size][];
+        for (int i = 0; i < size; i++) {
+            Posting posting = postings.get(i);
+            tokens[i] = posting.token();
+            entries[i] = posting.entry();
+            keyPostings[i] = posting.key();
+            titleWords[i] = posting.titleWords();
+        }
+        this.taskIds = taskIds;
+        this.loadedAt = loadedAt;
+    }
+
+
+    static TaskSuggestIndex build(Collection<TaskSuggestEntry> entries, long loadedAt) {
+        List<Posting> postings = postings(entries);
+        postings.sort(POSTING_ORDER);
+        return new TaskSuggestIndex(postings, sortedIds(entries.stream().mapToLong(TaskSuggestEntry::taskId)), loadedAt);
+    }
+
+
+    TaskSuggestIndex apply(Collection<TaskSuggestEntry> upserts, Collection<Long> removedTaskIds) {
+        Set<Long> affected = new HashSet<>(removedTaskIds);
+        upserts.forEach(entry -> affected.add(entry.taskId()));
+
+        List<Posting> added = postings(upserts);
+        added.sort(POSTING_ORDER);
+
+        List<Posting> merged = new ArrayList<>(tokens.length + added.size());
+        int next = 0;
+        for (int i = 0; i < tokens.length; i++) {
+            if (affected.contains(entries[i].taskId())) {
+                continue;
+            }
+            Posting existing = new Posting(tokens[i], entries[i], keyPostings[i], titleWords[i]);
+            while (next < added.size() && POSTING_ORDER.compare(added.get(next), existing) < 0) {
+                merged.add(added.get(next++));
+            }
+            merged.add(existing);
+        }
+        merged.addAll(added.subList(next, added.size()));
+
+        long[] ids = sortedIds(LongStream.concat(
+            Arrays.stream(taskIds).filter(id -> !affected.contains(id)),
+            upserts.stream().mapToLong(TaskSuggestEntry::taskId)));
+        return new TaskSuggestIndex(merged, ids, loadedAt);
+    }
+
+
+    List<TaskSuggestEntry> suggest(String text, LongPredicate projectFilter, int limit) {
+        String normalized = normalize(text).trim();
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Map<Long, TaskSuggestEntry> results = new LinkedHashMap<>();
+        scan(normalized, true, words -> true, projectFilter, results, limit);
+
+        List<String> terms = Arrays.stream(NON_WORD.split(normalized)).filter(word -> !word.isEmpty()).toList();
+        if (!terms.isEmpty() && results.size() < limit) {
+            // The longest word narrows the posting range the most; the rest are checked against precomputed words.
+            String longest = terms.stream().max(Comparator.comparingInt(String::length)).orElseThrow();
+            List<String> others = new ArrayList<>(terms);
+            others.remove(longest);
+            scan(longest, false, words -> matchesAll(words, others), projectFilter, results, limit);
+        }
+        return List.copyOf(results.values());
+    }
+
+    boolean containsTask(long taskId) {
+        return Arrays.binarySearch(taskIds, taskId) >= 0;
+    }
+
+    int size() {
+        return tokens.length;
+    }
+
+    long loadedAt() {
+        return loadedAt;
+    }
+
+    private void scan(String prefix, boolean keys, Predicate<String[]> filter,
+                      LongPredicate projectFilter, Map<Long, TaskSuggestEntry> results, int limit) {
+        int from = lowerBound(prefix);
+        int end = Math.min(tokens.length, from + MAX_SCANNED_POSTINGS);
+        for (int i = from; i < end && results.size() < limit && tokens[i].startsWith(prefix); i++) {
+            TaskSuggestEntry entry = entries[i];
+            if (keyPostings[i] == keys && projectFilter.test(entry.projectId()) && filter.test(titleWords[i])) {
+                results.putIfAbsent(entry.taskId(), entry);
+            }
+        }
+    }
+
+    private int lowerBound(String prefix) {
+        int low = 0;
+        int high = tokens.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (tokens[mid].compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static boolean matchesAll(String[] words, List<String> prefixes) {
+        for (String prefix : prefixes) {
+            boolean found = false;
+            for (String word : words) {
+                if (word.startsWith(prefix)) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<Posting> postings(Collection<TaskSuggestEntry> entries) {
+        List<Posting> postings = new ArrayList<>(entries.size() * 4);
+        for (TaskSuggestEntry entry : entries) {
+            String[] words = titleTokens(entry.title()).stream().distinct().toArray(String[]::new);
+            postings.add(new Posting(entry.key().toLowerCase(Locale.ROOT), entry, true, words));
+            for (String word : words) {
+                postings.add(new Posting(word, entry, false, words));
+            }
+        }
+        return postings;
+    }
+
+    static List<String> titleTokens(String title) {
+        if (title == null) {
+            return List.of();
+        }
+        return Arrays.stream(NON_WORD.split(normalize(title)))
+            .filter(token -> !token.isEmpty())
+            .toList();
+    }
+
+    static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private static long[] sortedIds(LongStream ids) {
+        return ids.distinct().sorted().toArray();
+    }
+
+    private record Posting(String token, TaskSuggestEntry entry, boolean key, String[] titleWords) {}
+}
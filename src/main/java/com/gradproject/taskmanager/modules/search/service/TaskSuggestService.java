@@ -0,0 +1,211 @@
+package com.gradproject.taskmanager.modules.search.service;
+
+import com.gradproject.taskmanager.modules.search.dto.TaskSuggestEntry;
+import com.gradproject.taskmanager.modules.search.dto.TaskSuggestionResponse;
+import com.gradproject.taskmanager.modules.search.repository.TaskIndexRepository;
+import com.gradproject.taskmanager.shared.security.PermissionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+
+@Slf4j
+@Service
+public class TaskSuggestService {
+
+    static final int MAX_SUGGESTIONS = 20;
+
+    private final TaskIndexRepository taskIndexRepository;
+    private final PermissionService permissionService;
+    private final int maxOrganizations;
+    private final long maxPostings;
+    private final long ttlMillis;
+
+    
+    private final LinkedHashMap<Long, TaskSuggestIndex> indexes = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Long, Object> loadLocks = new ConcurrentHashMap<>();
+    // Task ids changed while an organization's index is being loaded, guarded by the indexes lock
+    private final Map<Long, Set<Long>> pendingLoads = new HashMap<>();
+    private final Object refreshLock = new Object();
+    private long totalPostings;
+
+    public TaskSuggestService(
+            TaskIndexRepository taskIndexRepository,
+            PermissionService permissionService,
+            @Value("${app.search.suggest.max-organizations:100}") int maxOrganizations,
+            @Value("${app.search.suggest.max-postings:5000000}") long maxPostings,
+            @Value("${app.search.suggest.ttl-seconds:900}") long ttlSeconds) {
+        this.taskIndexRepository = taskIndexRepository;
+        this.permissionService = permissionService;
+        this.maxOrganizations = maxOrganizations;
+        this.maxPostings = maxPostings;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    
+    public List<TaskSuggestionResponse> suggest(String prefix, Integer userId, Long organizationId, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        Set<Long> accessibleProjectIds = permissionService.accessibleProjectIds(userId, organizationId);
+        if (accessibleProjectIds.isEmpty()) {
+            return List.of();
+        }
+
+        int size = Math.max(1, Math.min(limit, MAX_SUGGESTIONS));
+        return index(organizationId).suggest(prefix, accessibleProjectIds::contains, size).stream()
+            .map(TaskSuggestEntry::toResponse)
+            .toList();
+    }
+
+    
+    public void refresh(Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+
+        // Refreshes run one at a time, so a later read of the task rows is never overwritten by an earlier one
+        synchronized (refreshLock) {
+            Map<Long, TaskSuggestIndex> targets;
+            synchronized (indexes) {
+                // A load in flight may have read its snapshot before these changes; it re-applies them before storing
+                pendingLoads.values().forEach(pending -> pending.addAll(taskIds));
+                targets = new HashMap<>(indexes);
+            }
+            if (targets.isEmpty()) {
+                return;
+            }
+
+            List<TaskSuggestEntry> entries = taskIndexRepository.findSuggestEntries(taskIds);
+
+            synchronized (indexes) {
+                for (Map.Entry<Long, TaskSuggestIndex> cached : new ArrayList<>(indexes.entrySet())) {
+                    TaskSuggestIndex current = cached.getValue();
+                    // Skip indexes loaded after the rows were read; their snapshot is already newer
+                    if (targets.get(cached.getKey()) != current) {
+                        continue;
+                    }
+                    TaskSuggestIndex updated = applyChanges(current, cached.getKey(), taskIds, entries);
+                    if (updated != current) {
+                        store(cached.getKey(), updated);
+                    }
+                }
+            }
+        }
+    }
+
+    
+    public void evict(Long organizationId) {
+        synchronized (indexes) {
+            TaskSuggestIndex removed = indexes.remove(organizationId);
+            if (removed != null) {
+                totalPostings -= removed.size();
+            }
+        }
+    }
+
+    public void evictAll() {
+        synchronized (indexes) {
+            indexes.clear();
+            totalPostings = 0;
+        }
+    }
+
+    private TaskSuggestIndex index(Long organizationId) {
+        TaskSuggestIndex index = cached(organizationId);
+        if (index != null) {
+            return index;
+        }
+
+        synchronized (loadLocks.computeIfAbsent(organizationId, id -> new Object())) {
+            index = cached(organizationId);
+            return index != null ? index : load(organizationId);
+        }
+    }
+
+    private TaskSuggestIndex load(Long organizationId) {
+        long start = System.nanoTime();
+        Set<Long> pending = new HashSet<>();
+        synchronized (indexes) {
+            pendingLoads.put(organizationId, pending);
+        }
+        try {
+            TaskSuggestIndex index = TaskSuggestIndex.build(
+                taskIndexRepository.findOrganizationSuggestEntries(organizationId), System.currentTimeMillis());
+            while (true) {
+                List<Long> changed;
+                synchronized (indexes) {
+                    if (pending.isEmpty()) {
+                        pendingLoads.remove(organizationId);
+                        store(organizationId, index);
+                        break;
+                    }
+                    changed = List.copyOf(pending);
+                    pending.clear();
+                }
+                index = applyChanges(index, organizationId, changed, taskIndexRepository.findSuggestEntries(changed));
+            }
+            log.debug("Loaded suggest index for organization {}: {} postings in {} ms",
+                organizationId, index.size(), (System.nanoTime() - start) / 1_000_000);
+            return index;
+        } finally {
+            synchronized (indexes) {
+                pendingLoads.remove(organizationId, pending);
+            }
+        }
+    }
+
+    
+    private static TaskSuggestIndex applyChanges(TaskSuggestIndex index, Long organizationId,
+                                                 Collection<Long> taskIds, List<TaskSuggestEntry> entries) {
+        List<TaskSuggestEntry> upserts = entries.stream()
+            .filter(entry -> organizationId.equals(entry.organizationId()))
+            .toList();
+        Set<Long> present = upserts.stream().map(TaskSuggestEntry::taskId).collect(Collectors.toSet());
+        List<Long> removals = taskIds.stream()
+            .filter(taskId -> !present.contains(taskId) && index.containsTask(taskId))
+            .toList();
+        return upserts.isEmpty() && removals.isEmpty() ? index : index.apply(upserts, removals);
+    }
+
+    private TaskSuggestIndex cached(Long organizationId) {
+        synchronized (indexes) {
+            TaskSuggestIndex index = indexes.get(organizationId);
+            if (index != null && System.currentTimeMillis() - index.loadedAt() > ttlMillis) {
+                indexes.remove(organizationId);
+                totalPostings -= index.size();
+                return null;
+            }
+            return index;
+        }
+    }
+
+    
+    private void store(Long organizationId, TaskSuggestIndex index) {
+        TaskSuggestIndex previous = indexes.put(organizationId, index);
+        totalPostings += index.size() - (previous != null ? previous.size() : 0);
+
+        var eldest = indexes.entrySet().iterator();
+        while (eldest.hasNext() && indexes.size() > 1
+                && (indexes.size() > maxOrganizations || totalPostings > maxPostings)) {
+            var entry = eldest.next();
+            if (entry.getKey().equals(organizationId)) {
+                continue;
+            }
+            totalPostings -= entry.getValue().size();
+            eldest.remove();
+            log.debug("Evicted suggest index for organization {}", entry.getKey());
+        }
+    }
+}
@@ -1,15 +1,23 @@
 package com.gradproject.taskmanager.modules.task.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gradproject.taskmanager.modules.task.dto.*;
 import com.gradproject.taskmanager.modules.task.service.TaskService;
 import com.gradproject.taskmanager.shared.dto.ApiResponse;
+import com.gradproject.taskmanager.shared.dto.CursorPageResponse;
 import com.gradproject.taskmanager.shared.util.SecurityUtils;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 
@@ -19,6 +27,7 @@ import java.util.List;
 public class TaskController {
 
     private final TaskService taskService;
+    private final ObjectMapper objectMapper;
 
     
     @PostMapping("/projects/{projectId}/tasks")
@@ -43,11 +52,55 @@ public class TaskController {
     }
 
     
+    @GetMapping(value = "/projects/{projectId}/tasks", params = "limit")
+    public ResponseEntity<ApiResponse<CursorPageResponse<TaskSummary>>> listProjectTasksPage(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) Long statusId,
+            @RequestParam(required = false) Integer assigneeId,
+            @RequestParam(required = false) Long sprintId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam int limit) {
+        Integer userId = SecurityUtils.getCurrentUserId();
+        CursorPageResponse<TaskSummary> page = taskService.listProjectTasksPage(
+                projectId, statusId, assigneeId, sprintId, cursor, limit, userId);
+        return ResponseEntity.ok(ApiResponse.success(page));
+    }
+
+    
+    @GetMapping(value = "/projects/{projectId}/tasks", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamProjectTasks(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) Long statusId,
+            @RequestParam(required = false) Integer assigneeId,
+            @RequestParam(required = false) Long sprintId) {
+        Integer userId = SecurityUtils.getCurrentUserId();
+        StreamingResponseBody body = out -> taskService.streamProjectTasks(
+                projectId, statusId, assigneeId, sprintId, userId, summary -> {
+                    try {
+                        out.write(objectMapper.writeValueAsBytes(summary));
+                        out.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    
     @GetMapping("/tasks/{taskId}")
-    public ResponseEntity<ApiResponse<TaskResponse>> getTask(@PathVariable Long taskId) {
+    public ResponseEntity<ApiResponse<TaskResponse>> getTask(@PathVariable Long taskId, WebRequest webRequest) {
         Integer userId = SecurityUtils.getCurrentUserId();
+
+        
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && webRequest.checkNotModified(taskService.getTaskRevision(taskId, userId).etag())) {
+            return null;
+        }
+
         TaskResponse response = taskService.getTask(taskId, userId);
-        return ResponseEntity.ok(ApiResponse.success(response));
+        return withETag(response);
     }
 
     
@@ -57,17 +110,18 @@ public class TaskController {
             @PathVariable String key) {
         Integer userId = SecurityUtils.getCurrentUserId();
         TaskResponse response = taskService.getTaskByKey(orgId, key, userId);
-        return ResponseEntity.ok(ApiResponse.success(response));
+        return withETag(response);
     }
 
     
-    @PutMapping("/tasks/{taskId}")
+    @RequestMapping(value = "/tasks/{taskId}", method = {RequestMethod.PUT, RequestMethod.PATCH})
     public ResponseEntity<ApiResponse<TaskResponse>> updateTask(
             @PathVariable Long taskId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody TaskUpdateRequest request) {
         Integer userId = SecurityUtils.getCurrentUserId();
-        TaskResponse response = taskService.updateTask(taskId, request, userId);
-        return ResponseEntity.ok(ApiResponse.success(response));
+        TaskResponse response = taskService.updateTask(taskId, request, ifMatch, userId);
+        return withETag(response);
     }
 
     
@@ -85,7 +139,7 @@ public class TaskController {
             @Valid @RequestBody TaskAssignRequest request) {
         Integer userId = SecurityUtils.getCurrentUserId();
         TaskResponse response = taskService.assignTask(taskId, request, userId);
-        return ResponseEntity.ok(ApiResponse.success(response));
+        return withETag(response);
     }
 
     
@@ -95,6 +149,14 @@ public class TaskController {
             @Valid @RequestBody TaskTransitionRequest request) {
         Integer userId = SecurityUtils.getCurrentUserId();
         TaskResponse response = taskService.transitionStatus(taskId, request, userId);
+        return withETag(response);
+    }
+
+    
+    @PostMapping("/tasks/bulk")
+    public ResponseEntity<ApiResponse<TaskBulkResponse>> bulkUpdate(@Valid @RequestBody TaskBulkRequest request) {
+        Integer userId = SecurityUtils.getCurrentUserId();
+        TaskBulkResponse response = taskService.bulkUpdate(request, userId);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -121,4 +183,10 @@ public class TaskController {
         List<TaskSummary> backlogTasks = taskService.getBacklogTasks(projectId, userId);
         return ResponseEntity.ok(ApiResponse.success(backlogTasks));
     }
+
+    private static ResponseEntity<ApiResponse<TaskResponse>> withETag(TaskResponse response) {
+        return ResponseEntity.ok()
+                .eTag(response.etag())
+                .body(ApiResponse.success(response));
+    }
 }
@@ -3,12 +3,15 @@ package com.gradproject.taskmanager.modules.task.domain;
 import com.gradproject.taskmanager.modules.organization.domain.Organization;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 
 @Entity
 @Table(name = "labels")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reference.label")
 @Data
 @Builder
 @NoArgsConstructor
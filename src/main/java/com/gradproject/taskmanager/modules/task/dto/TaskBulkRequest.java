@@ -0,0 +1,30 @@
+package com.gradproject.taskmanager.modules.task.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record TaskBulkRequest(
+    @NotNull(message = "Operation is required")
+    Operation operation,
+
+    @NotEmpty(message = "At least one task ID is required")
+    @Size(max = 500, message = "At most 500 tasks can be updated at once")
+    List<@NotNull Long> taskIds,
+
+    Long statusId,  
+
+    Integer assigneeId,  
+
+    Long sprintId  
+) {
+    
+    public enum Operation {
+        TRANSITION,
+        ASSIGN,
+        MOVE_TO_SPRINT,
+        DELETE
+    }
+}
@@ -0,0 +1,32 @@
+package com.gradproject.taskmanager.modules.task.dto;
+
+import java.util.List;
+
+public record TaskBulkResponse(
+    TaskBulkRequest.Operation operation,
+    int succeeded,
+    int failed,
+    List<Result> results
+) {
+    
+    public static TaskBulkResponse of(TaskBulkRequest.Operation operation, List<Result> results) {
+        int succeeded = (int) results.stream().filter(Result::success).count();
+        return new TaskBulkResponse(operation, succeeded, results.size() - succeeded, results);
+    }
+
+    public record Result(
+        Long taskId,
+        String key,
+        boolean success,
+        String error
+    ) {
+        
+        public static Result ok(Long taskId, String key) {
+            return new Result(taskId, key, true, null);
+        }
+
+        public static Result failed(Long taskId, String key, String error) {
+            return new Result(taskId, key, false, error);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.gradproject.taskmanager.modules.task.dto;
+
+
+public record TaskChildCounts(
+    Long taskId,
+    long subtaskCount,
+    long commentCount,
+    long attachmentCount,
+    long watcherCount
+) {
+
+    public static TaskChildCounts none(Long taskId) {
+        return new TaskChildCounts(taskId, 0, 0, 0, 0);
+    }
+}
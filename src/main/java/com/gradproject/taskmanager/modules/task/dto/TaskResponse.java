@@ -33,8 +33,15 @@ public record TaskResponse(
     Integer subtaskCount,
     Integer commentCount,
     Integer attachmentCount,
+    Integer watcherCount,
     boolean isOverdue,
     LocalDateTime createdAt,
     LocalDateTime updatedAt,
-    UserSummary createdBy
-) {}
+    UserSummary createdBy,
+    Long version
+) {
+
+    public String etag() {
+        return TaskRevision.etag(version, loggedHours, subtaskCount, commentCount, attachmentCount, watcherCount);
+    }
+}
@@ -0,0 +1,50 @@
+package com.gradproject.taskmanager.modules.task.dto;
+
+import com.gradproject.taskmanager.shared.exception.PreconditionFailedException;
+
+import java.math.BigDecimal;
+
+public record TaskRevision(
+    Long taskId,
+    Long projectId,
+    Long version,
+    BigDecimal loggedHours,
+    long subtaskCount,
+    long commentCount,
+    long attachmentCount,
+    long watcherCount
+) {
+    
+    public String etag() {
+        return etag(version, loggedHours, subtaskCount, commentCount, attachmentCount, watcherCount);
+    }
+
+    
+    public static String etag(Long version, BigDecimal loggedHours, long subtaskCount, long commentCount,
+                              long attachmentCount, long watcherCount) {
+        // Hours are rendered in hundredths so the value never introduces another '.' separator
+        long loggedHundredths = loggedHours == null ? 0 : loggedHours.movePointRight(2).longValue();
+        return "\"" + version + "." + subtaskCount + "." + commentCount + "."
+            + attachmentCount + "." + watcherCount + "." + loggedHundredths + "\"";
+    }
+
+    
+    public void requireMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return;
+        }
+
+        String current = etag();
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            // If-Match uses strong comparison, so a weak validator can never match
+            if (tag.startsWith("W/")) {
+                throw new PreconditionFailedException("If-Match requires a strong ETag: " + ifMatch);
+            }
+            if (tag.equals(current)) {
+                return;
+            }
+        }
+        throw new PreconditionFailedException("Task " + taskId + " has been modified since " + ifMatch.trim());
+    }
+}
@@ -11,5 +11,18 @@ public record TaskSummary(
     TaskStatusSummary status,
     UserSummary assignee,    
     TaskPriority priority,
-    boolean isOverdue
-) {}
+    boolean isOverdue,
+    Integer subtaskCount,
+    Integer commentCount,
+    Integer attachmentCount,
+    Integer watcherCount
+) {
+
+    public TaskSummary withCounts(TaskChildCounts counts) {
+        return new TaskSummary(
+            id, key, title, status, assignee, priority, isOverdue,
+            (int) counts.subtaskCount(), (int) counts.commentCount(),
+            (int) counts.attachmentCount(), (int) counts.watcherCount()
+        );
+    }
+}
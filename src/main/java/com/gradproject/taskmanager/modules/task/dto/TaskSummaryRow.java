@@ -0,0 +1,43 @@
+package com.gradproject.taskmanager.modules.task.dto;
+
+import com.gradproject.taskmanager.modules.project.domain.StatusCategory;
+import com.gradproject.taskmanager.modules.task.domain.TaskPriority;
+import com.gradproject.taskmanager.shared.dto.UserSummary;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+
+public record TaskSummaryRow(
+    Long id,
+    String key,
+    String title,
+    TaskPriority priority,
+    LocalDate dueDate,
+    Long statusId,
+    String statusName,
+    String statusColor,
+    StatusCategory statusCategory,
+    Integer assigneeId,
+    String assigneeUsername,
+    String assigneeEmail,
+    String assigneeFirstName,
+    String assigneeLastName,
+    String assigneeAvatarUrl,
+    LocalDateTime createdAt
+) {
+
+    public TaskSummary toSummary() {
+        TaskStatusSummary status = new TaskStatusSummary(
+            statusId, statusName, statusColor, statusCategory != null ? statusCategory.name() : null);
+
+        UserSummary assignee = assigneeId == null ? null : new UserSummary(
+            assigneeId, assigneeUsername, assigneeEmail, assigneeFirstName, assigneeLastName, assigneeAvatarUrl);
+
+        boolean overdue = dueDate != null
+            && dueDate.isBefore(LocalDate.now())
+            && statusCategory != StatusCategory.DONE;
+
+        return new TaskSummary(id, key, title, status, assignee, priority, overdue, null, null, null, null);
+    }
+}
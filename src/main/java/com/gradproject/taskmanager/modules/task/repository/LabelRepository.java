@@ -1,12 +1,18 @@
 package com.gradproject.taskmanager.modules.task.repository;
 
 import com.gradproject.taskmanager.modules.task.domain.Label;
+import com.gradproject.taskmanager.shared.cache.ReferenceDataCache;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+
 
 @Repository
 public interface LabelRepository extends JpaRepository<Label, Long> {
@@ -15,6 +21,10 @@ public interface LabelRepository extends JpaRepository<Label, Long> {
     List<Label> findByOrganizationIdOrderByNameAsc(Long organizationId);
 
     
+    @QueryHints({
+        @QueryHint(name = HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HINT_CACHE_REGION, value = ReferenceDataCache.LABELS_BY_NAME_REGION)
+    })
     Optional<Label> findByOrganizationIdAndName(Long organizationId, String name);
 
     
@@ -0,0 +1,43 @@
+package com.gradproject.taskmanager.modules.task.repository;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class TaskKeySequenceRepository {
+
+    private static final String RESERVE_BLOCK = """
+        INSERT INTO task_key_sequences (project_id, next_sequence)
+        VALUES (?, ?)
+        ON CONFLICT (project_id) DO UPDATE
+            SET next_sequence = task_key_sequences.next_sequence + EXCLUDED.next_sequence
+        RETURNING next_sequence
+        """;
+
+    private final HikariDataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    public TaskKeySequenceRepository(DataSourceProperties properties,
+                                     @Value("${app.tasks.key-pool-size:2}") int poolSize) {
+        this.dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("TaskKeyHikariPool");
+        dataSource.setMaximumPoolSize(poolSize);
+        dataSource.setMinimumIdle(0);
+        dataSource.setAutoCommit(true);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+
+    public int reserveBlock(Long projectId, int blockSize) {
+        return jdbcTemplate.queryForObject(RESERVE_BLOCK, Integer.class, projectId, blockSize);
+    }
+
+    @PreDestroy
+    public void close() {
+        dataSource.close();
+    }
+}
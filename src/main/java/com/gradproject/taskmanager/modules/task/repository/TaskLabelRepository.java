@@ -22,6 +22,10 @@ public interface TaskLabelRepository extends JpaRepository<TaskLabel, Long> {
     List<TaskLabel> findByLabelId(Long labelId);
 
     
+    @Query("SELECT tl.task.id FROM TaskLabel tl WHERE tl.label.id = :labelId")
+    List<Long> findTaskIdsByLabelId(@Param("labelId") Long labelId);
+
+    
     Optional<TaskLabel> findByTaskIdAndLabelId(Long taskId, Long labelId);
 
     
@@ -1,23 +1,64 @@
 package com.gradproject.taskmanager.modules.task.repository;
 
 import com.gradproject.taskmanager.modules.task.domain.Task;
+import com.gradproject.taskmanager.modules.task.dto.TaskChildCounts;
+import com.gradproject.taskmanager.modules.task.dto.TaskRevision;
+import com.gradproject.taskmanager.modules.task.dto.TaskSummaryRow;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 
 public interface TaskRepository extends JpaRepository<Task, Long> {
 
+    
+    String SUMMARY_SELECT = "SELECT new com.gradproject.taskmanager.modules.task.dto.TaskSummaryRow(" +
+            "t.id, t.key, t.title, t.priority, t.dueDate, " +
+            "s.id, s.name, s.color, s.category, " +
+            "a.id, a.username, a.email, a.firstName, a.lastName, a.avatarUrl, t.createdAt) " +
+            "FROM Task t " +
+            "JOIN t.status s " +
+            "LEFT JOIN t.assignee a ";
+
+    String PRIORITY_ORDER = "CASE t.priority " +
+            "  WHEN 'HIGHEST' THEN 1 " +
+            "  WHEN 'HIGH' THEN 2 " +
+            "  WHEN 'MEDIUM' THEN 3 " +
+            "  WHEN 'LOW' THEN 4 " +
+            "  WHEN 'LOWEST' THEN 5 " +
+            "END";
+
     @Query("SELECT t FROM Task t " +
            "LEFT JOIN FETCH t.assignee " +
            "LEFT JOIN FETCH t.reporter " +
            "WHERE t.id = :id")
     Optional<Task> findByIdWithAssociations(@Param("id") Long id);
 
+    
+    @Query("SELECT t FROM Task t " +
+           "JOIN FETCH t.project " +
+           "JOIN FETCH t.status " +
+           "LEFT JOIN FETCH t.assignee " +
+           "LEFT JOIN FETCH t.sprint " +
+           "WHERE t.id IN :ids")
+    List<Task> findAllForBulkUpdate(@Param("ids") Collection<Long> ids);
+
 
     @Query("SELECT t FROM Task t " +
            "JOIN FETCH t.project p " +
@@ -28,6 +69,41 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     Optional<Task> findByOrganizationIdAndKey(@Param("orgId") Long orgId, @Param("key") String key);
 
     
+    @Query("SELECT u, p, s, a, om.id, sp, pt FROM Project p " +
+           "LEFT JOIN User u ON u.id = :userId " +
+           "LEFT JOIN TaskStatus s ON s.id = :statusId " +
+           "LEFT JOIN User a ON a.id = :assigneeId " +
+           "LEFT JOIN OrganizationMember om ON om.user = a AND om.organization = p.organization " +
+           "LEFT JOIN Sprint sp ON sp.id = :sprintId " +
+           "LEFT JOIN Task pt ON pt.id = :parentTaskId " +
+           "WHERE p.id = :projectId")
+    List<Object[]> loadCreateContext(
+        @Param("userId") Integer userId,
+        @Param("projectId") Long projectId,
+        @Param("statusId") Long statusId,
+        @Param("assigneeId") Integer assigneeId,
+        @Param("sprintId") Long sprintId,
+        @Param("parentTaskId") Long parentTaskId
+    );
+
+    
+    @Query("SELECT t, u, s, a, om.id FROM Task t " +
+           "JOIN FETCH t.project " +
+           "JOIN FETCH t.status " +
+           "LEFT JOIN FETCH t.assignee " +
+           "LEFT JOIN User u ON u.id = :userId " +
+           "LEFT JOIN TaskStatus s ON s.id = :statusId " +
+           "LEFT JOIN User a ON a.id = :assigneeId " +
+           "LEFT JOIN OrganizationMember om ON om.user = a AND om.organization = t.organization " +
+           "WHERE t.id = :taskId")
+    List<Object[]> loadUpdateContext(
+        @Param("taskId") Long taskId,
+        @Param("userId") Integer userId,
+        @Param("statusId") Long statusId,
+        @Param("assigneeId") Integer assigneeId
+    );
+
+    
     @Query("SELECT t FROM Task t " +
            "LEFT JOIN FETCH t.assignee " +
            "LEFT JOIN FETCH t.reporter " +
@@ -45,6 +121,96 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     );
 
     
+    @Query(SUMMARY_SELECT +
+           "WHERE t.project.id = :projectId " +
+           "AND (:statusId IS NULL OR s.id = :statusId) " +
+           "AND (:assigneeId IS NULL OR a.id = :assigneeId) " +
+           "AND (:sprintId IS NULL OR t.sprint.id = :sprintId) " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TaskSummaryRow> findFirstSummaryPageByProjectWithFilters(
+        @Param("projectId") Long projectId,
+        @Param("statusId") Long statusId,
+        @Param("assigneeId") Integer assigneeId,
+        @Param("sprintId") Long sprintId,
+        Limit limit
+    );
+
+    
+    @Query(SUMMARY_SELECT +
+           "WHERE t.project.id = :projectId " +
+           "AND (:statusId IS NULL OR s.id = :statusId) " +
+           "AND (:assigneeId IS NULL OR a.id = :assigneeId) " +
+           "AND (:sprintId IS NULL OR t.sprint.id = :sprintId) " +
+           "AND (t.createdAt < :cursorCreatedAt " +
+           "     OR (t.createdAt = :cursorCreatedAt AND t.id < :cursorId)) " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TaskSummaryRow> findSummaryPageByProjectWithFiltersAfter(
+        @Param("projectId") Long projectId,
+        @Param("statusId") Long statusId,
+        @Param("assigneeId") Integer assigneeId,
+        @Param("sprintId") Long sprintId,
+        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+        @Param("cursorId") Long cursorId,
+        Limit limit
+    );
+
+    
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query(SUMMARY_SELECT +
+           "WHERE t.project.id = :projectId " +
+           "AND (:statusId IS NULL OR s.id = :statusId) " +
+           "AND (:assigneeId IS NULL OR a.id = :assigneeId) " +
+           "AND (:sprintId IS NULL OR t.sprint.id = :sprintId) " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    Stream<TaskSummaryRow> streamSummariesByProjectWithFilters(
+        @Param("projectId") Long projectId,
+        @Param("statusId") Long statusId,
+        @Param("assigneeId") Integer assigneeId,
+        @Param("sprintId") Long sprintId
+    );
+
+    
+    @Query(SUMMARY_SELECT +
+           "WHERE t.project.id = :projectId " +
+           "AND (:statusId IS NULL OR s.id = :statusId) " +
+           "AND (:assigneeId IS NULL OR a.id = :assigneeId) " +
+           "AND (:sprintId IS NULL OR t.sprint.id = :sprintId) " +
+           "ORDER BY t.createdAt DESC")
+    List<TaskSummaryRow> findSummariesByProjectWithFilters(
+        @Param("projectId") Long projectId,
+        @Param("statusId") Long statusId,
+        @Param("assigneeId") Integer assigneeId,
+        @Param("sprintId") Long sprintId
+    );
+
+    
+    @Query(SUMMARY_SELECT +
+           "WHERE t.parentTask.id = :parentTaskId " +
+           "ORDER BY t.createdAt ASC")
+    List<TaskSummaryRow> findSubtaskSummaries(@Param("parentTaskId") Long parentTaskId);
+
+    
+    @Query(SUMMARY_SELECT +
+           "WHERE a.id = :userId " +
+           "AND t.organization.id = :orgId " +
+           "AND s.category != 'DONE' " +
+           "ORDER BY " + PRIORITY_ORDER + ", t.createdAt DESC")
+    List<TaskSummaryRow> findMyOpenTaskSummaries(@Param("userId") Integer userId, @Param("orgId") Long orgId);
+
+    
+    @Query(SUMMARY_SELECT +
+           "WHERE t.sprint.id = :sprintId " +
+           "ORDER BY t.createdAt DESC")
+    List<TaskSummaryRow> findSummariesBySprintId(@Param("sprintId") Long sprintId);
+
+    
+    @Query(SUMMARY_SELECT +
+           "WHERE t.project.id = :projectId " +
+           "AND t.sprint IS NULL " +
+           "ORDER BY " + PRIORITY_ORDER + ", t.createdAt DESC")
+    List<TaskSummaryRow> findBacklogTaskSummaries(@Param("projectId") Long projectId);
+
+    
     @Query("SELECT COUNT(t) FROM Task t WHERE t.project.id = :projectId AND t.status.id = :statusId")
     long countByProjectIdAndStatusId(@Param("projectId") Long projectId, @Param("statusId") Long statusId);
 
@@ -61,6 +227,65 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     long countSubtasks(@Param("parentTaskId") Long parentTaskId);
 
     
+    @Query("SELECT new com.gradproject.taskmanager.modules.task.dto.TaskChildCounts(t.id, " +
+           "(SELECT COUNT(st) FROM Task st WHERE st.parentTask.id = t.id), " +
+           "(SELECT COUNT(c) FROM Comment c WHERE c.task.id = t.id), " +
+           "(SELECT COUNT(at) FROM Attachment at WHERE at.task.id = t.id), " +
+           "(SELECT COUNT(w) FROM TaskWatcher w WHERE w.task.id = t.id)) " +
+           "FROM Task t WHERE t.id IN :taskIds")
+    List<TaskChildCounts> findChildCounts(@Param("taskIds") Collection<Long> taskIds);
+
+    
+    @Query("SELECT new com.gradproject.taskmanager.modules.task.dto.TaskRevision(t.id, t.project.id, t.version, t.loggedHours, " +
+           "(SELECT COUNT(st) FROM Task st WHERE st.parentTask.id = t.id), " +
+           "(SELECT COUNT(c) FROM Comment c WHERE c.task.id = t.id), " +
+           "(SELECT COUNT(at) FROM Attachment at WHERE at.task.id = t.id), " +
+           "(SELECT COUNT(w) FROM TaskWatcher w WHERE w.task.id = t.id)) " +
+           "FROM Task t WHERE t.id = :taskId")
+    Optional<TaskRevision> findRevision(@Param("taskId") Long taskId);
+
+    
+    @Query(value = "SELECT id FROM tasks WHERE id = :taskId FOR NO KEY UPDATE", nativeQuery = true)
+    Long lockForLoggedHours(@Param("taskId") Long taskId);
+
+    
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        UPDATE tasks SET logged_hours = ROUND((
+            SELECT COALESCE(SUM(w.time_spent_minutes), 0) FROM work_logs w WHERE w.task_id = :taskId) / 60.0, 2)
+        WHERE id = :taskId
+        """, nativeQuery = true)
+    void recalculateLoggedHours(@Param("taskId") Long taskId);
+
+    
+    default Map<Long, TaskChildCounts> findChildCountsByTaskId(Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return Map.of();
+        }
+        return findChildCounts(taskIds).stream()
+                .collect(Collectors.toMap(TaskChildCounts::taskId, Function.identity()));
+    }
+
+
+    @Query("SELECT t.id FROM Task t WHERE t.project.id = :projectId")
+    List<Long> findIdsByProjectId(@Param("projectId") Long projectId);
+
+
+    @Query("SELECT t.id FROM Task t WHERE t.status.id = :statusId")
+    List<Long> findIdsByStatusId(@Param("statusId") Long statusId);
+
+
+    @Query("SELECT t.organization.id, t.id FROM Task t WHERE t.assignee.id = :assigneeId")
+    List<Object[]> findOrganizationAndIdByAssigneeId(@Param("assigneeId") Integer assigneeId);
+
+
+    default Map<Long, List<Long>> findIdsByOrganizationForAssignee(Integer assigneeId) {
+        return findOrganizationAndIdByAssigneeId(assigneeId).stream()
+                .collect(Collectors.groupingBy(row -> (Long) row[0],
+                        Collectors.mapping(row -> (Long) row[1], Collectors.toList())));
+    }
+
+    
     @Query("SELECT t FROM Task t " +
            "JOIN FETCH t.status s " +
            "WHERE t.project.id = :projectId " +
@@ -147,12 +372,10 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
 
     
     @Query(value = """
-        SELECT t.*, ts_rank(to_tsvector('english', COALESCE(t.title, '') || ' ' || COALESCE(t.description, '')),
-                           plainto_tsquery('english', :query)) as rank
+        SELECT t.*, ts_rank(t.search_vector, websearch_to_tsquery('english', :query)) as rank
         FROM tasks t
         WHERE t.organization_id = :orgId
-        AND to_tsvector('english', COALESCE(t.title, '') || ' ' || COALESCE(t.description, ''))
-            @@ plainto_tsquery('english', :query)
+        AND t.search_vector @@ websearch_to_tsquery('english', :query)
         ORDER BY rank DESC
         """, nativeQuery = true)
     List<Task> fullTextSearch(@Param("query") String query, @Param("orgId") Long organizationId);
@@ -9,8 +9,10 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 
 @Repository
@@ -23,6 +25,14 @@ public interface TaskWatcherRepository extends JpaRepository<TaskWatcher, Long>
     List<TaskWatcher> findByTaskIdWithUser(@Param("taskId") Long taskId);
 
     
+    @Query("SELECT tw FROM TaskWatcher tw JOIN FETCH tw.user WHERE tw.task.id IN :taskIds")
+    List<TaskWatcher> findByTaskIdInWithUser(@Param("taskIds") Collection<Long> taskIds);
+
+    
+    @Query("SELECT tw.task.id FROM TaskWatcher tw WHERE tw.user.id = :userId AND tw.task.id IN :taskIds")
+    Set<Long> findWatchedTaskIds(@Param("userId") Integer userId, @Param("taskIds") Collection<Long> taskIds);
+
+    
     List<TaskWatcher> findByUserId(Integer userId);
 
     
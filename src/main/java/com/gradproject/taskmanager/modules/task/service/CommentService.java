@@ -6,6 +6,7 @@ import com.gradproject.taskmanager.modules.auth.repository.UserRepository;
 import com.gradproject.taskmanager.modules.notification.event.CommentAddedEvent;
 import com.gradproject.taskmanager.modules.notification.event.MentionedEvent;
 import com.gradproject.taskmanager.modules.project.domain.Project;
+import com.gradproject.taskmanager.modules.search.event.TaskIndexEvent;
 import com.gradproject.taskmanager.modules.task.domain.Comment;
 import com.gradproject.taskmanager.modules.task.domain.Task;
 import com.gradproject.taskmanager.modules.task.dto.CommentRequest;
@@ -97,6 +98,7 @@ public class CommentService {
 
         
         eventPublisher.publishEvent(new CommentAddedEvent(this, task, comment, user));
+        eventPublisher.publishEvent(new TaskIndexEvent(this, task.getOrganization().getId(), task.getId()));
 
         
         if (!mentions.isEmpty()) {
@@ -136,6 +138,7 @@ public class CommentService {
         
         comment.setContent(request.getTrimmedContent());
         comment = commentRepository.save(comment);
+        eventPublisher.publishEvent(new TaskIndexEvent(this, comment.getTask().getOrganization().getId(), comment.getTask().getId()));
 
         log.info("User {} edited comment {}", userId, commentId);
 
@@ -202,6 +205,7 @@ public class CommentService {
         activityLogService.logCommentDeleted(task, comment, user);
 
         commentRepository.delete(comment);
+        eventPublisher.publishEvent(new TaskIndexEvent(this, task.getOrganization().getId(), task.getId()));
 
         log.info("User {} deleted comment {} (with {} replies)", userId, commentId, replyCount);
     }
@@ -6,6 +6,7 @@ import com.gradproject.taskmanager.modules.organization.domain.Organization;
 import com.gradproject.taskmanager.modules.organization.repository.OrganizationMemberRepository;
 import com.gradproject.taskmanager.modules.organization.repository.OrganizationRepository;
 import com.gradproject.taskmanager.modules.project.domain.Project;
+import com.gradproject.taskmanager.modules.search.event.TaskIndexEvent;
 import com.gradproject.taskmanager.modules.task.domain.Label;
 import com.gradproject.taskmanager.modules.task.domain.Task;
 import com.gradproject.taskmanager.modules.task.domain.TaskLabel;
@@ -14,6 +15,7 @@ import com.gradproject.taskmanager.modules.task.dto.LabelResponse;
 import com.gradproject.taskmanager.modules.task.repository.LabelRepository;
 import com.gradproject.taskmanager.modules.task.repository.TaskLabelRepository;
 import com.gradproject.taskmanager.modules.task.repository.TaskRepository;
+import com.gradproject.taskmanager.shared.cache.ReferenceDataCache;
 import com.gradproject.taskmanager.shared.exception.BusinessRuleViolationException;
 import com.gradproject.taskmanager.shared.exception.DuplicateResourceException;
 import com.gradproject.taskmanager.shared.exception.ResourceNotFoundException;
@@ -22,6 +24,7 @@ import com.gradproject.taskmanager.shared.mapper.LabelMapper;
 import com.gradproject.taskmanager.shared.security.PermissionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -42,6 +45,8 @@ public class LabelService {
     private final UserRepository userRepository;
     private final PermissionService permissionService;
     private final LabelMapper mapper;
+    private final ReferenceDataCache referenceDataCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     
     @Transactional
@@ -68,6 +73,7 @@ public class LabelService {
 
         
         label = labelRepository.save(label);
+        referenceDataCache.evictLabel(label.getId());
         log.info("Created label '{}' (id={}) in organization {}", label.getName(), label.getId(), orgId);
 
         return mapper.toResponse(label);
@@ -95,6 +101,9 @@ public class LabelService {
         mapper.updateFromRequest(request, label);
 
         label = labelRepository.save(label);
+        referenceDataCache.evictLabel(label.getId());
+        eventPublisher.publishEvent(new TaskIndexEvent(this, label.getOrganization().getId(),
+            taskLabelRepository.findTaskIdsByLabelId(labelId)));
         log.info("Updated label {} in organization {}", labelId, label.getOrganization().getId());
 
         return mapper.toResponse(label);
@@ -112,7 +121,10 @@ public class LabelService {
         verifyOrganizationMembership(userId, label.getOrganization().getId());
 
         
+        List<Long> labelledTaskIds = taskLabelRepository.findTaskIdsByLabelId(labelId);
         labelRepository.delete(label);
+        referenceDataCache.evictLabel(labelId);
+        eventPublisher.publishEvent(new TaskIndexEvent(this, label.getOrganization().getId(), labelledTaskIds));
 
         log.info("Deleted label '{}' (id={}) from organization {}",
                 label.getName(), labelId, label.getOrganization().getId());
@@ -178,6 +190,7 @@ public class LabelService {
                 .build();
 
         taskLabelRepository.save(taskLabel);
+        eventPublisher.publishEvent(new TaskIndexEvent(this, task.getOrganization().getId(), taskId));
         log.info("Added label '{}' to task {} by user {}", label.getName(), task.getKey(), userId);
     }
 
@@ -197,6 +210,7 @@ public class LabelService {
 
         
         taskLabelRepository.deleteByTaskIdAndLabelId(taskId, labelId);
+        eventPublisher.publishEvent(new TaskIndexEvent(this, task.getOrganization().getId(), taskId));
 
         log.info("Removed label from task {} by user {}", task.getKey(), userId);
     }
@@ -0,0 +1,62 @@
+package com.gradproject.taskmanager.modules.task.service;
+
+import com.gradproject.taskmanager.modules.project.domain.Project;
+import com.gradproject.taskmanager.modules.task.repository.TaskKeySequenceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+public class TaskKeyAllocator {
+    
+    private final TaskKeySequenceRepository taskKeySequenceRepository;
+    private final int blockSize;
+    private final Map<Long, KeyBlock> blocks = new ConcurrentHashMap<>();
+    private final Map<Long, Object> reservationLocks = new ConcurrentHashMap<>();
+
+    public TaskKeyAllocator(TaskKeySequenceRepository taskKeySequenceRepository,
+                            @Value("${app.tasks.key-block-size:50}") int blockSize) {
+        this.taskKeySequenceRepository = taskKeySequenceRepository;
+        this.blockSize = blockSize;
+    }
+
+    
+    public String nextKey(Project project) {
+        return project.getKey() + "-" + nextSequence(project.getId());
+    }
+
+    
+    long nextSequence(Long projectId) {
+        while (true) {
+            KeyBlock block = blocks.get(projectId);
+            if (block != null) {
+                long sequence = block.next().getAndIncrement();
+                if (sequence <= block.last()) {
+                    return sequence;
+                }
+            }
+
+            synchronized (reservationLocks.computeIfAbsent(projectId, id -> new Object())) {
+                if (blocks.get(projectId) == block) {
+                    blocks.put(projectId, reserveBlock(projectId));
+                }
+            }
+        }
+    }
+
+    
+    private KeyBlock reserveBlock(Long projectId) {
+        long last = taskKeySequenceRepository.reserveBlock(projectId, blockSize);
+        long first = last - blockSize + 1;
+        log.debug("Reserved task keys {}..{} for project {}", first, last, projectId);
+        return new KeyBlock(new AtomicLong(first), last);
+    }
+
+    private record KeyBlock(AtomicLong next, long last) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.gradproject.taskmanager.modules.task.service;
+
+import com.gradproject.taskmanager.modules.auth.domain.User;
+import com.gradproject.taskmanager.modules.project.domain.Project;
+import com.gradproject.taskmanager.modules.project.domain.Sprint;
+import com.gradproject.taskmanager.modules.project.domain.TaskStatus;
+import com.gradproject.taskmanager.modules.task.domain.Task;
+
+
+public record TaskMutationContext(
+    User actor,
+    Project project,
+    Task task,
+    TaskStatus status,
+    User assignee,
+    boolean assigneeInOrganization,
+    Sprint sprint,
+    Task parentTask
+) {}
@@ -0,0 +1,81 @@
+package com.gradproject.taskmanager.modules.task.service;
+
+import com.gradproject.taskmanager.modules.auth.domain.User;
+import com.gradproject.taskmanager.modules.auth.repository.UserRepository;
+import com.gradproject.taskmanager.modules.project.domain.Project;
+import com.gradproject.taskmanager.modules.project.domain.Sprint;
+import com.gradproject.taskmanager.modules.project.domain.TaskStatus;
+import com.gradproject.taskmanager.modules.task.domain.Task;
+import com.gradproject.taskmanager.modules.task.repository.TaskRepository;
+import com.gradproject.taskmanager.shared.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class TaskMutationContextLoader {
+    
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+
+    
+    public TaskMutationContext forCreate(Integer userId, Long projectId, Long statusId,
+                                         Integer assigneeId, Long sprintId, Long parentTaskId) {
+        List<Object[]> rows = taskRepository.loadCreateContext(
+                userId, projectId, statusId, assigneeId, sprintId, parentTaskId);
+
+        if (rows.isEmpty()) {
+            if (!userRepository.existsById(userId)) {
+                throw new ResourceNotFoundException("User", userId);
+            }
+            throw new ResourceNotFoundException("Project", projectId);
+        }
+
+        Object[] row = rows.get(0);
+        User actor = requireActor((User) row[0], userId);
+
+        return new TaskMutationContext(
+                actor,
+                (Project) row[1],
+                null,
+                (TaskStatus) row[2],
+                (User) row[3],
+                row[4] != null,
+                (Sprint) row[5],
+                (Task) row[6]
+        );
+    }
+
+    
+    public TaskMutationContext forUpdate(Long taskId, Integer userId, Long statusId, Integer assigneeId) {
+        List<Object[]> rows = taskRepository.loadUpdateContext(taskId, userId, statusId, assigneeId);
+
+        if (rows.isEmpty()) {
+            throw new ResourceNotFoundException("Task", taskId);
+        }
+
+        Object[] row = rows.get(0);
+        Task task = (Task) row[0];
+        User actor = requireActor((User) row[1], userId);
+
+        return new TaskMutationContext(
+                actor,
+                task.getProject(),
+                task,
+                (TaskStatus) row[2],
+                (User) row[3],
+                row[4] != null,
+                null,
+                null
+        );
+    }
+
+    private static User requireActor(User actor, Integer userId) {
+        if (actor == null) {
+            throw new ResourceNotFoundException("User", userId);
+        }
+        return actor;
+    }
+}
@@ -1,8 +1,10 @@
 package com.gradproject.taskmanager.modules.task.service;
 
 import com.gradproject.taskmanager.modules.task.dto.*;
+import com.gradproject.taskmanager.shared.dto.CursorPageResponse;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 
 public interface TaskService {
@@ -11,7 +13,7 @@ public interface TaskService {
     TaskResponse createTask(Long projectId, TaskCreateRequest request, Integer userId);
 
     
-    TaskResponse updateTask(Long taskId, TaskUpdateRequest request, Integer userId);
+    TaskResponse updateTask(Long taskId, TaskUpdateRequest request, String ifMatch, Integer userId);
 
     
     void deleteTask(Long taskId, Integer userId);
@@ -20,6 +22,9 @@ public interface TaskService {
     TaskResponse getTask(Long taskId, Integer userId);
 
     
+    TaskRevision getTaskRevision(Long taskId, Integer userId);
+
+    
     TaskResponse getTaskByKey(Long orgId, String key, Integer userId);
 
     
@@ -32,12 +37,36 @@ public interface TaskService {
     );
 
     
+    CursorPageResponse<TaskSummary> listProjectTasksPage(
+        Long projectId,
+        Long statusId,
+        Integer assigneeId,
+        Long sprintId,
+        String cursor,
+        int limit,
+        Integer userId
+    );
+
+    
+    void streamProjectTasks(
+        Long projectId,
+        Long statusId,
+        Integer assigneeId,
+        Long sprintId,
+        Integer userId,
+        Consumer<TaskSummary> consumer
+    );
+
+    
     TaskResponse assignTask(Long taskId, TaskAssignRequest request, Integer userId);
 
     
     TaskResponse transitionStatus(Long taskId, TaskTransitionRequest request, Integer userId);
 
     
+    TaskBulkResponse bulkUpdate(TaskBulkRequest request, Integer userId);
+
+    
     List<TaskSummary> getMyOpenTasks(Long orgId, Integer userId);
 
     
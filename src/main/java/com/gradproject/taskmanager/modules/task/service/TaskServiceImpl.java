@@ -3,34 +3,51 @@ package com.gradproject.taskmanager.modules.task.service;
 import com.gradproject.taskmanager.modules.activity.service.ActivityLogService;
 import com.gradproject.taskmanager.modules.auth.domain.User;
 import com.gradproject.taskmanager.modules.auth.repository.UserRepository;
+import com.gradproject.taskmanager.modules.notification.domain.NotificationType;
 import com.gradproject.taskmanager.modules.notification.event.TaskAssignedEvent;
 import com.gradproject.taskmanager.modules.notification.event.TaskCreatedEvent;
 import com.gradproject.taskmanager.modules.notification.event.TaskStatusChangedEvent;
 import com.gradproject.taskmanager.modules.notification.event.TaskUnassignedEvent;
+import com.gradproject.taskmanager.modules.notification.event.TasksBulkUpdatedEvent;
 import com.gradproject.taskmanager.modules.organization.domain.OrganizationMember;
 import com.gradproject.taskmanager.modules.organization.repository.OrganizationMemberRepository;
 import com.gradproject.taskmanager.modules.project.domain.Project;
 import com.gradproject.taskmanager.modules.project.domain.Sprint;
+import com.gradproject.taskmanager.modules.project.domain.SprintStatus;
 import com.gradproject.taskmanager.modules.project.domain.TaskStatus;
 import com.gradproject.taskmanager.modules.project.repository.ProjectRepository;
 import com.gradproject.taskmanager.modules.project.repository.SprintRepository;
 import com.gradproject.taskmanager.modules.project.repository.TaskStatusRepository;
+import com.gradproject.taskmanager.modules.search.event.TaskIndexEvent;
 import com.gradproject.taskmanager.modules.task.domain.Task;
+import com.gradproject.taskmanager.modules.task.domain.TaskWatcher;
 import com.gradproject.taskmanager.modules.task.dto.*;
 import com.gradproject.taskmanager.modules.task.repository.TaskRepository;
+import com.gradproject.taskmanager.modules.task.repository.TaskWatcherRepository;
+import com.gradproject.taskmanager.shared.dto.CursorPageResponse;
+import com.gradproject.taskmanager.shared.exception.BadRequestException;
 import com.gradproject.taskmanager.shared.exception.BusinessRuleViolationException;
 import com.gradproject.taskmanager.shared.exception.ResourceNotFoundException;
 import com.gradproject.taskmanager.shared.exception.UnauthorizedException;
 import com.gradproject.taskmanager.shared.mapper.TaskMapper;
 import com.gradproject.taskmanager.shared.security.PermissionService;
+import com.gradproject.taskmanager.shared.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 
 @Slf4j
@@ -38,17 +55,23 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class TaskServiceImpl implements TaskService {
 
+    static final int MAX_PAGE_SIZE = 200;
+    static final int STREAM_BATCH_SIZE = 500;
+
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
-    private final TaskStatusRepository statusRepository;
     private final UserRepository userRepository;
-    private final SprintRepository sprintRepository;
     private final OrganizationMemberRepository organizationMemberRepository;
     private final PermissionService permissionService;
     private final TaskMapper mapper;
     private final ActivityLogService activityLogService;
     private final TaskWatcherService watcherService;
     private final ApplicationEventPublisher eventPublisher;
+    private final TaskMutationContextLoader contextLoader;
+    private final TaskStatusRepository statusRepository;
+    private final SprintRepository sprintRepository;
+    private final TaskWatcherRepository watcherRepository;
+    private final TaskKeyAllocator keyAllocator;
 
     @Override
     @Transactional
@@ -56,11 +79,10 @@ public class TaskServiceImpl implements TaskService {
         log.debug("Creating task in project {} by user {}", projectId, userId);
 
         
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User", userId));
-
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new ResourceNotFoundException("Project", projectId));
+        TaskMutationContext context = contextLoader.forCreate(userId, projectId, request.statusId(),
+                request.assigneeId(), request.sprintId(), request.parentTaskId());
+        User user = context.actor();
+        Project project = context.project();
 
         
         if (!permissionService.canManageTasks(user, project)) {
@@ -68,8 +90,10 @@ public class TaskServiceImpl implements TaskService {
         }
 
         
-        TaskStatus status = statusRepository.findById(request.statusId())
-                .orElseThrow(() -> new ResourceNotFoundException("TaskStatus", request.statusId()));
+        TaskStatus status = context.status();
+        if (status == null) {
+            throw new ResourceNotFoundException("TaskStatus", request.statusId());
+        }
 
         if (!status.getProject().getId().equals(projectId)) {
             throw new BusinessRuleViolationException("Status does not belong to this project");
@@ -85,12 +109,13 @@ public class TaskServiceImpl implements TaskService {
 
         
         if (request.assigneeId() != null) {
-            User assignee = userRepository.findById(request.assigneeId())
-                    .orElseThrow(() -> new ResourceNotFoundException("User", request.assigneeId()));
+            User assignee = context.assignee();
+            if (assignee == null) {
+                throw new ResourceNotFoundException("User", request.assigneeId());
+            }
 
             
-            if (!organizationMemberRepository.existsByUserIdAndOrganizationId(
-                    assignee.getId(), project.getOrganization().getId())) {
+            if (!context.assigneeInOrganization()) {
                 throw new BusinessRuleViolationException("Assignee must be a member of the organization");
             }
 
@@ -99,8 +124,10 @@ public class TaskServiceImpl implements TaskService {
 
         
         if (request.sprintId() != null) {
-            Sprint sprint = sprintRepository.findById(request.sprintId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Sprint", request.sprintId()));
+            Sprint sprint = context.sprint();
+            if (sprint == null) {
+                throw new ResourceNotFoundException("Sprint", request.sprintId());
+            }
 
             if (!sprint.getProject().getId().equals(projectId)) {
                 throw new BusinessRuleViolationException("Sprint does not belong to this project");
@@ -111,8 +138,10 @@ public class TaskServiceImpl implements TaskService {
 
         
         if (request.parentTaskId() != null) {
-            Task parentTask = taskRepository.findById(request.parentTaskId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Task", request.parentTaskId()));
+            Task parentTask = context.parentTask();
+            if (parentTask == null) {
+                throw new ResourceNotFoundException("Task", request.parentTaskId());
+            }
 
             if (!parentTask.getProject().getId().equals(projectId)) {
                 throw new BusinessRuleViolationException("Parent task must belong to the same project");
@@ -122,6 +151,7 @@ public class TaskServiceImpl implements TaskService {
         }
 
         
+        task.setKey(keyAllocator.nextKey(project));
         task = taskRepository.save(task);
 
         
@@ -137,6 +167,7 @@ public class TaskServiceImpl implements TaskService {
 
         
         eventPublisher.publishEvent(new TaskCreatedEvent(this, task, user));
+        eventPublisher.publishEvent(new TaskIndexEvent(this, task.getOrganization().getId(), task.getId()));
 
         
         if (task.getAssignee() != null) {
@@ -144,27 +175,12 @@ public class TaskServiceImpl implements TaskService {
         }
 
         
-        TaskResponse response = mapper.toResponse(task);
-
-        
-        long subtaskCount = task.getId() != null ? taskRepository.countSubtasks(task.getId()) : 0;
-
-        return new TaskResponse(
-            response.id(), response.key(), response.title(), response.description(),
-            response.status(), response.assignee(), response.reporter(),
-            response.type(), response.priority(), response.dueDate(),
-            response.estimatedHours(), response.loggedHours(), response.storyPoints(),
-            response.projectId(), response.projectKey(), response.projectName(),
-            response.sprintId(), response.sprintName(),
-            response.parentTaskId(), response.parentTaskKey(),
-            (int) subtaskCount, 0, 0,  
-            response.isOverdue(), response.createdAt(), response.updatedAt(), response.createdBy()
-        );
+        return buildTaskResponse(task, TaskChildCounts.none(task.getId()));
     }
 
     @Override
     @Transactional
-    public TaskResponse updateTask(Long taskId, TaskUpdateRequest request, Integer userId) {
+    public TaskResponse updateTask(Long taskId, TaskUpdateRequest request, String ifMatch, Integer userId) {
         log.debug("Updating task {} by user {}", taskId, userId);
 
         
@@ -180,10 +196,20 @@ public class TaskServiceImpl implements TaskService {
         }
 
         
+        // Compared against the whole current ETag, so work logs and child changes that
+        // leave the version alone still fail a stale If-Match
+        if (ifMatch != null) {
+            taskRepository.findRevision(taskId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Task", taskId))
+                    .requireMatch(ifMatch);
+        }
+
+        
         mapper.updateFromRequest(request, task);
         task.setUpdatedBy(user);
 
         task = taskRepository.save(task);
+        eventPublisher.publishEvent(new TaskIndexEvent(this, task.getOrganization().getId(), task.getId()));
 
         return buildTaskResponse(task);
     }
@@ -213,6 +239,7 @@ public class TaskServiceImpl implements TaskService {
         }
 
         taskRepository.delete(task);
+        eventPublisher.publishEvent(new TaskIndexEvent(this, task.getOrganization().getId(), taskId));
         log.info("Deleted task {} from project {}", task.getKey(), task.getProject().getKey());
     }
 
@@ -235,6 +262,16 @@ public class TaskServiceImpl implements TaskService {
         return buildTaskResponse(task);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public TaskRevision getTaskRevision(Long taskId, Integer userId) {
+        TaskRevision revision = taskRepository.findRevision(taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task", taskId));
+
+        requireProjectAccess(revision.projectId(), userId);
+        return revision;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public TaskResponse getTaskByKey(Long orgId, String key, Integer userId) {
@@ -278,11 +315,72 @@ public class TaskServiceImpl implements TaskService {
         }
 
         
-        List<Task> tasks = taskRepository.findByProjectWithFilters(projectId, statusId, assigneeId, sprintId);
+        return withChildCounts(taskRepository.findSummariesByProjectWithFilters(projectId, statusId, assigneeId, sprintId));
+    }
 
-        return tasks.stream()
-                .map(mapper::toSummary)
-                .collect(Collectors.toList());
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TaskSummary> listProjectTasksPage(Long projectId, Long statusId, Integer assigneeId,
+                                                                Long sprintId, String cursor, int limit,
+                                                                Integer userId) {
+        log.debug("Listing task page in project {} after cursor {} (limit {})", projectId, cursor, limit);
+
+        requireProjectAccess(projectId, userId);
+
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        
+        Limit fetchLimit = Limit.of(pageSize + 1);
+        List<TaskSummaryRow> rows = after == null
+                ? taskRepository.findFirstSummaryPageByProjectWithFilters(
+                        projectId, statusId, assigneeId, sprintId, fetchLimit)
+                : taskRepository.findSummaryPageByProjectWithFiltersAfter(
+                        projectId, statusId, assigneeId, sprintId, after.timestamp(), after.id(), fetchLimit);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<TaskSummaryRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            TaskSummaryRow last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.createdAt(), last.id()).encode();
+        }
+
+        List<TaskSummary> content = withChildCounts(page);
+
+        return new CursorPageResponse<>(content, pageSize, nextCursor, hasNext);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamProjectTasks(Long projectId, Long statusId, Integer assigneeId, Long sprintId,
+                                   Integer userId, Consumer<TaskSummary> consumer) {
+        log.debug("Streaming tasks in project {} with filters: status={}, assignee={}, sprint={}",
+                  projectId, statusId, assigneeId, sprintId);
+
+        requireProjectAccess(projectId, userId);
+
+        List<TaskSummaryRow> batch = new ArrayList<>(STREAM_BATCH_SIZE);
+        try (Stream<TaskSummaryRow> rows =
+                     taskRepository.streamSummariesByProjectWithFilters(projectId, statusId, assigneeId, sprintId)) {
+            rows.forEach(row -> {
+                batch.add(row);
+                if (batch.size() == STREAM_BATCH_SIZE) {
+                    emitBatch(batch, consumer);
+                }
+            });
+        }
+        emitBatch(batch, consumer);
+    }
+
+    
+    private void emitBatch(List<TaskSummaryRow> batch, Consumer<TaskSummary> consumer) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        withChildCounts(batch).forEach(consumer);
+        batch.clear();
     }
 
     @Override
@@ -290,11 +388,9 @@ public class TaskServiceImpl implements TaskService {
     public TaskResponse assignTask(Long taskId, TaskAssignRequest request, Integer userId) {
         log.debug("Assigning task {} to user {} by user {}", taskId, request.assigneeId(), userId);
 
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new ResourceNotFoundException("Task", taskId));
-
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User", userId));
+        TaskMutationContext context = contextLoader.forUpdate(taskId, userId, null, request.assigneeId());
+        Task task = context.task();
+        User user = context.actor();
 
         
         if (!permissionService.canManageTasks(user, task.getProject())) {
@@ -307,12 +403,13 @@ public class TaskServiceImpl implements TaskService {
 
         if (request.assigneeId() != null) {
             
-            User assignee = userRepository.findById(request.assigneeId())
-                    .orElseThrow(() -> new ResourceNotFoundException("User", request.assigneeId()));
+            User assignee = context.assignee();
+            if (assignee == null) {
+                throw new ResourceNotFoundException("User", request.assigneeId());
+            }
 
             
-            if (!organizationMemberRepository.existsByUserIdAndOrganizationId(
-                    assignee.getId(), task.getOrganization().getId())) {
+            if (!context.assigneeInOrganization()) {
                 throw new BusinessRuleViolationException("Assignee must be a member of the organization");
             }
 
@@ -342,6 +439,7 @@ public class TaskServiceImpl implements TaskService {
         } else if (oldAssignee != null) {
             eventPublisher.publishEvent(new TaskUnassignedEvent(this, task, oldAssignee, user));
         }
+        eventPublisher.publishEvent(new TaskIndexEvent(this, task.getOrganization().getId(), task.getId()));
 
         return buildTaskResponse(task);
     }
@@ -351,11 +449,9 @@ public class TaskServiceImpl implements TaskService {
     public TaskResponse transitionStatus(Long taskId, TaskTransitionRequest request, Integer userId) {
         log.debug("Transitioning task {} to status {} by user {}", taskId, request.newStatusId(), userId);
 
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new ResourceNotFoundException("Task", taskId));
-
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User", userId));
+        TaskMutationContext context = contextLoader.forUpdate(taskId, userId, request.newStatusId(), null);
+        Task task = context.task();
+        User user = context.actor();
 
         
         if (!permissionService.canManageTasks(user, task.getProject())) {
@@ -363,8 +459,10 @@ public class TaskServiceImpl implements TaskService {
         }
 
         
-        TaskStatus newStatus = statusRepository.findById(request.newStatusId())
-                .orElseThrow(() -> new ResourceNotFoundException("TaskStatus", request.newStatusId()));
+        TaskStatus newStatus = context.status();
+        if (newStatus == null) {
+            throw new ResourceNotFoundException("TaskStatus", request.newStatusId());
+        }
 
         if (!newStatus.getProject().getId().equals(task.getProject().getId())) {
             throw new BusinessRuleViolationException("Status does not belong to this project");
@@ -389,6 +487,7 @@ public class TaskServiceImpl implements TaskService {
 
         
         eventPublisher.publishEvent(new TaskStatusChangedEvent(this, task, oldStatus, newStatus, user));
+        eventPublisher.publishEvent(new TaskIndexEvent(this, task.getOrganization().getId(), task.getId()));
 
         
         log.info("Transitioned task {} to status {}", task.getKey(), newStatus.getName());
@@ -396,6 +495,207 @@ public class TaskServiceImpl implements TaskService {
         return buildTaskResponse(task);
     }
 
+    @Override
+    @Transactional
+    public TaskBulkResponse bulkUpdate(TaskBulkRequest request, Integer userId) {
+        log.debug("Bulk {} of {} tasks by user {}", request.operation(), request.taskIds().size(), userId);
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", userId));
+
+        
+        List<Long> taskIds = request.taskIds().stream().distinct().toList();
+        Map<Long, Task> tasksById = taskRepository.findAllForBulkUpdate(taskIds).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        List<TaskBulkResponse.Result> results = new ArrayList<>();
+        switch (request.operation()) {
+            case TRANSITION -> bulkTransition(request, user, taskIds, tasksById, results);
+            case ASSIGN -> bulkAssign(request, user, taskIds, tasksById, results);
+            case MOVE_TO_SPRINT -> bulkMoveToSprint(request, user, taskIds, tasksById, results);
+            case DELETE -> bulkDelete(user, taskIds, tasksById, results);
+        }
+
+        if (request.operation() != TaskBulkRequest.Operation.MOVE_TO_SPRINT) {
+            results.stream()
+                    .filter(TaskBulkResponse.Result::success)
+                    .map(result -> tasksById.get(result.taskId()))
+                    .collect(Collectors.groupingBy(task -> task.getOrganization().getId(),
+                            Collectors.mapping(Task::getId, Collectors.toList())))
+                    .forEach((organizationId, changedTaskIds) ->
+                            eventPublisher.publishEvent(new TaskIndexEvent(this, organizationId, changedTaskIds)));
+        }
+
+        TaskBulkResponse response = TaskBulkResponse.of(request.operation(), results);
+        log.info("Bulk {} by user {}: {} succeeded, {} failed",
+                request.operation(), userId, response.succeeded(), response.failed());
+        return response;
+    }
+
+    private void bulkTransition(TaskBulkRequest request, User user, List<Long> taskIds, Map<Long, Task> tasksById,
+                                List<TaskBulkResponse.Result> results) {
+        if (request.statusId() == null) {
+            throw new BadRequestException("Status ID is required for bulk transition");
+        }
+        TaskStatus newStatus = statusRepository.findById(request.statusId())
+                .orElseThrow(() -> new ResourceNotFoundException("TaskStatus", request.statusId()));
+
+        List<Task> accepted = acceptTasks(user, taskIds, tasksById, results, task -> {
+            if (!newStatus.getProject().getId().equals(task.getProject().getId())) {
+                return "Status does not belong to this project";
+            }
+            if (!task.canTransitionTo(newStatus)) {
+                return "Cannot transition from " + task.getStatus().getName() + " to " + newStatus.getName();
+            }
+            return null;
+        });
+
+        Map<Long, TaskStatus> oldStatuses = new HashMap<>();
+        for (Task task : accepted) {
+            oldStatuses.put(task.getId(), task.getStatus());
+            task.setStatus(newStatus);
+            task.setUpdatedBy(user);
+        }
+        taskRepository.saveAll(accepted);
+
+        activityLogService.logStatusChanges(accepted, oldStatuses, user);
+        publishBulkNotifications(accepted, user, null, NotificationType.STATUS_CHANGED, "to " + newStatus.getName());
+    }
+
+    private void bulkAssign(TaskBulkRequest request, User user, List<Long> taskIds, Map<Long, Task> tasksById,
+                            List<TaskBulkResponse.Result> results) {
+        User assignee = request.assigneeId() == null ? null : userRepository.findById(request.assigneeId())
+                .orElseThrow(() -> new ResourceNotFoundException("User", request.assigneeId()));
+
+        
+        Map<Long, Boolean> memberOfOrganization = new HashMap<>();
+        List<Task> accepted = acceptTasks(user, taskIds, tasksById, results, task -> {
+            if (assignee != null && !memberOfOrganization.computeIfAbsent(task.getOrganization().getId(),
+                    orgId -> organizationMemberRepository.existsByUserIdAndOrganizationId(assignee.getId(), orgId))) {
+                return "Assignee must be a member of the organization";
+            }
+            return null;
+        });
+
+        Map<Long, User> oldAssignees = new HashMap<>();
+        for (Task task : accepted) {
+            oldAssignees.put(task.getId(), task.getAssignee());
+            task.setAssignee(assignee);
+            task.setUpdatedBy(user);
+        }
+        taskRepository.saveAll(accepted);
+
+        activityLogService.logAssignments(accepted, oldAssignees, user);
+        watcherService.autoWatchOnAssign(accepted, assignee);
+
+        if (assignee != null) {
+            publishBulkNotifications(accepted, user, assignee, NotificationType.TASK_ASSIGNED,
+                    "to " + assignee.getUsername());
+        } else {
+            publishBulkNotifications(accepted, user, null, NotificationType.TASK_UNASSIGNED, null);
+        }
+    }
+
+    private void bulkMoveToSprint(TaskBulkRequest request, User user, List<Long> taskIds, Map<Long, Task> tasksById,
+                                  List<TaskBulkResponse.Result> results) {
+        Sprint sprint = request.sprintId() == null ? null : sprintRepository.findById(request.sprintId())
+                .orElseThrow(() -> new ResourceNotFoundException("Sprint", request.sprintId()));
+
+        if (sprint != null
+                && (sprint.getStatus() == SprintStatus.COMPLETED || sprint.getStatus() == SprintStatus.CANCELLED)) {
+            throw new BusinessRuleViolationException("Cannot assign tasks to a completed or cancelled sprint");
+        }
+
+        List<Task> accepted = acceptTasks(user, taskIds, tasksById, results, task -> {
+            if (sprint != null && !sprint.getProject().getId().equals(task.getProject().getId())) {
+                return "Task does not belong to the same project as the sprint";
+            }
+            return null;
+        });
+
+        for (Task task : accepted) {
+            task.setSprint(sprint);
+            task.setUpdatedBy(user);
+        }
+        taskRepository.saveAll(accepted);
+    }
+
+    private void bulkDelete(User user, List<Long> taskIds, Map<Long, Task> tasksById,
+                            List<TaskBulkResponse.Result> results) {
+        Map<Long, TaskChildCounts> counts = taskRepository.findChildCountsByTaskId(tasksById.keySet());
+
+        List<Task> accepted = acceptTasks(user, taskIds, tasksById, results, task -> {
+            long subtaskCount = countsFor(counts, task.getId()).subtaskCount();
+            if (subtaskCount > 0) {
+                return "Cannot delete task with " + subtaskCount + " subtask(s). Delete or move subtasks first.";
+            }
+            return null;
+        });
+
+        taskRepository.deleteAll(accepted);
+    }
+
+    
+    private List<Task> acceptTasks(User user, List<Long> taskIds, Map<Long, Task> tasksById,
+                                   List<TaskBulkResponse.Result> results, Function<Task, String> validator) {
+        Map<Long, Boolean> canManageByProject = new HashMap<>();
+        List<Task> accepted = new ArrayList<>();
+
+        for (Long taskId : taskIds) {
+            Task task = tasksById.get(taskId);
+            if (task == null) {
+                results.add(TaskBulkResponse.Result.failed(taskId, null, "Task not found"));
+                continue;
+            }
+
+            boolean canManage = canManageByProject.computeIfAbsent(task.getProject().getId(),
+                    projectId -> permissionService.canManageTasks(user, task.getProject()));
+            String error = canManage
+                    ? validator.apply(task)
+                    : "You do not have permission to manage tasks in this project";
+
+            if (error != null) {
+                results.add(TaskBulkResponse.Result.failed(taskId, task.getKey(), error));
+            } else {
+                results.add(TaskBulkResponse.Result.ok(taskId, task.getKey()));
+                accepted.add(task);
+            }
+        }
+        return accepted;
+    }
+
+    
+    private void publishBulkNotifications(List<Task> tasks, User actor, User assignee,
+                                          NotificationType type, String change) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<User>> watchersByTask = new HashMap<>();
+        for (TaskWatcher watcher : watcherRepository.findByTaskIdInWithUser(tasks.stream().map(Task::getId).toList())) {
+            watchersByTask.computeIfAbsent(watcher.getTask().getId(), id -> new ArrayList<>()).add(watcher.getUser());
+        }
+
+        Map<Integer, User> recipients = new LinkedHashMap<>();
+        Map<Integer, List<Task>> tasksByRecipient = new LinkedHashMap<>();
+        for (Task task : tasks) {
+            for (User watcher : watchersByTask.getOrDefault(task.getId(), List.of())) {
+                if (watcher.getId().equals(actor.getId())
+                        || (assignee != null && watcher.getId().equals(assignee.getId()))) {
+                    continue;
+                }
+                recipients.putIfAbsent(watcher.getId(), watcher);
+                tasksByRecipient.computeIfAbsent(watcher.getId(), id -> new ArrayList<>()).add(task);
+            }
+        }
+
+        if (assignee != null && !assignee.getId().equals(actor.getId())) {
+            eventPublisher.publishEvent(new TasksBulkUpdatedEvent(this, tasks, assignee, actor, type, "to you"));
+        }
+        recipients.forEach((recipientId, recipient) -> eventPublisher.publishEvent(
+                new TasksBulkUpdatedEvent(this, tasksByRecipient.get(recipientId), recipient, actor, type, change)));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<TaskSummary> getMyOpenTasks(Long orgId, Integer userId) {
@@ -409,11 +709,7 @@ public class TaskServiceImpl implements TaskService {
                 .findByUserIdAndOrganizationId(userId, orgId)
                 .orElseThrow(() -> new UnauthorizedException("You are not a member of this organization"));
 
-        List<Task> tasks = taskRepository.findMyOpenTasks(userId, orgId);
-
-        return tasks.stream()
-                .map(mapper::toSummary)
-                .collect(Collectors.toList());
+        return withChildCounts(taskRepository.findMyOpenTaskSummaries(userId, orgId));
     }
 
     @Override
@@ -432,11 +728,7 @@ public class TaskServiceImpl implements TaskService {
             throw new UnauthorizedException("You do not have access to this task");
         }
 
-        List<Task> subtasks = taskRepository.findSubtasks(parentTaskId);
-
-        return subtasks.stream()
-                .map(mapper::toSummary)
-                .collect(Collectors.toList());
+        return withChildCounts(taskRepository.findSubtaskSummaries(parentTaskId));
     }
 
     @Override
@@ -455,19 +747,45 @@ public class TaskServiceImpl implements TaskService {
             throw new UnauthorizedException("You do not have access to this project");
         }
 
-        List<Task> backlogTasks = taskRepository.findBacklogTasks(projectId);
+        return withChildCounts(taskRepository.findBacklogTaskSummaries(projectId));
+    }
 
-        return backlogTasks.stream()
-                .map(mapper::toSummary)
+    
+    private void requireProjectAccess(Long projectId, Integer userId) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project", projectId));
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", userId));
+
+        if (!permissionService.canAccessProject(user, project)) {
+            throw new UnauthorizedException("You do not have access to this project");
+        }
+    }
+
+    
+    private List<TaskSummary> withChildCounts(List<TaskSummaryRow> rows) {
+        Map<Long, TaskChildCounts> counts = taskRepository.findChildCountsByTaskId(
+                rows.stream().map(TaskSummaryRow::id).toList());
+
+        return rows.stream()
+                .map(row -> row.toSummary().withCounts(countsFor(counts, row.id())))
                 .collect(Collectors.toList());
     }
 
+    private static TaskChildCounts countsFor(Map<Long, TaskChildCounts> counts, Long taskId) {
+        TaskChildCounts taskCounts = counts.get(taskId);
+        return taskCounts != null ? taskCounts : TaskChildCounts.none(taskId);
+    }
+
     
     private TaskResponse buildTaskResponse(Task task) {
-        TaskResponse response = mapper.toResponse(task);
+        TaskChildCounts counts = countsFor(taskRepository.findChildCountsByTaskId(List.of(task.getId())), task.getId());
+        return buildTaskResponse(task, counts);
+    }
 
-        
-        long subtaskCount = taskRepository.countSubtasks(task.getId());
+    private TaskResponse buildTaskResponse(Task task, TaskChildCounts counts) {
+        TaskResponse response = mapper.toResponse(task);
 
         return new TaskResponse(
             response.id(), response.key(), response.title(), response.description(),
@@ -477,8 +795,10 @@ public class TaskServiceImpl implements TaskService {
             response.projectId(), response.projectKey(), response.projectName(),
             response.sprintId(), response.sprintName(),
             response.parentTaskId(), response.parentTaskKey(),
-            (int) subtaskCount, 0, 0,  
-            response.isOverdue(), response.createdAt(), response.updatedAt(), response.createdBy()
+            (int) counts.subtaskCount(), (int) counts.commentCount(),
+            (int) counts.attachmentCount(), (int) counts.watcherCount(),
+            response.isOverdue(), response.createdAt(), response.updatedAt(), response.createdBy(),
+            response.version()
         );
     }
 }
@@ -47,6 +47,9 @@ public interface TaskWatcherService {
     void autoWatchOnAssign(Task task, User assignee);
 
     
+    void autoWatchOnAssign(List<Task> tasks, User assignee);
+
+    
     void autoWatchOnComment(Task task, User commenter);
 
     
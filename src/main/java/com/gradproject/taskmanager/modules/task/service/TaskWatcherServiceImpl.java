@@ -247,6 +247,53 @@ public class TaskWatcherServiceImpl implements TaskWatcherService {
         addWatcher(task.getId(), assignee.getId(), assignee.getId());
     }
 
+    @Override
+    public void autoWatchOnAssign(List<Task> tasks, User assignee) {
+        if (assignee == null || tasks.isEmpty()) {
+            return;
+        }
+
+        log.debug("Auto-watch on bulk assign: {} tasks, assigneeId={}", tasks.size(), assignee.getId());
+
+        
+        Map<Long, Boolean> projectAccess = new HashMap<>();
+        List<Task> accessible = tasks.stream()
+            .filter(task -> projectAccess.computeIfAbsent(task.getProject().getId(),
+                id -> permissionService.canAccessProject(assignee, task.getProject())))
+            .toList();
+        if (accessible.isEmpty()) {
+            return;
+        }
+
+        Set<Long> alreadyWatching = watcherRepo.findWatchedTaskIds(assignee.getId(),
+            accessible.stream().map(Task::getId).toList());
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Task> newlyWatched = accessible.stream()
+            .filter(task -> !alreadyWatching.contains(task.getId()))
+            .toList();
+        if (newlyWatched.isEmpty()) {
+            return;
+        }
+
+        watcherRepo.saveAll(newlyWatched.stream()
+            .map(task -> TaskWatcher.builder()
+                .task(task)
+                .user(assignee)
+                .addedBy(assignee.getId())
+                .addedAt(now)
+                .build())
+            .toList());
+
+        activityLogService.logTaskActivities(newlyWatched, ActionType.WATCHER_ADDED, assignee, Map.of(
+            "watcher_user_id", assignee.getId(),
+            "watcher_username", assignee.getUsername(),
+            "added_by_self", true
+        ));
+
+        log.info("Added watcher userId={} to {} tasks on bulk assign", assignee.getId(), newlyWatched.size());
+    }
+
     @Override
     public void autoWatchOnComment(Task task, User commenter) {
         log.debug("Auto-watch on comment: taskId={}, commenterId={}", task.getId(), commenter.getId());
@@ -23,7 +23,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -76,7 +75,7 @@ public class WorkLogService {
         workLog = workLogRepository.save(workLog);
 
         // Update task's logged hours
-        updateTaskLoggedHours(task);
+        recalculateTaskLoggedHours(task.getId());
 
         // Log activity
         activityLogService.logWorkLogged(task, workLog, user);
@@ -120,7 +119,7 @@ public class WorkLogService {
 
         // Update task's logged hours if time changed
         if (oldMinutes != request.timeSpentMinutes()) {
-            updateTaskLoggedHours(workLog.getTask());
+            recalculateTaskLoggedHours(workLog.getTask().getId());
         }
 
         log.info("User {} updated work log {}", userId, workLogId);
@@ -151,7 +150,7 @@ public class WorkLogService {
         workLogRepository.delete(workLog);
 
         // Update task's logged hours
-        updateTaskLoggedHours(task);
+        recalculateTaskLoggedHours(task.getId());
 
         log.info("User {} deleted work log {}", userId, workLogId);
     }
@@ -271,11 +270,13 @@ public class WorkLogService {
         }
     }
 
-    private void updateTaskLoggedHours(Task task) {
-        Integer totalMinutes = workLogRepository.getTotalTimeSpentForTask(task.getId());
-        BigDecimal hours = BigDecimal.valueOf(totalMinutes).divide(BigDecimal.valueOf(60), 2, java.math.RoundingMode.HALF_UP);
-        task.setLoggedHours(hours);
-        taskRepository.save(task);
+    private void recalculateTaskLoggedHours(Long taskId) {
+        // Recomputed from the work logs so rounding never accumulates. The row lock comes
+        // first so the sum runs in a later statement that sees every committed work log.
+        // It leaves the task version alone, so logging time never fails an If-Match held
+        // by someone editing the task.
+        taskRepository.lockForLoggedHours(taskId);
+        taskRepository.recalculateLoggedHours(taskId);
     }
 
     private WorkLogResponse toResponse(WorkLog workLog) {
@@ -0,0 +1,61 @@
+package com.gradproject.taskmanager.shared.cache;
+
+import com.gradproject.taskmanager.modules.project.domain.Project;
+import com.gradproject.taskmanager.modules.project.domain.TaskStatus;
+import com.gradproject.taskmanager.modules.task.domain.Label;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataCache {
+    
+    public static final String PROJECT_STATUSES_REGION = "reference.project-statuses-query";
+    public static final String LABELS_BY_NAME_REGION = "reference.labels-by-name-query";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    
+    public void evictTaskStatuses(Collection<Long> statusIds) {
+        evict(cache -> {
+            statusIds.forEach(id -> cache.evictEntityData(TaskStatus.class, id));
+            cache.evictQueryRegion(PROJECT_STATUSES_REGION);
+        });
+    }
+
+    
+    public void evictProject(Long projectId) {
+        evict(cache -> cache.evictEntityData(Project.class, projectId));
+    }
+
+    
+    public void evictLabel(Long labelId) {
+        evict(cache -> {
+            cache.evictEntityData(Label.class, labelId);
+            cache.evictQueryRegion(LABELS_BY_NAME_REGION);
+        });
+    }
+
+    private void evict(Consumer<Cache> eviction) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        eviction.accept(cache);
+
+        
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.accept(cache);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.gradproject.taskmanager.shared.dto;
+
+import java.util.List;
+
+
+public record CursorPageResponse<T>(
+    List<T> content,
+    int pageSize,
+    String nextCursor,
+    boolean hasNext
+) {
+    
+    public boolean isEmpty() {
+        return content == null || content.isEmpty();
+    }
+}
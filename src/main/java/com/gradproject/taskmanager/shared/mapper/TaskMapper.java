@@ -26,11 +26,16 @@ public interface TaskMapper {
     @Mapping(target = "subtaskCount", expression = "java(0)")  
     @Mapping(target = "commentCount", expression = "java(0)")  
     @Mapping(target = "attachmentCount", expression = "java(0)")  
+    @Mapping(target = "watcherCount", expression = "java(0)")
     @Mapping(target = "isOverdue", expression = "java(task.isOverdue())")
     TaskResponse toResponse(Task task);
 
     
     @Mapping(target = "isOverdue", expression = "java(task.isOverdue())")
+    @Mapping(target = "subtaskCount", ignore = true)
+    @Mapping(target = "commentCount", ignore = true)
+    @Mapping(target = "attachmentCount", ignore = true)
+    @Mapping(target = "watcherCount", ignore = true)
     TaskSummary toSummary(Task task);
 
     
@@ -48,6 +53,7 @@ public interface TaskMapper {
 
     
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "key", ignore = true)
     @Mapping(target = "organization", ignore = true)
     @Mapping(target = "project", ignore = true)
@@ -66,6 +72,7 @@ public interface TaskMapper {
 
     
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "key", ignore = true)
     @Mapping(target = "organization", ignore = true)
     @Mapping(target = "project", ignore = true)
@@ -0,0 +1,200 @@
+package com.gradproject.taskmanager.shared.security;
+
+import com.gradproject.taskmanager.modules.project.domain.ProjectRole;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+@Component
+public class PermissionCache {
+    
+    static final String REQUEST_ATTRIBUTE = PermissionCache.class.getName() + ".roles";
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Map<Key, Entry> shared;
+
+    public PermissionCache(
+            @Value("${app.permissions.cache.enabled:true}") boolean enabled,
+            @Value("${app.permissions.cache.max-entries:10000}") int maxEntries,
+            @Value("${app.permissions.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.shared = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > PermissionCache.this.maxEntries;
+            }
+        };
+    }
+
+    
+    public ProjectRole resolve(Integer userId, Long projectId, Supplier<ProjectRole> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        Key key = new Key(userId, projectId);
+        Map<Key, Optional<ProjectRole>> requestRoles = requestRoles();
+
+        if (requestRoles != null) {
+            Optional<ProjectRole> cached = requestRoles.get(key);
+            if (cached != null) {
+                return cached.orElse(null);
+            }
+        }
+
+        Optional<ProjectRole> role = getShared(key);
+        if (role == null) {
+            role = Optional.ofNullable(loader.get());
+            putShared(key, role);
+        }
+
+        if (requestRoles != null) {
+            requestRoles.put(key, role);
+        }
+        return role.orElse(null);
+    }
+
+    
+    public Map<Long, ProjectRole> resolveAll(Integer userId, Collection<Long> projectIds,
+                                             Function<Set<Long>, Map<Long, ProjectRole>> loader) {
+        Map<Long, ProjectRole> result = new HashMap<>();
+        if (projectIds.isEmpty()) {
+            return result;
+        }
+        if (!enabled) {
+            result.putAll(loader.apply(new HashSet<>(projectIds)));
+            return result;
+        }
+
+        Map<Key, Optional<ProjectRole>> requestRoles = requestRoles();
+        Set<Long> missing = new HashSet<>();
+
+        for (Long projectId : projectIds) {
+            Key key = new Key(userId, projectId);
+            Optional<ProjectRole> cached = requestRoles != null ? requestRoles.get(key) : null;
+            if (cached == null) {
+                cached = getShared(key);
+                if (cached != null && requestRoles != null) {
+                    requestRoles.put(key, cached);
+                }
+            }
+            if (cached == null) {
+                missing.add(projectId);
+            } else {
+                cached.ifPresent(role -> result.put(projectId, role));
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            Map<Long, ProjectRole> loaded = loader.apply(missing);
+            for (Long projectId : missing) {
+                Key key = new Key(userId, projectId);
+                Optional<ProjectRole> role = Optional.ofNullable(loaded.get(projectId));
+                putShared(key, role);
+                if (requestRoles != null) {
+                    requestRoles.put(key, role);
+                }
+                role.ifPresent(r -> result.put(projectId, r));
+            }
+        }
+
+        return result;
+    }
+
+    
+    public void evictProjectMember(Integer userId, Long projectId) {
+        Key key = new Key(userId, projectId);
+        evict(k -> k.equals(key));
+    }
+
+    
+    public void evictUser(Integer userId) {
+        evict(k -> k.userId().equals(userId));
+    }
+
+    
+    public void evictAll() {
+        evict(k -> true);
+    }
+
+    int size() {
+        synchronized (shared) {
+            return shared.size();
+        }
+    }
+
+    private void evict(Predicate<Key> matcher) {
+        doEvict(matcher);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    doEvict(matcher);
+                }
+            });
+        }
+    }
+
+    private void doEvict(Predicate<Key> matcher) {
+        synchronized (shared) {
+            shared.keySet().removeIf(matcher);
+        }
+        Map<Key, Optional<ProjectRole>> requestRoles = requestRoles();
+        if (requestRoles != null) {
+            requestRoles.keySet().removeIf(matcher);
+        }
+    }
+
+    private Optional<ProjectRole> getShared(Key key) {
+        synchronized (shared) {
+            Entry entry = shared.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt() < System.currentTimeMillis()) {
+                shared.remove(key);
+                return null;
+            }
+            return entry.role();
+        }
+    }
+
+    private void putShared(Key key, Optional<ProjectRole> role) {
+        synchronized (shared) {
+            shared.put(key, new Entry(role, System.currentTimeMillis() + ttlMillis));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Key, Optional<ProjectRole>> requestRoles() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object roles = attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (roles == null) {
+            roles = new HashMap<Key, Optional<ProjectRole>>();
+            attributes.setAttribute(REQUEST_ATTRIBUTE, roles, RequestAttributes.SCOPE_REQUEST);
+        }
+        return (Map<Key, Optional<ProjectRole>>) roles;
+    }
+
+    private record Key(Integer userId, Long projectId) {
+    }
+
+    private record Entry(Optional<ProjectRole> role, long expiresAt) {
+    }
+}
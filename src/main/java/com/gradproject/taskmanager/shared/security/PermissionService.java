@@ -8,11 +8,12 @@ import com.gradproject.taskmanager.modules.project.domain.Project;
 import com.gradproject.taskmanager.modules.project.domain.ProjectMember;
 import com.gradproject.taskmanager.modules.project.domain.ProjectRole;
 import com.gradproject.taskmanager.modules.project.repository.ProjectMemberRepository;
+import com.gradproject.taskmanager.modules.project.repository.ProjectRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.Optional;
+import java.util.*;
 
 
 @Slf4j
@@ -22,10 +23,52 @@ public class PermissionService {
 
     private final OrganizationMemberRepository organizationMemberRepository;
     private final ProjectMemberRepository projectMemberRepository;
+    private final ProjectRepository projectRepository;
+    private final PermissionCache permissionCache;
 
     
     public ProjectRole getEffectiveProjectRole(User user, Project project) {
-        
+        return permissionCache.resolve(user.getId(), project.getId(), () -> loadEffectiveProjectRole(user, project));
+    }
+
+    
+    public Map<Long, ProjectRole> getEffectiveProjectRoles(User user, Collection<Long> projectIds) {
+        return permissionCache.resolveAll(user.getId(), projectIds, missing -> {
+            Map<Long, ProjectRole> roles = new HashMap<>();
+            for (Object[] row : projectMemberRepository.findMembershipRoles(user.getId(), missing)) {
+                ProjectRole role = resolveRole((OrganizationRole) row[1], (ProjectRole) row[2]);
+                if (role != null) {
+                    roles.put((Long) row[0], role);
+                }
+            }
+            return roles;
+        });
+    }
+
+    
+    public Set<Long> filterAccessibleProjectIds(User user, Collection<Long> projectIds) {
+        return new HashSet<>(getEffectiveProjectRoles(user, projectIds).keySet());
+    }
+
+    
+    public Set<Long> accessibleProjectIds(Integer userId, Long organizationId) {
+        return new HashSet<>(projectRepository.findAccessibleProjectIds(userId, organizationId));
+    }
+
+    
+    static ProjectRole resolveRole(OrganizationRole orgRole, ProjectRole explicitRole) {
+        if (orgRole == null) {
+            return null;
+        }
+        if (explicitRole != null) {
+            return explicitRole;
+        }
+        return orgRole == OrganizationRole.ORG_OWNER || orgRole == OrganizationRole.ORG_ADMIN
+                ? ProjectRole.PROJECT_ADMIN
+                : null;
+    }
+
+    private ProjectRole loadEffectiveProjectRole(User user, Project project) {
         Optional<OrganizationMember> orgMemberOpt = organizationMemberRepository
                 .findByUserIdAndOrganizationId(user.getId(), project.getOrganization().getId());
 
@@ -104,6 +147,11 @@ public class PermissionService {
     }
 
     
+    public boolean isOrgMember(User user, Long organizationId) {
+        return organizationMemberRepository.existsByUserIdAndOrganizationId(user.getId(), organizationId);
+    }
+
+    
     public boolean isOrgOwnerOrAdmin(User user, Long organizationId) {
         return organizationMemberRepository
                 .findByUserIdAndOrganizationId(user.getId(), organizationId)
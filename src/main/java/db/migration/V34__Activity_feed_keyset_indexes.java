@@ -0,0 +1,105 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+
+public class V34__Activity_feed_keyset_indexes extends BaseJavaMigration {
+
+    private static final String PARTITIONS = """
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = CAST('activity_log' AS REGCLASS)
+        ORDER BY c.relname
+        """;
+
+    private static final String INVALID_INDEX = """
+        SELECT NOT x.indisvalid
+        FROM pg_index x
+        WHERE x.indexrelid = to_regclass(?)
+        """;
+
+    private static final List<FeedIndex> INDEXES = List.of(
+        new FeedIndex("idx_activity_task_feed", "task_feed", """
+            (task_id, timestamp DESC, id DESC)
+            INCLUDE (entity_type, entity_id, action, user_id, field_name, version_number)
+            WHERE task_id IS NOT NULL"""),
+        new FeedIndex("idx_activity_project_feed", "project_feed", """
+            (project_id, timestamp DESC, id DESC)
+            INCLUDE (entity_type, entity_id, action, user_id, field_name, version_number)
+            WHERE project_id IS NOT NULL"""),
+        new FeedIndex("idx_activity_org_feed", "org_feed", """
+            (organization_id, timestamp DESC, id DESC)
+            INCLUDE (entity_type, entity_id, action, user_id, field_name, version_number)"""),
+        new FeedIndex("idx_activity_user_feed", "user_feed", """
+            (user_id, timestamp DESC, id DESC)
+            INCLUDE (entity_type, entity_id, action, field_name, version_number)""")
+    );
+
+    private static final List<String> REPLACED = List.of(
+        "idx_activity_task_ts", "idx_activity_project_ts", "idx_activity_org_ts", "idx_activity_user");
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        List<String> partitions = partitions(connection);
+
+        try (Statement statement = connection.createStatement()) {
+            for (FeedIndex index : INDEXES) {
+                statement.execute("CREATE INDEX IF NOT EXISTS " + index.name()
+                    + " ON ONLY activity_log " + index.definition());
+
+                for (String partition : partitions) {
+                    String child = partition + "_" + index.suffix();
+                    // A build interrupted by an earlier failed run leaves an INVALID index behind
+                    if (isInvalid(connection, child)) {
+                        statement.execute("DROP INDEX CONCURRENTLY " + child);
+                    }
+                    statement.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + child
+                        + " ON " + partition + " " + index.definition());
+                    statement.execute("ALTER INDEX " + index.name() + " ATTACH PARTITION " + child);
+                }
+            }
+
+            for (String replaced : REPLACED) {
+                statement.execute("DROP INDEX IF EXISTS " + replaced);
+            }
+        }
+    }
+
+    private static List<String> partitions(Connection connection) throws SQLException {
+        List<String> partitions = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery(PARTITIONS)) {
+            while (rows.next()) {
+                partitions.add(rows.getString(1));
+            }
+        }
+        return partitions;
+    }
+
+    private static boolean isInvalid(Connection connection, String indexName) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INVALID_INDEX)) {
+            statement.setString(1, indexName);
+            try (ResultSet rows = statement.executeQuery()) {
+                return rows.next() && rows.getBoolean(1);
+            }
+        }
+    }
+
+    private record FeedIndex(String name, String suffix, String definition) {}
+}
@@ -0,0 +1,10 @@
+-- ============================================================================
+-- V24: Keyset pagination index for project task listings
+-- ============================================================================
+-- Purpose: Support cursor-based paging over (created_at, id) per project so
+--          deep pages are served by an index range scan instead of OFFSET.
+-- ============================================================================
+
+CREATE INDEX idx_task_project_created_id ON tasks(project_id, created_at DESC, id DESC);
+
+COMMENT ON INDEX idx_task_project_created_id IS 'Keyset pagination order for project task listings';
@@ -0,0 +1,9 @@
+-- ============================================================================
+-- V25: Pooled id allocation for activity_log
+-- ============================================================================
+-- Purpose: Let Hibernate reserve activity_log ids in blocks of 50 so bulk
+--          task operations can send their activity rows as one JDBC batch.
+--          IDENTITY generation forces a round trip per inserted row.
+-- ============================================================================
+
+ALTER SEQUENCE activity_log_id_seq INCREMENT BY 50;
@@ -0,0 +1,11 @@
+-- ============================================================================
+-- V26: Optimistic locking for tasks
+-- ============================================================================
+-- Purpose: Version every task row so concurrent edits are rejected instead of
+--          silently overwriting each other. The version doubles as the ETag
+--          served on task detail responses.
+-- ============================================================================
+
+ALTER TABLE tasks ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN tasks.version IS 'Optimistic lock version, incremented on every field update';
@@ -0,0 +1,87 @@
+-- ============================================================================
+-- V27.1: Backfill and index the search vectors added in V27
+-- ============================================================================
+-- Purpose: Fill search_vector for existing rows and swap the V15 expression
+--          indexes for GIN indexes on the stored columns, without holding a
+--          lock that blocks reads or writes for the whole table.
+--
+-- Design:
+--   * Runs outside a transaction (V27_1__Search_vector_backfill.sql.conf),
+--     so each batch commits on its own and only locks its own rows.
+--   * Batches walk the primary key in ranges of 5000. Rows the V27 triggers
+--     already filled are skipped.
+--   * taskmanagement.search_backfill keeps update_task_timestamp from
+--     stamping backfilled tasks. The original function is restored after.
+--   * The GIN indexes are built CONCURRENTLY before the V15 indexes are
+--     dropped, so searches always have an index to use.
+--   * If an index build fails, drop the INVALID index and run flyway repair
+--     before retrying. The backfill steps can simply be rerun.
+-- ============================================================================
+
+SELECT set_config('taskmanagement.search_backfill', 'on', false);
+
+DO $$
+DECLARE
+    batch_start BIGINT;
+    last_id BIGINT;
+BEGIN
+    SELECT MIN(id), MAX(id) INTO batch_start, last_id FROM tasks;
+    WHILE batch_start <= last_id LOOP
+        UPDATE tasks
+        SET search_vector = task_search_vector(title, description)
+        WHERE id >= batch_start AND id < batch_start + 5000
+          AND search_vector IS NULL;
+        COMMIT;
+        batch_start := batch_start + 5000;
+    END LOOP;
+END $$;
+
+DO $$
+DECLARE
+    batch_start BIGINT;
+    last_id BIGINT;
+BEGIN
+    SELECT MIN(id), MAX(id) INTO batch_start, last_id FROM projects;
+    WHILE batch_start <= last_id LOOP
+        UPDATE projects
+        SET search_vector = project_search_vector(name, description)
+        WHERE id >= batch_start AND id < batch_start + 5000
+          AND search_vector IS NULL;
+        COMMIT;
+        batch_start := batch_start + 5000;
+    END LOOP;
+END $$;
+
+DO $$
+DECLARE
+    batch_start BIGINT;
+    last_id BIGINT;
+BEGIN
+    SELECT MIN(id), MAX(id) INTO batch_start, last_id FROM comments;
+    WHILE batch_start <= last_id LOOP
+        UPDATE comments
+        SET search_vector = comment_search_vector(content)
+        WHERE id >= batch_start AND id < batch_start + 5000
+          AND search_vector IS NULL;
+        COMMIT;
+        batch_start := batch_start + 5000;
+    END LOOP;
+END $$;
+
+SELECT set_config('taskmanagement.search_backfill', '', false);
+
+CREATE OR REPLACE FUNCTION update_task_timestamp()
+RETURNS TRIGGER AS $$
+BEGIN
+    NEW.updated_at := CURRENT_TIMESTAMP;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_search_vector ON tasks USING gin(search_vector);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_projects_search_vector ON projects USING gin(search_vector);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_comments_search_vector ON comments USING gin(search_vector);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_tasks_fulltext_search;
+DROP INDEX CONCURRENTLY IF EXISTS idx_projects_fulltext_search;
+DROP INDEX CONCURRENTLY IF EXISTS idx_comments_fulltext_search;
@@ -0,0 +1,96 @@
+-- ============================================================================
+-- V27: Stored full-text search vectors
+-- ============================================================================
+-- Purpose: Replace the V15 expression indexes with stored, weighted tsvector
+--          columns so ranking reads the precomputed vector instead of
+--          re-tokenizing titles and descriptions on every search.
+-- Changes:
+--   - Add nullable search_vector columns to tasks, projects and comments
+--     (title/name weighted A, description/content weighted B)
+--   - Keep them current with BEFORE INSERT/UPDATE triggers
+-- Design:
+--   * A plain nullable column is a catalog-only change. A GENERATED STORED
+--     column would rewrite each table under ACCESS EXCLUSIVE.
+--   * Existing rows are backfilled in batches, and the GIN indexes are built
+--     CONCURRENTLY, by V27_1 outside a transaction. The V15 indexes keep
+--     serving searches until then.
+--   * The backfill must not touch tasks.updated_at, so update_task_timestamp
+--     skips rows while taskmanagement.search_backfill is set. V27_1 restores
+--     the original function when it is done.
+-- ============================================================================
+
+ALTER TABLE tasks ADD COLUMN search_vector tsvector;
+ALTER TABLE projects ADD COLUMN search_vector tsvector;
+ALTER TABLE comments ADD COLUMN search_vector tsvector;
+
+CREATE OR REPLACE FUNCTION task_search_vector(title TEXT, description TEXT)
+RETURNS tsvector AS $$
+    SELECT setweight(to_tsvector('english', COALESCE(title, '')), 'A') ||
+           setweight(to_tsvector('english', COALESCE(description, '')), 'B')
+$$ LANGUAGE sql IMMUTABLE;
+
+CREATE OR REPLACE FUNCTION project_search_vector(name TEXT, description TEXT)
+RETURNS tsvector AS $$
+    SELECT setweight(to_tsvector('english', COALESCE(name, '')), 'A') ||
+           setweight(to_tsvector('english', COALESCE(description, '')), 'B')
+$$ LANGUAGE sql IMMUTABLE;
+
+CREATE OR REPLACE FUNCTION comment_search_vector(content TEXT)
+RETURNS tsvector AS $$
+    SELECT setweight(to_tsvector('english', COALESCE(content, '')), 'B')
+$$ LANGUAGE sql IMMUTABLE;
+
+CREATE OR REPLACE FUNCTION update_task_search_vector()
+RETURNS TRIGGER AS $$
+BEGIN
+    NEW.search_vector := task_search_vector(NEW.title, NEW.description);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION update_project_search_vector()
+RETURNS TRIGGER AS $$
+BEGIN
+    NEW.search_vector := project_search_vector(NEW.name, NEW.description);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION update_comment_search_vector()
+RETURNS TRIGGER AS $$
+BEGIN
+    NEW.search_vector := comment_search_vector(NEW.content);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trigger_task_search_vector
+BEFORE INSERT OR UPDATE OF title, description ON tasks
+FOR EACH ROW
+EXECUTE FUNCTION update_task_search_vector();
+
+CREATE TRIGGER trigger_project_search_vector
+BEFORE INSERT OR UPDATE OF name, description ON projects
+FOR EACH ROW
+EXECUTE FUNCTION update_project_search_vector();
+
+CREATE TRIGGER trigger_comment_search_vector
+BEFORE INSERT OR UPDATE OF content ON comments
+FOR EACH ROW
+EXECUTE FUNCTION update_comment_search_vector();
+
+-- Lets the V27_1 backfill leave updated_at alone; restored by V27_1
+CREATE OR REPLACE FUNCTION update_task_timestamp()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF current_setting('taskmanagement.search_backfill', true) = 'on' THEN
+        RETURN NEW;
+    END IF;
+    NEW.updated_at := CURRENT_TIMESTAMP;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+COMMENT ON COLUMN tasks.search_vector IS 'Weighted full-text vector: title (A), description (B)';
+COMMENT ON COLUMN projects.search_vector IS 'Weighted full-text vector: name (A), description (B)';
+COMMENT ON COLUMN comments.search_vector IS 'Full-text vector over comment content';
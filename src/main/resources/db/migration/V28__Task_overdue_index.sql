@@ -0,0 +1,17 @@
+-- ============================================================================
+-- V28: Overdue lookup index for project analytics
+-- ============================================================================
+-- Purpose: Let the analytics rollup count overdue tasks per project with an
+--          index range scan on (project_id, due_date) instead of reading
+--          every task row. Tasks without a due date are never overdue.
+--
+-- Design:
+--   * Built CONCURRENTLY outside a transaction
+--     (V28__Task_overdue_index.sql.conf) so task writes continue meanwhile.
+--   * If the build fails, drop the INVALID index and run flyway repair
+--     before retrying.
+-- ============================================================================
+
+CREATE INDEX CONCURRENTLY idx_task_project_due_date ON tasks(project_id, due_date) WHERE due_date IS NOT NULL;
+
+COMMENT ON INDEX idx_task_project_due_date IS 'Overdue task counts per project for analytics';
@@ -0,0 +1,91 @@
+-- ============================================================================
+-- V29: Incrementally maintained per-project metrics rollup
+-- ============================================================================
+-- Purpose: Serve project and organization dashboards from O(projects) rollup
+--          rows instead of scanning every task.
+--
+-- Design:
+--   * Task triggers append signed deltas to project_metrics_delta. Appends
+--     never contend on a shared counter row, so concurrent transitions in the
+--     same project neither serialize nor deadlock on the rollup.
+--   * A scheduled compactor folds committed deltas into project_metrics.
+--     Readers add the (small) pending delta set on top of the folded rows.
+--   * Rows are keyed by (project, status, due date) so status category edits
+--     need no rewrite and overdue counts stay correct as days pass. Tasks
+--     without a due date are stored under 'infinity'.
+--   * A nightly reconciliation recomputes project_metrics from tasks and
+--     repairs any drift.
+-- ============================================================================
+
+CREATE TABLE project_metrics (
+    project_id BIGINT NOT NULL REFERENCES projects(id) ON DELETE CASCADE,
+    status_id BIGINT NOT NULL REFERENCES task_statuses(id) ON DELETE CASCADE,
+    due_date DATE NOT NULL DEFAULT 'infinity',
+    task_count BIGINT NOT NULL DEFAULT 0,
+    story_points BIGINT NOT NULL DEFAULT 0,
+    logged_hours NUMERIC(14, 2) NOT NULL DEFAULT 0,
+
+    PRIMARY KEY (project_id, status_id, due_date)
+);
+
+-- Append-only; no foreign keys so cascading project deletes can still record
+-- their negative deltas, which the compactor then discards.
+CREATE TABLE project_metrics_delta (
+    id BIGSERIAL PRIMARY KEY,
+    project_id BIGINT NOT NULL,
+    status_id BIGINT NOT NULL,
+    due_date DATE NOT NULL,
+    task_count INTEGER NOT NULL,
+    story_points INTEGER NOT NULL,
+    logged_hours NUMERIC(10, 2) NOT NULL
+);
+
+CREATE INDEX idx_project_metrics_delta_project ON project_metrics_delta(project_id);
+
+-- ============================================================================
+-- TRIGGERS
+-- ============================================================================
+CREATE OR REPLACE FUNCTION track_project_metrics()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        INSERT INTO project_metrics_delta (project_id, status_id, due_date, task_count, story_points, logged_hours)
+        VALUES (OLD.project_id, OLD.status_id, COALESCE(OLD.due_date, 'infinity'), -1,
+                -COALESCE(OLD.story_points, 0), -COALESCE(OLD.logged_hours, 0));
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        INSERT INTO project_metrics_delta (project_id, status_id, due_date, task_count, story_points, logged_hours)
+        VALUES (NEW.project_id, NEW.status_id, COALESCE(NEW.due_date, 'infinity'), 1,
+                COALESCE(NEW.story_points, 0), COALESCE(NEW.logged_hours, 0));
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trigger_project_metrics_insert_delete
+AFTER INSERT OR DELETE ON tasks
+FOR EACH ROW
+EXECUTE FUNCTION track_project_metrics();
+
+-- JPA rewrites every column on update, so only fire when a tracked value changes.
+CREATE TRIGGER trigger_project_metrics_update
+AFTER UPDATE OF project_id, status_id, due_date, story_points, logged_hours ON tasks
+FOR EACH ROW
+WHEN (OLD.project_id IS DISTINCT FROM NEW.project_id
+   OR OLD.status_id IS DISTINCT FROM NEW.status_id
+   OR OLD.due_date IS DISTINCT FROM NEW.due_date
+   OR OLD.story_points IS DISTINCT FROM NEW.story_points
+   OR OLD.logged_hours IS DISTINCT FROM NEW.logged_hours)
+EXECUTE FUNCTION track_project_metrics();
+
+-- ============================================================================
+-- BACKFILL
+-- ============================================================================
+INSERT INTO project_metrics (project_id, status_id, due_date, task_count, story_points, logged_hours)
+SELECT project_id, status_id, COALESCE(due_date, 'infinity'), COUNT(*),
+       COALESCE(SUM(story_points), 0), COALESCE(SUM(logged_hours), 0)
+FROM tasks
+GROUP BY project_id, status_id, COALESCE(due_date, 'infinity');
+
+COMMENT ON TABLE project_metrics IS 'Folded task counts, story points and logged hours per (project, status, due date)';
+COMMENT ON TABLE project_metrics_delta IS 'Pending signed task deltas appended by triggers, folded into project_metrics by the compactor';
@@ -0,0 +1,17 @@
+-- ============================================================================
+-- V30: Organization/action/time index on activity_log
+-- ============================================================================
+-- Purpose: Time-range and user-activity analytics count task creations,
+--          comments and completions per day. This index lets those counts
+--          range-scan one organization's actions for the requested window
+--          instead of reading every activity row.
+--
+-- Design:
+--   * Built CONCURRENTLY outside a transaction
+--     (V30__Activity_log_org_action_index.sql.conf) so activity writes
+--     continue meanwhile.
+--   * If the build fails, drop the INVALID index and run flyway repair
+--     before retrying.
+-- ============================================================================
+
+CREATE INDEX CONCURRENTLY idx_activity_org_action_ts ON activity_log(organization_id, action, timestamp);
@@ -0,0 +1,17 @@
+-- ============================================================================
+-- V31.1: Status-change replay index on activity_log
+-- ============================================================================
+-- Purpose: Flow snapshot replay reads one project's status changes in time
+--          order. This partial index serves that read without scanning the
+--          rest of the activity history.
+--
+-- Design:
+--   * Built CONCURRENTLY outside a transaction
+--     (V31_1__Activity_status_change_index.sql.conf) so activity writes
+--     continue meanwhile.
+--   * If the build fails, drop the INVALID index and run flyway repair
+--     before retrying.
+-- ============================================================================
+
+CREATE INDEX CONCURRENTLY idx_activity_project_status_changes ON activity_log(project_id, timestamp)
+    WHERE action = 'STATUS_CHANGED';
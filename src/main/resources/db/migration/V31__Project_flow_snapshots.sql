@@ -0,0 +1,26 @@
+-- ============================================================================
+-- V31: Materialized daily flow snapshots
+-- ============================================================================
+-- Purpose: Store end-of-day task counts per (project, status) so cumulative
+--          flow diagrams read a few hundred rows instead of replaying the
+--          project's full status history on every request.
+--
+-- Design:
+--   * Only completed days are stored. The current day is replayed live from
+--     the previous snapshot plus today's status changes.
+--   * Zero counts are not stored; a missing row means zero.
+--   * The nightly job appends the days since the latest snapshot, starting
+--     from that snapshot's counts. A rebuild replays from the beginning.
+--   * The activity_log index replay reads is built CONCURRENTLY by V31_1.
+-- ============================================================================
+
+CREATE TABLE project_flow_snapshots (
+    project_id BIGINT NOT NULL REFERENCES projects(id) ON DELETE CASCADE,
+    snapshot_date DATE NOT NULL,
+    status_id BIGINT NOT NULL REFERENCES task_statuses(id) ON DELETE CASCADE,
+    task_count INTEGER NOT NULL,
+
+    PRIMARY KEY (project_id, snapshot_date, status_id)
+);
+
+COMMENT ON TABLE project_flow_snapshots IS 'End-of-day task count per (project, status) for cumulative flow diagrams';
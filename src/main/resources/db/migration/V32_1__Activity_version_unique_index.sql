@@ -0,0 +1,23 @@
+-- ============================================================================
+-- V32.1: Unique activity versions per entity
+-- ============================================================================
+-- Purpose: Back the V32 counter with a unique (entity_type, entity_id,
+--          version_number) constraint without blocking activity writes.
+--
+-- Design:
+--   * Runs outside a transaction (V32_1__Activity_version_unique_index.sql.conf).
+--   * The index is built CONCURRENTLY, then adopted as the constraint, which
+--     only touches the catalog.
+--   * It supersedes the non-unique idx_activity_version, which is dropped
+--     CONCURRENTLY once the replacement is in place.
+--   * If the build fails, drop the INVALID uq_activity_entity_version index
+--     and run flyway repair before retrying.
+-- ============================================================================
+
+CREATE UNIQUE INDEX CONCURRENTLY uq_activity_entity_version
+    ON activity_log (entity_type, entity_id, version_number);
+
+ALTER TABLE activity_log
+    ADD CONSTRAINT uq_activity_entity_version UNIQUE USING INDEX uq_activity_entity_version;
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_activity_version;
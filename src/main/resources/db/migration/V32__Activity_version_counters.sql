@@ -0,0 +1,72 @@
+-- ============================================================================
+-- V32: Atomic activity version numbering
+-- ============================================================================
+-- Purpose: Allocate activity_log.version_number inside the INSERT itself
+--          instead of reading MAX(version_number) first.
+--
+-- Design:
+--   * activity_versions holds the last version handed out per entity.
+--   * A BEFORE INSERT trigger bumps that counter with an upsert and writes
+--     the result into the new row. The counter row stays locked until the
+--     inserting transaction ends, so concurrent writes to the same entity
+--     are numbered one after another and never collide.
+--   * Only entities whose history already holds duplicate versions are
+--     renumbered; every other row is left untouched, so the UPDATE is
+--     bounded by the duplicates rather than by the size of activity_log.
+--   * The unique (entity_type, entity_id, version_number) index backing the
+--     guarantee is built CONCURRENTLY in V32_1, which runs outside a
+--     transaction so writes continue during the build.
+-- ============================================================================
+
+CREATE TABLE activity_versions (
+    entity_type VARCHAR(50) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    last_version INTEGER NOT NULL,
+
+    PRIMARY KEY (entity_type, entity_id)
+);
+
+-- Renumber the entities that concurrent writers gave duplicate versions
+UPDATE activity_log al
+SET version_number = ordered.version
+FROM (
+    SELECT id, ROW_NUMBER() OVER (PARTITION BY entity_type, entity_id
+                                  ORDER BY version_number, timestamp, id) AS version
+    FROM activity_log
+    WHERE (entity_type, entity_id) IN (
+        SELECT entity_type, entity_id
+        FROM activity_log
+        GROUP BY entity_type, entity_id, version_number
+        HAVING COUNT(*) > 1
+    )
+) ordered
+WHERE al.id = ordered.id AND al.version_number <> ordered.version;
+
+INSERT INTO activity_versions (entity_type, entity_id, last_version)
+SELECT entity_type, entity_id, MAX(version_number)
+FROM activity_log
+GROUP BY entity_type, entity_id;
+
+-- ============================================================================
+-- TRIGGERS
+-- ============================================================================
+CREATE OR REPLACE FUNCTION assign_activity_version()
+RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO activity_versions AS v (entity_type, entity_id, last_version)
+    VALUES (NEW.entity_type, NEW.entity_id, 1)
+    ON CONFLICT (entity_type, entity_id) DO UPDATE SET last_version = v.last_version + 1
+    RETURNING v.last_version INTO NEW.version_number;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_activity_log_version
+    BEFORE INSERT ON activity_log
+    FOR EACH ROW EXECUTE FUNCTION assign_activity_version();
+
+-- Superseded by the trigger; reading MAX(version_number) races concurrent writers
+DROP FUNCTION IF EXISTS get_next_version_number(VARCHAR(50), BIGINT);
+
+COMMENT ON TABLE activity_versions IS 'Last activity_log version number allocated per entity';
+COMMENT ON COLUMN activity_log.version_number IS 'Per-entity version assigned on insert by trg_activity_log_version';
@@ -0,0 +1,67 @@
+-- ============================================================================
+-- V33.1: Attach activity_log_legacy as the first activity_log partition
+-- ============================================================================
+-- Purpose: Attaching a table that is not known to fit the partition bound
+--          makes PostgreSQL scan it under ACCESS EXCLUSIVE. A key that does
+--          not match the parent's is rebuilt under the same lock. For a large
+--          activity history, that would block every activity read and write
+--          for the whole scan and build.
+--
+-- Design:
+--   * Runs outside a transaction (V33_1__Attach_legacy_activity_log.sql.conf),
+--     so every statement commits on its own and holds its lock only for
+--     its own duration.
+--   * A NOT VALID CHECK matching the partition bound is added first
+--     (catalog only), then validated under SHARE UPDATE EXCLUSIVE, which
+--     lets reads and writes continue. With it, ATTACH PARTITION skips the
+--     scan.
+--   * The (id, timestamp) unique index is built CONCURRENTLY and swapped in
+--     for the old id-only primary key. ATTACH then adopts it as the
+--     partition's half of the parent key instead of building one.
+--   * The other indexes were renamed with a _legacy suffix in V33 and
+--     match the parent's, so ATTACH adopts them as well.
+--   * The upper bound is read back from the partitions V33 created, so it
+--     matches them even if this migration runs in a later month.
+--   * If a step fails, drop whatever it left behind (an INVALID index or
+--     the CHECK constraint) and run flyway repair before retrying.
+-- ============================================================================
+
+DO $$
+DECLARE
+    cutoff TIMESTAMP;
+BEGIN
+    SELECT MIN(substring(pg_get_expr(c.relpartbound, c.oid) FROM 'FROM \(''([^'']+)''\)')::TIMESTAMP)
+    INTO cutoff
+    FROM pg_inherits i
+    JOIN pg_class c ON c.oid = i.inhrelid
+    WHERE i.inhparent = 'activity_log'::REGCLASS;
+
+    EXECUTE format('ALTER TABLE activity_log_legacy ADD CONSTRAINT activity_log_legacy_range '
+                   'CHECK (timestamp < %L) NOT VALID', cutoff);
+END $$;
+
+ALTER TABLE activity_log_legacy VALIDATE CONSTRAINT activity_log_legacy_range;
+
+CREATE UNIQUE INDEX CONCURRENTLY activity_log_legacy_pkey ON activity_log_legacy (id, timestamp);
+
+-- Catalog-only swap: id and timestamp are already NOT NULL
+ALTER TABLE activity_log_legacy
+    DROP CONSTRAINT activity_log_pkey_legacy,
+    ADD CONSTRAINT activity_log_legacy_pkey PRIMARY KEY USING INDEX activity_log_legacy_pkey;
+
+DO $$
+DECLARE
+    cutoff TIMESTAMP;
+BEGIN
+    SELECT MIN(substring(pg_get_expr(c.relpartbound, c.oid) FROM 'FROM \(''([^'']+)''\)')::TIMESTAMP)
+    INTO cutoff
+    FROM pg_inherits i
+    JOIN pg_class c ON c.oid = i.inhrelid
+    WHERE i.inhparent = 'activity_log'::REGCLASS;
+
+    EXECUTE format('ALTER TABLE activity_log ATTACH PARTITION activity_log_legacy FOR VALUES FROM (MINVALUE) TO (%L)',
+                   cutoff);
+END $$;
+
+-- The partition bound now enforces the same rule
+ALTER TABLE activity_log_legacy DROP CONSTRAINT activity_log_legacy_range;
@@ -0,0 +1,177 @@
+-- ============================================================================
+-- V33: Monthly range partitioning for activity_log
+-- ============================================================================
+-- Purpose: Bring back time partitioning (removed in V23) so old history can
+--          be detached and archived instead of deleted row by row, and feed
+--          queries bounded by timestamp only touch the months they need.
+--
+-- Design:
+--   * No rows are copied. The existing table is renamed to
+--     activity_log_legacy and later attached as the first partition,
+--     covering everything before the month after the newest row. It ages
+--     out like any other partition once its upper bound passes the
+--     retention window. The attach lives in V33_1, which runs outside a
+--     transaction so that the legacy table can be checked and indexed
+--     without holding an exclusive lock for the whole scan.
+--   * Monthly partitions activity_log_YYYY_MM follow it, plus a DEFAULT
+--     partition so an insert never fails for lack of a partition. The
+--     application keeps creating months ahead (ActivityPartitionScheduler)
+--     and moves any stray rows out of the default partition when it does.
+--   * The primary key must include the partition key: (id, timestamp).
+--     ids still come from activity_log_id_seq and stay unique.
+--   * A partitioned table cannot carry a unique constraint without the
+--     partition key, so uq_activity_entity_version (V32_1) only remains on
+--     the legacy partition. On every other partition, uniqueness of
+--     (entity_type, entity_id, version_number) rests on two triggers
+--     declared on the parent: trg_activity_log_version assigns every new
+--     version from the activity_versions counter (V32), whose primary key
+--     hands each version out once, and trg_activity_log_version_immutable
+--     rejects any UPDATE that would change an assigned version.
+--   * Indexes are declared on the parent; the legacy partition's existing
+--     indexes are renamed here and attached by V33_1 rather than rebuilt.
+--   * activity_log_archives tracks partitions that were detached for
+--     export to object storage, so an interrupted archive run resumes.
+-- ============================================================================
+
+DROP VIEW IF EXISTS activity_feed;
+
+ALTER TABLE activity_log RENAME TO activity_log_legacy;
+DROP TRIGGER trg_activity_log_version ON activity_log_legacy;
+
+-- Free the canonical index names for the partitioned parent. This includes the
+-- primary key, which V33_1 swaps for an (id, timestamp) key before attaching.
+DO $$
+DECLARE
+    idx RECORD;
+BEGIN
+    FOR idx IN
+        SELECT indexname FROM pg_indexes
+        WHERE schemaname = current_schema() AND tablename = 'activity_log_legacy'
+    LOOP
+        EXECUTE format('ALTER INDEX %I RENAME TO %I', idx.indexname, idx.indexname || '_legacy');
+    END LOOP;
+END $$;
+
+CREATE TABLE activity_log (
+    LIKE activity_log_legacy INCLUDING DEFAULTS INCLUDING CONSTRAINTS,
+
+    PRIMARY KEY (id, timestamp),
+    FOREIGN KEY (organization_id) REFERENCES organizations(id) ON DELETE CASCADE,
+    FOREIGN KEY (project_id) REFERENCES projects(id) ON DELETE CASCADE,
+    FOREIGN KEY (task_id) REFERENCES tasks(id) ON DELETE CASCADE,
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE RESTRICT
+) PARTITION BY RANGE (timestamp);
+
+ALTER SEQUENCE activity_log_id_seq OWNED BY activity_log.id;
+
+-- ============================================================================
+-- PARTITIONS
+-- ============================================================================
+DO $$
+DECLARE
+    cutoff TIMESTAMP := date_trunc('month', GREATEST(
+        (CURRENT_TIMESTAMP AT TIME ZONE 'UTC')::TIMESTAMP,
+        COALESCE((SELECT MAX(timestamp) FROM activity_log_legacy), '-infinity'::TIMESTAMP)
+    )) + INTERVAL '1 month';
+    month_start TIMESTAMP;
+BEGIN
+    -- Months start at the cutoff; everything before it is left to activity_log_legacy (V33_1)
+    FOR i IN 0..2 LOOP
+        month_start := cutoff + make_interval(months => i);
+        EXECUTE format('CREATE TABLE %I PARTITION OF activity_log FOR VALUES FROM (%L) TO (%L)',
+                       'activity_log_' || to_char(month_start, 'YYYY_MM'),
+                       month_start, month_start + INTERVAL '1 month');
+    END LOOP;
+END $$;
+
+CREATE TABLE activity_log_default PARTITION OF activity_log DEFAULT;
+
+-- ============================================================================
+-- INDEXES
+-- ============================================================================
+CREATE INDEX idx_activity_task_ts ON activity_log(task_id, timestamp DESC);
+CREATE INDEX idx_activity_project_ts ON activity_log(project_id, timestamp DESC) WHERE project_id IS NOT NULL;
+CREATE INDEX idx_activity_org_ts ON activity_log(organization_id, timestamp DESC);
+CREATE INDEX idx_activity_entity ON activity_log(entity_type, entity_id, timestamp DESC);
+CREATE INDEX idx_activity_user ON activity_log(user_id, timestamp DESC);
+CREATE INDEX idx_activity_action ON activity_log(action, timestamp DESC);
+CREATE INDEX idx_activity_org_action_ts ON activity_log(organization_id, action, timestamp);
+CREATE INDEX idx_activity_project_status_changes ON activity_log(project_id, timestamp)
+    WHERE action = 'STATUS_CHANGED';
+
+CREATE INDEX idx_activity_old_value_gin ON activity_log USING GIN (old_value) WHERE old_value IS NOT NULL;
+CREATE INDEX idx_activity_new_value_gin ON activity_log USING GIN (new_value) WHERE new_value IS NOT NULL;
+CREATE INDEX idx_activity_metadata_gin ON activity_log USING GIN (metadata) WHERE metadata IS NOT NULL;
+
+-- ============================================================================
+-- TRIGGERS
+-- ============================================================================
+CREATE TRIGGER trg_activity_log_version
+    BEFORE INSERT ON activity_log
+    FOR EACH ROW EXECUTE FUNCTION assign_activity_version();
+
+-- Stands in for uq_activity_entity_version on the partitions: versions only come from the counter
+CREATE OR REPLACE FUNCTION reject_activity_version_change()
+RETURNS TRIGGER AS $$
+BEGIN
+    RAISE EXCEPTION 'activity_log % version % of % % cannot be changed',
+        OLD.id, OLD.version_number, OLD.entity_type, OLD.entity_id
+        USING ERRCODE = 'integrity_constraint_violation';
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_activity_log_version_immutable
+    BEFORE UPDATE OF entity_type, entity_id, version_number ON activity_log
+    FOR EACH ROW
+    WHEN (OLD.entity_type IS DISTINCT FROM NEW.entity_type
+          OR OLD.entity_id IS DISTINCT FROM NEW.entity_id
+          OR OLD.version_number IS DISTINCT FROM NEW.version_number)
+    EXECUTE FUNCTION reject_activity_version_change();
+
+-- ============================================================================
+-- ARCHIVES
+-- ============================================================================
+CREATE TABLE activity_log_archives (
+    partition_name VARCHAR(63) PRIMARY KEY,
+    range_start TIMESTAMP,
+    range_end TIMESTAMP NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    object_key VARCHAR(500),
+    row_count BIGINT,
+    size_bytes BIGINT,
+    detached_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    archived_at TIMESTAMP,
+
+    CONSTRAINT valid_archive_status CHECK (status IN ('DETACHED', 'ARCHIVED'))
+);
+
+-- ============================================================================
+-- VIEWS
+-- ============================================================================
+CREATE VIEW activity_feed AS
+SELECT
+    al.id,
+    al.organization_id,
+    al.project_id,
+    al.task_id,
+    al.entity_type,
+    al.entity_id,
+    al.action,
+    u.username AS performed_by,
+    u.email AS performed_by_email,
+    al.field_name,
+    al.old_value,
+    al.new_value,
+    al.metadata,
+    al.version_number,
+    al.timestamp,
+    TO_CHAR(al.timestamp, 'YYYY-MM-DD HH24:MI:SS') AS timestamp_formatted,
+    AGE(CURRENT_TIMESTAMP, al.timestamp) AS time_ago
+FROM activity_log al
+JOIN users u ON al.user_id = u.id
+ORDER BY al.timestamp DESC;
+
+COMMENT ON TABLE activity_log IS 'Comprehensive audit trail with versioning, range partitioned by month on timestamp';
+COMMENT ON COLUMN activity_log.version_number IS 'Per-entity version assigned on insert by trg_activity_log_version; unique per entity through activity_versions and never updated';
+COMMENT ON TABLE activity_log_archives IS 'activity_log partitions detached for export to object storage';
+COMMENT ON VIEW activity_feed IS 'Human-readable view of activity log with user details';
@@ -0,0 +1,11 @@
+-- ============================================================================
+-- V35: Single-step id allocation for activity_log
+-- ============================================================================
+-- Purpose: Undo the INCREMENT BY 50 from V25. Activity rows are now written
+--          by ActivityLogWriter with multi-row INSERTs that take their id
+--          from the column default, so every row called nextval() and
+--          skipped 49 ids. Nothing persists ActivityLog through Hibernate
+--          any more, so there is no pooled allocation left to serve.
+-- ============================================================================
+
+ALTER SEQUENCE activity_log_id_seq INCREMENT BY 1;
@@ -1,6 +1,11 @@
 package com.gradproject.taskmanager.infrastructure.health;
 
 import com.gradproject.taskmanager.AbstractIntegrationTest;
+import com.gradproject.taskmanager.infrastructure.security.jwt.JwtTokenService;
+import com.gradproject.taskmanager.modules.auth.domain.Role;
+import com.gradproject.taskmanager.modules.auth.domain.User;
+import com.gradproject.taskmanager.modules.auth.repository.RoleRepository;
+import com.gradproject.taskmanager.modules.auth.repository.UserRepository;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -18,13 +23,50 @@ class ActuatorExposureTests extends AbstractIntegrationTest {
     @Autowired
     MockMvc mockMvc;
 
+    @Autowired
+    JwtTokenService jwtTokenService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    RoleRepository roleRepository;
+
     @Test
-    void health_isPublic_andMetricsNotExposed() throws Exception {
+    void health_isPublic_andMetricsRequireAuthentication() throws Exception {
         mockMvc.perform(get("/actuator/health").accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.status").exists());
 
         mockMvc.perform(get("/actuator/metrics").accept(MediaType.APPLICATION_JSON))
-                .andExpect(status().isNotFound());
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void metrics_withoutAdminAuthority_areForbidden() throws Exception {
+        String token = jwtTokenService.generateAccessToken(user("member"));
+
+        mockMvc.perform(get("/actuator/metrics/activity.writer.entries")
+                        .header("Authorization", "Bearer " + token)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void metrics_withAdminAuthority_exposeActivityWriterMeters() throws Exception {
+        User admin = user("admin");
+        admin.getRoles().add(roleRepository.findByName("ADMIN").orElseGet(() -> roleRepository.save(new Role("ADMIN"))));
+        String token = jwtTokenService.generateAccessToken(userRepository.save(admin));
+
+        mockMvc.perform(get("/actuator/metrics/activity.writer.entries")
+                        .header("Authorization", "Bearer " + token)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("activity.writer.entries"));
+    }
+
+    private User user(String prefix) {
+        String username = prefix + Long.toString(System.nanoTime(), 36);
+        return userRepository.save(new User(username, username + "@example.com", "x"));
     }
 }
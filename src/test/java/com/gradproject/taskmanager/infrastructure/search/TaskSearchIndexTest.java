@@ -0,0 +1,131 @@
+package com.gradproject.taskmanager.infrastructure.search;
+
+import com.gradproject.taskmanager.infrastructure.config.properties.SearchIndexProperties;
+import com.gradproject.taskmanager.modules.search.dto.TaskIndexDocument;
+import com.gradproject.taskmanager.modules.search.dto.TaskIndexHit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskSearchIndexTest {
+
+    @TempDir
+    Path indexPath;
+
+    private TaskSearchIndex index;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        index = new TaskSearchIndex(new SearchIndexProperties(true, indexPath, Duration.ofSeconds(30), false));
+        index.upsert(List.of(
+            document(1L, 10L, "PROJ-1", "Deploy script fails on staging", "The deploy pipeline breaks", "backend", 1L),
+            document(2L, 10L, "PROJ-2", "Update onboarding docs", "Describe the new staging setup", "docs", 1L),
+            document(3L, 20L, "OPS-1", "Deploy monitoring agent", null, "infra", 1L)
+        ));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Test
+    void search_matchesPrefixOfLastTerm() {
+        
+        List<TaskIndexHit> hits = index.search(1L, Set.of(10L, 20L), "depl", 10);
+
+        
+        assertThat(hits).extracting(TaskIndexHit::taskId).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    void search_toleratesTypos() {
+        
+        List<TaskIndexHit> hits = index.search(1L, Set.of(10L), "onbaording", 10);
+
+        
+        assertThat(hits).extracting(TaskIndexHit::taskId).containsExactly(2L);
+    }
+
+    @Test
+    void search_ranksTitleMatchesAboveDescriptionMatches() {
+        
+        List<TaskIndexHit> hits = index.search(1L, Set.of(10L), "staging", 10);
+
+        
+        assertThat(hits).extracting(TaskIndexHit::taskId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void search_matchesTaskKeyPrefix() {
+        
+        List<TaskIndexHit> hits = index.search(1L, Set.of(10L, 20L), "OPS-", 10);
+
+        
+        assertThat(hits).extracting(TaskIndexHit::taskId).containsExactly(3L);
+        assertThat(hits.get(0).projectName()).isEqualTo("Project 20");
+        assertThat(hits.get(0).assigneeId()).isEqualTo(7);
+    }
+
+    @Test
+    void search_onlyReturnsAccessibleProjects() {
+        
+        List<TaskIndexHit> hits = index.search(1L, Set.of(20L), "deploy", 10);
+
+        
+        assertThat(hits).extracting(TaskIndexHit::taskId).containsExactly(3L);
+    }
+
+    @Test
+    void upsert_replacesExistingDocument() {
+        
+        index.upsert(List.of(document(1L, 10L, "PROJ-1", "Rotate credentials", null, "security", 2L)));
+
+        
+        assertThat(index.search(1L, Set.of(10L), "deploy", 10)).isEmpty();
+        assertThat(index.search(1L, Set.of(10L), "rotate", 10)).extracting(TaskIndexHit::taskId).containsExactly(1L);
+        assertThat(index.fingerprints(1L)).containsEntry(1L, 2L);
+    }
+
+    @Test
+    void delete_removesDocuments() {
+        
+        index.delete(List.of(1L, 3L));
+
+        
+        assertThat(index.search(1L, Set.of(10L, 20L), "deploy", 10)).isEmpty();
+        assertThat(index.fingerprints(1L)).containsOnlyKeys(2L);
+    }
+
+    @Test
+    void fingerprints_areReadAfterReopeningTheIndex() throws IOException {
+        
+        index.close();
+        index = new TaskSearchIndex(new SearchIndexProperties(true, indexPath, Duration.ofSeconds(30), false));
+
+        
+        Map<Long, Long> fingerprints = index.fingerprints(1L);
+
+        
+        assertThat(fingerprints).containsOnlyKeys(1L, 2L, 3L);
+        assertThat(index.documentCount()).isEqualTo(3);
+    }
+
+    private static TaskIndexDocument document(Long taskId, Long projectId, String key, String title,
+                                              String description, String label, long fingerprint) {
+        return new TaskIndexDocument(
+            taskId, 1L, projectId, "Project " + projectId, key, title, description, "To Do",
+            7, "jdoe John Doe", List.of(label), null, fingerprint
+        );
+    }
+}
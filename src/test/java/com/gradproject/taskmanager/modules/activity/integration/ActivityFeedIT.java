@@ -0,0 +1,98 @@
+package com.gradproject.taskmanager.modules.activity.integration;
+
+import com.gradproject.taskmanager.AbstractIntegrationTest;
+import com.gradproject.taskmanager.modules.activity.dto.ActivityLogResponse;
+import com.gradproject.taskmanager.modules.activity.service.ActivityLogService;
+import com.gradproject.taskmanager.shared.dto.CursorPageResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+@Testcontainers
+@ActiveProfiles("test")
+class ActivityFeedIT extends AbstractIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ActivityLogService activityLogService;
+
+    private Long orgId;
+    private Integer userId;
+    private final List<Long> newestFirst = new ArrayList<>();
+
+    @BeforeEach
+    void seedFeed() {
+        String suffix = Long.toString(System.nanoTime(), 36);
+        userId = jdbcTemplate.queryForObject(
+                "INSERT INTO users (username, email, password) VALUES (?, ?, 'x') RETURNING id",
+                Integer.class, "feed" + suffix, "feed" + suffix + "@example.com");
+        orgId = jdbcTemplate.queryForObject(
+                "INSERT INTO organizations (name, slug, created_by) VALUES (?, ?, ?) RETURNING id",
+                Long.class, "feed-" + suffix, "feed-" + suffix, userId);
+
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.SECONDS);
+        long sameTimeFirst = activity(now.minusHours(1));
+        long sameTimeSecond = activity(now.minusHours(1));
+        long older = activity(now.minusHours(2));
+        long previousWindow = activity(now.minusDays(45));
+        newestFirst.clear();
+        newestFirst.addAll(List.of(sameTimeSecond, sameTimeFirst, older, previousWindow));
+    }
+
+    @Test
+    void organizationFeed_pagesByCursorWithoutGapsOrDuplicates() {
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPageResponse<ActivityLogResponse> page = activityLogService.getOrganizationFeed(orgId, cursor, 1, false);
+            page.content().forEach(entry -> seen.add(entry.id()));
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null && pages < 10);
+
+        assertThat(seen).containsExactlyElementsOf(newestFirst);
+    }
+
+    @Test
+    void feed_loadsJsonPayloadsOnlyWhenRequested() {
+        ActivityLogResponse withoutValues = activityLogService.getOrganizationFeed(orgId, null, 1, false).content().get(0);
+        ActivityLogResponse withValues = activityLogService.getOrganizationFeed(orgId, null, 1, true).content().get(0);
+
+        assertThat(withoutValues.newValue()).isNull();
+        assertThat(withoutValues.user().id()).isEqualTo(userId);
+        assertThat(withValues.newValue()).contains("\"name\"");
+        assertThat(withValues.metadata()).contains("\"source\"");
+    }
+
+    @Test
+    void userFeed_returnsOnlyThatUsersActivity() {
+        CursorPageResponse<ActivityLogResponse> page = activityLogService.getUserFeed(userId, null, 10, false);
+
+        assertThat(page.content()).extracting(ActivityLogResponse::id).containsExactlyElementsOf(newestFirst);
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    private long activity(LocalDateTime timestamp) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO activity_log (organization_id, entity_type, entity_id, action, user_id,
+                                          new_value, metadata, timestamp)
+                VALUES (?, 'TASK', 1, 'UPDATED', ?, '{"name": "value"}', '{"source": "test"}', ?)
+                RETURNING id
+                """, Long.class, orgId, userId, timestamp);
+    }
+}
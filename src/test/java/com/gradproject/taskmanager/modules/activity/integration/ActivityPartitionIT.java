@@ -0,0 +1,96 @@
+package com.gradproject.taskmanager.modules.activity.integration;
+
+import com.gradproject.taskmanager.AbstractIntegrationTest;
+import com.gradproject.taskmanager.modules.activity.repository.ActivityPartitionRepository;
+import com.gradproject.taskmanager.modules.activity.service.ActivityPartitionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+@Testcontainers
+@ActiveProfiles("test")
+class ActivityPartitionIT extends AbstractIntegrationTest {
+
+    private static final LocalDateTime FAR_MONTH = LocalDateTime.of(2099, 3, 1, 0, 0);
+    private static final String FAR_PARTITION = "activity_log_2099_03";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ActivityPartitionRepository partitionRepository;
+
+    @Autowired
+    private ActivityPartitionService partitionService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long orgId;
+    private Integer userId;
+
+    @BeforeEach
+    void seedOrganization() {
+        String suffix = Long.toString(System.nanoTime(), 36);
+        userId = jdbcTemplate.queryForObject(
+                "INSERT INTO users (username, email, password) VALUES (?, ?, 'x') RETURNING id",
+                Integer.class, "part" + suffix, "part" + suffix + "@example.com");
+        orgId = jdbcTemplate.queryForObject(
+                "INSERT INTO organizations (name, slug, created_by) VALUES (?, ?, ?) RETURNING id",
+                Long.class, "part-" + suffix, "part-" + suffix, userId);
+    }
+
+    @AfterEach
+    void dropFarPartition() {
+        jdbcTemplate.update("DELETE FROM activity_log WHERE organization_id = ?", orgId);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + FAR_PARTITION);
+    }
+
+    @Test
+    void insert_landsInTheCurrentMonthPartition() {
+        partitionService.ensurePartitions();
+
+        jdbcTemplate.update("""
+                INSERT INTO activity_log (organization_id, entity_type, entity_id, action, user_id, timestamp)
+                VALUES (?, 'TASK', 1, 'UPDATED', ?, (CURRENT_TIMESTAMP AT TIME ZONE 'UTC'))
+                """, orgId, userId);
+
+        assertThat(partitionOf(orgId)).isNotEqualTo(ActivityPartitionRepository.DEFAULT_PARTITION);
+        assertThat(partitionService.ensurePartitions()).isZero();
+    }
+
+    @Test
+    void createMonthPartition_movesRowsOutOfTheDefaultPartition() {
+        jdbcTemplate.update("""
+                INSERT INTO activity_log (organization_id, entity_type, entity_id, action, user_id, timestamp)
+                VALUES (?, 'TASK', ?, 'UPDATED', ?, ?)
+                """, orgId, orgId, userId, FAR_MONTH.plusDays(14));
+        assertThat(partitionOf(orgId)).isEqualTo(ActivityPartitionRepository.DEFAULT_PARTITION);
+
+        Integer moved = new TransactionTemplate(transactionManager).execute(status ->
+                partitionRepository.createMonthPartition(FAR_PARTITION, FAR_MONTH, FAR_MONTH.plusMonths(1)));
+
+        assertThat(moved).isEqualTo(1);
+        assertThat(partitionOf(orgId)).isEqualTo(FAR_PARTITION);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT version_number FROM activity_log WHERE organization_id = ?", Integer.class, orgId))
+                .isEqualTo(1);
+    }
+
+    private String partitionOf(Long organizationId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT CAST(tableoid::regclass AS TEXT) FROM activity_log WHERE organization_id = ?",
+                String.class, organizationId);
+    }
+}
@@ -0,0 +1,108 @@
+package com.gradproject.taskmanager.modules.activity.integration;
+
+import com.gradproject.taskmanager.AbstractIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+
+@Testcontainers
+@ActiveProfiles("test")
+class ActivityVersionIT extends AbstractIntegrationTest {
+
+    private static final int WRITERS = 8;
+    private static final int WRITES_PER_WRITER = 25;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long orgId;
+    private Integer userId;
+
+    @BeforeEach
+    void seedOrganization() {
+        String suffix = Long.toString(System.nanoTime(), 36);
+        userId = jdbcTemplate.queryForObject(
+                "INSERT INTO users (username, email, password) VALUES (?, ?, 'x') RETURNING id",
+                Integer.class, "ver" + suffix, "ver" + suffix + "@example.com");
+        orgId = jdbcTemplate.queryForObject(
+                "INSERT INTO organizations (name, slug, created_by) VALUES (?, ?, ?) RETURNING id",
+                Long.class, "ver-" + suffix, "ver-" + suffix, userId);
+    }
+
+    @Test
+    void insert_assignsSequentialVersionsPerEntity() {
+        long entityId = System.nanoTime();
+
+        activity(entityId, "TASK");
+        activity(entityId, "TASK");
+        activity(entityId, "COMMENT");
+
+        assertThat(versions(entityId, "TASK")).containsExactly(1, 2);
+        assertThat(versions(entityId, "COMMENT")).containsExactly(1);
+    }
+
+    @Test
+    void concurrentInserts_neverReuseAVersion() throws Exception {
+        long entityId = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int w = 0; w < WRITERS; w++) {
+                writers.add(executor.submit(() -> {
+                    for (int i = 0; i < WRITES_PER_WRITER; i++) {
+                        activity(entityId, "TASK");
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(versions(entityId, "TASK"))
+                .containsExactlyElementsOf(IntStream.rangeClosed(1, WRITERS * WRITES_PER_WRITER).boxed().toList());
+    }
+
+    @Test
+    void update_cannotChangeAnAssignedVersion() {
+        long entityId = System.nanoTime();
+        activity(entityId, "TASK");
+        activity(entityId, "TASK");
+
+        assertThatThrownBy(() -> jdbcTemplate.update(
+                "UPDATE activity_log SET version_number = 1 WHERE entity_type = 'TASK' AND entity_id = ? AND version_number = 2",
+                entityId))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(versions(entityId, "TASK")).containsExactly(1, 2);
+    }
+
+    private void activity(long entityId, String entityType) {
+        jdbcTemplate.update("""
+                INSERT INTO activity_log (organization_id, entity_type, entity_id, action, user_id)
+                VALUES (?, ?, ?, 'UPDATED', ?)
+                """, orgId, entityType, entityId, userId);
+    }
+
+    private List<Integer> versions(long entityId, String entityType) {
+        return jdbcTemplate.queryForList(
+                "SELECT version_number FROM activity_log WHERE entity_type = ? AND entity_id = ? ORDER BY version_number",
+                Integer.class, entityType, entityId);
+    }
+}
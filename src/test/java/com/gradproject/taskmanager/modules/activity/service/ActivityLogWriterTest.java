@@ -0,0 +1,205 @@
+package com.gradproject.taskmanager.modules.activity.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gradproject.taskmanager.modules.activity.domain.ActionType;
+import com.gradproject.taskmanager.modules.activity.domain.ActivityEntry;
+import com.gradproject.taskmanager.modules.activity.domain.EntityType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ActivityLogWriterTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private ActivityLogWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        if (writer != null) {
+            writer.shutdown();
+        }
+    }
+
+    @Test
+    void writeAll_syncWithoutTransaction_insertsOneMultiRowStatement() {
+
+        writer = writer(ActivityWriteMode.SYNC, 10, Duration.ZERO, Duration.ofMillis(100));
+
+
+        writer.writeAll(List.of(entry(1L), entry(2L), entry(3L)));
+
+
+        verify(jdbcTemplate).update(argThat(sql -> rows(sql) == 3), any(PreparedStatementSetter.class));
+        assertThat(writer.writtenCount()).isEqualTo(3);
+        assertThat(writer.batchCount()).isEqualTo(1);
+    }
+
+    @Test
+    void writeAll_syncInsideTransaction_writesOnceBeforeCommit() {
+
+        writer = writer(ActivityWriteMode.SYNC, 10, Duration.ZERO, Duration.ofMillis(100));
+        TransactionSynchronizationManager.initSynchronization();
+
+
+        writer.write(entry(1L));
+        writer.write(entry(2L));
+        verifyNoInteractions(jdbcTemplate);
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.beforeCommit(false);
+        }
+
+
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(1);
+        verify(entityManager).flush();
+        verify(jdbcTemplate).update(argThat(sql -> rows(sql) == 2), any(PreparedStatementSetter.class));
+    }
+
+    @Test
+    void groupCommit_collectsSeparateWritesIntoOneStatement() {
+
+        writer = writer(ActivityWriteMode.GROUP_COMMIT, 10, Duration.ofMillis(300), Duration.ofMillis(100));
+
+
+        writer.write(entry(1L));
+        writer.write(entry(2L));
+        writer.write(entry(3L));
+
+
+        verify(jdbcTemplate, timeout(2_000)).update(argThat(sql -> rows(sql) == 3), any(PreparedStatementSetter.class));
+        verify(jdbcTemplate, times(1)).update(anyString(), any(PreparedStatementSetter.class));
+    }
+
+    @Test
+    void afterCommit_fullQueue_callerWritesEntryItself() throws InterruptedException {
+
+        CountDownLatch drainerBusy = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class))).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() == 1) {
+                drainerBusy.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return 1;
+        });
+        writer = writer(ActivityWriteMode.AFTER_COMMIT, 1, Duration.ZERO, Duration.ZERO);
+        writer.write(entry(1L));
+        assertThat(drainerBusy.await(2, TimeUnit.SECONDS)).isTrue();
+
+
+        writer.write(entry(2L));
+        writer.write(entry(3L));
+        release.countDown();
+
+
+        assertThat(writer.overflowCount()).isEqualTo(1);
+        verify(jdbcTemplate, timeout(2_000).times(3)).update(anyString(), any(PreparedStatementSetter.class));
+    }
+
+    @Test
+    void afterCommit_fullQueue_bulkWriteWaitsOnceForTheWholeBatch() throws InterruptedException {
+
+        CountDownLatch drainerBusy = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class))).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() == 1) {
+                drainerBusy.countDown();
+                release.await(10, TimeUnit.SECONDS);
+            }
+            return 1;
+        });
+        writer = writer(ActivityWriteMode.AFTER_COMMIT, 1, Duration.ZERO, Duration.ofMillis(200));
+        writer.write(entry(1L));
+        assertThat(drainerBusy.await(2, TimeUnit.SECONDS)).isTrue();
+        writer.write(entry(2L));
+        List<ActivityEntry> bulk = LongStream.rangeClosed(3, 52).mapToObj(ActivityLogWriterTest::entry).toList();
+
+
+        long started = System.nanoTime();
+        writer.writeAll(bulk);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        release.countDown();
+
+
+        // Waiting per entry would take 50 x 200 ms
+        assertThat(elapsedMillis).isLessThan(5_000);
+        assertThat(writer.overflowCount()).isEqualTo(50);
+        verify(jdbcTemplate).update(argThat(sql -> rows(sql) == 50), any(PreparedStatementSetter.class));
+    }
+
+    @Test
+    void failedBatch_isRetriedRowByRowAndRejectedRowsCounted() {
+
+        AtomicInteger singleRowCalls = new AtomicInteger();
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class))).thenAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            if (rows(sql) > 1 || singleRowCalls.incrementAndGet() == 1) {
+                throw new DataIntegrityViolationException("rejected");
+            }
+            return 1;
+        });
+        writer = writer(ActivityWriteMode.GROUP_COMMIT, 10, Duration.ofMillis(300), Duration.ofMillis(100));
+
+
+        writer.writeAll(List.of(entry(1L), entry(2L)));
+
+
+        verify(jdbcTemplate, timeout(3_000).times(5)).update(anyString(), any(PreparedStatementSetter.class));
+        writer.shutdown();
+        assertThat(writer.failedCount()).isEqualTo(1);
+        assertThat(writer.writtenCount()).isEqualTo(1);
+    }
+
+    private ActivityLogWriter writer(ActivityWriteMode mode, int queueCapacity, Duration groupCommitInterval,
+                                     Duration enqueueTimeout) {
+        return new ActivityLogWriter(jdbcTemplate, entityManager, new ObjectMapper(), transactionManager, mode,
+            100, queueCapacity, groupCommitInterval, enqueueTimeout, Duration.ofSeconds(5));
+    }
+
+    private static ActivityEntry entry(Long taskId) {
+        return ActivityEntry.builder()
+            .organizationId(1L)
+            .taskId(taskId)
+            .entityType(EntityType.TASK)
+            .entityId(taskId)
+            .action(ActionType.UPDATED)
+            .userId(1)
+            .metadata(Map.of("field", "title"))
+            .build();
+    }
+
+    private static int rows(String sql) {
+        return sql.split("CAST\\(\\? AS JSONB\\), \\?\\)", -1).length - 1;
+    }
+}
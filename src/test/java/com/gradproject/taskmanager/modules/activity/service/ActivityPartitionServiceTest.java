@@ -0,0 +1,129 @@
+package com.gradproject.taskmanager.modules.activity.service;
+
+import com.gradproject.taskmanager.infrastructure.storage.S3Service;
+import com.gradproject.taskmanager.modules.activity.dto.ActivityPartition;
+import com.gradproject.taskmanager.modules.activity.repository.ActivityPartitionRepository;
+import com.gradproject.taskmanager.shared.exception.FileStorageException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ActivityPartitionServiceTest {
+
+    private static final LocalDateTime OCTOBER = LocalDateTime.of(2026, 10, 1, 0, 0);
+
+    private final ActivityPartitionRepository partitionRepository = mock(ActivityPartitionRepository.class);
+    private final S3Service s3Service = mock(S3Service.class);
+    private final ActivityPartitionService service = new ActivityPartitionService(
+        partitionRepository, s3Service, mock(PlatformTransactionManager.class), 3, 24, "archive/");
+
+    @BeforeEach
+    void setUp() {
+        when(partitionRepository.tryLock()).thenReturn(true);
+    }
+
+    @Test
+    void ensurePartitions_createsOnlyMonthsNotAlreadyCovered() {
+
+        when(partitionRepository.findPartitions()).thenReturn(List.of(
+            new ActivityPartition("activity_log_legacy", null, LocalDateTime.of(2026, 11, 1, 0, 0), false),
+            ActivityPartition.defaultPartition(ActivityPartitionRepository.DEFAULT_PARTITION),
+            month(2026, 12)));
+
+
+        int created = service.ensurePartitions(OCTOBER);
+
+
+        assertThat(created).isEqualTo(2);
+        verify(partitionRepository).createMonthPartition("activity_log_2026_11",
+            LocalDateTime.of(2026, 11, 1, 0, 0), LocalDateTime.of(2026, 12, 1, 0, 0));
+        verify(partitionRepository).createMonthPartition("activity_log_2027_01",
+            LocalDateTime.of(2027, 1, 1, 0, 0), LocalDateTime.of(2027, 2, 1, 0, 0));
+        verify(partitionRepository, never()).createMonthPartition(eq("activity_log_2026_12"), any(), any());
+    }
+
+    @Test
+    void ensurePartitions_skipsWhenAnotherInstanceHoldsTheLock() {
+
+        when(partitionRepository.tryLock()).thenReturn(false);
+
+
+        assertThat(service.ensurePartitions(OCTOBER)).isZero();
+
+
+        verify(partitionRepository, never()).findPartitions();
+    }
+
+    @Test
+    void archiveExpiredPartitions_detachesExportsUploadsThenDrops() throws Exception {
+
+        ActivityPartition expired = month(2024, 9);
+        when(partitionRepository.findPartitions()).thenReturn(List.of(expired, month(2024, 10)));
+        when(partitionRepository.findDetached()).thenReturn(List.of(expired));
+        when(partitionRepository.export(eq(expired.name()), any(Writer.class))).thenAnswer(invocation -> {
+            Writer out = invocation.getArgument(1);
+            out.write("{\"id\":1}\n{\"id\":2}\n");
+            return 2L;
+        });
+        AtomicLong uploadedBytes = new AtomicLong();
+        when(s3Service.uploadFile(any(Path.class), anyString(), anyString())).thenAnswer(invocation -> {
+            uploadedBytes.set(Files.size(invocation.getArgument(0)));
+            return invocation.getArgument(1);
+        });
+        when(s3Service.getFileSize("archive/activity_log_2024_09.ndjson.gz")).thenAnswer(invocation -> uploadedBytes.get());
+
+
+        int archived = service.archiveExpiredPartitions(OCTOBER);
+
+
+        assertThat(archived).isEqualTo(1);
+        verify(partitionRepository).recordDetached(expired);
+        verify(partitionRepository).detach("activity_log_2024_09");
+        verify(partitionRepository, never()).detach("activity_log_2024_10");
+        verify(s3Service).uploadFile(any(Path.class), eq("archive/activity_log_2024_09.ndjson.gz"), eq("application/gzip"));
+        verify(partitionRepository).markArchived(eq("activity_log_2024_09"), eq("archive/activity_log_2024_09.ndjson.gz"),
+            eq(2L), eq(uploadedBytes.get()));
+        verify(partitionRepository).drop("activity_log_2024_09");
+    }
+
+    @Test
+    void archiveExpiredPartitions_failedUpload_keepsPartitionDetachedForRetry() {
+
+        ActivityPartition expired = month(2024, 9);
+        when(partitionRepository.findPartitions()).thenReturn(List.of());
+        when(partitionRepository.findDetached()).thenReturn(List.of(expired));
+        when(partitionRepository.export(eq(expired.name()), any(Writer.class))).thenReturn(0L);
+        when(s3Service.uploadFile(any(Path.class), anyString(), anyString()))
+            .thenThrow(new FileStorageException("storage unavailable"));
+
+
+        int archived = service.archiveExpiredPartitions(OCTOBER);
+
+
+        assertThat(archived).isZero();
+        verify(partitionRepository, never()).markArchived(anyString(), anyString(), anyLong(), anyLong());
+        verify(partitionRepository, never()).drop(anyString());
+    }
+
+    private static ActivityPartition month(int year, int month) {
+        LocalDateTime start = LocalDateTime.of(year, month, 1, 0, 0);
+        return new ActivityPartition(ActivityPartitionRepository.monthPartitionName(start), start, start.plusMonths(1), false);
+    }
+}
@@ -0,0 +1,155 @@
+package com.gradproject.taskmanager.modules.analytics.integration;
+
+import com.gradproject.taskmanager.AbstractIntegrationTest;
+import com.gradproject.taskmanager.modules.analytics.dto.DailyActivityResponse;
+import com.gradproject.taskmanager.modules.analytics.repository.AnalyticsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+@Testcontainers
+@ActiveProfiles("test")
+class AnalyticsActivityIT extends AbstractIntegrationTest {
+
+    private static final LocalDate DAY_ONE = LocalDate.of(2025, 3, 10);
+    private static final LocalDate DAY_TWO = DAY_ONE.plusDays(1);
+
+    @Autowired
+    private AnalyticsRepository analyticsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long orgId;
+    private Long projectId;
+    private Integer alice;
+    private Integer bob;
+
+    @BeforeEach
+    void seedActivity() {
+        String suffix = Long.toString(System.nanoTime(), 36);
+        alice = user("alice" + suffix);
+        bob = user("bob" + suffix);
+        orgId = organization("act-" + suffix, alice);
+        Long otherOrgId = organization("other-" + suffix, alice);
+
+        projectId = jdbcTemplate.queryForObject(
+                "INSERT INTO projects (organization_id, \"key\", name, created_by) VALUES (?, 'ACT', 'Activity', ?) RETURNING id",
+                Long.class, orgId, alice);
+        Long hiddenProjectId = jdbcTemplate.queryForObject(
+                "INSERT INTO projects (organization_id, \"key\", name, created_by) VALUES (?, 'HID', 'Hidden', ?) RETURNING id",
+                Long.class, orgId, alice);
+        Long todo = status(projectId, "To Do", 0, "TODO");
+        Long review = status(projectId, "Review", 1, "DONE");
+        Long done = status(projectId, "Done", 2, "DONE");
+        Long taskId = jdbcTemplate.queryForObject("""
+                INSERT INTO tasks (organization_id, project_id, "key", title, status_id, reporter_id, created_by)
+                VALUES (?, ?, 'ACT-1', 'Activity task', ?, ?, ?) RETURNING id
+                """, Long.class, orgId, projectId, todo, alice, alice);
+
+        LocalDateTime morning = DAY_ONE.atTime(9, 0);
+        activity(orgId, projectId, taskId, "CREATED", alice, null, null, morning);
+        activity(orgId, projectId, taskId, "COMMENT_ADDED", bob, null, null, morning.plusHours(1));
+        activity(orgId, projectId, taskId, "STATUS_CHANGED", alice, todo, done, morning.plusHours(2));
+        // Moving between two DONE statuses is not a new completion.
+        activity(orgId, projectId, taskId, "STATUS_CHANGED", alice, done, review, morning.plusHours(3));
+        activity(orgId, projectId, taskId, "ASSIGNED", bob, null, null, DAY_TWO.atTime(23, 59));
+
+
+        activity(orgId, projectId, taskId, "CREATED", alice, null, null, DAY_ONE.minusDays(1).atTime(12, 0));
+        activity(orgId, projectId, taskId, "CREATED", alice, null, null, DAY_TWO.plusDays(1).atStartOfDay());
+        activity(otherOrgId, null, null, "CREATED", alice, null, null, morning);
+        // Only visible to callers who can access the hidden project.
+        activity(orgId, hiddenProjectId, null, "CREATED", alice, null, null, morning);
+        // Organization-level activity belongs to no project and is always counted.
+        activity(orgId, null, null, "UPDATED", bob, null, null, DAY_TWO.atTime(8, 0));
+    }
+
+    @Test
+    void dailyActivity_returnsOneRowPerDayForTheOrganization() {
+        List<DailyActivityResponse> daily = inTransaction(() ->
+                analyticsRepository.findDailyActivity(orgId, null, List.of(projectId), DAY_ONE, DAY_TWO));
+
+        assertThat(daily).containsExactly(
+                new DailyActivityResponse(DAY_ONE, 1L, 1L, 1L, 4L),
+                new DailyActivityResponse(DAY_TWO, 0L, 0L, 0L, 2L));
+    }
+
+    @Test
+    void dailyActivity_withoutAccessibleProjects_countsOnlyOrganizationLevelRows() {
+        List<DailyActivityResponse> daily = inTransaction(() ->
+                analyticsRepository.findDailyActivity(orgId, null, List.of(), DAY_ONE, DAY_TWO));
+
+        assertThat(daily).containsExactly(
+                DailyActivityResponse.empty(DAY_ONE),
+                new DailyActivityResponse(DAY_TWO, 0L, 0L, 0L, 1L));
+    }
+
+    @Test
+    void dailyActivity_filtersByActingUser() {
+        List<DailyActivityResponse> aliceDaily = inTransaction(() ->
+                analyticsRepository.findDailyActivity(orgId, alice, List.of(projectId), DAY_ONE, DAY_TWO));
+        List<DailyActivityResponse> bobDaily = inTransaction(() ->
+                analyticsRepository.findDailyActivity(orgId, bob, List.of(projectId), DAY_ONE, DAY_TWO));
+
+        assertThat(aliceDaily.get(0)).isEqualTo(new DailyActivityResponse(DAY_ONE, 1L, 1L, 0L, 3L));
+        assertThat(aliceDaily.get(1)).isEqualTo(DailyActivityResponse.empty(DAY_TWO));
+        assertThat(bobDaily).containsExactly(
+                new DailyActivityResponse(DAY_ONE, 0L, 0L, 1L, 1L),
+                new DailyActivityResponse(DAY_TWO, 0L, 0L, 0L, 2L));
+    }
+
+    private Integer user(String username) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO users (username, email, password) VALUES (?, ?, 'x') RETURNING id",
+                Integer.class, username, username + "@example.com");
+    }
+
+    private Long organization(String slug, Integer createdBy) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO organizations (name, slug, created_by) VALUES (?, ?, ?) RETURNING id",
+                Long.class, slug, slug, createdBy);
+    }
+
+    private Long status(Long projectId, String name, int order, String category) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO task_statuses (project_id, name, order_index, category) VALUES (?, ?, ?, ?) RETURNING id",
+                Long.class, projectId, name, order, category);
+    }
+
+    private void activity(Long organizationId, Long projectId, Long taskId, String action, Integer userId,
+                          Long oldStatusId, Long newStatusId, LocalDateTime timestamp) {
+        jdbcTemplate.update("""
+                INSERT INTO activity_log (organization_id, project_id, task_id, entity_type, entity_id, action,
+                                          user_id, old_value, new_value, timestamp)
+                VALUES (?, ?, ?, ?, ?, ?, ?, CAST(? AS JSONB), CAST(? AS JSONB), ?)
+                """,
+                organizationId, projectId, taskId, action.startsWith("COMMENT") ? "COMMENT" : "TASK",
+                taskId != null ? taskId : 0L, action, userId,
+                oldStatusId != null ? "{\"id\": " + oldStatusId + "}" : null,
+                newStatusId != null ? "{\"id\": " + newStatusId + "}" : null,
+                timestamp);
+    }
+
+    private <T> T inTransaction(Supplier<T> work) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        return tx.execute(status -> work.get());
+    }
+}
@@ -0,0 +1,201 @@
+package com.gradproject.taskmanager.modules.analytics.integration;
+
+import com.gradproject.taskmanager.AbstractIntegrationTest;
+import com.gradproject.taskmanager.modules.analytics.dto.ProjectRollupRow;
+import com.gradproject.taskmanager.modules.analytics.repository.AnalyticsRepository;
+import com.gradproject.taskmanager.modules.analytics.repository.ProjectMetricsRepository.ReconcileResult;
+import com.gradproject.taskmanager.modules.analytics.service.ProjectMetricsService;
+import com.gradproject.taskmanager.modules.task.repository.TaskRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+@Testcontainers
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class AnalyticsRollupBenchmarkIT extends AbstractIntegrationTest {
+
+    private static final int PROJECTS = 20;
+    private static final int TASKS_PER_PROJECT = 5_000;
+
+    @Autowired
+    private AnalyticsRepository analyticsRepository;
+
+    @Autowired
+    private ProjectMetricsService projectMetricsService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long orgId;
+    private final List<Long> projectIds = new ArrayList<>();
+
+    @BeforeEach
+    void seedOrganization() {
+        String suffix = Long.toString(System.nanoTime(), 36);
+
+        Integer userId = jdbcTemplate.queryForObject(
+                "INSERT INTO users (username, email, password) VALUES (?, ?, 'x') RETURNING id",
+                Integer.class, "stats" + suffix, "stats" + suffix + "@example.com");
+        orgId = jdbcTemplate.queryForObject(
+                "INSERT INTO organizations (name, slug, created_by) VALUES ('Stats', ?, ?) RETURNING id",
+                Long.class, "stats-" + suffix, userId);
+
+        projectIds.clear();
+        for (int p = 0; p < PROJECTS; p++) {
+            Long projectId = jdbcTemplate.queryForObject(
+                    "INSERT INTO projects (organization_id, \"key\", name, created_by) VALUES (?, ?, ?, ?) RETURNING id",
+                    Long.class, orgId, "ST" + p, "Stats " + p, userId);
+            projectIds.add(projectId);
+
+            Long todo = status(projectId, "To Do", 0, "TODO");
+            Long doing = status(projectId, "In Progress", 1, "IN_PROGRESS");
+            Long done = status(projectId, "Done", 2, "DONE");
+
+            
+            jdbcTemplate.update("""
+                    INSERT INTO tasks (organization_id, project_id, "key", title, status_id, due_date,
+                                       story_points, logged_hours, reporter_id, created_by)
+                    SELECT ?, ?, ? || '-' || n, 'Task ' || n,
+                           CASE n % 4 WHEN 0 THEN ? WHEN 1 THEN ? ELSE ? END,
+                           CASE WHEN n % 5 = 0 THEN CURRENT_DATE - 1 END,
+                           CASE WHEN n % 2 = 0 THEN 2 END, 0.5,
+                           ?, ?
+                    FROM generate_series(1, ?) AS n
+                    """, orgId, projectId, "ST" + p, todo, doing, done, userId, userId, TASKS_PER_PROJECT);
+            jdbcTemplate.update(
+                    "INSERT INTO project_members (user_id, project_id, role, added_by) VALUES (?, ?, 'PROJECT_OWNER', ?)",
+                    userId, projectId, userId);
+        }
+        jdbcTemplate.execute("ANALYZE tasks");
+    }
+
+    @Test
+    void projectRollups_countWholeOrganizationInOneStatement() {
+        // Freshly inserted tasks are still pending deltas; reads must already include them.
+        assertSeededCounts();
+        projectMetricsService.compact();
+        assertSeededCounts();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        List<ProjectRollupRow> rollups = inTransaction(
+                () -> analyticsRepository.findProjectRollups(orgId, projectIds, LocalDate.now()));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        List<Long> entityTotals = inTransaction(() -> projectIds.stream()
+                .map(projectId -> (long) taskRepository.findByProjectWithFilters(projectId, null, null, null).size())
+                .toList());
+        assertThat(rollups).extracting(ProjectRollupRow::totalTasks).containsExactlyInAnyOrderElementsOf(entityTotals);
+    }
+
+    @Test
+    void projectMetrics_followTaskWritesAndReconcileRepairsDrift() {
+        projectMetricsService.compact();
+        Long projectId = projectIds.get(0);
+        Long doneStatus = jdbcTemplate.queryForObject(
+                "SELECT id FROM task_statuses WHERE project_id = ? AND category = 'DONE'", Long.class, projectId);
+
+        
+        jdbcTemplate.update("""
+                UPDATE tasks SET status_id = ?
+                WHERE project_id = ? AND "key" IN ('ST0-4', 'ST0-5')
+                """, doneStatus, projectId);
+        jdbcTemplate.update("DELETE FROM tasks WHERE project_id = ? AND \"key\" = 'ST0-6'", projectId);
+
+        ProjectRollupRow pending = rollup(projectId);
+        projectMetricsService.compact();
+        ProjectRollupRow compacted = rollup(projectId);
+
+        assertThat(compacted).isEqualTo(pending);
+        assertThat(compacted.totalTasks()).isEqualTo(TASKS_PER_PROJECT - 1);
+        assertThat(compacted.todoTasks()).isEqualTo(TASKS_PER_PROJECT / 4 - 1);
+        assertThat(compacted.inProgressTasks()).isEqualTo(TASKS_PER_PROJECT / 4 - 1);
+        assertThat(compacted.completedTasks()).isEqualTo(TASKS_PER_PROJECT / 2 + 1);
+        
+        assertThat(compacted.overdueTasks()).isEqualTo(TASKS_PER_PROJECT / 10 - 1);
+
+        
+        jdbcTemplate.update("UPDATE project_metrics SET task_count = task_count + 5 WHERE project_id = ?", projectId);
+        jdbcTemplate.update("""
+                INSERT INTO project_metrics (project_id, status_id, due_date, task_count, story_points, logged_hours)
+                VALUES (?, ?, DATE '2000-01-01', 3, 0, 0)
+                """, projectIds.get(1), doneStatus);
+
+        ReconcileResult result = projectMetricsService.reconcile();
+
+        assertThat(result.driftedProjects()).isEqualTo(2);
+        assertThat(rollup(projectId)).isEqualTo(compacted);
+        assertThat(projectMetricsService.reconcile().driftedRows()).isZero();
+    }
+
+    private void assertSeededCounts() {
+        List<ProjectRollupRow> rollups = inTransaction(
+                () -> analyticsRepository.findProjectRollups(orgId, projectIds, LocalDate.now()));
+
+        
+        assertThat(rollups).hasSize(PROJECTS);
+        ProjectRollupRow first = rollups.get(0);
+        assertThat(first.totalTasks()).isEqualTo(TASKS_PER_PROJECT);
+        assertThat(first.todoTasks()).isEqualTo(TASKS_PER_PROJECT / 4);
+        assertThat(first.inProgressTasks()).isEqualTo(TASKS_PER_PROJECT / 4);
+        assertThat(first.completedTasks()).isEqualTo(TASKS_PER_PROJECT / 2);
+        
+        assertThat(first.overdueTasks()).isEqualTo(TASKS_PER_PROJECT / 10);
+        assertThat(first.totalMembers()).isEqualTo(1);
+        assertThat(first.storyPoints()).isEqualTo(TASKS_PER_PROJECT);
+        assertThat(first.completedStoryPoints()).isEqualTo(TASKS_PER_PROJECT / 2);
+        assertThat(first.loggedHours()).isEqualByComparingTo(BigDecimal.valueOf(TASKS_PER_PROJECT / 2));
+
+        Map<String, Long> distribution = inTransaction(() -> analyticsRepository.findStatusDistribution(projectIds.get(0)));
+        assertThat(distribution).containsExactly(
+                Map.entry("To Do", (long) TASKS_PER_PROJECT / 4),
+                Map.entry("In Progress", (long) TASKS_PER_PROJECT / 4),
+                Map.entry("Done", (long) TASKS_PER_PROJECT / 2));
+    }
+
+    private ProjectRollupRow rollup(Long projectId) {
+        return inTransaction(() -> analyticsRepository.findProjectRollups(orgId, List.of(projectId), LocalDate.now()))
+                .get(0);
+    }
+
+    private Long status(Long projectId, String name, int order, String category) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO task_statuses (project_id, name, order_index, category) VALUES (?, ?, ?, ?) RETURNING id",
+                Long.class, projectId, name, order, category);
+    }
+
+    private <T> T inTransaction(Supplier<T> work) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        return tx.execute(status -> work.get());
+    }
+}
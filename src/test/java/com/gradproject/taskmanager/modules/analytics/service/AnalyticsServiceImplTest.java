@@ -1,6 +1,7 @@
 package com.gradproject.taskmanager.modules.analytics.service;
 
 import com.gradproject.taskmanager.modules.analytics.dto.*;
+import com.gradproject.taskmanager.modules.analytics.repository.AnalyticsRepository;
 import com.gradproject.taskmanager.modules.auth.domain.User;
 import com.gradproject.taskmanager.modules.auth.repository.UserRepository;
 import com.gradproject.taskmanager.modules.organization.domain.Organization;
@@ -9,10 +10,9 @@ import com.gradproject.taskmanager.modules.project.domain.Project;
 import com.gradproject.taskmanager.modules.project.domain.StatusCategory;
 import com.gradproject.taskmanager.modules.project.domain.TaskStatus;
 import com.gradproject.taskmanager.modules.project.repository.ProjectRepository;
-import com.gradproject.taskmanager.modules.release.domain.enums.ReleaseStatus;
-import com.gradproject.taskmanager.modules.release.repository.ReleaseRepository;
 import com.gradproject.taskmanager.modules.task.domain.Task;
 import com.gradproject.taskmanager.modules.task.repository.TaskRepository;
+import com.gradproject.taskmanager.shared.exception.BadRequestException;
 import com.gradproject.taskmanager.shared.exception.ResourceNotFoundException;
 import com.gradproject.taskmanager.shared.exception.UnauthorizedException;
 import com.gradproject.taskmanager.shared.security.PermissionService;
@@ -23,11 +23,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -51,7 +55,10 @@ class AnalyticsServiceImplTest {
     private OrganizationRepository organizationRepository;
 
     @Mock
-    private ReleaseRepository releaseRepository;
+    private AnalyticsRepository analyticsRepository;
+
+    @Mock
+    private ProjectMetricsLoader projectMetricsLoader;
 
     @Mock
     private PermissionService permissionService;
@@ -127,9 +134,8 @@ class AnalyticsServiceImplTest {
         when(userRepository.findById(1)).thenReturn(Optional.of(testUser));
         when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
         when(permissionService.canAccessProject(testUser, testProject)).thenReturn(true);
-        when(taskRepository.findByProjectWithFilters(1L, null, null, null)).thenReturn(testTasks);
-        when(taskRepository.findOverdueTasks(eq(1L), any(LocalDate.class))).thenReturn(Collections.emptyList());
-        when(releaseRepository.findByProjectIdAndStatus(1L, ReleaseStatus.IN_PROGRESS)).thenReturn(Collections.emptyList());
+        when(analyticsRepository.findProjectRollups(eq(1L), eq(List.of(1L)), any(LocalDate.class)))
+            .thenReturn(List.of(rollup(testProject, 3, 1, 1, 1, 2)));
 
         
         ProjectMetricsResponse response = analyticsService.getProjectMetrics(1L, 1);
@@ -142,10 +148,11 @@ class AnalyticsServiceImplTest {
         assertThat(response.completedTasks()).isEqualTo(1L);
         assertThat(response.inProgressTasks()).isEqualTo(1L);
         assertThat(response.todoTasks()).isEqualTo(1L);
+        assertThat(response.overdueTasks()).isEqualTo(2L);
         assertThat(response.completionRate()).isGreaterThan(0.0);
 
-        verify(taskRepository).findByProjectWithFilters(1L, null, null, null);
         verify(permissionService).canAccessProject(testUser, testProject);
+        verifyNoInteractions(taskRepository);
     }
 
     @Test
@@ -195,19 +202,20 @@ class AnalyticsServiceImplTest {
 
         when(userRepository.findById(1)).thenReturn(Optional.of(testUser));
         when(organizationRepository.findById(1L)).thenReturn(Optional.of(testOrganization));
-        when(projectRepository.findByOrganizationId(1L)).thenReturn(List.of(testProject, project2));
-        when(permissionService.canAccessProject(eq(testUser), any(Project.class))).thenReturn(true);
-        when(projectRepository.findById(anyLong())).thenReturn(Optional.of(testProject));
-        when(taskRepository.findByProjectWithFilters(anyLong(), any(), any(), any())).thenReturn(testTasks);
-        when(taskRepository.findOverdueTasks(anyLong(), any(LocalDate.class))).thenReturn(Collections.emptyList());
-        when(releaseRepository.findByProjectIdAndStatus(anyLong(), any())).thenReturn(Collections.emptyList());
+        when(permissionService.accessibleProjectIds(1, 1L)).thenReturn(Set.of(1L, 2L));
+        when(projectMetricsLoader.load(eq(1L), eq(Set.of(1L, 2L)), any(LocalDate.class)))
+            .thenReturn(List.of(rollup(testProject, 3, 1, 1, 1, 0), rollup(project2, 0, 0, 0, 0, 0)));
 
         
         List<ProjectMetricsResponse> responses = analyticsService.getOrganizationProjectsMetrics(1L, 1);
 
         
         assertThat(responses).hasSize(2);
-        verify(projectRepository).findByOrganizationId(1L);
+        assertThat(responses).extracting(ProjectMetricsResponse::projectName).containsExactly("Test Project", "Project 2");
+        assertThat(responses.get(1).completionRate()).isEqualTo(0.0);
+        verify(projectMetricsLoader, times(1)).load(eq(1L), anyCollection(), any(LocalDate.class));
+        verify(projectRepository, never()).findById(anyLong());
+        verifyNoInteractions(taskRepository);
     }
 
     @Test
@@ -215,9 +223,10 @@ class AnalyticsServiceImplTest {
         
         when(userRepository.findById(1)).thenReturn(Optional.of(testUser));
         when(organizationRepository.findById(1L)).thenReturn(Optional.of(testOrganization));
-        when(projectRepository.findByOrganizationId(1L)).thenReturn(List.of(testProject));
-        when(permissionService.canAccessProject(testUser, testProject)).thenReturn(true);
-        when(taskRepository.findByProjectWithFilters(1L, null, null, null)).thenReturn(testTasks);
+        when(permissionService.accessibleProjectIds(1, 1L)).thenReturn(Set.of(1L));
+        when(projectMetricsLoader.load(eq(1L), eq(Set.of(1L)), any(LocalDate.class)))
+            .thenReturn(List.of(rollup(testProject, 3, 1, 1, 1, 0)));
+        when(analyticsRepository.countOrganizationMembers(1L)).thenReturn(4L);
 
         
         OrganizationMetricsResponse response = analyticsService.getOrganizationMetrics(1L, 1);
@@ -229,28 +238,70 @@ class AnalyticsServiceImplTest {
         assertThat(response.totalProjects()).isEqualTo(1L);
         assertThat(response.totalTasks()).isEqualTo(3L);
         assertThat(response.completedTasks()).isEqualTo(1L);
+        assertThat(response.totalMembers()).isEqualTo(4L);
 
-        verify(projectRepository).findByOrganizationId(1L);
+        verifyNoInteractions(taskRepository);
     }
 
     @Test
     void getUserActivity_success() {
         
+        LocalDate startDate = LocalDate.of(2025, 3, 1);
+        LocalDate endDate = LocalDate.of(2025, 3, 2);
         when(userRepository.findById(1)).thenReturn(Optional.of(testUser));
         when(userRepository.findById(2)).thenReturn(Optional.of(testUser));
         when(organizationRepository.findById(1L)).thenReturn(Optional.of(testOrganization));
-        when(taskRepository.findMyOpenTasks(2, 1L)).thenReturn(testTasks);
+        when(permissionService.isOrgMember(testUser, 1L)).thenReturn(true);
+        when(permissionService.accessibleProjectIds(1, 1L)).thenReturn(Set.of(1L));
+        when(analyticsRepository.findDailyActivity(1L, 2, Set.of(1L), startDate, endDate)).thenReturn(List.of(
+            new DailyActivityResponse(startDate, 2L, 1L, 3L, 9L),
+            new DailyActivityResponse(endDate, 1L, 2L, 0L, 4L)));
+        when(analyticsRepository.countOpenAssignedTasks(2, 1L, Set.of(1L))).thenReturn(5L);
+        when(analyticsRepository.countWatchedTasks(2, 1L, Set.of(1L))).thenReturn(4L);
 
         
-        UserActivityResponse response = analyticsService.getUserActivity(2, 1L, 1);
+        UserActivityResponse response = analyticsService.getUserActivity(2, 1L, startDate, endDate, 1);
 
         
         assertThat(response).isNotNull();
         assertThat(response.userId()).isEqualTo(2);
-        assertThat(response.tasksAssigned()).isEqualTo(3L);
-        assertThat(response.tasksCompleted()).isEqualTo(1L);
+        assertThat(response.tasksAssigned()).isEqualTo(5L);
+        assertThat(response.tasksCompleted()).isEqualTo(3L);
+        assertThat(response.tasksCreated()).isEqualTo(3L);
+        assertThat(response.commentsCreated()).isEqualTo(3L);
+        assertThat(response.tasksWatching()).isEqualTo(4L);
+        assertThat(response.daily()).hasSize(2);
+    }
+
+    @Test
+    void getUserActivity_defaultsToLastThirtyDays() {
+        
+        when(userRepository.findById(1)).thenReturn(Optional.of(testUser));
+        when(organizationRepository.findById(1L)).thenReturn(Optional.of(testOrganization));
+        when(permissionService.isOrgMember(testUser, 1L)).thenReturn(true);
+        when(permissionService.accessibleProjectIds(1, 1L)).thenReturn(Set.of(1L));
+        LocalDate today = LocalDate.now();
+
+        
+        UserActivityResponse response = analyticsService.getUserActivity(1, 1L, null, null, 1);
+
+        
+        assertThat(response.endDate()).isEqualTo(today);
+        assertThat(response.startDate()).isEqualTo(today.minusDays(29));
+        verify(analyticsRepository).findDailyActivity(1L, 1, Set.of(1L), today.minusDays(29), today);
+    }
+
+    @Test
+    void getUserActivity_notOrgMember_throwsUnauthorizedException() {
+        
+        when(userRepository.findById(1)).thenReturn(Optional.of(testUser));
+        when(organizationRepository.findById(1L)).thenReturn(Optional.of(testOrganization));
+        when(permissionService.isOrgMember(testUser, 1L)).thenReturn(false);
 
-        verify(taskRepository).findMyOpenTasks(2, 1L);
+        
+        assertThatThrownBy(() -> analyticsService.getUserActivity(1, 1L, null, null, 1))
+            .isInstanceOf(UnauthorizedException.class);
+        verifyNoInteractions(analyticsRepository);
     }
 
     @Test
@@ -259,7 +310,11 @@ class AnalyticsServiceImplTest {
         when(userRepository.findById(1)).thenReturn(Optional.of(testUser));
         when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
         when(permissionService.canAccessProject(testUser, testProject)).thenReturn(true);
-        when(taskRepository.findByProjectWithFilters(1L, null, null, null)).thenReturn(testTasks);
+        Map<String, Long> distribution = new LinkedHashMap<>();
+        distribution.put("To Do", 1L);
+        distribution.put("In Progress", 1L);
+        distribution.put("Done", 1L);
+        when(analyticsRepository.findStatusDistribution(1L)).thenReturn(distribution);
 
         
         TaskStatusDistributionResponse response = analyticsService.getTaskStatusDistribution(1L, 1);
@@ -277,11 +332,16 @@ class AnalyticsServiceImplTest {
     @Test
     void getTimeRangeMetrics_success() {
         
-        LocalDate startDate = LocalDate.now().minusDays(30);
+        LocalDate startDate = LocalDate.now().minusDays(1);
         LocalDate endDate = LocalDate.now();
 
         when(userRepository.findById(1)).thenReturn(Optional.of(testUser));
         when(organizationRepository.findById(1L)).thenReturn(Optional.of(testOrganization));
+        when(permissionService.isOrgMember(testUser, 1L)).thenReturn(true);
+        when(permissionService.accessibleProjectIds(1, 1L)).thenReturn(Set.of(1L));
+        when(analyticsRepository.findDailyActivity(1L, null, Set.of(1L), startDate, endDate)).thenReturn(List.of(
+            new DailyActivityResponse(startDate, 4L, 2L, 1L, 12L),
+            DailyActivityResponse.empty(endDate)));
 
         
         TimeRangeMetricsResponse response = analyticsService.getTimeRangeMetrics(1L, startDate, endDate, 1);
@@ -290,8 +350,41 @@ class AnalyticsServiceImplTest {
         assertThat(response).isNotNull();
         assertThat(response.startDate()).isEqualTo(startDate);
         assertThat(response.endDate()).isEqualTo(endDate);
+        assertThat(response.tasksCreated()).isEqualTo(4L);
+        assertThat(response.tasksCompleted()).isEqualTo(2L);
+        assertThat(response.commentsCreated()).isEqualTo(1L);
+        assertThat(response.activitiesLogged()).isEqualTo(12L);
+        assertThat(response.daily()).extracting(DailyActivityResponse::date).containsExactly(startDate, endDate);
+    }
+
+    @Test
+    void getTimeRangeMetrics_invalidRange_throwsBadRequestException() {
+        
+        when(userRepository.findById(1)).thenReturn(Optional.of(testUser));
+        when(organizationRepository.findById(1L)).thenReturn(Optional.of(testOrganization));
+        when(permissionService.isOrgMember(testUser, 1L)).thenReturn(true);
+        LocalDate today = LocalDate.now();
+
         
-        assertThat(response.tasksCreated()).isEqualTo(0L);
+        assertThatThrownBy(() -> analyticsService.getTimeRangeMetrics(1L, today, today.minusDays(1), 1))
+            .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> analyticsService.getTimeRangeMetrics(1L, today.minusDays(400), today, 1))
+            .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(analyticsRepository);
+    }
+
+    @Test
+    void getTimeRangeMetrics_notOrgMember_throwsUnauthorizedException() {
+        
+        when(userRepository.findById(1)).thenReturn(Optional.of(testUser));
+        when(organizationRepository.findById(1L)).thenReturn(Optional.of(testOrganization));
+        when(permissionService.isOrgMember(testUser, 1L)).thenReturn(false);
+        LocalDate today = LocalDate.now();
+
+        
+        assertThatThrownBy(() -> analyticsService.getTimeRangeMetrics(1L, today.minusDays(1), today, 1))
+            .isInstanceOf(UnauthorizedException.class);
+        verifyNoInteractions(analyticsRepository);
     }
 
     @Test
@@ -300,9 +393,8 @@ class AnalyticsServiceImplTest {
         when(userRepository.findById(1)).thenReturn(Optional.of(testUser));
         when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
         when(permissionService.canAccessProject(testUser, testProject)).thenReturn(true);
-        when(taskRepository.findByProjectWithFilters(1L, null, null, null)).thenReturn(Collections.emptyList());
-        when(taskRepository.findOverdueTasks(eq(1L), any(LocalDate.class))).thenReturn(Collections.emptyList());
-        when(releaseRepository.findByProjectIdAndStatus(1L, ReleaseStatus.IN_PROGRESS)).thenReturn(Collections.emptyList());
+        when(analyticsRepository.findProjectRollups(eq(1L), eq(List.of(1L)), any(LocalDate.class)))
+            .thenReturn(Collections.emptyList());
 
         
         ProjectMetricsResponse response = analyticsService.getProjectMetrics(1L, 1);
@@ -324,10 +416,9 @@ class AnalyticsServiceImplTest {
 
         when(userRepository.findById(1)).thenReturn(Optional.of(testUser));
         when(organizationRepository.findById(1L)).thenReturn(Optional.of(testOrganization));
-        when(projectRepository.findByOrganizationId(1L)).thenReturn(List.of(testProject, project2));
-        when(permissionService.canAccessProject(testUser, testProject)).thenReturn(true);
-        when(permissionService.canAccessProject(testUser, project2)).thenReturn(false);
-        when(taskRepository.findByProjectWithFilters(1L, null, null, null)).thenReturn(testTasks);
+        when(permissionService.accessibleProjectIds(1, 1L)).thenReturn(Set.of(1L));
+        when(projectMetricsLoader.load(eq(1L), eq(Set.of(1L)), any(LocalDate.class)))
+            .thenReturn(List.of(rollup(testProject, 3, 1, 1, 1, 0)));
 
         
         OrganizationMetricsResponse response = analyticsService.getOrganizationMetrics(1L, 1);
@@ -336,7 +427,12 @@ class AnalyticsServiceImplTest {
         assertThat(response).isNotNull();
         assertThat(response.totalProjects()).isEqualTo(1L); 
 
-        verify(permissionService).canAccessProject(testUser, testProject);
-        verify(permissionService).canAccessProject(testUser, project2);
+        verify(permissionService).accessibleProjectIds(1, 1L);
+        verify(permissionService, never()).canAccessProject(any(), any());
+    }
+
+    private static ProjectRollupRow rollup(Project project, long total, long done, long inProgress, long todo, long overdue) {
+        return new ProjectRollupRow(project.getId(), project.getName(), total, done, inProgress, todo, overdue, 0, 0,
+            0, 0, BigDecimal.ZERO);
     }
 }
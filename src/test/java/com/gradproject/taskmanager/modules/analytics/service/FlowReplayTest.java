@@ -0,0 +1,168 @@
+package com.gradproject.taskmanager.modules.analytics.service;
+
+import com.gradproject.taskmanager.modules.analytics.dto.DurationPercentiles;
+import com.gradproject.taskmanager.modules.analytics.dto.FlowEventColumns;
+import com.gradproject.taskmanager.modules.analytics.dto.FlowTaskColumns;
+import com.gradproject.taskmanager.modules.project.domain.StatusCategory;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FlowReplayTest {
+
+    private static final long DAY = FlowReplay.SECONDS_PER_DAY;
+    private static final long HOUR = 3_600;
+    private static final long TODO = 10;
+    private static final long IN_PROGRESS = 20;
+    private static final long DONE = 30;
+    private static final long[] STATUS_IDS = {TODO, IN_PROGRESS, DONE};
+    private static final StatusCategory[] CATEGORIES = {
+        StatusCategory.TODO, StatusCategory.IN_PROGRESS, StatusCategory.DONE
+    };
+
+    @Test
+    void dailyCounts_replaysCreationsAndStatusChangesPerDay() {
+
+        FlowReplay replay = new FlowReplay(STATUS_IDS, CATEGORIES,
+            tasks(new long[]{1, 2}, new long[]{DAY, 2 * DAY}, new long[]{DONE, IN_PROGRESS}),
+            events(new long[][]{
+                {1, 2 * DAY + HOUR, TODO, IN_PROGRESS},
+                {1, 3 * DAY + HOUR, IN_PROGRESS, DONE},
+                {2, 3 * DAY + HOUR, TODO, IN_PROGRESS}
+            }));
+
+
+        int[][] counts = replay.dailyCounts(0, 4, null, Long.MIN_VALUE);
+
+
+        assertThat(counts[0]).containsExactly(0, 1, 1, 0, 0);
+        assertThat(counts[1]).containsExactly(0, 0, 1, 1, 1);
+        assertThat(counts[2]).containsExactly(0, 0, 0, 1, 1);
+    }
+
+    @Test
+    void dailyCounts_fromOpeningSnapshot_matchesFullReplay() {
+
+        FlowTaskColumns tasks = tasks(new long[]{1, 2, 3}, new long[]{DAY, DAY, 4 * DAY}, new long[]{DONE, TODO, DONE});
+        FlowEventColumns events = events(new long[][]{
+            {1, 2 * DAY, TODO, IN_PROGRESS},
+            {1, 5 * DAY, IN_PROGRESS, DONE},
+            {3, 6 * DAY, IN_PROGRESS, DONE}
+        });
+        int[][] full = new FlowReplay(STATUS_IDS, CATEGORIES, tasks, events).dailyCounts(0, 7, null, Long.MIN_VALUE);
+        int[] opening = {full[0][2], full[1][2], full[2][2]};
+
+
+        int[][] incremental = new FlowReplay(STATUS_IDS, CATEGORIES, tasks, events)
+            .dailyCounts(3, 7, opening, 3 * DAY);
+
+
+        for (int s = 0; s < STATUS_IDS.length; s++) {
+            for (int d = 0; d < 5; d++) {
+                assertThat(incremental[s][d]).as("status %d day %d", s, d + 3).isEqualTo(full[s][d + 3]);
+            }
+        }
+    }
+
+    @Test
+    void cycleTimes_measureLeadFromCreationAndCycleFromFirstStart() {
+
+        FlowReplay replay = new FlowReplay(STATUS_IDS, CATEGORIES,
+            tasks(new long[]{1, 2, 3}, new long[]{0, 0, 0}, new long[]{DONE, DONE, IN_PROGRESS}),
+            events(new long[][]{
+                {1, 10 * HOUR, TODO, IN_PROGRESS},
+                {1, 30 * HOUR, IN_PROGRESS, DONE},
+                {2, 2 * HOUR, TODO, IN_PROGRESS},
+                {2, 5 * HOUR, IN_PROGRESS, DONE},
+                {3, HOUR, TODO, DONE},
+                {3, 2 * HOUR, DONE, IN_PROGRESS}
+            }));
+
+
+        long[] lead = replay.cycleTimes(0, 2, false);
+        long[] cycle = replay.cycleTimes(0, 2, true);
+
+
+        assertThat(lead).containsExactly(5 * HOUR, 30 * HOUR);
+        assertThat(cycle).containsExactly(3 * HOUR, 20 * HOUR);
+        assertThat(FlowReplay.percentiles(lead)).isEqualTo(new DurationPercentiles(5.0, 30.0, 30.0));
+        assertThat(FlowReplay.percentiles(new long[0])).isEqualTo(DurationPercentiles.EMPTY);
+    }
+
+    @Test
+    void sprintVelocity_countsPointsCompletedBeforeSprintEnd() {
+
+        FlowTaskColumns tasks = new FlowTaskColumns(
+            new long[]{1, 2, 3, 4},
+            new long[]{0, 0, 0, 0},
+            new long[]{DONE, DONE, TODO, DONE},
+            new int[]{3, 5, 8, 2},
+            new long[]{100, 100, 100, 0});
+        FlowReplay replay = new FlowReplay(STATUS_IDS, CATEGORIES, tasks, events(new long[][]{
+            {1, DAY, TODO, DONE},
+            {2, 9 * DAY, TODO, DONE},
+            {4, DAY, TODO, DONE}
+        }));
+
+
+        long[][] totals = replay.sprintVelocity(new long[]{100}, new long[]{7 * DAY});
+
+
+        assertThat(totals[0]).containsExactly(16L, 3L, 1L);
+    }
+
+    @Test
+    void dailyCounts_twoYearsOfHistory_endsWithEveryTaskDone() {
+
+        int taskCount = 20_000;
+        int days = 730;
+        Random random = new Random(42);
+        long[] ids = new long[taskCount];
+        long[] created = new long[taskCount];
+        long[] current = new long[taskCount];
+        long[][] changes = new long[taskCount * 3][];
+        int n = 0;
+        for (int t = 0; t < taskCount; t++) {
+            ids[t] = t + 1;
+            created[t] = random.nextInt(days - 30) * DAY + random.nextInt((int) DAY);
+            long started = created[t] + random.nextInt(10 * (int) DAY);
+            long done = started + random.nextInt(15 * (int) DAY);
+            changes[n++] = new long[]{ids[t], started, TODO, IN_PROGRESS};
+            changes[n++] = new long[]{ids[t], done, IN_PROGRESS, DONE};
+            current[t] = DONE;
+        }
+        FlowTaskColumns tasks = tasks(ids, created, current);
+        FlowEventColumns events = events(Arrays.copyOf(changes, n));
+
+
+        FlowReplay replay = new FlowReplay(STATUS_IDS, CATEGORIES, tasks, events);
+        int[][] counts = replay.dailyCounts(0, days - 1, null, Long.MIN_VALUE);
+        long[] cycle = replay.cycleTimes(0, days - 1, true);
+
+
+        assertThat(counts[0][days - 1] + counts[1][days - 1] + counts[2][days - 1]).isEqualTo(taskCount);
+        assertThat(counts[2][days - 1]).isEqualTo(taskCount);
+        assertThat(cycle).isNotEmpty();
+    }
+
+    private static FlowTaskColumns tasks(long[] ids, long[] createdAt, long[] statusIds) {
+        return new FlowTaskColumns(ids, createdAt, statusIds, new int[ids.length], new long[ids.length]);
+    }
+
+    private static FlowEventColumns events(long[][] rows) {
+        long[] taskIds = new long[rows.length];
+        long[] at = new long[rows.length];
+        long[] from = new long[rows.length];
+        long[] to = new long[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            taskIds[i] = rows[i][0];
+            at[i] = rows[i][1];
+            from[i] = rows[i][2];
+            to[i] = rows[i][3];
+        }
+        return new FlowEventColumns(taskIds, at, from, to);
+    }
+}
@@ -0,0 +1,197 @@
+package com.gradproject.taskmanager.modules.analytics.service;
+
+import com.gradproject.taskmanager.modules.analytics.dto.ProjectRollupRow;
+import com.gradproject.taskmanager.modules.analytics.repository.AnalyticsRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ProjectMetricsLoaderTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 1);
+
+    private final AnalyticsRepository analyticsRepository = mock(AnalyticsRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final AtomicLong totalTasks = new AtomicLong(10);
+    private ProjectMetricsLoader loader;
+
+    @AfterEach
+    void tearDown() {
+        if (loader != null) {
+            loader.shutdown();
+        }
+    }
+
+    @Test
+    void load_smallOrganization_queriesInline() {
+
+        loader = loader(Duration.ofSeconds(5));
+        answerWithRows();
+
+
+        List<ProjectRollupRow> rows = loader.load(1L, List.of(2L, 1L), TODAY);
+
+
+        assertThat(rows).extracting(ProjectRollupRow::projectId).containsExactly(1L, 2L);
+        verify(analyticsRepository, times(1)).findProjectRollups(1L, List.of(1L, 2L), TODAY);
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    void load_largeOrganization_fansOutChunksAndMergesInProjectOrder() {
+
+        loader = loader(Duration.ofSeconds(5));
+        answerWithRows();
+
+
+        List<ProjectRollupRow> rows = loader.load(1L, List.of(5L, 3L, 1L, 4L, 2L), TODAY);
+
+
+        assertThat(rows).extracting(ProjectRollupRow::projectId).containsExactly(1L, 2L, 3L, 4L, 5L);
+        verify(analyticsRepository).findProjectRollups(1L, List.of(1L, 2L), TODAY);
+        verify(analyticsRepository).findProjectRollups(1L, List.of(3L, 4L), TODAY);
+        verify(analyticsRepository).findProjectRollups(1L, List.of(5L), TODAY);
+    }
+
+    @Test
+    void load_slowChunkWithKnownValues_servesStaleRowsAfterDeadline() throws InterruptedException {
+
+        loader = loader(Duration.ofMillis(100));
+        answerWithRows();
+        loader.load(1L, List.of(1L, 2L, 3L), TODAY);
+
+        CountDownLatch release = new CountDownLatch(1);
+        totalTasks.set(20);
+        when(analyticsRepository.findProjectRollups(eq(1L), eq(List.of(1L, 2L)), any(LocalDate.class)))
+            .thenAnswer(invocation -> {
+                release.await(5, TimeUnit.SECONDS);
+                return rows(invocation.getArgument(1));
+            });
+
+
+        List<ProjectRollupRow> rows = loader.load(1L, List.of(1L, 2L, 3L), TODAY);
+        release.countDown();
+
+
+        assertThat(rows).extracting(ProjectRollupRow::totalTasks).containsExactly(10L, 10L, 20L);
+    }
+
+    @Test
+    void load_slowChunkWithoutKnownValues_waitsForFreshRows() {
+
+        loader = loader(Duration.ofMillis(50));
+        AtomicInteger calls = new AtomicInteger();
+        when(analyticsRepository.findProjectRollups(eq(1L), anyCollection(), any(LocalDate.class)))
+            .thenAnswer(invocation -> {
+                calls.incrementAndGet();
+                Thread.sleep(200);
+                return rows(invocation.getArgument(1));
+            });
+
+
+        List<ProjectRollupRow> rows = loader.load(1L, List.of(1L, 2L, 3L), TODAY);
+
+
+        assertThat(rows).extracting(ProjectRollupRow::projectId).containsExactly(1L, 2L, 3L);
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void load_slowChunkWithoutKnownValues_failsAfterMaxWait() {
+
+        loader = loader(Duration.ofMillis(50), Duration.ofMillis(150));
+        CountDownLatch release = new CountDownLatch(1);
+        when(analyticsRepository.findProjectRollups(eq(1L), anyCollection(), any(LocalDate.class)))
+            .thenAnswer(invocation -> {
+                release.await(5, TimeUnit.SECONDS);
+                return rows(invocation.getArgument(1));
+            });
+
+
+        assertThatThrownBy(() -> loader.load(1L, List.of(1L, 2L, 3L), TODAY))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("did not load within 150 ms");
+        release.countDown();
+    }
+
+    @Test
+    void load_failedRequest_leavesQueuedChunksUnqueried() throws InterruptedException {
+
+        loader = new ProjectMetricsLoader(analyticsRepository, transactionManager, 1, 1, 10,
+            Duration.ofMillis(50), Duration.ofMillis(150), 100);
+        CountDownLatch release = new CountDownLatch(1);
+        when(analyticsRepository.findProjectRollups(eq(1L), anyCollection(), any(LocalDate.class)))
+            .thenAnswer(invocation -> {
+                release.await(5, TimeUnit.SECONDS);
+                return rows(invocation.getArgument(1));
+            });
+
+
+        assertThatThrownBy(() -> loader.load(1L, List.of(1L, 2L, 3L), TODAY))
+            .isInstanceOf(IllegalStateException.class);
+        release.countDown();
+        Thread.sleep(200);
+
+
+        // Only the chunk holding the single permit ever reached the database
+        verify(analyticsRepository, times(1)).findProjectRollups(eq(1L), anyCollection(), any(LocalDate.class));
+    }
+
+    @Test
+    void load_largeOrganizationInsideTransaction_isRejected() {
+
+        loader = loader(Duration.ofSeconds(5));
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+
+        try {
+            assertThatThrownBy(() -> loader.load(1L, List.of(1L, 2L, 3L), TODAY))
+                .isInstanceOf(IllegalStateException.class);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+        verifyNoInteractions(analyticsRepository);
+    }
+
+    private ProjectMetricsLoader loader(Duration deadline) {
+        return loader(deadline, Duration.ofSeconds(5));
+    }
+
+    private ProjectMetricsLoader loader(Duration deadline, Duration maxWait) {
+        return new ProjectMetricsLoader(analyticsRepository, transactionManager, 2, 4, 10, deadline, maxWait, 100);
+    }
+
+    private void answerWithRows() {
+        when(analyticsRepository.findProjectRollups(eq(1L), anyCollection(), any(LocalDate.class)))
+            .thenAnswer(invocation -> rows(invocation.getArgument(1)));
+    }
+
+    private List<ProjectRollupRow> rows(Collection<Long> projectIds) {
+        return projectIds.stream()
+            .map(id -> new ProjectRollupRow(id, "Project " + id, totalTasks.get(), 0, 0, 0, 0, 0, 0, 0, 0,
+                BigDecimal.ZERO))
+            .toList();
+    }
+}
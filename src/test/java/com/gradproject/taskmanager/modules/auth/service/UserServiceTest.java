@@ -6,15 +6,19 @@ import com.gradproject.taskmanager.modules.auth.dto.ChangePasswordRequest;
 import com.gradproject.taskmanager.modules.auth.dto.UpdateUserProfileRequest;
 import com.gradproject.taskmanager.modules.auth.dto.UserProfileResponse;
 import com.gradproject.taskmanager.modules.auth.repository.UserRepository;
+import com.gradproject.taskmanager.modules.search.event.TaskIndexEvent;
+import com.gradproject.taskmanager.modules.task.repository.TaskRepository;
 import com.gradproject.taskmanager.shared.exception.BadRequestException;
 import com.gradproject.taskmanager.shared.exception.ResourceNotFoundException;
 import com.gradproject.taskmanager.shared.mapper.UserMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -22,6 +26,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.jwt.Jwt;
 
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -43,6 +49,12 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -110,6 +122,28 @@ class UserServiceTest {
         verify(userRepository).save(testUser);
     }
 
+    @Test
+    void updateProfile_nameChange_reindexesAssignedTasksPerOrganization() {
+        UpdateUserProfileRequest request = new UpdateUserProfileRequest(
+                "Renamed", "User", null, null, null, null, null, null, null, null
+        );
+
+        when(userRepository.findById(1)).thenReturn(Optional.of(testUser));
+        doAnswer(invocation -> {
+            testUser.setFirstName("Renamed");
+            return null;
+        }).when(userMapper).updateEntityFromRequest(request, testUser);
+        when(userRepository.save(any(User.class))).thenReturn(testUser);
+        when(taskRepository.findIdsByOrganizationForAssignee(1)).thenReturn(Map.of(10L, List.of(1L, 2L)));
+
+        userService.updateProfile(request);
+
+        ArgumentCaptor<TaskIndexEvent> event = ArgumentCaptor.forClass(TaskIndexEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(10L, event.getValue().getOrganizationId());
+        assertEquals(List.of(1L, 2L), event.getValue().getTaskIds());
+    }
+
     @Test
     void changePassword_shouldSucceed_whenCurrentPasswordMatches() {
         ChangePasswordRequest request = new ChangePasswordRequest(
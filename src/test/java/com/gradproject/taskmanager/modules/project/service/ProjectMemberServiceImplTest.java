@@ -11,11 +11,13 @@ import com.gradproject.taskmanager.modules.project.dto.AddProjectMemberRequest;
 import com.gradproject.taskmanager.modules.project.dto.ProjectMemberResponse;
 import com.gradproject.taskmanager.modules.project.repository.ProjectMemberRepository;
 import com.gradproject.taskmanager.modules.project.repository.ProjectRepository;
+import com.gradproject.taskmanager.modules.search.event.SearchScopeChangedEvent;
 import com.gradproject.taskmanager.shared.exception.BusinessRuleViolationException;
 import com.gradproject.taskmanager.shared.exception.DuplicateResourceException;
 import com.gradproject.taskmanager.shared.exception.ResourceNotFoundException;
 import com.gradproject.taskmanager.shared.exception.UnauthorizedException;
 import com.gradproject.taskmanager.shared.mapper.ProjectMapper;
+import com.gradproject.taskmanager.shared.security.PermissionCache;
 import com.gradproject.taskmanager.shared.security.PermissionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,6 +25,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -55,6 +58,12 @@ class ProjectMemberServiceImplTest {
     @Mock
     private PermissionService permissionService;
 
+    @Mock
+    private PermissionCache permissionCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ProjectMemberServiceImpl projectMemberService;
 
@@ -129,6 +138,8 @@ class ProjectMemberServiceImplTest {
                 member.getProject().equals(testProject) &&
                 member.getRole() == ProjectRole.PROJECT_MEMBER
         ));
+        verify(permissionCache).evictProjectMember(2, 1L);
+        verify(eventPublisher).publishEvent(any(SearchScopeChangedEvent.class));
     }
 
     @Test
@@ -278,6 +289,8 @@ class ProjectMemberServiceImplTest {
 
         
         verify(projectMemberRepository).delete(testMember);
+        verify(permissionCache).evictProjectMember(2, 1L);
+        verify(eventPublisher).publishEvent(any(SearchScopeChangedEvent.class));
     }
 
     @Test
@@ -15,6 +15,10 @@ import com.gradproject.taskmanager.modules.project.repository.ProjectMemberRepos
 import com.gradproject.taskmanager.modules.project.repository.ProjectRepository;
 import com.gradproject.taskmanager.modules.project.repository.StatusTemplateRepository;
 import com.gradproject.taskmanager.modules.project.repository.TaskStatusRepository;
+import com.gradproject.taskmanager.modules.search.event.SearchScopeChangedEvent;
+import com.gradproject.taskmanager.modules.search.event.TaskIndexEvent;
+import com.gradproject.taskmanager.modules.task.repository.TaskRepository;
+import com.gradproject.taskmanager.shared.cache.ReferenceDataCache;
 import com.gradproject.taskmanager.shared.exception.DuplicateResourceException;
 import com.gradproject.taskmanager.shared.exception.ResourceNotFoundException;
 import com.gradproject.taskmanager.shared.exception.UnauthorizedException;
@@ -26,6 +30,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -69,6 +74,15 @@ class ProjectServiceImplTest {
     @Mock
     private PermissionService permissionService;
 
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ProjectServiceImpl projectService;
 
@@ -175,6 +189,8 @@ class ProjectServiceImplTest {
                 member.getRole() == ProjectRole.PROJECT_OWNER &&
                 member.getUser().equals(testUser)
         ));
+        verify(eventPublisher).publishEvent(argThat((SearchScopeChangedEvent event) ->
+                event.getOrganizationId().equals(1L)));
     }
 
     @Test
@@ -263,6 +279,7 @@ class ProjectServiceImplTest {
         when(permissionService.canEditProject(testUser, testProject)).thenReturn(true);
         when(projectRepository.save(any(Project.class))).thenReturn(testProject);
         when(mapper.toResponse(testProject)).thenReturn(projectResponse);
+        when(taskRepository.findIdsByProjectId(1L)).thenReturn(List.of(5L, 6L));
 
         
         ProjectResponse result = projectService.updateProject(1L, updateRequest, 1);
@@ -270,6 +287,8 @@ class ProjectServiceImplTest {
         
         assertThat(result).isNotNull();
         verify(projectRepository).save(testProject);
+        verify(eventPublisher).publishEvent(argThat((TaskIndexEvent event) ->
+                event.getOrganizationId().equals(1L) && event.getTaskIds().equals(List.of(5L, 6L))));
     }
 
     @Test
@@ -291,12 +310,15 @@ class ProjectServiceImplTest {
         when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
         when(userRepository.findById(1)).thenReturn(Optional.of(testUser));
         when(permissionService.canDeleteProject(testUser, testProject)).thenReturn(true);
+        when(taskRepository.findIdsByProjectId(1L)).thenReturn(List.of(5L));
 
         
         projectService.deleteProject(1L, 1);
 
         
         verify(projectRepository).delete(testProject);
+        verify(eventPublisher).publishEvent(argThat((TaskIndexEvent event) ->
+                event.getTaskIds().equals(List.of(5L))));
     }
 
     @Test
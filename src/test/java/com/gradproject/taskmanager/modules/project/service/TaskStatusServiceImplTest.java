@@ -14,6 +14,9 @@ import com.gradproject.taskmanager.modules.project.dto.TaskStatusResponse;
 import com.gradproject.taskmanager.modules.project.repository.ProjectRepository;
 import com.gradproject.taskmanager.modules.project.repository.StatusTemplateRepository;
 import com.gradproject.taskmanager.modules.project.repository.TaskStatusRepository;
+import com.gradproject.taskmanager.modules.search.event.TaskIndexEvent;
+import com.gradproject.taskmanager.modules.task.repository.TaskRepository;
+import com.gradproject.taskmanager.shared.cache.ReferenceDataCache;
 import com.gradproject.taskmanager.shared.exception.DuplicateResourceException;
 import com.gradproject.taskmanager.shared.exception.ResourceNotFoundException;
 import com.gradproject.taskmanager.shared.exception.UnauthorizedException;
@@ -25,6 +28,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -58,6 +62,15 @@ class TaskStatusServiceImplTest {
     @Mock
     private PermissionService permissionService;
 
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TaskStatusServiceImpl taskStatusService;
 
@@ -201,6 +214,7 @@ class TaskStatusServiceImplTest {
                 .thenReturn(false);
         when(taskStatusRepository.save(testStatus)).thenReturn(testStatus);
         when(mapper.toStatusResponse(testStatus)).thenReturn(statusResponse);
+        when(taskRepository.findIdsByStatusId(1L)).thenReturn(List.of(7L));
 
         
         TaskStatusResponse result = taskStatusService.updateStatus(1L, statusRequest, 1);
@@ -208,6 +222,9 @@ class TaskStatusServiceImplTest {
         
         assertThat(result).isNotNull();
         verify(taskStatusRepository).save(testStatus);
+        verify(referenceDataCache).evictTaskStatuses(List.of(1L));
+        verify(eventPublisher).publishEvent(argThat((TaskIndexEvent event) ->
+                event.getTaskIds().equals(List.of(7L))));
     }
 
     @Test
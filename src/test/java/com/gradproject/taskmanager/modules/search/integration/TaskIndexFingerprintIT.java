@@ -0,0 +1,100 @@
+package com.gradproject.taskmanager.modules.search.integration;
+
+import com.gradproject.taskmanager.AbstractIntegrationTest;
+import com.gradproject.taskmanager.modules.search.dto.TaskIndexDocument;
+import com.gradproject.taskmanager.modules.search.repository.TaskIndexRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+@Testcontainers
+@ActiveProfiles("test")
+class TaskIndexFingerprintIT extends AbstractIntegrationTest {
+
+    @Autowired
+    private TaskIndexRepository taskIndexRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long orgId;
+    private Long projectId;
+    private Long statusId;
+    private Long taskId;
+    private Long commentId;
+    private Integer assignee;
+
+    @BeforeEach
+    void seedTask() {
+        String suffix = Long.toString(System.nanoTime(), 36);
+        assignee = jdbcTemplate.queryForObject(
+                "INSERT INTO users (username, email, password) VALUES (?, ?, 'x') RETURNING id",
+                Integer.class, "fp" + suffix, "fp" + suffix + "@example.com");
+        orgId = jdbcTemplate.queryForObject(
+                "INSERT INTO organizations (name, slug, created_by) VALUES (?, ?, ?) RETURNING id",
+                Long.class, "fp-" + suffix, "fp-" + suffix, assignee);
+        projectId = jdbcTemplate.queryForObject(
+                "INSERT INTO projects (organization_id, \"key\", name, created_by) VALUES (?, 'FP', 'Fingerprint', ?) RETURNING id",
+                Long.class, orgId, assignee);
+        statusId = jdbcTemplate.queryForObject(
+                "INSERT INTO task_statuses (project_id, name, order_index, category) VALUES (?, 'To Do', 0, 'TODO') RETURNING id",
+                Long.class, projectId);
+        taskId = jdbcTemplate.queryForObject("""
+                INSERT INTO tasks (organization_id, project_id, "key", title, status_id, assignee_id, reporter_id, created_by)
+                VALUES (?, ?, 'FP-1', 'Fingerprint task', ?, ?, ?, ?) RETURNING id
+                """, Long.class, orgId, projectId, statusId, assignee, assignee, assignee);
+        commentId = jdbcTemplate.queryForObject(
+                "INSERT INTO comments (task_id, author_id, content) VALUES (?, ?, 'First draft') RETURNING id",
+                Long.class, taskId, assignee);
+    }
+
+    @Test
+    void fingerprint_matchesTheIndexedDocumentAndIsStableWithoutEdits() {
+        long fingerprint = fingerprint();
+
+        List<TaskIndexDocument> documents = inTransaction(() -> taskIndexRepository.findDocuments(List.of(taskId)));
+
+        assertThat(documents).singleElement().extracting(TaskIndexDocument::fingerprint).isEqualTo(fingerprint);
+        assertThat(fingerprint()).isEqualTo(fingerprint);
+    }
+
+    @Test
+    void fingerprint_changesWithEditsThatDoNotBumpTheTaskVersion() {
+        long original = fingerprint();
+
+        jdbcTemplate.update("UPDATE comments SET content = 'Edited' WHERE id = ?", commentId);
+        long afterComment = fingerprint();
+        jdbcTemplate.update("UPDATE task_statuses SET name = 'Backlog' WHERE id = ?", statusId);
+        long afterStatus = fingerprint();
+        jdbcTemplate.update("UPDATE projects SET name = 'Renamed' WHERE id = ?", projectId);
+        long afterProject = fingerprint();
+        jdbcTemplate.update("UPDATE users SET first_name = 'Jane' WHERE id = ?", assignee);
+        long afterAssignee = fingerprint();
+
+        assertThat(List.of(original, afterComment, afterStatus, afterProject, afterAssignee)).doesNotHaveDuplicates();
+    }
+
+    private long fingerprint() {
+        return inTransaction(() -> taskIndexRepository.findFingerprints(orgId)).get(taskId);
+    }
+
+    private <T> T inTransaction(Supplier<T> work) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        return tx.execute(status -> work.get());
+    }
+}
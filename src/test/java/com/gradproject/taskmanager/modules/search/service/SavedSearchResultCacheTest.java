@@ -0,0 +1,111 @@
+package com.gradproject.taskmanager.modules.search.service;
+
+import com.gradproject.taskmanager.modules.search.dto.SearchResultResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SavedSearchResultCacheTest {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+
+    @Test
+    void resolve_shouldServeRepeatedPageFromCache() {
+        
+        SavedSearchResultCache cache = new SavedSearchResultCache(true, 100, 60);
+        AtomicInteger loads = new AtomicInteger();
+
+        
+        cache.resolve(1L, 10L, Set.of(2L, 1L), FIRST_PAGE, loader(loads));
+        Page<SearchResultResponse> cached = cache.resolve(1L, 10L, Set.of(1L, 2L), FIRST_PAGE, loader(loads));
+
+        
+        assertThat(loads).hasValue(1);
+        assertThat(cached.getTotalElements()).isEqualTo(41);
+        assertThat(cached.getContent()).hasSize(1);
+    }
+
+    @Test
+    void tasksChanged_shouldOnlyInvalidateThatOrganization() {
+        
+        SavedSearchResultCache cache = new SavedSearchResultCache(true, 100, 60);
+        AtomicInteger loads = new AtomicInteger();
+        cache.resolve(1L, 10L, Set.of(1L), FIRST_PAGE, loader(loads));
+        cache.resolve(2L, 20L, Set.of(5L), FIRST_PAGE, loader(loads));
+
+        
+        cache.tasksChanged(10L);
+        cache.resolve(1L, 10L, Set.of(1L), FIRST_PAGE, loader(loads));
+        cache.resolve(2L, 20L, Set.of(5L), FIRST_PAGE, loader(loads));
+
+        
+        assertThat(loads).hasValue(3);
+        assertThat(cache.status(10L).staleDrops()).isEqualTo(1);
+    }
+
+    @Test
+    void resolve_shouldBoundEntriesAndCountEvictions() {
+        
+        SavedSearchResultCache cache = new SavedSearchResultCache(true, 2, 60);
+        AtomicInteger loads = new AtomicInteger();
+
+        
+        for (int page = 0; page < 3; page++) {
+            cache.resolve(1L, 10L, Set.of(1L), PageRequest.of(page, 20), loader(loads));
+        }
+
+        
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.status(10L).evictions()).isEqualTo(1);
+    }
+
+    @Test
+    void evictOrganization_shouldDropEntriesAndKeepCounters() {
+        
+        SavedSearchResultCache cache = new SavedSearchResultCache(true, 100, 60);
+        AtomicInteger loads = new AtomicInteger();
+        cache.resolve(1L, 10L, Set.of(1L), FIRST_PAGE, loader(loads));
+        cache.resolve(1L, 10L, Set.of(1L), FIRST_PAGE, loader(loads));
+
+        
+        int flushed = cache.evictOrganization(10L);
+
+        
+        assertThat(flushed).isEqualTo(1);
+        assertThat(cache.size()).isZero();
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void resolve_whenDisabled_shouldAlwaysLoad() {
+        
+        SavedSearchResultCache cache = new SavedSearchResultCache(false, 100, 60);
+        AtomicInteger loads = new AtomicInteger();
+
+        
+        cache.resolve(1L, 10L, Set.of(1L), FIRST_PAGE, loader(loads));
+        cache.resolve(1L, 10L, Set.of(1L), FIRST_PAGE, loader(loads));
+
+        
+        assertThat(loads).hasValue(2);
+    }
+
+    private static Supplier<Page<SearchResultResponse>> loader(AtomicInteger loads) {
+        return () -> {
+            loads.incrementAndGet();
+            SearchResultResponse hit = new SearchResultResponse(
+                "TASK", 1L, "Task", null, "To Do", 0.5f, List.of("title"), "Project", 1L, null, null);
+            return new PageImpl<>(List.of(hit), FIRST_PAGE, 41);
+        };
+    }
+}
@@ -4,17 +4,19 @@ import com.gradproject.taskmanager.modules.auth.domain.User;
 import com.gradproject.taskmanager.modules.auth.repository.UserRepository;
 import com.gradproject.taskmanager.modules.organization.domain.Organization;
 import com.gradproject.taskmanager.modules.organization.repository.OrganizationRepository;
-import com.gradproject.taskmanager.modules.project.domain.Project;
-import com.gradproject.taskmanager.modules.project.domain.TaskStatus;
-import com.gradproject.taskmanager.modules.project.repository.ProjectRepository;
 import com.gradproject.taskmanager.modules.search.domain.SavedSearch;
 import com.gradproject.taskmanager.modules.search.dto.SavedSearchRequest;
 import com.gradproject.taskmanager.modules.search.dto.SavedSearchResponse;
+import com.gradproject.taskmanager.modules.search.dto.SearchCriteria;
+import com.gradproject.taskmanager.modules.search.dto.SearchFilters;
+import com.gradproject.taskmanager.modules.search.dto.SearchHitRow;
 import com.gradproject.taskmanager.modules.search.dto.SearchRequest;
 import com.gradproject.taskmanager.modules.search.dto.SearchResultResponse;
+import com.gradproject.taskmanager.modules.search.dto.SearchSort;
+import com.gradproject.taskmanager.modules.search.dto.TaskIndexHit;
 import com.gradproject.taskmanager.modules.search.repository.SavedSearchRepository;
-import com.gradproject.taskmanager.modules.task.domain.Task;
-import com.gradproject.taskmanager.modules.task.repository.TaskRepository;
+import com.gradproject.taskmanager.modules.search.repository.SearchRepository;
+import com.gradproject.taskmanager.shared.exception.BadRequestException;
 import com.gradproject.taskmanager.shared.exception.ResourceNotFoundException;
 import com.gradproject.taskmanager.shared.exception.UnauthorizedException;
 import com.gradproject.taskmanager.shared.mapper.SavedSearchMapper;
@@ -24,16 +26,19 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -44,10 +49,7 @@ import static org.mockito.Mockito.*;
 class SearchServiceImplTest {
 
     @Mock
-    private TaskRepository taskRepository;
-
-    @Mock
-    private ProjectRepository projectRepository;
+    private SearchRepository searchRepository;
 
     @Mock
     private UserRepository userRepository;
@@ -64,14 +66,19 @@ class SearchServiceImplTest {
     @Mock
     private SavedSearchMapper savedSearchMapper;
 
+    @Mock
+    private TaskIndexService taskIndexService;
+
+    @Spy
+    private SavedSearchResultCache savedSearchResultCache = new SavedSearchResultCache(true, 100, 60);
+
     @InjectMocks
     private SearchServiceImpl searchService;
 
     private User testUser;
     private Organization testOrganization;
-    private Project testProject;
-    private Task testTask;
-    private TaskStatus testStatus;
+    private SearchHitRow taskHit;
+    private SearchHitRow projectHit;
     private SavedSearch testSavedSearch;
 
     @BeforeEach
@@ -85,24 +92,10 @@ class SearchServiceImplTest {
         testOrganization.setId(1L);
         testOrganization.setName("Test Org");
 
-        testProject = new Project();
-        testProject.setId(1L);
-        testProject.setName("Test Project");
-        testProject.setDescription("Test Description");
-        testProject.setOrganization(testOrganization);
-
-        testStatus = new TaskStatus();
-        testStatus.setId(1L);
-        testStatus.setName("To Do");
-
-        testTask = new Task();
-        testTask.setId(1L);
-        testTask.setTitle("Test Task");
-        testTask.setDescription("Test Task Description");
-        testTask.setProject(testProject);
-        testTask.setStatus(testStatus);
-        testTask.setAssignee(testUser);
-        testTask.setOrganization(testOrganization);
+        taskHit = new SearchHitRow("TASK", 1L, "Test Task", "Test Task Description", "To Do", 0.6f,
+            "Test Project", 1L, "testuser", 1);
+        projectHit = new SearchHitRow("PROJECT", 1L, "Test Project", "Test Description", null, 0.3f,
+            null, null, null, null);
 
         testSavedSearch = new SavedSearch(testUser, testOrganization, "My Search", "TASK", new HashMap<>());
         testSavedSearch.setId(1L);
@@ -120,8 +113,9 @@ class SearchServiceImplTest {
 
         when(userRepository.findById(1)).thenReturn(Optional.of(testUser));
         when(organizationRepository.findById(1L)).thenReturn(Optional.of(testOrganization));
-        when(taskRepository.fullTextSearch("test query", 1L)).thenReturn(List.of(testTask));
-        when(permissionService.canAccessProject(testUser, testProject)).thenReturn(true);
+        SearchCriteria criteria = new SearchCriteria("test query", 1L, Set.of(1L), true, false, false);
+        when(searchRepository.findHits(criteria, 0L, 20)).thenReturn(List.of(taskHit));
+        when(permissionService.accessibleProjectIds(1, 1L)).thenReturn(Set.of(1L));
 
         
         Page<SearchResultResponse> results = searchService.search(request, 1, 1L, pageable);
@@ -131,10 +125,12 @@ class SearchServiceImplTest {
         assertThat(results.getContent()).hasSize(1);
         assertThat(results.getContent().get(0).entityType()).isEqualTo("TASK");
         assertThat(results.getContent().get(0).title()).isEqualTo("Test Task");
+        assertThat(results.getContent().get(0).relevanceScore()).isEqualTo(0.6f);
+        assertThat(results.getTotalElements()).isEqualTo(1);
 
-        verify(taskRepository).fullTextSearch("test query", 1L);
-        verify(permissionService).canAccessProject(testUser, testProject);
-        verify(projectRepository, never()).fullTextSearch(anyString(), anyLong());
+        verify(searchRepository).findHits(criteria, 0L, 20);
+        verify(permissionService).accessibleProjectIds(1, 1L);
+        verify(searchRepository, never()).countHits(any());
     }
 
     @Test
@@ -148,8 +144,9 @@ class SearchServiceImplTest {
 
         when(userRepository.findById(1)).thenReturn(Optional.of(testUser));
         when(organizationRepository.findById(1L)).thenReturn(Optional.of(testOrganization));
-        when(projectRepository.fullTextSearch("test query", 1L)).thenReturn(List.of(testProject));
-        when(permissionService.canAccessProject(testUser, testProject)).thenReturn(true);
+        SearchCriteria criteria = new SearchCriteria("test query", 1L, Set.of(1L), false, true, false);
+        when(searchRepository.findHits(criteria, 0L, 20)).thenReturn(List.of(projectHit));
+        when(permissionService.accessibleProjectIds(1, 1L)).thenReturn(Set.of(1L));
 
         
         Page<SearchResultResponse> results = searchService.search(request, 1, 1L, pageable);
@@ -159,10 +156,40 @@ class SearchServiceImplTest {
         assertThat(results.getContent()).hasSize(1);
         assertThat(results.getContent().get(0).entityType()).isEqualTo("PROJECT");
         assertThat(results.getContent().get(0).title()).isEqualTo("Test Project");
+        assertThat(results.getContent().get(0).highlightedFields()).containsExactly("name", "description");
 
-        verify(projectRepository).fullTextSearch("test query", 1L);
-        verify(permissionService).canAccessProject(testUser, testProject);
-        verify(taskRepository, never()).fullTextSearch(anyString(), anyLong());
+        verify(searchRepository).findHits(criteria, 0L, 20);
+        verify(permissionService).accessibleProjectIds(1, 1L);
+    }
+
+    @Test
+    void search_withCommentQuery_returnsCommentResults() {
+        
+        SearchRequest request = new SearchRequest(
+            "\"deploy script\"", "COMMENT", null, null, null, null,
+            null, null, null, null, false, "relevance", "DESC"
+        );
+        Pageable pageable = PageRequest.of(0, 20);
+        SearchHitRow commentHit = new SearchHitRow("COMMENT", 5L, "Test Task", "The deploy script is broken", "To Do", 0.2f,
+            "Test Project", 1L, null, null);
+
+        when(userRepository.findById(1)).thenReturn(Optional.of(testUser));
+        when(organizationRepository.findById(1L)).thenReturn(Optional.of(testOrganization));
+        SearchCriteria criteria = new SearchCriteria("\"deploy script\"", 1L, Set.of(1L), false, false, true);
+        when(searchRepository.findHits(criteria, 0L, 20)).thenReturn(List.of(commentHit));
+        when(permissionService.accessibleProjectIds(1, 1L)).thenReturn(Set.of(1L));
+
+        
+        Page<SearchResultResponse> results = searchService.search(request, 1, 1L, pageable);
+
+        
+        assertThat(results.getContent()).hasSize(1);
+        assertThat(results.getContent().get(0).entityType()).isEqualTo("COMMENT");
+        assertThat(results.getContent().get(0).entityId()).isEqualTo(5L);
+        assertThat(results.getContent().get(0).projectId()).isEqualTo(1L);
+        assertThat(results.getContent().get(0).highlightedFields()).containsExactly("content");
+
+        verify(searchRepository).findHits(criteria, 0L, 20);
     }
 
     @Test
@@ -176,20 +203,44 @@ class SearchServiceImplTest {
 
         when(userRepository.findById(1)).thenReturn(Optional.of(testUser));
         when(organizationRepository.findById(1L)).thenReturn(Optional.of(testOrganization));
-        when(taskRepository.fullTextSearch("test query", 1L)).thenReturn(List.of(testTask));
-        when(projectRepository.fullTextSearch("test query", 1L)).thenReturn(List.of(testProject));
-        when(permissionService.canAccessProject(eq(testUser), any(Project.class))).thenReturn(true);
+        SearchCriteria criteria = new SearchCriteria("test query", 1L, Set.of(1L), true, true, true);
+        when(searchRepository.findHits(criteria, 0L, 20)).thenReturn(List.of(taskHit, projectHit));
+        when(permissionService.accessibleProjectIds(1, 1L)).thenReturn(Set.of(1L));
 
         
         Page<SearchResultResponse> results = searchService.search(request, 1, 1L, pageable);
 
         
         assertThat(results).isNotNull();
-        assertThat(results.getContent()).hasSize(2);
+        assertThat(results.getContent()).extracting(SearchResultResponse::entityType).containsExactly("TASK", "PROJECT");
+
+        verify(searchRepository).findHits(criteria, 0L, 20);
+        verify(permissionService).accessibleProjectIds(1, 1L);
+    }
+
+    @Test
+    void search_withFullPage_readsTotalFromCountQuery() {
+        
+        SearchRequest request = new SearchRequest(
+            "test query", "GLOBAL", null, null, null, null,
+            null, null, null, null, false, "relevance", "DESC"
+        );
+        Pageable pageable = PageRequest.of(1, 2);
+        SearchCriteria criteria = new SearchCriteria("test query", 1L, Set.of(1L), true, true, true);
+
+        when(userRepository.findById(1)).thenReturn(Optional.of(testUser));
+        when(organizationRepository.findById(1L)).thenReturn(Optional.of(testOrganization));
+        when(permissionService.accessibleProjectIds(1, 1L)).thenReturn(Set.of(1L));
+        when(searchRepository.findHits(criteria, 2L, 2)).thenReturn(List.of(taskHit, projectHit));
+        when(searchRepository.countHits(criteria)).thenReturn(7L);
 
-        verify(taskRepository).fullTextSearch("test query", 1L);
-        verify(projectRepository).fullTextSearch("test query", 1L);
-        verify(permissionService, times(2)).canAccessProject(eq(testUser), any(Project.class));
+        
+        Page<SearchResultResponse> results = searchService.search(request, 1, 1L, pageable);
+
+        
+        assertThat(results.getContent()).hasSize(2);
+        assertThat(results.getTotalElements()).isEqualTo(7);
+        assertThat(results.getTotalPages()).isEqualTo(4);
     }
 
     @Test
@@ -211,8 +262,7 @@ class SearchServiceImplTest {
         assertThat(results).isNotNull();
         assertThat(results.getContent()).isEmpty();
 
-        verify(taskRepository, never()).fullTextSearch(anyString(), anyLong());
-        verify(projectRepository, never()).fullTextSearch(anyString(), anyLong());
+        verify(searchRepository, never()).findHits(any(), anyLong(), anyInt());
     }
 
     @Test
@@ -226,8 +276,7 @@ class SearchServiceImplTest {
 
         when(userRepository.findById(1)).thenReturn(Optional.of(testUser));
         when(organizationRepository.findById(1L)).thenReturn(Optional.of(testOrganization));
-        when(taskRepository.fullTextSearch("test query", 1L)).thenReturn(List.of(testTask));
-        when(permissionService.canAccessProject(testUser, testProject)).thenReturn(false);
+        when(permissionService.accessibleProjectIds(1, 1L)).thenReturn(Set.of());
 
         
         Page<SearchResultResponse> results = searchService.search(request, 1, 1L, pageable);
@@ -236,7 +285,8 @@ class SearchServiceImplTest {
         assertThat(results).isNotNull();
         assertThat(results.getContent()).isEmpty();
 
-        verify(permissionService).canAccessProject(testUser, testProject);
+        verify(permissionService).accessibleProjectIds(1, 1L);
+        verify(searchRepository, never()).findHits(any(), anyLong(), anyInt());
     }
 
     @Test
@@ -256,6 +306,58 @@ class SearchServiceImplTest {
             .hasMessageContaining("User not found");
     }
 
+    @Test
+    void typeahead_withIndexEnabled_searchesIndexWithinAccessibleProjects() {
+        
+        TaskIndexHit hit = new TaskIndexHit(1L, "Deploy script", "To Do", 3.5f, 1L, "Test Project", null, null);
+
+        when(taskIndexService.isEnabled()).thenReturn(true);
+        when(userRepository.findById(1)).thenReturn(Optional.of(testUser));
+        when(permissionService.accessibleProjectIds(1, 1L)).thenReturn(Set.of(1L));
+        when(taskIndexService.search(1L, Set.of(1L), "depl", 10)).thenReturn(List.of(hit));
+
+        
+        List<SearchResultResponse> results = searchService.typeahead("depl", 1, 1L, 10);
+
+        
+        assertThat(results).hasSize(1);
+        assertThat(results.get(0).entityType()).isEqualTo("TASK");
+        assertThat(results.get(0).entityId()).isEqualTo(1L);
+        assertThat(results.get(0).relevanceScore()).isEqualTo(3.5f);
+        verifyNoInteractions(searchRepository);
+    }
+
+    @Test
+    void typeahead_withIndexDisabled_fallsBackToDatabaseSearch() {
+        
+        when(taskIndexService.isEnabled()).thenReturn(false);
+        when(userRepository.findById(1)).thenReturn(Optional.of(testUser));
+        when(organizationRepository.findById(1L)).thenReturn(Optional.of(testOrganization));
+        when(permissionService.accessibleProjectIds(1, 1L)).thenReturn(Set.of(1L));
+        when(searchRepository.findHits(new SearchCriteria("deploy", 1L, Set.of(1L), true, false, false), 0L, 5))
+            .thenReturn(List.of(taskHit));
+
+        
+        List<SearchResultResponse> results = searchService.typeahead("deploy", 1, 1L, 5);
+
+        
+        assertThat(results).hasSize(1);
+        verify(taskIndexService, never()).search(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void rebuildIndex_withNonAdmin_throwsUnauthorizedException() {
+        
+        when(userRepository.findById(1)).thenReturn(Optional.of(testUser));
+        when(permissionService.isOrgOwnerOrAdmin(testUser, 1L)).thenReturn(false);
+
+        
+        assertThatThrownBy(() -> searchService.rebuildIndex(1, 1L))
+            .isInstanceOf(UnauthorizedException.class);
+
+        verifyNoInteractions(taskIndexService);
+    }
+
     @Test
     void createSavedSearch_success() {
         
@@ -287,6 +389,27 @@ class SearchServiceImplTest {
         verify(savedSearchMapper).toResponse(testSavedSearch);
     }
 
+    @Test
+    void createSavedSearch_withMalformedDate_throwsBadRequestException() {
+        
+        Map<String, Object> queryParams = new HashMap<>();
+        queryParams.put("query", "test");
+        queryParams.put("dueDateFrom", "next tuesday");
+        SavedSearchRequest request = new SavedSearchRequest(
+            "My Saved Search", null, "TASK", queryParams, false
+        );
+
+        when(userRepository.findById(1)).thenReturn(Optional.of(testUser));
+        when(organizationRepository.findById(1L)).thenReturn(Optional.of(testOrganization));
+
+        
+        assertThatThrownBy(() -> searchService.createSavedSearch(request, 1, 1L))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessageContaining("dueDateFrom");
+
+        verify(savedSearchRepository, never()).save(any(SavedSearch.class));
+    }
+
     @Test
     void updateSavedSearch_success() {
         
@@ -471,8 +594,9 @@ class SearchServiceImplTest {
         when(savedSearchRepository.findById(1L)).thenReturn(Optional.of(testSavedSearch));
         when(userRepository.findById(1)).thenReturn(Optional.of(testUser));
         when(organizationRepository.findById(1L)).thenReturn(Optional.of(testOrganization));
-        when(taskRepository.fullTextSearch("test", 1L)).thenReturn(List.of(testTask));
-        when(permissionService.canAccessProject(testUser, testProject)).thenReturn(true);
+        when(searchRepository.findHits(new SearchCriteria("test", 1L, Set.of(1L), true, false, false), 0L, 20))
+            .thenReturn(List.of(taskHit));
+        when(permissionService.accessibleProjectIds(1, 1L)).thenReturn(Set.of(1L));
 
         
         Page<SearchResultResponse> results = searchService.executeSavedSearch(1L, 1, 1L, pageable);
@@ -481,7 +605,129 @@ class SearchServiceImplTest {
         assertThat(results).isNotNull();
         assertThat(results.getContent()).hasSize(1);
 
-        verify(taskRepository).fullTextSearch("test", 1L);
+        verify(searchRepository, never()).countHits(any());
+    }
+
+    @Test
+    void executeSavedSearch_repeated_servesCachedPageUntilTasksChange() {
+        
+        testSavedSearch.setQueryParams(new HashMap<>(Map.of("query", "test")));
+        testSavedSearch.setIsShared(true);
+        SearchCriteria criteria = new SearchCriteria("test", 1L, Set.of(1L), true, false, false);
+
+        when(savedSearchRepository.findById(1L)).thenReturn(Optional.of(testSavedSearch));
+        when(userRepository.findById(1)).thenReturn(Optional.of(testUser));
+        when(organizationRepository.findById(1L)).thenReturn(Optional.of(testOrganization));
+        when(permissionService.accessibleProjectIds(1, 1L)).thenReturn(Set.of(1L));
+        when(searchRepository.findHits(criteria, 0L, 20)).thenReturn(List.of(taskHit));
+
+        
+        Page<SearchResultResponse> first = searchService.executeSavedSearch(1L, 1, 1L, PageRequest.of(0, 20));
+        Page<SearchResultResponse> second = searchService.executeSavedSearch(1L, 1, 1L, PageRequest.of(0, 20));
+        savedSearchResultCache.tasksChanged(1L);
+        searchService.executeSavedSearch(1L, 1, 1L, PageRequest.of(0, 20));
+
+        
+        assertThat(second.getContent()).isEqualTo(first.getContent());
+        assertThat(second.getTotalElements()).isEqualTo(1);
+        verify(searchRepository, times(2)).findHits(criteria, 0L, 20);
+        assertThat(savedSearchResultCache.status(1L).hits()).isEqualTo(1);
+        assertThat(savedSearchResultCache.status(1L).staleDrops()).isEqualTo(1);
+    }
+
+    @Test
+    void executeSavedSearch_withDifferentProjectAccess_doesNotShareCachedPage() {
+        
+        testSavedSearch.setQueryParams(new HashMap<>(Map.of("query", "test")));
+        testSavedSearch.setIsShared(true);
+        User otherUser = new User();
+        otherUser.setId(2);
+
+        when(savedSearchRepository.findById(1L)).thenReturn(Optional.of(testSavedSearch));
+        when(userRepository.findById(1)).thenReturn(Optional.of(testUser));
+        when(userRepository.findById(2)).thenReturn(Optional.of(otherUser));
+        when(organizationRepository.findById(1L)).thenReturn(Optional.of(testOrganization));
+        when(permissionService.accessibleProjectIds(1, 1L)).thenReturn(Set.of(1L));
+        when(permissionService.accessibleProjectIds(2, 1L)).thenReturn(Set.of(1L, 2L));
+        when(searchRepository.findHits(any(SearchCriteria.class), eq(0L), eq(20))).thenReturn(List.of(taskHit));
+
+        
+        searchService.executeSavedSearch(1L, 1, 1L, PageRequest.of(0, 20));
+        searchService.executeSavedSearch(1L, 2, 1L, PageRequest.of(0, 20));
+
+        
+        verify(searchRepository, times(2)).findHits(any(SearchCriteria.class), eq(0L), eq(20));
+    }
+
+    @Test
+    void flushSavedSearchCache_withNonAdmin_throwsUnauthorizedException() {
+        
+        when(userRepository.findById(1)).thenReturn(Optional.of(testUser));
+        when(permissionService.isOrgOwnerOrAdmin(testUser, 1L)).thenReturn(false);
+
+        
+        assertThatThrownBy(() -> searchService.flushSavedSearchCache(1, 1L))
+            .isInstanceOf(UnauthorizedException.class);
+        verify(savedSearchResultCache, never()).evictOrganization(any());
+    }
+
+    @Test
+    void executeSavedSearch_withFilters_pushesFiltersIntoCriteria() {
+        
+        Map<String, Object> queryParams = new HashMap<>();
+        queryParams.put("query", "test");
+        queryParams.put("projectIds", List.of(1, 2));
+        queryParams.put("assigneeIds", List.of(7));
+        queryParams.put("statuses", List.of("In Progress"));
+        queryParams.put("labelIds", List.of(3));
+        queryParams.put("dueDateFrom", "2026-01-01");
+        queryParams.put("dueDateTo", "2026-03-31");
+        queryParams.put("priorityMin", 4);
+        queryParams.put("sortBy", "dueDate");
+        queryParams.put("sortDirection", "ASC");
+
+        testSavedSearch.setEntityType("GLOBAL");
+        testSavedSearch.setQueryParams(queryParams);
+
+        Pageable pageable = PageRequest.of(0, 20);
+        SearchFilters filters = new SearchFilters(
+            List.of(), List.of(7), List.of("In Progress"), List.of(3L),
+            LocalDate.of(2026, 1, 1), LocalDate.of(2026, 3, 31), List.of("HIGH", "HIGHEST")
+        );
+        SearchCriteria criteria = new SearchCriteria("test", 1L, Set.of(1L), true, false, true,
+            filters, new SearchSort("due_date", true));
+
+        when(savedSearchRepository.findById(1L)).thenReturn(Optional.of(testSavedSearch));
+        when(userRepository.findById(1)).thenReturn(Optional.of(testUser));
+        when(organizationRepository.findById(1L)).thenReturn(Optional.of(testOrganization));
+        when(permissionService.accessibleProjectIds(1, 1L)).thenReturn(Set.of(1L));
+        when(searchRepository.findHits(criteria, 0L, 20)).thenReturn(List.of(taskHit));
+
+        
+        Page<SearchResultResponse> results = searchService.executeSavedSearch(1L, 1, 1L, pageable);
+
+        
+        assertThat(results.getContent()).hasSize(1);
+        verify(searchRepository).findHits(criteria, 0L, 20);
+    }
+
+    @Test
+    void search_withInvertedDueDateRange_throwsBadRequestException() {
+        
+        SearchRequest request = new SearchRequest(
+            "test query", "TASK", null, null, null, null,
+            LocalDate.of(2026, 2, 1), LocalDate.of(2026, 1, 1), null, null, false, "relevance", "DESC"
+        );
+
+        when(userRepository.findById(1)).thenReturn(Optional.of(testUser));
+        when(organizationRepository.findById(1L)).thenReturn(Optional.of(testOrganization));
+
+        
+        assertThatThrownBy(() -> searchService.search(request, 1, 1L, PageRequest.of(0, 20)))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessageContaining("dueDateFrom");
+
+        verifyNoInteractions(searchRepository);
     }
 
     @Test
@@ -499,4 +745,22 @@ class SearchServiceImplTest {
             .isInstanceOf(UnauthorizedException.class)
             .hasMessageContaining("You don't have permission to execute this saved search");
     }
+
+    @Test
+    void executeSavedSearch_withNonNumericAssignee_throwsBadRequestException() {
+        
+        Map<String, Object> queryParams = new HashMap<>();
+        queryParams.put("query", "test");
+        queryParams.put("assigneeIds", List.of("seven"));
+        testSavedSearch.setQueryParams(queryParams);
+
+        when(savedSearchRepository.findById(1L)).thenReturn(Optional.of(testSavedSearch));
+
+        
+        assertThatThrownBy(() -> searchService.executeSavedSearch(1L, 1, 1L, PageRequest.of(0, 20)))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessageContaining("assigneeIds");
+
+        verifyNoInteractions(searchRepository);
+    }
 }
@@ -0,0 +1,134 @@
+package com.gradproject.taskmanager.modules.search.service;
+
+import com.gradproject.taskmanager.infrastructure.search.TaskSearchIndex;
+import com.gradproject.taskmanager.modules.search.dto.TaskIndexDocument;
+import com.gradproject.taskmanager.modules.search.dto.TaskIndexStatusResponse;
+import com.gradproject.taskmanager.modules.search.repository.TaskIndexRepository;
+import com.gradproject.taskmanager.shared.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskIndexServiceTest {
+
+    @Mock
+    private TaskIndexRepository taskIndexRepository;
+
+    @Mock
+    private ObjectProvider<TaskSearchIndex> searchIndexProvider;
+
+    @Mock
+    private TaskSearchIndex searchIndex;
+
+    @InjectMocks
+    private TaskIndexService taskIndexService;
+
+    @Test
+    void reindex_upsertsLoadedTasksAndDeletesMissingOnes() {
+        
+        TaskIndexDocument document = document(1L, 3L);
+        when(searchIndexProvider.getIfAvailable()).thenReturn(searchIndex);
+        when(taskIndexRepository.findDocuments(Set.of(1L, 2L))).thenReturn(List.of(document));
+
+        
+        taskIndexService.reindex(List.of(1L, 2L));
+
+        
+        verify(searchIndex).upsert(List.of(document));
+        verify(searchIndex).delete(Set.of(2L));
+    }
+
+    @Test
+    void reindex_withIndexDisabled_doesNothing() {
+        
+        when(searchIndexProvider.getIfAvailable()).thenReturn(null);
+
+        
+        taskIndexService.reindex(List.of(1L));
+
+        
+        verifyNoInteractions(taskIndexRepository);
+    }
+
+    @Test
+    void rebuild_indexesAllBatchesAndCommits() {
+        
+        when(searchIndexProvider.getIfAvailable()).thenReturn(searchIndex);
+        when(taskIndexRepository.findDocumentBatch(1L, 0L, TaskIndexService.BATCH_SIZE))
+            .thenReturn(List.of(document(1L, 1L), document(2L, 1L)));
+
+        
+        long indexed = taskIndexService.rebuild(1L);
+
+        
+        assertThat(indexed).isEqualTo(2);
+        verify(searchIndex).deleteOrganization(1L);
+        verify(searchIndex).add(List.of(document(1L, 1L), document(2L, 1L)));
+        verify(searchIndex).commitAndRefresh();
+    }
+
+    @Test
+    void checkConsistency_reportsMissingStaleAndOrphanedTasks() {
+        
+        when(searchIndexProvider.getIfAvailable()).thenReturn(searchIndex);
+        when(taskIndexRepository.findFingerprints(1L)).thenReturn(Map.of(1L, 1L, 2L, 4L, 3L, 1L));
+        when(searchIndex.fingerprints(1L)).thenReturn(Map.of(1L, 1L, 2L, 3L, 9L, 1L));
+
+        
+        TaskIndexStatusResponse status = taskIndexService.checkConsistency(1L, false);
+
+        
+        assertThat(status.databaseCount()).isEqualTo(3);
+        assertThat(status.indexCount()).isEqualTo(3);
+        assertThat(status.missingCount()).isEqualTo(1);
+        assertThat(status.staleCount()).isEqualTo(1);
+        assertThat(status.orphanedCount()).isEqualTo(1);
+        assertThat(status.sampleTaskIds()).containsExactly(2L, 3L, 9L);
+        assertThat(status.isConsistent()).isFalse();
+        verify(searchIndex, never()).upsert(any());
+    }
+
+    @Test
+    void checkConsistency_withRepair_reindexesDriftedTasks() {
+        
+        when(searchIndexProvider.getIfAvailable()).thenReturn(searchIndex);
+        when(taskIndexRepository.findFingerprints(1L)).thenReturn(Map.of(1L, 1L, 3L, 1L));
+        when(searchIndex.fingerprints(1L)).thenReturn(Map.of(1L, 1L, 9L, 1L));
+        when(taskIndexRepository.findDocuments(Set.of(3L, 9L))).thenReturn(List.of(document(3L, 1L)));
+
+        
+        TaskIndexStatusResponse status = taskIndexService.checkConsistency(1L, true);
+
+        
+        assertThat(status.repaired()).isTrue();
+        verify(searchIndex).upsert(List.of(document(3L, 1L)));
+        verify(searchIndex).delete(Set.of(9L));
+    }
+
+    @Test
+    void checkConsistency_withIndexDisabled_throwsBadRequestException() {
+        
+        when(searchIndexProvider.getIfAvailable()).thenReturn(null);
+
+        
+        assertThatThrownBy(() -> taskIndexService.checkConsistency(1L, false))
+            .isInstanceOf(BadRequestException.class);
+    }
+
+    private static TaskIndexDocument document(Long taskId, long fingerprint) {
+        return new TaskIndexDocument(taskId, 1L, 1L, "Project", "PROJ-" + taskId, "Task " + taskId, null,
+            "To Do", null, null, List.of(), null, fingerprint);
+    }
+}
@@ -0,0 +1,66 @@
+package com.gradproject.taskmanager.modules.search.service;
+
+import com.gradproject.taskmanager.modules.search.dto.TaskSuggestEntry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskSuggestIndexTest {
+
+    private static final long ORG = 1L;
+
+    private final TaskSuggestIndex index = TaskSuggestIndex.build(List.of(
+        entry(1L, 10L, "WEB-1", "Fix login redirect"),
+        entry(2L, 10L, "WEB-12", "Café menu layout"),
+        entry(3L, 20L, "API-7", "Login rate limiting"),
+        entry(4L, 10L, "WEB-120", "Dark mode toggle")
+    ), System.currentTimeMillis());
+
+    @Test
+    void suggest_byKeyPrefix_returnsKeysInOrder() {
+        assertThat(ids(index.suggest("web-12", projectId -> true, 10))).containsExactly(2L, 4L);
+    }
+
+    @Test
+    void suggest_byTitleWord_ignoresCaseAndDiacritics() {
+        assertThat(ids(index.suggest("CAFE", projectId -> true, 10))).containsExactly(2L);
+    }
+
+    @Test
+    void suggest_withMultipleWords_requiresEveryWordAsPrefix() {
+        assertThat(ids(index.suggest("login red", projectId -> true, 10))).containsExactly(1L);
+    }
+
+    @Test
+    void suggest_filtersInaccessibleProjects() {
+        assertThat(ids(index.suggest("login", projectId -> projectId == 20L, 10))).containsExactly(3L);
+    }
+
+    @Test
+    void suggest_respectsLimit() {
+        assertThat(index.suggest("web", projectId -> true, 2)).hasSize(2);
+    }
+
+    @Test
+    void apply_replacesRenamedAndDropsDeletedTasks() {
+        TaskSuggestIndex updated = index.apply(
+            List.of(entry(1L, 10L, "WEB-1", "Fix logout redirect"), entry(5L, 10L, "WEB-2", "Login audit")),
+            List.of(3L));
+
+        assertThat(ids(updated.suggest("login", projectId -> true, 10))).containsExactly(5L);
+        assertThat(ids(updated.suggest("logout", projectId -> true, 10))).containsExactly(1L);
+        assertThat(updated.containsTask(3L)).isFalse();
+        assertThat(updated.containsTask(5L)).isTrue();
+        assertThat(ids(index.suggest("login", projectId -> true, 10))).containsExactly(1L, 3L);
+    }
+
+    private static TaskSuggestEntry entry(long taskId, long projectId, String key, String title) {
+        return new TaskSuggestEntry(taskId, ORG, projectId, key, title);
+    }
+
+    private static List<Long> ids(List<TaskSuggestEntry> entries) {
+        return entries.stream().map(TaskSuggestEntry::taskId).toList();
+    }
+}
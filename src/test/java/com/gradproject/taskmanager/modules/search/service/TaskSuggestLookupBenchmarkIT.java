@@ -0,0 +1,64 @@
+package com.gradproject.taskmanager.modules.search.service;
+
+import com.gradproject.taskmanager.modules.search.dto.TaskSuggestEntry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskSuggestLookupBenchmarkIT {
+
+    private static final int TASKS = 1_000_000;
+    private static final int PROJECTS = 200;
+    private static final String[] WORDS = {
+        "login", "billing", "export", "dashboard", "report", "invoice", "search", "upload", "profile", "sprint",
+        "webhook", "notification", "permission", "calendar", "timeline", "comment", "attachment", "label", "filter", "audit"
+    };
+
+    @Test
+    void prefixLookup_overOneMillionTasks_returnsOnlyAccessibleMatchesWithinLimit() {
+        Random random = new Random(42);
+        List<TaskSuggestEntry> entries = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            long projectId = i % PROJECTS;
+            String title = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + i;
+            entries.add(new TaskSuggestEntry(i + 1L, 1L, projectId, "P" + projectId + "-" + (i / PROJECTS + 1), title));
+        }
+
+        TaskSuggestIndex index = TaskSuggestIndex.build(entries, System.currentTimeMillis());
+        assertThat(index.size()).isGreaterThan(TASKS);
+
+        String[] prefixes = new String[1024];
+        for (int i = 0; i < prefixes.length; i++) {
+            prefixes[i] = switch (i % 3) {
+                case 0 -> "p" + random.nextInt(PROJECTS) + "-" + (random.nextInt(50) + 1);
+                case 1 -> WORDS[random.nextInt(WORDS.length)].substring(0, 3);
+                default -> WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)].charAt(0);
+            };
+        }
+
+        for (int i = 0; i < prefixes.length; i++) {
+            String prefix = prefixes[i];
+            List<TaskSuggestEntry> suggestions = index.suggest(prefix, projectId -> projectId % 7 != 0, 10);
+
+            if (i % 3 != 0) {
+                assertThat(suggestions).hasSize(10);
+            }
+            assertThat(suggestions).hasSizeLessThanOrEqualTo(10).allSatisfy(entry -> {
+                assertThat(entry.projectId() % 7).isNotZero();
+                assertThat(matches(entry, prefix)).as("%s matches %s", entry.key(), prefix).isTrue();
+            });
+        }
+    }
+
+    private static boolean matches(TaskSuggestEntry entry, String prefix) {
+        List<String> words = TaskSuggestIndex.titleTokens(entry.title());
+        return entry.key().toLowerCase(Locale.ROOT).startsWith(prefix)
+            || Arrays.stream(prefix.split(" ")).allMatch(term -> words.stream().anyMatch(word -> word.startsWith(term)));
+    }
+}
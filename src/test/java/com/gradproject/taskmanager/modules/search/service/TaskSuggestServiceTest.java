@@ -0,0 +1,84 @@
+package com.gradproject.taskmanager.modules.search.service;
+
+import com.gradproject.taskmanager.modules.search.dto.TaskSuggestEntry;
+import com.gradproject.taskmanager.modules.search.dto.TaskSuggestionResponse;
+import com.gradproject.taskmanager.modules.search.repository.TaskIndexRepository;
+import com.gradproject.taskmanager.shared.security.PermissionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TaskSuggestServiceTest {
+
+    private static final long ORG = 1L;
+    private static final int USER = 1;
+
+    private final TaskIndexRepository taskIndexRepository = mock(TaskIndexRepository.class);
+    private final PermissionService permissionService = mock(PermissionService.class);
+    private final TaskSuggestService service = new TaskSuggestService(
+        taskIndexRepository, permissionService, 100, 5_000_000, 900);
+
+    @BeforeEach
+    void setUp() {
+        when(permissionService.accessibleProjectIds(USER, ORG)).thenReturn(Set.of(10L));
+    }
+
+    @Test
+    void refresh_withNothingCachedOrLoading_skipsTheLookup() {
+
+        service.refresh(List.of(1L));
+
+
+        verify(taskIndexRepository, never()).findSuggestEntries(any());
+    }
+
+    @Test
+    void refresh_duringLoad_isReappliedBeforeTheIndexIsStored() {
+
+        when(taskIndexRepository.findOrganizationSuggestEntries(ORG)).thenAnswer(invocation -> {
+            // The rename commits after the snapshot was read, while the load is still running
+            service.refresh(List.of(1L));
+            return List.of(entry(1L, "Fix login redirect"));
+        });
+        when(taskIndexRepository.findSuggestEntries(List.of(1L)))
+            .thenReturn(List.of(entry(1L, "Fix logout redirect")));
+
+
+        List<TaskSuggestionResponse> suggestions = service.suggest("logout", USER, ORG, 10);
+
+
+        assertThat(suggestions).extracting(TaskSuggestionResponse::taskId).containsExactly(1L);
+        assertThat(service.suggest("login", USER, ORG, 10)).isEmpty();
+    }
+
+    @Test
+    void refresh_afterLoad_appliesRenamesAndDeletions() {
+
+        when(taskIndexRepository.findOrganizationSuggestEntries(ORG)).thenReturn(List.of(
+            entry(1L, "Fix login redirect"), entry(2L, "Login rate limiting")));
+        service.suggest("login", USER, ORG, 10);
+        when(taskIndexRepository.findSuggestEntries(List.of(1L, 2L)))
+            .thenReturn(List.of(entry(1L, "Fix logout redirect")));
+
+
+        service.refresh(List.of(1L, 2L));
+
+
+        assertThat(service.suggest("login", USER, ORG, 10)).isEmpty();
+        assertThat(service.suggest("logout", USER, ORG, 10))
+            .extracting(TaskSuggestionResponse::taskId).containsExactly(1L);
+    }
+
+    private static TaskSuggestEntry entry(long taskId, String title) {
+        return new TaskSuggestEntry(taskId, ORG, 10L, "WEB-" + taskId, title);
+    }
+}
@@ -0,0 +1,102 @@
+package com.gradproject.taskmanager.modules.task.integration;
+
+import com.gradproject.taskmanager.AbstractIntegrationTest;
+import com.gradproject.taskmanager.modules.project.domain.Project;
+import com.gradproject.taskmanager.modules.task.service.TaskKeyAllocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+@ActiveProfiles("test")
+class TaskKeyAllocationBenchmarkIT extends AbstractIntegrationTest {
+    
+    private static final int THREADS = 16;
+    private static final int KEYS_PER_THREAD = 500;
+
+    @Autowired
+    private TaskKeyAllocator keyAllocator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Project project;
+
+    @BeforeEach
+    void seedProject() {
+        String suffix = Long.toString(System.nanoTime(), 36);
+
+        Integer userId = jdbcTemplate.queryForObject(
+                "INSERT INTO users (username, email, password) VALUES (?, ?, 'x') RETURNING id",
+                Integer.class, "keys" + suffix, "keys" + suffix + "@example.com");
+        Long orgId = jdbcTemplate.queryForObject(
+                "INSERT INTO organizations (name, slug, created_by) VALUES ('Keys', ?, ?) RETURNING id",
+                Long.class, "keys-" + suffix, userId);
+        Long projectId = jdbcTemplate.queryForObject(
+                "INSERT INTO projects (organization_id, \"key\", name, created_by) VALUES (?, 'KEYS', 'Keys', ?) RETURNING id",
+                Long.class, orgId, userId);
+
+        project = new Project();
+        project.setId(projectId);
+        project.setKey("KEYS");
+    }
+
+    @Test
+    void blockAllocator_sharesTheCounterWithoutDuplicatesOrGaps() throws Exception {
+        Long projectId = project.getId();
+        int keys = THREADS * KEYS_PER_THREAD;
+
+        List<String> counterKeys = run(() -> jdbcTemplate.queryForObject(
+                "SELECT generate_task_key(?)", String.class, projectId));
+        assertThat(nextSequence(projectId)).isEqualTo(keys);
+
+        List<String> allocatorKeys = run(() -> keyAllocator.nextKey(project));
+        assertThat(nextSequence(projectId)).isEqualTo(2 * keys);
+
+        List<String> allKeys = new ArrayList<>(counterKeys);
+        allKeys.addAll(allocatorKeys);
+        assertThat(allKeys).doesNotHaveDuplicates();
+    }
+
+    private int nextSequence(Long projectId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT next_sequence FROM task_key_sequences WHERE project_id = ?", Integer.class, projectId);
+    }
+
+    
+    private List<String> run(Supplier<String> allocation) throws Exception {
+        List<String> keys = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < KEYS_PER_THREAD; i++) {
+                        keys.add(allocation.get());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(keys).hasSize(THREADS * KEYS_PER_THREAD).doesNotHaveDuplicates();
+        return keys;
+    }
+}
@@ -0,0 +1,123 @@
+package com.gradproject.taskmanager.modules.task.integration;
+
+import com.gradproject.taskmanager.AbstractIntegrationTest;
+import com.gradproject.taskmanager.modules.task.domain.Task;
+import com.gradproject.taskmanager.modules.task.domain.TaskPriority;
+import com.gradproject.taskmanager.modules.task.domain.TaskType;
+import com.gradproject.taskmanager.modules.task.dto.TaskAssignRequest;
+import com.gradproject.taskmanager.modules.task.dto.TaskCreateRequest;
+import com.gradproject.taskmanager.modules.task.dto.TaskResponse;
+import com.gradproject.taskmanager.modules.task.dto.TaskTransitionRequest;
+import com.gradproject.taskmanager.modules.task.service.TaskService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TaskMutationLatencyBenchmarkIT extends AbstractIntegrationTest {
+    
+    private static final int THREADS = 8;
+    private static final int MUTATIONS_PER_THREAD = 100;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Integer userId;
+    private Long projectId;
+    private Long todoStatusId;
+    private Long inProgressStatusId;
+
+    @BeforeEach
+    void seedProject() {
+        String suffix = Long.toString(System.nanoTime(), 36);
+
+        userId = jdbcTemplate.queryForObject(
+                "INSERT INTO users (username, email, password) VALUES (?, ?, 'x') RETURNING id",
+                Integer.class, "mut" + suffix, "mut" + suffix + "@example.com");
+        Long orgId = jdbcTemplate.queryForObject(
+                "INSERT INTO organizations (name, slug, created_by) VALUES ('Mutations', ?, ?) RETURNING id",
+                Long.class, "mut-" + suffix, userId);
+        jdbcTemplate.update(
+                "INSERT INTO organization_members (user_id, organization_id, role) VALUES (?, ?, 'ORG_OWNER')",
+                userId, orgId);
+        projectId = jdbcTemplate.queryForObject(
+                "INSERT INTO projects (organization_id, \"key\", name, created_by) VALUES (?, 'MUT', 'Mutations', ?) RETURNING id",
+                Long.class, orgId, userId);
+        todoStatusId = jdbcTemplate.queryForObject(
+                "INSERT INTO task_statuses (project_id, name, order_index, category) VALUES (?, 'To Do', 0, 'TODO') RETURNING id",
+                Long.class, projectId);
+        inProgressStatusId = jdbcTemplate.queryForObject(
+                "INSERT INTO task_statuses (project_id, name, order_index, category) VALUES (?, 'In Progress', 1, 'IN_PROGRESS') RETURNING id",
+                Long.class, projectId);
+    }
+
+    @Test
+    void taskMutations_keepStatementsPerSequenceUnderConcurrentLoad() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        EntityStatistics taskStatistics = statistics.getEntityStatistics(Task.class.getName());
+        createAssignAndTransition();
+        statistics.clear();
+        createAssignAndTransition();
+        long insertsPerSequence = taskStatistics.getInsertCount();
+        long updatesPerSequence = taskStatistics.getUpdateCount();
+        statistics.clear();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < MUTATIONS_PER_THREAD; i++) {
+                        createAssignAndTransition();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        int mutations = THREADS * MUTATIONS_PER_THREAD;
+        assertThat(taskStatistics.getInsertCount()).isEqualTo(insertsPerSequence * mutations);
+        assertThat(taskStatistics.getUpdateCount()).isEqualTo(updatesPerSequence * mutations);
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT COUNT(DISTINCT "key") FROM tasks
+                WHERE project_id = ? AND assignee_id = ? AND status_id = ?
+                """, Long.class, projectId, userId, inProgressStatusId)).isEqualTo(mutations + 2L);
+    }
+
+    private void createAssignAndTransition() {
+        TaskResponse created = taskService.createTask(projectId, new TaskCreateRequest(
+                "Benchmark task", null, todoStatusId, null, null, null,
+                TaskType.TASK, TaskPriority.MEDIUM, null, null, null), userId);
+
+        taskService.assignTask(created.id(), new TaskAssignRequest(userId), userId);
+        taskService.transitionStatus(created.id(), new TaskTransitionRequest(inProgressStatusId, null), userId);
+    }
+}
@@ -0,0 +1,104 @@
+package com.gradproject.taskmanager.modules.task.integration;
+
+import com.gradproject.taskmanager.AbstractIntegrationTest;
+import com.gradproject.taskmanager.modules.task.dto.TaskSummary;
+import com.gradproject.taskmanager.modules.task.dto.TaskSummaryRow;
+import com.gradproject.taskmanager.modules.task.repository.TaskRepository;
+import com.gradproject.taskmanager.shared.mapper.TaskMapper;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+@Testcontainers
+@ActiveProfiles("test")
+class TaskSummaryProjectionBenchmarkIT extends AbstractIntegrationTest {
+
+    private static final int ROWS = 10_000;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskMapper taskMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long projectId;
+
+    @BeforeEach
+    void seedTasks() {
+        String suffix = Long.toString(System.nanoTime(), 36);
+
+        Integer userId = jdbcTemplate.queryForObject(
+                "INSERT INTO users (username, email, password) VALUES (?, ?, 'x') RETURNING id",
+                Integer.class, "bench" + suffix, "bench" + suffix + "@example.com");
+        Long orgId = jdbcTemplate.queryForObject(
+                "INSERT INTO organizations (name, slug, created_by) VALUES ('Bench', ?, ?) RETURNING id",
+                Long.class, "bench-" + suffix, userId);
+        projectId = jdbcTemplate.queryForObject(
+                "INSERT INTO projects (organization_id, \"key\", name, created_by) VALUES (?, 'BENCH', 'Bench', ?) RETURNING id",
+                Long.class, orgId, userId);
+        Long statusId = jdbcTemplate.queryForObject(
+                "INSERT INTO task_statuses (project_id, name, order_index, category) VALUES (?, 'To Do', 0, 'TODO') RETURNING id",
+                Long.class, projectId);
+
+        jdbcTemplate.update("""
+                INSERT INTO tasks (organization_id, project_id, "key", title, description, status_id,
+                                   assignee_id, reporter_id, custom_fields, created_by)
+                SELECT ?, ?, 'BENCH-' || n, 'Task ' || n, repeat('Lorem ipsum dolor sit amet. ', 40), ?,
+                       ?, ?, jsonb_build_object('field', n, 'notes', repeat('x', 200)), ?
+                FROM generate_series(1, ?) AS n
+                """, orgId, projectId, statusId, userId, userId, userId, ROWS);
+    }
+
+    @Test
+    void summaryProjection_matchesEntityMappingWithoutManagingEntities() {
+        Listing entityListing = list(() -> taskRepository
+                .findByProjectWithFilters(projectId, null, null, null).stream()
+                .map(taskMapper::toSummary)
+                .toList());
+
+        Listing projectionListing = list(() -> taskRepository
+                .findSummariesByProjectWithFilters(projectId, null, null, null).stream()
+                .map(TaskSummaryRow::toSummary)
+                .toList());
+
+        assertThat(entityListing.summaries()).hasSize(ROWS);
+        assertThat(entityListing.managedEntities()).isGreaterThanOrEqualTo(ROWS);
+        assertThat(projectionListing.summaries()).containsExactlyInAnyOrderElementsOf(entityListing.summaries());
+        assertThat(projectionListing.managedEntities()).isZero();
+    }
+
+    
+    private Listing list(Supplier<List<TaskSummary>> listing) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        return tx.execute(status -> {
+            List<TaskSummary> summaries = listing.get();
+            return new Listing(summaries, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+        });
+    }
+
+    private record Listing(List<TaskSummary> summaries, int managedEntities) {
+    }
+}
@@ -0,0 +1,116 @@
+package com.gradproject.taskmanager.modules.task.service;
+
+import com.gradproject.taskmanager.modules.project.domain.Project;
+import com.gradproject.taskmanager.modules.task.repository.TaskKeySequenceRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskKeyAllocatorTest {
+    
+    @Mock
+    private TaskKeySequenceRepository taskKeySequenceRepository;
+
+    @Test
+    void nextKey_shouldHandOutKeysFromReservedBlock() {
+        
+        when(taskKeySequenceRepository.reserveBlock(1L, 3)).thenReturn(3, 6);
+        TaskKeyAllocator allocator = new TaskKeyAllocator(taskKeySequenceRepository, 3);
+        Project project = createProject(1L, "PROJ");
+
+        
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            keys.add(allocator.nextKey(project));
+        }
+
+        
+        assertThat(keys).containsExactly("PROJ-1", "PROJ-2", "PROJ-3", "PROJ-4");
+        verify(taskKeySequenceRepository, times(2)).reserveKeyBlock(1L, 3);
+    }
+
+    @Test
+    void nextKey_shouldContinueAfterBlocksReservedElsewhere() {
+        
+        when(taskKeySequenceRepository.reserveBlock(1L, 10)).thenReturn(110);
+        TaskKeyAllocator allocator = new TaskKeyAllocator(taskKeySequenceRepository, 10);
+
+        
+        String key = allocator.nextKey(createProject(1L, "PROJ"));
+
+        
+        assertThat(key).isEqualTo("PROJ-101");
+    }
+
+    @Test
+    void nextKey_shouldKeepSequencesPerProject() {
+        
+        when(taskKeySequenceRepository.reserveBlock(eq(1L), anyInt())).thenReturn(50);
+        when(taskKeySequenceRepository.reserveBlock(eq(2L), anyInt())).thenReturn(150);
+        TaskKeyAllocator allocator = new TaskKeyAllocator(taskKeySequenceRepository, 50);
+
+        
+        String first = allocator.nextKey(createProject(1L, "ONE"));
+        String second = allocator.nextKey(createProject(2L, "TWO"));
+
+        
+        assertThat(first).isEqualTo("ONE-1");
+        assertThat(second).isEqualTo("TWO-101");
+    }
+
+    @Test
+    void nextSequence_shouldNotHandOutDuplicatesUnderContention() throws Exception {
+        
+        AtomicInteger counter = new AtomicInteger();
+        when(taskKeySequenceRepository.reserveBlock(1L, 50)).thenAnswer(invocation -> counter.addAndGet(50));
+        TaskKeyAllocator allocator = new TaskKeyAllocator(taskKeySequenceRepository, 50);
+
+        int threads = 8;
+        int perThread = 1_000;
+        List<Long> sequences = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        sequences.add(allocator.nextSequence(1L));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        
+        assertThat(sequences).doesNotHaveDuplicates().hasSize(threads * perThread);
+        assertThat(counter.get()).isEqualTo(threads * perThread);
+        verify(taskKeySequenceRepository, times(threads * perThread / 50)).reserveKeyBlock(1L, 50);
+    }
+
+    private Project createProject(Long id, String key) {
+        Project project = new Project();
+        project.setId(id);
+        project.setKey(key);
+        return project;
+    }
+}
@@ -0,0 +1,155 @@
+package com.gradproject.taskmanager.modules.task.service;
+
+import com.gradproject.taskmanager.modules.auth.domain.User;
+import com.gradproject.taskmanager.modules.auth.repository.UserRepository;
+import com.gradproject.taskmanager.modules.project.domain.Project;
+import com.gradproject.taskmanager.modules.project.domain.TaskStatus;
+import com.gradproject.taskmanager.modules.task.domain.Task;
+import com.gradproject.taskmanager.modules.task.repository.TaskRepository;
+import com.gradproject.taskmanager.shared.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskMutationContextLoaderTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private TaskMutationContextLoader loader;
+
+    private User user;
+    private User assignee;
+    private Project project;
+    private TaskStatus status;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setId(1);
+
+        assignee = new User();
+        assignee.setId(2);
+
+        project = new Project();
+        project.setId(1L);
+
+        status = new TaskStatus();
+        status.setId(1L);
+
+        task = new Task();
+        task.setId(1L);
+        task.setProject(project);
+    }
+
+    @Test
+    void forCreate_mapsJoinedRow() {
+        
+        List<Object[]> rows = Collections.singletonList(new Object[]{user, project, status, assignee, 5L, null, null});
+        when(taskRepository.loadCreateContext(1, 1L, 1L, 2, null, null)).thenReturn(rows);
+
+        
+        TaskMutationContext context = loader.forCreate(1, 1L, 1L, 2, null, null);
+
+        
+        assertThat(context.actor()).isSameAs(user);
+        assertThat(context.project()).isSameAs(project);
+        assertThat(context.status()).isSameAs(status);
+        assertThat(context.assignee()).isSameAs(assignee);
+        assertThat(context.assigneeInOrganization()).isTrue();
+        assertThat(context.sprint()).isNull();
+        assertThat(context.parentTask()).isNull();
+    }
+
+    @Test
+    void forCreate_withoutMembershipRow_marksAssigneeAsOutsider() {
+        
+        List<Object[]> rows = Collections.singletonList(new Object[]{user, project, status, assignee, null, null, null});
+        when(taskRepository.loadCreateContext(1, 1L, 1L, 2, null, null)).thenReturn(rows);
+
+        
+        TaskMutationContext context = loader.forCreate(1, 1L, 1L, 2, null, null);
+
+        
+        assertThat(context.assigneeInOrganization()).isFalse();
+    }
+
+    @Test
+    void forCreate_withMissingProject_throwsResourceNotFoundException() {
+        
+        when(taskRepository.loadCreateContext(1, 99L, 1L, null, null, null)).thenReturn(List.of());
+        when(userRepository.existsById(1)).thenReturn(true);
+
+        
+        assertThatThrownBy(() -> loader.forCreate(1, 99L, 1L, null, null, null))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("Project");
+    }
+
+    @Test
+    void forCreate_withMissingUser_throwsResourceNotFoundException() {
+        
+        when(taskRepository.loadCreateContext(9, 99L, 1L, null, null, null)).thenReturn(List.of());
+        when(userRepository.existsById(9)).thenReturn(false);
+
+        
+        assertThatThrownBy(() -> loader.forCreate(9, 99L, 1L, null, null, null))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("User");
+    }
+
+    @Test
+    void forUpdate_usesTaskProject() {
+        
+        List<Object[]> rows = Collections.singletonList(new Object[]{task, user, status, null, null});
+        when(taskRepository.loadUpdateContext(1L, 1, 1L, null)).thenReturn(rows);
+
+        
+        TaskMutationContext context = loader.forUpdate(1L, 1, 1L, null);
+
+        
+        assertThat(context.task()).isSameAs(task);
+        assertThat(context.project()).isSameAs(project);
+        assertThat(context.status()).isSameAs(status);
+        assertThat(context.assignee()).isNull();
+    }
+
+    @Test
+    void forUpdate_withMissingActor_throwsResourceNotFoundException() {
+        
+        List<Object[]> rows = Collections.singletonList(new Object[]{task, null, null, null, null});
+        when(taskRepository.loadUpdateContext(1L, 9, null, null)).thenReturn(rows);
+
+        
+        assertThatThrownBy(() -> loader.forUpdate(1L, 9, null, null))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("User");
+    }
+
+    @Test
+    void forUpdate_withMissingTask_throwsResourceNotFoundException() {
+        
+        when(taskRepository.loadUpdateContext(99L, 1, null, null)).thenReturn(List.of());
+
+        
+        assertThatThrownBy(() -> loader.forUpdate(99L, 1, null, null))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("Task");
+    }
+}
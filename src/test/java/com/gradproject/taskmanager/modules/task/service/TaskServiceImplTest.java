@@ -2,12 +2,14 @@ package com.gradproject.taskmanager.modules.task.service;
 
 import com.gradproject.taskmanager.modules.auth.domain.User;
 import com.gradproject.taskmanager.modules.auth.repository.UserRepository;
+import com.gradproject.taskmanager.modules.notification.event.TasksBulkUpdatedEvent;
 import com.gradproject.taskmanager.modules.organization.domain.Organization;
 import com.gradproject.taskmanager.modules.organization.domain.OrganizationMember;
 import com.gradproject.taskmanager.modules.organization.domain.OrganizationRole;
 import com.gradproject.taskmanager.modules.organization.repository.OrganizationMemberRepository;
 import com.gradproject.taskmanager.modules.project.domain.Project;
 import com.gradproject.taskmanager.modules.project.domain.Sprint;
+import com.gradproject.taskmanager.modules.project.domain.SprintStatus;
 import com.gradproject.taskmanager.modules.project.domain.StatusCategory;
 import com.gradproject.taskmanager.modules.project.domain.TaskStatus;
 import com.gradproject.taskmanager.modules.project.repository.ProjectRepository;
@@ -16,27 +18,42 @@ import com.gradproject.taskmanager.modules.project.repository.TaskStatusReposito
 import com.gradproject.taskmanager.modules.task.domain.Task;
 import com.gradproject.taskmanager.modules.task.domain.TaskPriority;
 import com.gradproject.taskmanager.modules.task.domain.TaskType;
+import com.gradproject.taskmanager.modules.task.domain.TaskWatcher;
 import com.gradproject.taskmanager.modules.task.dto.*;
 import com.gradproject.taskmanager.modules.task.repository.TaskRepository;
+import com.gradproject.taskmanager.modules.task.repository.TaskWatcherRepository;
+import com.gradproject.taskmanager.shared.dto.CursorPageResponse;
+import com.gradproject.taskmanager.shared.exception.BadRequestException;
 import com.gradproject.taskmanager.shared.exception.BusinessRuleViolationException;
+import com.gradproject.taskmanager.shared.exception.PreconditionFailedException;
 import com.gradproject.taskmanager.shared.exception.ResourceNotFoundException;
 import com.gradproject.taskmanager.shared.exception.UnauthorizedException;
 import com.gradproject.taskmanager.shared.mapper.TaskMapper;
 import com.gradproject.taskmanager.shared.security.PermissionService;
+import com.gradproject.taskmanager.shared.util.KeysetCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 
@@ -49,15 +66,9 @@ class TaskServiceImplTest {
     @Mock
     private ProjectRepository projectRepository;
 
-    @Mock
-    private TaskStatusRepository statusRepository;
-
     @Mock
     private UserRepository userRepository;
 
-    @Mock
-    private SprintRepository sprintRepository;
-
     @Mock
     private OrganizationMemberRepository organizationMemberRepository;
 
@@ -76,6 +87,21 @@ class TaskServiceImplTest {
     @Mock
     private org.springframework.context.ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    private TaskMutationContextLoader contextLoader;
+
+    @Mock
+    private TaskStatusRepository statusRepository;
+
+    @Mock
+    private SprintRepository sprintRepository;
+
+    @Mock
+    private TaskWatcherRepository watcherRepository;
+
+    @Mock
+    private TaskKeyAllocator keyAllocator;
+
     @InjectMocks
     private TaskServiceImpl taskService;
 
@@ -126,22 +152,22 @@ class TaskServiceImplTest {
                 TaskType.TASK, TaskPriority.HIGH, null, null, null
         );
 
-        when(userRepository.findById(1)).thenReturn(Optional.of(user));
-        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(contextLoader.forCreate(1, 1L, 1L, null, null, null)).thenReturn(createContext(status, null, false, null, null));
         when(permissionService.canManageTasks(user, project)).thenReturn(true);
-        when(statusRepository.findById(1L)).thenReturn(Optional.of(status));
         when(mapper.fromCreateRequest(request)).thenReturn(task);
+        when(keyAllocator.nextKey(project)).thenReturn("TEST-42");
         when(taskRepository.save(any(Task.class))).thenReturn(task);
         when(mapper.toResponse(task)).thenReturn(createTaskResponse());
-        when(taskRepository.countSubtasks(1L)).thenReturn(0L);
 
         
         TaskResponse response = taskService.createTask(1L, request, 1);
 
         
         assertThat(response).isNotNull();
+        assertThat(task.getKey()).isEqualTo("TEST-42");
         verify(taskRepository).save(any(Task.class));
         verify(permissionService).canManageTasks(user, project);
+        verify(taskRepository, never()).findChildCountsByTaskId(any());
     }
 
     @Test
@@ -152,8 +178,7 @@ class TaskServiceImplTest {
                 TaskType.TASK, TaskPriority.MEDIUM, null, null, null
         );
 
-        when(userRepository.findById(1)).thenReturn(Optional.of(user));
-        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(contextLoader.forCreate(1, 1L, 1L, null, null, null)).thenReturn(createContext(status, null, false, null, null));
         when(permissionService.canManageTasks(user, project)).thenReturn(false);
 
         
@@ -172,10 +197,8 @@ class TaskServiceImplTest {
                 TaskType.TASK, TaskPriority.MEDIUM, null, null, null
         );
 
-        when(userRepository.findById(1)).thenReturn(Optional.of(user));
-        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(contextLoader.forCreate(1, 1L, 999L, null, null, null)).thenReturn(createContext(null, null, false, null, null));
         when(permissionService.canManageTasks(user, project)).thenReturn(true);
-        when(statusRepository.findById(999L)).thenReturn(Optional.empty());
 
         
         assertThatThrownBy(() -> taskService.createTask(1L, request, 1))
@@ -195,10 +218,10 @@ class TaskServiceImplTest {
         when(permissionService.canManageTasks(user, project)).thenReturn(true);
         when(taskRepository.save(task)).thenReturn(task);
         when(mapper.toResponse(task)).thenReturn(createTaskResponse());
-        when(taskRepository.countSubtasks(1L)).thenReturn(0L);
+        when(taskRepository.findChildCountsByTaskId(List.of(1L))).thenReturn(Map.of());
 
         
-        TaskResponse response = taskService.updateTask(1L, request, 1);
+        TaskResponse response = taskService.updateTask(1L, request, null, 1);
 
         
         assertThat(response).isNotNull();
@@ -206,6 +229,88 @@ class TaskServiceImplTest {
         verify(taskRepository).save(task);
     }
 
+    @Test
+    void updateTask_withStaleVersion_throwsPreconditionFailedException() {
+        
+        task.setVersion(4L);
+        TaskUpdateRequest request = new TaskUpdateRequest(
+                "Updated Title", null, null, null, null, null
+        );
+
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(userRepository.findById(1)).thenReturn(Optional.of(user));
+        when(permissionService.canManageTasks(user, project)).thenReturn(true);
+        when(taskRepository.findRevision(1L)).thenReturn(Optional.of(
+                new TaskRevision(1L, 1L, 4L, BigDecimal.ZERO, 0, 0, 0, 0)));
+
+        
+        assertThatThrownBy(() -> taskService.updateTask(1L, request, "\"3.0.0.0.0.0\"", 1))
+                .isInstanceOf(PreconditionFailedException.class)
+                .hasMessageContaining("modified since \"3.0.0.0.0.0\"");
+
+        verify(mapper, never()).updateFromRequest(any(), any());
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    @Test
+    void updateTask_withCurrentVersion_succeeds() {
+        
+        task.setVersion(4L);
+        TaskUpdateRequest request = new TaskUpdateRequest(
+                "Updated Title", null, null, null, null, null
+        );
+
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(userRepository.findById(1)).thenReturn(Optional.of(user));
+        when(permissionService.canManageTasks(user, project)).thenReturn(true);
+        when(taskRepository.findRevision(1L)).thenReturn(Optional.of(
+                new TaskRevision(1L, 1L, 4L, BigDecimal.ZERO, 0, 0, 0, 0)));
+        when(taskRepository.save(task)).thenReturn(task);
+        when(mapper.toResponse(task)).thenReturn(createTaskResponse());
+        when(taskRepository.findChildCountsByTaskId(List.of(1L))).thenReturn(Map.of());
+
+        
+        TaskResponse response = taskService.updateTask(1L, request, "\"4.0.0.0.0.0\"", 1);
+
+        
+        assertThat(response).isNotNull();
+        verify(taskRepository).save(task);
+    }
+
+    @Test
+    void getTaskRevision_returnsRevisionForAccessibleTask() {
+        
+        TaskRevision revision = new TaskRevision(1L, 1L, 7L, new BigDecimal("1.50"), 2, 3, 0, 1);
+        when(taskRepository.findRevision(1L)).thenReturn(Optional.of(revision));
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(userRepository.findById(1)).thenReturn(Optional.of(user));
+        when(permissionService.canAccessProject(user, project)).thenReturn(true);
+
+        
+        TaskRevision result = taskService.getTaskRevision(1L, 1);
+
+        
+        assertThat(result.etag()).isEqualTo("\"7.2.3.0.1.150\"");
+        verify(taskRepository, never()).findById(any());
+    }
+
+    @Test
+    void requireMatch_acceptsCurrentETagAndRejectsWeakOrStaleOnes() {
+        
+        TaskRevision revision = new TaskRevision(1L, 1L, 7L, new BigDecimal("1.50"), 2, 3, 0, 1);
+
+        
+        revision.requireMatch("\"7.2.3.0.1.150\"");
+        revision.requireMatch("\"6.2.3.0.1.150\", \"7.2.3.0.1.150\"");
+        revision.requireMatch("*");
+        assertThatThrownBy(() -> revision.requireMatch("W/\"7.2.3.0.1.150\""))
+                .isInstanceOf(PreconditionFailedException.class)
+                .hasMessageContaining("strong ETag");
+        // Same version, but a work log was added since the tag was issued
+        assertThatThrownBy(() -> revision.requireMatch("\"7.2.3.0.1.100\""))
+                .isInstanceOf(PreconditionFailedException.class);
+    }
+
     @Test
     void deleteTask_success() {
         
@@ -244,13 +349,18 @@ class TaskServiceImplTest {
         when(userRepository.findById(1)).thenReturn(Optional.of(user));
         when(permissionService.canAccessProject(user, project)).thenReturn(true);
         when(mapper.toResponse(task)).thenReturn(createTaskResponse());
-        when(taskRepository.countSubtasks(1L)).thenReturn(0L);
+        when(taskRepository.findChildCountsByTaskId(List.of(1L)))
+                .thenReturn(Map.of(1L, new TaskChildCounts(1L, 2, 5, 1, 3)));
 
         
         TaskResponse response = taskService.getTask(1L, 1);
 
         
         assertThat(response).isNotNull();
+        assertThat(response.subtaskCount()).isEqualTo(2);
+        assertThat(response.commentCount()).isEqualTo(5);
+        assertThat(response.attachmentCount()).isEqualTo(1);
+        assertThat(response.watcherCount()).isEqualTo(3);
         verify(permissionService).canAccessProject(user, project);
     }
 
@@ -265,7 +375,7 @@ class TaskServiceImplTest {
         when(taskRepository.findByOrganizationIdAndKey(1L, "TEST-1")).thenReturn(Optional.of(task));
         when(permissionService.canAccessProject(user, project)).thenReturn(true);
         when(mapper.toResponse(task)).thenReturn(createTaskResponse());
-        when(taskRepository.countSubtasks(1L)).thenReturn(0L);
+        when(taskRepository.findChildCountsByTaskId(List.of(1L))).thenReturn(Map.of());
 
         
         TaskResponse response = taskService.getTaskByKey(1L, "TEST-1", 1);
@@ -281,15 +391,108 @@ class TaskServiceImplTest {
         when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
         when(userRepository.findById(1)).thenReturn(Optional.of(user));
         when(permissionService.canAccessProject(user, project)).thenReturn(true);
-        when(taskRepository.findByProjectWithFilters(1L, null, null, null))
-                .thenReturn(Arrays.asList(task));
-        when(mapper.toSummary(task)).thenReturn(createTaskSummary());
+        when(taskRepository.findSummariesByProjectWithFilters(1L, null, null, null))
+                .thenReturn(List.of(createTaskSummaryRow(1L, "TEST-1", null, StatusCategory.TODO)));
 
         
         List<TaskSummary> tasks = taskService.listProjectTasks(1L, null, null, null, 1);
 
         
-        assertThat(tasks).hasSize(1);
+        assertThat(tasks).containsExactly(createTaskSummary());
+        verify(mapper, never()).toSummary(any(Task.class));
+    }
+
+    @Test
+    void listProjectTasksPage_firstPage_returnsCursorWhenMoreRowsExist() {
+        
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 15, 10, 30);
+
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(userRepository.findById(1)).thenReturn(Optional.of(user));
+        when(permissionService.canAccessProject(user, project)).thenReturn(true);
+        when(taskRepository.findFirstSummaryPageByProjectWithFilters(eq(1L), eq(null), eq(null), eq(null), any()))
+                .thenReturn(List.of(
+                        createTaskSummaryRow(1L, "TEST-1", createdAt.plusHours(1)),
+                        createTaskSummaryRow(2L, "TEST-2", createdAt),
+                        createTaskSummaryRow(3L, "TEST-3", createdAt.minusHours(1))));
+
+        
+        CursorPageResponse<TaskSummary> page = taskService.listProjectTasksPage(1L, null, null, null, null, 2, 1);
+
+        
+        assertThat(page.content()).hasSize(2);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(KeysetCursor.decode(page.nextCursor())).isEqualTo(new KeysetCursor(createdAt, 2L));
+    }
+
+    @Test
+    void listProjectTasksPage_withCursor_continuesAfterCursor() {
+        
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 15, 10, 30);
+        String cursor = new KeysetCursor(createdAt, 5L).encode();
+
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(userRepository.findById(1)).thenReturn(Optional.of(user));
+        when(permissionService.canAccessProject(user, project)).thenReturn(true);
+        when(taskRepository.findSummaryPageByProjectWithFiltersAfter(
+                eq(1L), eq(1L), eq(null), eq(null), eq(createdAt), eq(5L), any()))
+                .thenReturn(List.of(createTaskSummaryRow(4L, "TEST-4", createdAt.minusMinutes(1))));
+
+        
+        CursorPageResponse<TaskSummary> page = taskService.listProjectTasksPage(1L, 1L, null, null, cursor, 50, 1);
+
+        
+        assertThat(page.content()).hasSize(1);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+        verify(taskRepository, never()).findFirstSummaryPageByProjectWithFilters(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void listProjectTasksPage_withMalformedCursor_throwsBadRequestException() {
+        
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(userRepository.findById(1)).thenReturn(Optional.of(user));
+        when(permissionService.canAccessProject(user, project)).thenReturn(true);
+
+        
+        assertThatThrownBy(() -> taskService.listProjectTasksPage(1L, null, null, null, "not-a-cursor", 20, 1))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void streamProjectTasks_emitsSummariesFromProjectedRows() {
+        
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(userRepository.findById(1)).thenReturn(Optional.of(user));
+        when(permissionService.canAccessProject(user, project)).thenReturn(true);
+        when(taskRepository.streamSummariesByProjectWithFilters(1L, null, 2, null))
+                .thenReturn(Stream.of(createTaskSummaryRow(1L, "TEST-1", LocalDateTime.of(2025, 1, 15, 10, 30))));
+        when(taskRepository.findChildCountsByTaskId(List.of(1L)))
+                .thenReturn(Map.of(1L, new TaskChildCounts(1L, 0, 3, 0, 0)));
+        List<TaskSummary> emitted = new ArrayList<>();
+
+        
+        taskService.streamProjectTasks(1L, null, 2, null, 1, emitted::add);
+
+        
+        assertThat(emitted).hasSize(1);
+        assertThat(emitted.get(0).key()).isEqualTo("TEST-1");
+        assertThat(emitted.get(0).commentCount()).isEqualTo(3);
+        verify(mapper, never()).toSummary(any(Task.class));
+    }
+
+    @Test
+    void streamProjectTasks_withoutAccess_throwsUnauthorizedException() {
+        
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(userRepository.findById(1)).thenReturn(Optional.of(user));
+        when(permissionService.canAccessProject(user, project)).thenReturn(false);
+
+        
+        assertThatThrownBy(() -> taskService.streamProjectTasks(1L, null, null, null, 1, summary -> { }))
+                .isInstanceOf(UnauthorizedException.class);
+        verify(taskRepository, never()).streamSummariesByProjectWithFilters(any(), any(), any(), any());
     }
 
     @Test
@@ -299,14 +502,11 @@ class TaskServiceImplTest {
         assignee.setId(2);
         TaskAssignRequest request = new TaskAssignRequest(2);
 
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        when(userRepository.findById(1)).thenReturn(Optional.of(user));
-        when(userRepository.findById(2)).thenReturn(Optional.of(assignee));
+        when(contextLoader.forUpdate(1L, 1, null, 2)).thenReturn(updateContext(null, assignee, true));
         when(permissionService.canManageTasks(user, project)).thenReturn(true);
-        when(organizationMemberRepository.existsByUserIdAndOrganizationId(2, 1L)).thenReturn(true);
         when(taskRepository.save(task)).thenReturn(task);
         when(mapper.toResponse(task)).thenReturn(createTaskResponse());
-        when(taskRepository.countSubtasks(1L)).thenReturn(0L);
+        when(taskRepository.findChildCountsByTaskId(List.of(1L))).thenReturn(Map.of());
 
         
         TaskResponse response = taskService.assignTask(1L, request, 1);
@@ -322,12 +522,11 @@ class TaskServiceImplTest {
         task.setAssignee(user);
         TaskAssignRequest request = new TaskAssignRequest(null);
 
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        when(userRepository.findById(1)).thenReturn(Optional.of(user));
+        when(contextLoader.forUpdate(1L, 1, null, null)).thenReturn(updateContext(null, null, false));
         when(permissionService.canManageTasks(user, project)).thenReturn(true);
         when(taskRepository.save(task)).thenReturn(task);
         when(mapper.toResponse(task)).thenReturn(createTaskResponse());
-        when(taskRepository.countSubtasks(1L)).thenReturn(0L);
+        when(taskRepository.findChildCountsByTaskId(List.of(1L))).thenReturn(Map.of());
 
         
         TaskResponse response = taskService.assignTask(1L, request, 1);
@@ -348,13 +547,11 @@ class TaskServiceImplTest {
 
         TaskTransitionRequest request = new TaskTransitionRequest(2L, "Starting work");
 
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        when(userRepository.findById(1)).thenReturn(Optional.of(user));
+        when(contextLoader.forUpdate(1L, 1, 2L, null)).thenReturn(updateContext(newStatus, null, false));
         when(permissionService.canManageTasks(user, project)).thenReturn(true);
-        when(statusRepository.findById(2L)).thenReturn(Optional.of(newStatus));
         when(taskRepository.save(task)).thenReturn(task);
         when(mapper.toResponse(task)).thenReturn(createTaskResponse());
-        when(taskRepository.countSubtasks(1L)).thenReturn(0L);
+        when(taskRepository.findChildCountsByTaskId(List.of(1L))).thenReturn(Map.of());
 
         
         TaskResponse response = taskService.transitionStatus(1L, request, 1);
@@ -376,10 +573,8 @@ class TaskServiceImplTest {
 
         TaskTransitionRequest request = new TaskTransitionRequest(2L, null);
 
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        when(userRepository.findById(1)).thenReturn(Optional.of(user));
+        when(contextLoader.forUpdate(1L, 1, 2L, null)).thenReturn(updateContext(wrongProjectStatus, null, false));
         when(permissionService.canManageTasks(user, project)).thenReturn(true);
-        when(statusRepository.findById(2L)).thenReturn(Optional.of(wrongProjectStatus));
 
         
         assertThatThrownBy(() -> taskService.transitionStatus(1L, request, 1))
@@ -395,14 +590,15 @@ class TaskServiceImplTest {
         when(userRepository.findById(1)).thenReturn(Optional.of(user));
         when(organizationMemberRepository.findByUserIdAndOrganizationId(1, 1L))
                 .thenReturn(Optional.of(membership));
-        when(taskRepository.findMyOpenTasks(1, 1L)).thenReturn(Arrays.asList(task));
-        when(mapper.toSummary(task)).thenReturn(createTaskSummary());
+        when(taskRepository.findMyOpenTaskSummaries(1, 1L))
+                .thenReturn(List.of(createTaskSummaryRow(1L, "TEST-1", LocalDate.now().minusDays(1), StatusCategory.TODO)));
 
         
         List<TaskSummary> tasks = taskService.getMyOpenTasks(1L, 1);
 
         
         assertThat(tasks).hasSize(1);
+        assertThat(tasks.get(0).isOverdue()).isTrue();
     }
 
     @Test
@@ -417,14 +613,45 @@ class TaskServiceImplTest {
         when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
         when(userRepository.findById(1)).thenReturn(Optional.of(user));
         when(permissionService.canAccessProject(user, project)).thenReturn(true);
-        when(taskRepository.findSubtasks(1L)).thenReturn(Arrays.asList(subtask));
-        when(mapper.toSummary(subtask)).thenReturn(createTaskSummary());
+        when(taskRepository.findSubtaskSummaries(1L))
+                .thenReturn(List.of(createTaskSummaryRow(2L, "TEST-2", LocalDate.now().minusDays(1), StatusCategory.DONE)));
 
         
         List<TaskSummary> subtasks = taskService.getSubtasks(1L, 1);
 
         
         assertThat(subtasks).hasSize(1);
+        assertThat(subtasks.get(0).key()).isEqualTo("TEST-2");
+        assertThat(subtasks.get(0).isOverdue()).isFalse();
+    }
+
+    @Test
+    void getBacklogTasks_buildsSummariesFromProjectedColumns() {
+        
+        TaskSummaryRow row = new TaskSummaryRow(
+                3L, "TEST-3", "Backlog Task", TaskPriority.HIGH, null,
+                1L, "To Do", "#808080", StatusCategory.TODO,
+                1, "testuser", "test@example.com", "Test", "User", null, null
+        );
+
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(userRepository.findById(1)).thenReturn(Optional.of(user));
+        when(permissionService.canAccessProject(user, project)).thenReturn(true);
+        when(taskRepository.findBacklogTaskSummaries(1L)).thenReturn(List.of(row));
+        when(taskRepository.findChildCountsByTaskId(List.of(3L)))
+                .thenReturn(Map.of(3L, new TaskChildCounts(3L, 0, 4, 2, 1)));
+
+        
+        List<TaskSummary> tasks = taskService.getBacklogTasks(1L, 1);
+
+        
+        assertThat(tasks).hasSize(1);
+        assertThat(tasks.get(0).assignee().username()).isEqualTo("testuser");
+        assertThat(tasks.get(0).status().category()).isEqualTo("TODO");
+        assertThat(tasks.get(0).priority()).isEqualTo(TaskPriority.HIGH);
+        assertThat(tasks.get(0).commentCount()).isEqualTo(4);
+        assertThat(tasks.get(0).attachmentCount()).isEqualTo(2);
+        assertThat(tasks.get(0).watcherCount()).isEqualTo(1);
     }
 
     @Test
@@ -438,13 +665,9 @@ class TaskServiceImplTest {
                 TaskType.TASK, TaskPriority.MEDIUM, null, null, null
         );
 
-        when(userRepository.findById(1)).thenReturn(Optional.of(user));
-        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(contextLoader.forCreate(1, 1L, 1L, 2, null, null)).thenReturn(createContext(status, assignee, false, null, null));
         when(permissionService.canManageTasks(user, project)).thenReturn(true);
-        when(statusRepository.findById(1L)).thenReturn(Optional.of(status));
         when(mapper.fromCreateRequest(request)).thenReturn(task);
-        when(userRepository.findById(2)).thenReturn(Optional.of(assignee));
-        when(organizationMemberRepository.existsByUserIdAndOrganizationId(2, 1L)).thenReturn(false);
 
         
         assertThatThrownBy(() -> taskService.createTask(1L, request, 1))
@@ -462,12 +685,9 @@ class TaskServiceImplTest {
                 TaskType.TASK, TaskPriority.MEDIUM, null, null, null
         );
 
-        when(userRepository.findById(1)).thenReturn(Optional.of(user));
-        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(contextLoader.forCreate(1, 1L, 1L, null, 999L, null)).thenReturn(createContext(status, null, false, null, null));
         when(permissionService.canManageTasks(user, project)).thenReturn(true);
-        when(statusRepository.findById(1L)).thenReturn(Optional.of(status));
         when(mapper.fromCreateRequest(request)).thenReturn(task);
-        when(sprintRepository.findById(999L)).thenReturn(Optional.empty());
 
         
         assertThatThrownBy(() -> taskService.createTask(1L, request, 1))
@@ -491,12 +711,9 @@ class TaskServiceImplTest {
                 TaskType.TASK, TaskPriority.MEDIUM, null, null, null
         );
 
-        when(userRepository.findById(1)).thenReturn(Optional.of(user));
-        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(contextLoader.forCreate(1, 1L, 1L, null, 1L, null)).thenReturn(createContext(status, null, false, sprint, null));
         when(permissionService.canManageTasks(user, project)).thenReturn(true);
-        when(statusRepository.findById(1L)).thenReturn(Optional.of(status));
         when(mapper.fromCreateRequest(request)).thenReturn(task);
-        when(sprintRepository.findById(1L)).thenReturn(Optional.of(sprint));
 
         
         assertThatThrownBy(() -> taskService.createTask(1L, request, 1))
@@ -514,12 +731,9 @@ class TaskServiceImplTest {
                 TaskType.TASK, TaskPriority.MEDIUM, null, null, null
         );
 
-        when(userRepository.findById(1)).thenReturn(Optional.of(user));
-        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(contextLoader.forCreate(1, 1L, 1L, null, null, 999L)).thenReturn(createContext(status, null, false, null, null));
         when(permissionService.canManageTasks(user, project)).thenReturn(true);
-        when(statusRepository.findById(1L)).thenReturn(Optional.of(status));
         when(mapper.fromCreateRequest(request)).thenReturn(task);
-        when(taskRepository.findById(999L)).thenReturn(Optional.empty());
 
         
         assertThatThrownBy(() -> taskService.createTask(1L, request, 1))
@@ -543,12 +757,9 @@ class TaskServiceImplTest {
                 TaskType.TASK, TaskPriority.MEDIUM, null, null, null
         );
 
-        when(userRepository.findById(1)).thenReturn(Optional.of(user));
-        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(contextLoader.forCreate(1, 1L, 1L, null, null, 2L)).thenReturn(createContext(status, null, false, null, parentTask));
         when(permissionService.canManageTasks(user, project)).thenReturn(true);
-        when(statusRepository.findById(1L)).thenReturn(Optional.of(status));
         when(mapper.fromCreateRequest(request)).thenReturn(task);
-        when(taskRepository.findById(2L)).thenReturn(Optional.of(parentTask));
 
         
         assertThatThrownBy(() -> taskService.createTask(1L, request, 1))
@@ -570,7 +781,7 @@ class TaskServiceImplTest {
         when(permissionService.canManageTasks(user, project)).thenReturn(false);
 
         
-        assertThatThrownBy(() -> taskService.updateTask(1L, request, 1))
+        assertThatThrownBy(() -> taskService.updateTask(1L, request, null, 1))
                 .isInstanceOf(UnauthorizedException.class)
                 .hasMessageContaining("do not have permission to edit");
 
@@ -627,11 +838,8 @@ class TaskServiceImplTest {
         assignee.setId(2);
         TaskAssignRequest request = new TaskAssignRequest(2);
 
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        when(userRepository.findById(1)).thenReturn(Optional.of(user));
-        when(userRepository.findById(2)).thenReturn(Optional.of(assignee));
+        when(contextLoader.forUpdate(1L, 1, null, 2)).thenReturn(updateContext(null, assignee, false));
         when(permissionService.canManageTasks(user, project)).thenReturn(true);
-        when(organizationMemberRepository.existsByUserIdAndOrganizationId(2, 1L)).thenReturn(false);
 
         
         assertThatThrownBy(() -> taskService.assignTask(1L, request, 1))
@@ -646,8 +854,7 @@ class TaskServiceImplTest {
         
         TaskTransitionRequest request = new TaskTransitionRequest(2L, null);
 
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        when(userRepository.findById(1)).thenReturn(Optional.of(user));
+        when(contextLoader.forUpdate(1L, 1, 2L, null)).thenReturn(updateContext(null, null, false));
         when(permissionService.canManageTasks(user, project)).thenReturn(false);
 
         
@@ -671,6 +878,198 @@ class TaskServiceImplTest {
                 .hasMessageContaining("do not have access to this task");
     }
 
+    @Test
+    void bulkUpdate_transition_checksPermissionOncePerProjectAndReportsEachTask() {
+        
+        Project otherProject = new Project();
+        otherProject.setId(2L);
+        otherProject.setOrganization(organization);
+
+        TaskStatus inProgress = new TaskStatus();
+        inProgress.setId(2L);
+        inProgress.setName("In Progress");
+        inProgress.setProject(project);
+
+        Task second = createBulkTask(2L, "TEST-2", project);
+        Task foreign = createBulkTask(4L, "OTHER-4", otherProject);
+
+        when(userRepository.findById(1)).thenReturn(Optional.of(user));
+        when(taskRepository.findAllForBulkUpdate(List.of(1L, 2L, 3L, 4L))).thenReturn(List.of(task, second, foreign));
+        when(statusRepository.findById(2L)).thenReturn(Optional.of(inProgress));
+        when(permissionService.canManageTasks(user, project)).thenReturn(true);
+        when(permissionService.canManageTasks(user, otherProject)).thenReturn(false);
+
+        
+        TaskBulkResponse response = taskService.bulkUpdate(new TaskBulkRequest(
+                TaskBulkRequest.Operation.TRANSITION, List.of(1L, 2L, 3L, 4L, 1L), 2L, null, null), 1);
+
+        
+        assertThat(response.succeeded()).isEqualTo(2);
+        assertThat(response.failed()).isEqualTo(2);
+        assertThat(response.results()).extracting(TaskBulkResponse.Result::taskId).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(response.results().get(2).error()).isEqualTo("Task not found");
+        assertThat(response.results().get(3).error()).contains("do not have permission");
+        assertThat(task.getStatus()).isEqualTo(inProgress);
+        assertThat(second.getStatus()).isEqualTo(inProgress);
+        assertThat(foreign.getStatus()).isEqualTo(status);
+
+        verify(permissionService, times(1)).canManageTasks(user, project);
+        verify(taskRepository).saveAll(List.of(task, second));
+        verify(activityLogService).logStatusChanges(eq(List.of(task, second)), eq(Map.of(1L, status, 2L, status)), eq(user));
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    @Test
+    void bulkUpdate_assign_publishesOneEventPerRecipient() {
+        
+        User assignee = new User();
+        assignee.setId(2);
+        assignee.setUsername("assignee");
+
+        User watcher = new User();
+        watcher.setId(3);
+        watcher.setUsername("watcher");
+
+        Task second = createBulkTask(2L, "TEST-2", project);
+
+        when(userRepository.findById(1)).thenReturn(Optional.of(user));
+        when(userRepository.findById(2)).thenReturn(Optional.of(assignee));
+        when(taskRepository.findAllForBulkUpdate(List.of(1L, 2L))).thenReturn(List.of(task, second));
+        when(permissionService.canManageTasks(user, project)).thenReturn(true);
+        when(organizationMemberRepository.existsByUserIdAndOrganizationId(2, 1L)).thenReturn(true);
+        when(watcherRepository.findByTaskIdInWithUser(List.of(1L, 2L))).thenReturn(List.of(
+                createBulkWatcher(task, watcher), createBulkWatcher(second, watcher),
+                createBulkWatcher(second, user), createBulkWatcher(second, assignee)));
+
+        
+        TaskBulkResponse response = taskService.bulkUpdate(new TaskBulkRequest(
+                TaskBulkRequest.Operation.ASSIGN, List.of(1L, 2L), null, 2, null), 1);
+
+        
+        assertThat(response.succeeded()).isEqualTo(2);
+        assertThat(task.getAssignee()).isEqualTo(assignee);
+        verify(organizationMemberRepository, times(1)).existsByUserIdAndOrganizationId(2, 1L);
+        verify(watcherService).autoWatchOnAssign(List.of(task, second), assignee);
+
+        ArgumentCaptor<TasksBulkUpdatedEvent> events = ArgumentCaptor.forClass(TasksBulkUpdatedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertThat(events.getAllValues())
+                .extracting(event -> event.getRecipient().getId(), TasksBulkUpdatedEvent::getTaskIds)
+                .containsExactly(
+                        tuple(2, List.of(1L, 2L)),
+                        tuple(3, List.of(1L, 2L)));
+        assertThat(events.getAllValues().get(0).getMessage())
+                .isEqualTo("testuser assigned 2 tasks to you: TEST-1, TEST-2");
+    }
+
+    @Test
+    void bulkUpdate_assign_withAssigneeOutsideOrganization_failsEachTask() {
+        
+        User outsider = new User();
+        outsider.setId(2);
+
+        when(userRepository.findById(1)).thenReturn(Optional.of(user));
+        when(userRepository.findById(2)).thenReturn(Optional.of(outsider));
+        when(taskRepository.findAllForBulkUpdate(List.of(1L))).thenReturn(List.of(task));
+        when(permissionService.canManageTasks(user, project)).thenReturn(true);
+        when(organizationMemberRepository.existsByUserIdAndOrganizationId(2, 1L)).thenReturn(false);
+
+        
+        TaskBulkResponse response = taskService.bulkUpdate(new TaskBulkRequest(
+                TaskBulkRequest.Operation.ASSIGN, List.of(1L), null, 2, null), 1);
+
+        
+        assertThat(response.failed()).isEqualTo(1);
+        assertThat(response.results().get(0).error()).isEqualTo("Assignee must be a member of the organization");
+        assertThat(task.getAssignee()).isNull();
+        verify(eventPublisher, never()).publishEvent(any(TasksBulkUpdatedEvent.class));
+    }
+
+    @Test
+    void bulkUpdate_moveToSprint_rejectsTasksFromOtherProjects() {
+        
+        Project otherProject = new Project();
+        otherProject.setId(2L);
+
+        Sprint sprint = new Sprint();
+        sprint.setId(7L);
+        sprint.setProject(project);
+        sprint.setStatus(SprintStatus.ACTIVE);
+
+        Task foreign = createBulkTask(2L, "OTHER-2", otherProject);
+
+        when(userRepository.findById(1)).thenReturn(Optional.of(user));
+        when(taskRepository.findAllForBulkUpdate(List.of(1L, 2L))).thenReturn(List.of(task, foreign));
+        when(sprintRepository.findById(7L)).thenReturn(Optional.of(sprint));
+        when(permissionService.canManageTasks(any(User.class), any(Project.class))).thenReturn(true);
+
+        
+        TaskBulkResponse response = taskService.bulkUpdate(new TaskBulkRequest(
+                TaskBulkRequest.Operation.MOVE_TO_SPRINT, List.of(1L, 2L), null, null, 7L), 1);
+
+        
+        assertThat(response.succeeded()).isEqualTo(1);
+        assertThat(response.results().get(1).error()).contains("same project as the sprint");
+        assertThat(task.getSprint()).isEqualTo(sprint);
+        assertThat(foreign.getSprint()).isNull();
+        verify(taskRepository).saveAll(List.of(task));
+    }
+
+    @Test
+    void bulkUpdate_moveToCompletedSprint_throwsBusinessRuleViolationException() {
+        
+        Sprint sprint = new Sprint();
+        sprint.setId(7L);
+        sprint.setProject(project);
+        sprint.setStatus(SprintStatus.COMPLETED);
+
+        when(userRepository.findById(1)).thenReturn(Optional.of(user));
+        when(taskRepository.findAllForBulkUpdate(List.of(1L))).thenReturn(List.of(task));
+        when(sprintRepository.findById(7L)).thenReturn(Optional.of(sprint));
+
+        
+        assertThatThrownBy(() -> taskService.bulkUpdate(new TaskBulkRequest(
+                TaskBulkRequest.Operation.MOVE_TO_SPRINT, List.of(1L), null, null, 7L), 1))
+                .isInstanceOf(BusinessRuleViolationException.class)
+                .hasMessageContaining("completed or cancelled sprint");
+
+        verify(taskRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void bulkUpdate_delete_skipsTasksWithSubtasks() {
+        
+        Task parent = createBulkTask(2L, "TEST-2", project);
+
+        when(userRepository.findById(1)).thenReturn(Optional.of(user));
+        when(taskRepository.findAllForBulkUpdate(List.of(1L, 2L))).thenReturn(List.of(task, parent));
+        when(taskRepository.findChildCountsByTaskId(any())).thenReturn(Map.of(
+                2L, new TaskChildCounts(2L, 3, 0, 0, 0)));
+        when(permissionService.canManageTasks(user, project)).thenReturn(true);
+
+        
+        TaskBulkResponse response = taskService.bulkUpdate(new TaskBulkRequest(
+                TaskBulkRequest.Operation.DELETE, List.of(1L, 2L), null, null, null), 1);
+
+        
+        assertThat(response.succeeded()).isEqualTo(1);
+        assertThat(response.results().get(1).error()).contains("Cannot delete task with 3 subtask(s)");
+        verify(taskRepository).deleteAll(List.of(task));
+    }
+
+    @Test
+    void bulkUpdate_transitionWithoutStatus_throwsBadRequestException() {
+        
+        when(userRepository.findById(1)).thenReturn(Optional.of(user));
+        when(taskRepository.findAllForBulkUpdate(List.of(1L))).thenReturn(List.of(task));
+
+        
+        assertThatThrownBy(() -> taskService.bulkUpdate(new TaskBulkRequest(
+                TaskBulkRequest.Operation.TRANSITION, List.of(1L), null, null, null), 1))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("Status ID is required");
+    }
+
     
     private TaskResponse createTaskResponse() {
         return new TaskResponse(
@@ -681,7 +1080,7 @@ class TaskServiceImplTest {
                 null, null, null, null,
                 1L, "TEST", "Test Project",
                 null, null, null, null,
-                0, 0, 0, false, null, null, null
+                0, 0, 0, 0, false, null, null, null, 0L
         );
     }
 
@@ -689,7 +1088,49 @@ class TaskServiceImplTest {
         return new TaskSummary(
                 1L, "TEST-1", "Test Task",
                 new TaskStatusSummary(1L, "To Do", "#808080", "TODO"),
-                null, TaskPriority.MEDIUM, false
+                null, TaskPriority.MEDIUM, false, 0, 0, 0, 0
+        );
+    }
+
+    private TaskMutationContext createContext(TaskStatus status, User assignee, boolean assigneeInOrganization,
+                                              Sprint sprint, Task parentTask) {
+        return new TaskMutationContext(user, project, null, status, assignee, assigneeInOrganization, sprint, parentTask);
+    }
+
+    private TaskMutationContext updateContext(TaskStatus status, User assignee, boolean assigneeInOrganization) {
+        return new TaskMutationContext(user, project, task, status, assignee, assigneeInOrganization, null, null);
+    }
+
+    private Task createBulkTask(Long id, String key, Project taskProject) {
+        Task bulkTask = new Task();
+        bulkTask.setId(id);
+        bulkTask.setKey(key);
+        bulkTask.setProject(taskProject);
+        bulkTask.setOrganization(organization);
+        bulkTask.setStatus(status);
+        return bulkTask;
+    }
+
+    private TaskWatcher createBulkWatcher(Task watchedTask, User watcherUser) {
+        return TaskWatcher.builder()
+                .task(watchedTask)
+                .user(watcherUser)
+                .build();
+    }
+
+    private TaskSummaryRow createTaskSummaryRow(Long id, String key, LocalDate dueDate, StatusCategory category) {
+        return new TaskSummaryRow(
+                id, key, "Test Task", TaskPriority.MEDIUM, dueDate,
+                1L, "To Do", "#808080", category,
+                null, null, null, null, null, null, null
+        );
+    }
+
+    private TaskSummaryRow createTaskSummaryRow(Long id, String key, LocalDateTime createdAt) {
+        return new TaskSummaryRow(
+                id, key, "Test Task", TaskPriority.MEDIUM, null,
+                1L, "To Do", "#808080", StatusCategory.TODO,
+                null, null, null, null, null, null, createdAt
         );
     }
 }
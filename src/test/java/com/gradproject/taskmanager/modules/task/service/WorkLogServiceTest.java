@@ -20,6 +20,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -116,7 +117,6 @@ class WorkLogServiceTest {
             wl.setCreatedAt(LocalDateTime.now());
             return wl;
         });
-        when(workLogRepository.getTotalTimeSpentForTask(1L)).thenReturn(120);
 
         // When
         WorkLogResponse response = workLogService.logTime(1L, request, 1);
@@ -181,7 +181,6 @@ class WorkLogServiceTest {
             wl.setCreatedAt(LocalDateTime.now());
             return wl;
         });
-        when(workLogRepository.getTotalTimeSpentForTask(1L)).thenReturn(150);
 
         // When
         WorkLogResponse response = workLogService.logTimeFromSmartCommit(1L, 150, "2h 30m", 1);
@@ -204,7 +203,6 @@ class WorkLogServiceTest {
 
         when(workLogRepository.findById(1L)).thenReturn(Optional.of(workLog));
         when(workLogRepository.save(any(WorkLog.class))).thenReturn(workLog);
-        when(workLogRepository.getTotalTimeSpentForTask(1L)).thenReturn(180);
 
         // When
         WorkLogResponse response = workLogService.updateWorkLog(1L, request, 1);
@@ -212,6 +210,7 @@ class WorkLogServiceTest {
         // Then
         assertThat(response).isNotNull();
         verify(workLogRepository).save(any(WorkLog.class));
+        verify(taskRepository).recalculateLoggedHours(1L);
     }
 
     @Test
@@ -232,7 +231,6 @@ class WorkLogServiceTest {
     void deleteWorkLog_shouldDeleteSuccessfully() {
         // Given
         when(workLogRepository.findById(1L)).thenReturn(Optional.of(workLog));
-        when(workLogRepository.getTotalTimeSpentForTask(1L)).thenReturn(0);
 
         // When
         workLogService.deleteWorkLog(1L, 1);
@@ -240,6 +238,7 @@ class WorkLogServiceTest {
         // Then
         verify(activityLogService).logWorkLogDeleted(task, workLog, user);
         verify(workLogRepository).delete(workLog);
+        verify(taskRepository).recalculateLoggedHours(1L);
     }
 
     @Test
@@ -320,7 +319,6 @@ class WorkLogServiceTest {
             wl.setCreatedAt(LocalDateTime.now());
             return wl;
         });
-        when(workLogRepository.getTotalTimeSpentForTask(1L)).thenReturn(150);
 
         // When
         WorkLogResponse response = workLogService.logTime(1L, request, 1);
@@ -343,14 +341,14 @@ class WorkLogServiceTest {
             wl.setCreatedAt(LocalDateTime.now());
             return wl;
         });
-        when(workLogRepository.getTotalTimeSpentForTask(1L)).thenReturn(120);
 
         // When
         workLogService.logTime(1L, request, 1);
 
         // Then
-        ArgumentCaptor<Task> taskCaptor = ArgumentCaptor.forClass(Task.class);
-        verify(taskRepository).save(taskCaptor.capture());
-        assertThat(taskCaptor.getValue().getLoggedHours()).isEqualByComparingTo(new BigDecimal("2.00"));
+        InOrder inOrder = inOrder(taskRepository);
+        inOrder.verify(taskRepository).lockForLoggedHours(1L);
+        inOrder.verify(taskRepository).recalculateLoggedHours(1L);
+        verify(taskRepository, never()).save(any(Task.class));
     }
 }
@@ -0,0 +1,82 @@
+package com.gradproject.taskmanager.shared.cache;
+
+import com.gradproject.taskmanager.modules.project.domain.Project;
+import com.gradproject.taskmanager.modules.project.domain.TaskStatus;
+import com.gradproject.taskmanager.modules.task.domain.Label;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataCacheTest {
+    
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private Cache cache;
+
+    @InjectMocks
+    private ReferenceDataCache referenceDataCache;
+
+    @BeforeEach
+    void setUp() {
+        when(sessionFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(cache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void evictTaskStatuses_shouldEvictEntitiesAndStatusQueries() {
+        
+        referenceDataCache.evictTaskStatuses(List.of(1L, 2L));
+
+        
+        verify(cache).evictEntityData(TaskStatus.class, 1L);
+        verify(cache).evictEntityData(TaskStatus.class, 2L);
+        verify(cache).evictQueryRegion(ReferenceDataCache.PROJECT_STATUSES_REGION);
+    }
+
+    @Test
+    void evictProject_shouldOnlyEvictProjectEntity() {
+        
+        referenceDataCache.evictProject(5L);
+
+        
+        verify(cache).evictEntityData(Project.class, 5L);
+        verifyNoMoreInteractions(cache);
+    }
+
+    @Test
+    void evictLabel_shouldEvictAgainAfterTransactionCompletes() {
+        
+        TransactionSynchronizationManager.initSynchronization();
+
+        
+        referenceDataCache.evictLabel(7L);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        
+        verify(cache, times(2)).evictEntityData(Label.class, 7L);
+        verify(cache, times(2)).evictQueryRegion(ReferenceDataCache.LABELS_BY_NAME_REGION);
+    }
+}
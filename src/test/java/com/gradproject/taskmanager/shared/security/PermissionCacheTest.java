@@ -0,0 +1,123 @@
+package com.gradproject.taskmanager.shared.security;
+
+import com.gradproject.taskmanager.modules.project.domain.ProjectRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PermissionCacheTest {
+    
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void resolve_shouldCacheNullRoles() {
+        
+        PermissionCache cache = new PermissionCache(true, 100, 60);
+        AtomicInteger loads = new AtomicInteger();
+
+        
+        ProjectRole first = cache.resolve(1, 10L, () -> {
+            loads.incrementAndGet();
+            return null;
+        });
+        ProjectRole second = cache.resolve(1, 10L, () -> {
+            loads.incrementAndGet();
+            return ProjectRole.PROJECT_OWNER;
+        });
+
+        
+        assertThat(first).isNull();
+        assertThat(second).isNull();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void resolve_shouldBoundSharedEntries() {
+        
+        PermissionCache cache = new PermissionCache(true, 2, 60);
+
+        
+        cache.resolve(1, 1L, () -> ProjectRole.PROJECT_MEMBER);
+        cache.resolve(1, 2L, () -> ProjectRole.PROJECT_MEMBER);
+        cache.resolve(1, 3L, () -> ProjectRole.PROJECT_MEMBER);
+
+        
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void resolve_shouldExpireSharedEntriesButKeepRequestEntries() {
+        
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        PermissionCache cache = new PermissionCache(true, 100, -1);
+        AtomicInteger loads = new AtomicInteger();
+
+        
+        cache.resolve(1, 1L, () -> {
+            loads.incrementAndGet();
+            return ProjectRole.PROJECT_VIEWER;
+        });
+        ProjectRole cached = cache.resolve(1, 1L, () -> {
+            loads.incrementAndGet();
+            return ProjectRole.PROJECT_ADMIN;
+        });
+        RequestContextHolder.resetRequestAttributes();
+        ProjectRole reloaded = cache.resolve(1, 1L, () -> {
+            loads.incrementAndGet();
+            return ProjectRole.PROJECT_ADMIN;
+        });
+
+        
+        assertThat(cached).isEqualTo(ProjectRole.PROJECT_VIEWER);
+        assertThat(reloaded).isEqualTo(ProjectRole.PROJECT_ADMIN);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void resolveAll_shouldOnlyLoadMissingProjects() {
+        
+        PermissionCache cache = new PermissionCache(true, 100, 60);
+        cache.resolve(1, 1L, () -> ProjectRole.PROJECT_OWNER);
+        cache.resolve(1, 2L, () -> null);
+
+        
+        Map<Long, ProjectRole> roles = cache.resolveAll(1, List.of(1L, 2L, 3L), missing -> {
+            assertThat(missing).isEqualTo(Set.of(3L));
+            return Map.of(3L, ProjectRole.PROJECT_MEMBER);
+        });
+
+        
+        assertThat(roles).containsExactlyInAnyOrderEntriesOf(Map.of(
+                1L, ProjectRole.PROJECT_OWNER,
+                3L, ProjectRole.PROJECT_MEMBER
+        ));
+    }
+
+    @Test
+    void evictUser_shouldDropAllEntriesForUser() {
+        
+        PermissionCache cache = new PermissionCache(true, 100, 60);
+        cache.resolve(1, 1L, () -> ProjectRole.PROJECT_OWNER);
+        cache.resolve(1, 2L, () -> ProjectRole.PROJECT_OWNER);
+        cache.resolve(2, 1L, () -> ProjectRole.PROJECT_OWNER);
+
+        
+        cache.evictUser(1);
+
+        
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.resolve(1, 1L, () -> null)).isNull();
+    }
+}
@@ -9,17 +9,24 @@ import com.gradproject.taskmanager.modules.project.domain.Project;
 import com.gradproject.taskmanager.modules.project.domain.ProjectMember;
 import com.gradproject.taskmanager.modules.project.domain.ProjectRole;
 import com.gradproject.taskmanager.modules.project.repository.ProjectMemberRepository;
+import com.gradproject.taskmanager.modules.project.repository.ProjectRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class PermissionServiceTest {
@@ -30,6 +37,12 @@ class PermissionServiceTest {
     @Mock
     private ProjectMemberRepository projectMemberRepository;
 
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Spy
+    private PermissionCache permissionCache = new PermissionCache(true, 100, 60);
+
     @InjectMocks
     private PermissionService permissionService;
 
@@ -323,4 +336,94 @@ class PermissionServiceTest {
         
         assertThat(result).isFalse();
     }
+
+    @Test
+    void getEffectiveProjectRole_shouldReuseCachedRole() {
+        
+        orgMember.setRole(OrganizationRole.ORG_OWNER);
+        when(organizationMemberRepository.findByUserIdAndOrganizationId(1, 1L))
+                .thenReturn(Optional.of(orgMember));
+        when(projectMemberRepository.findByUserIdAndProjectId(1, 1L))
+                .thenReturn(Optional.empty());
+
+        
+        permissionService.canAccessProject(testUser, testProject);
+        permissionService.canManageTasks(testUser, testProject);
+        boolean result = permissionService.canEditProject(testUser, testProject);
+
+        
+        assertThat(result).isTrue();
+        verify(organizationMemberRepository, times(1)).findByUserIdAndOrganizationId(1, 1L);
+        verify(projectMemberRepository, times(1)).findByUserIdAndProjectId(1, 1L);
+    }
+
+    @Test
+    void getEffectiveProjectRole_shouldReloadAfterEviction() {
+        
+        orgMember.setRole(OrganizationRole.ORG_MEMBER);
+        when(organizationMemberRepository.findByUserIdAndOrganizationId(1, 1L))
+                .thenReturn(Optional.of(orgMember));
+        when(projectMemberRepository.findByUserIdAndProjectId(1, 1L))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(projectMember));
+        projectMember.setRole(ProjectRole.PROJECT_MEMBER);
+
+        
+        boolean before = permissionService.canAccessProject(testUser, testProject);
+        permissionCache.evictProjectMember(1, 1L);
+        boolean after = permissionService.canAccessProject(testUser, testProject);
+
+        
+        assertThat(before).isFalse();
+        assertThat(after).isTrue();
+    }
+
+    @Test
+    void getEffectiveProjectRoles_shouldResolveRolesInSingleQuery() {
+        
+        List<Object[]> rows = List.of(
+                new Object[]{1L, OrganizationRole.ORG_ADMIN, null},
+                new Object[]{2L, OrganizationRole.ORG_MEMBER, ProjectRole.PROJECT_VIEWER},
+                new Object[]{3L, OrganizationRole.ORG_MEMBER, null}
+        );
+        when(projectMemberRepository.findMembershipRoles(eq(1), any())).thenReturn(rows);
+
+        
+        Map<Long, ProjectRole> roles = permissionService.getEffectiveProjectRoles(testUser, List.of(1L, 2L, 3L, 4L));
+        Set<Long> accessible = permissionService.filterAccessibleProjectIds(testUser, List.of(1L, 2L, 3L, 4L));
+
+        
+        assertThat(roles).containsExactlyInAnyOrderEntriesOf(Map.of(
+                1L, ProjectRole.PROJECT_ADMIN,
+                2L, ProjectRole.PROJECT_VIEWER
+        ));
+        assertThat(accessible).containsExactlyInAnyOrder(1L, 2L);
+        verify(projectMemberRepository, times(1)).findMembershipRoles(eq(1), any());
+        verify(organizationMemberRepository, never()).findByUserIdAndOrganizationId(any(), anyLong());
+    }
+
+    @Test
+    void accessibleProjectIds_shouldDelegateToSingleQuery() {
+        
+        when(projectRepository.findAccessibleProjectIds(1, 1L)).thenReturn(List.of(1L, 2L));
+
+        
+        Set<Long> result = permissionService.accessibleProjectIds(1, 1L);
+
+        
+        assertThat(result).containsExactlyInAnyOrder(1L, 2L);
+        verifyNoInteractions(organizationMemberRepository, projectMemberRepository);
+    }
+
+    @Test
+    void isOrgMember_shouldCheckMembershipWithoutLoadingIt() {
+        
+        when(organizationMemberRepository.existsByUserIdAndOrganizationId(1, 1L)).thenReturn(true);
+        when(organizationMemberRepository.existsByUserIdAndOrganizationId(1, 2L)).thenReturn(false);
+
+        
+        assertThat(permissionService.isOrgMember(testUser, 1L)).isTrue();
+        assertThat(permissionService.isOrgMember(testUser, 2L)).isFalse();
+        verify(organizationMemberRepository, never()).findByUserIdAndOrganizationId(any(), anyLong());
+    }
 }